@@ -0,0 +1,123 @@
+#
+# Licensed to the Apache Software Foundation (ASF) under one or more
+# contributor license agreements.  See the NOTICE file distributed with
+# this work for additional information regarding copyright ownership.
+# The ASF licenses this file to You under the Apache License, Version 2.0
+# (the "License"); you may not use this file except in compliance with
+# the License.  You may obtain a copy of the License at
+#
+# http://www.apache.org/licenses/LICENSE-2.0
+#
+# Unless required by applicable law or agreed to in writing, software
+# distributed under the License is distributed on an "AS IS" BASIS,
+# WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+# See the License for the specific language governing permissions and
+# limitations under the License.
+#
+
+"""
+Typed binary encoding of data quanta exchanged with the JVM. Every value is a one-byte type tag followed by its
+payload in network byte order. The Java counterpart is org.apache.wayang.api.python.executor.PythonWireFormat.
+"""
+
+import numbers
+import struct
+
+NULL = 0
+STRING = 1
+BYTES = 2
+INT32 = 3
+INT64 = 4
+FLOAT64 = 5
+BOOLEAN = 6
+TUPLE2 = 7
+RECORD = 8
+
+_INT = struct.Struct("!i")
+_LONG = struct.Struct("!q")
+_DOUBLE = struct.Struct("!d")
+
+_INT64_MIN = -(1 << 63)
+_INT64_MAX = (1 << 63) - 1
+
+
+def encode(obj, out):
+    """
+    Appends the encoding of a value to a bytearray.
+    """
+    if obj is None:
+        out.append(NULL)
+    elif isinstance(obj, bool):
+        out.append(BOOLEAN)
+        out.append(1 if obj else 0)
+    elif isinstance(obj, str):
+        _encode_bytes(STRING, obj.encode("utf-8"), out)
+    elif isinstance(obj, (bytes, bytearray, memoryview)):
+        _encode_bytes(BYTES, bytes(obj), out)
+    elif isinstance(obj, numbers.Integral):
+        if _INT64_MIN <= obj <= _INT64_MAX:
+            out.append(INT64)
+            out += _LONG.pack(int(obj))
+        else:
+            _encode_bytes(STRING, str(obj).encode("utf-8"), out)
+    elif isinstance(obj, numbers.Real):
+        out.append(FLOAT64)
+        out += _DOUBLE.pack(float(obj))
+    elif isinstance(obj, tuple) and len(obj) == 2:
+        out.append(TUPLE2)
+        encode(obj[0], out)
+        encode(obj[1], out)
+    elif isinstance(obj, (list, tuple)):
+        out.append(RECORD)
+        out += _INT.pack(len(obj))
+        for field in obj:
+            encode(field, out)
+    elif hasattr(obj, "tolist"):
+        # NumPy arrays and scalars
+        encode(obj.tolist(), out)
+    else:
+        _encode_bytes(STRING, str(obj).encode("utf-8"), out)
+
+
+def _encode_bytes(tag, data, out):
+    out.append(tag)
+    out += _INT.pack(len(data))
+    out += data
+
+
+def decode(buffer, offset):
+    """
+    Decodes a value from a buffer.
+
+    :return: the value and the offset right after it
+    """
+    tag = buffer[offset]
+    offset += 1
+    if tag == NULL:
+        return None, offset
+    if tag == STRING or tag == BYTES:
+        length = _INT.unpack_from(buffer, offset)[0]
+        offset += 4
+        data = bytes(buffer[offset:offset + length])
+        return (data.decode("utf-8") if tag == STRING else data), offset + length
+    if tag == INT32:
+        return _INT.unpack_from(buffer, offset)[0], offset + 4
+    if tag == INT64:
+        return _LONG.unpack_from(buffer, offset)[0], offset + 8
+    if tag == FLOAT64:
+        return _DOUBLE.unpack_from(buffer, offset)[0], offset + 8
+    if tag == BOOLEAN:
+        return buffer[offset] != 0, offset + 1
+    if tag == TUPLE2:
+        field0, offset = decode(buffer, offset)
+        field1, offset = decode(buffer, offset)
+        return (field0, field1), offset
+    if tag == RECORD:
+        length = _INT.unpack_from(buffer, offset)[0]
+        offset += 4
+        fields = []
+        for _ in range(length):
+            field, offset = decode(buffer, offset)
+            fields.append(field)
+        return fields, offset
+    raise ValueError("unknown type tag %d" % tag)
@@ -23,3 +23,4 @@ class SpecialLengths(object):
     END_OF_STREAM = -4
     NULL = -5
     START_ARROW_STREAM = -6
+    CACHED_UDF = -7
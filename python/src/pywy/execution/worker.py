@@ -20,8 +20,9 @@ import os
 import pickle
 import socket
 import struct
+import traceback
 
-import numpy as np
+from pywy.execution.serialization import decode, encode
 from pywy.execution.util import SpecialLengths
 
 
@@ -33,79 +34,120 @@ def read_int(stream):
     return res
 
 
-class UTF8Deserializer:
-    """
-    Deserializes streams written by String.getBytes.
-    """
+def write_int(p, outfile):
+    outfile.write(struct.pack("!i", p))
 
-    def __init__(self, use_unicode=True):
-        self.use_unicode = use_unicode
 
-    def loads(self, stream):
+def load_stream(stream):
+    """
+    Reads batches of encoded data quanta until the end of the data section.
+    """
+    while True:
         length = read_int(stream)
         if length == SpecialLengths.END_OF_DATA_SECTION:
+            return
+        count = read_int(stream)
+        buffer = stream.read(length)
+        if len(buffer) < length:
             raise EOFError
-        elif length == SpecialLengths.NULL:
-            return None
+        offset = 0
+        for _ in range(count):
+            obj, offset = decode(buffer, offset)
+            yield obj
 
-        s = stream.read(length)
-        return s.decode("utf-8") if self.use_unicode else s
 
-    def load_stream(self, stream):
-        try:
-            while True:
-                yield self.loads(stream)
-        except struct.error:
-            return
-        except EOFError:
-            return
+def dump_stream(iterator, stream, batch_size):
+    """
+    Writes the data quanta in batches, each of which is prefixed with its byte length and number of data quanta.
+    """
+    if type(iterator) is bool:
+        iterator = [iterator]
+    buffer = bytearray()
+    count = 0
+    for obj in iterator:
+        encode(obj, buffer)
+        count += 1
+        if count == batch_size:
+            write_batch(buffer, count, stream)
+            buffer = bytearray()
+            count = 0
+    if count > 0:
+        write_batch(buffer, count, stream)
+
+
+def write_batch(buffer, count, stream):
+    write_int(len(buffer), stream)
+    write_int(count, stream)
+    stream.write(buffer)
+
+
+def write_exception(outfile):
+    message = traceback.format_exc().encode("utf-8")
+    write_int(SpecialLengths.PYTHON_EXCEPTION_THROWN, outfile)
+    write_int(len(message), outfile)
+    outfile.write(message)
+
+
+def load_udf(serialized_udf):
+    decoded_udf = base64.b64decode(serialized_udf)
+    return pickle.loads(decoded_udf)
 
-    def __repr__(self):
-        return "UTF8Deserializer(%s)" % self.use_unicode
 
+def run_task(func, infile, outfile, batch_size):
+    """
+    Applies the UDF to the input data quanta of a task.
 
-def write_int(p, outfile):
-    outfile.write(struct.pack("!i", p))
+    :return: whether the task succeeded; if not, the exception has been reported to the JVM
+    """
+    iterator = load_stream(infile)
+    try:
+        dump_stream(iterator=func(iterator), stream=outfile, batch_size=batch_size)
+        # Consume any remaining inputs, so that the next task starts at the right position of the stream.
+        for _ in iterator:
+            pass
+    except Exception:
+        write_exception(outfile)
+        outfile.flush()
+        return False
+    write_int(SpecialLengths.END_OF_DATA_SECTION, outfile)
+    outfile.flush()
+    return True
+
+
+def process(infile, outfile, batch_size):
+    udf_length = read_int(infile)
+    serialized_udf = infile.read(udf_length)
+    func = load_udf(serialized_udf)
+    run_task(func, infile, outfile, batch_size)
 
 
-def write_with_length(obj, stream):
-    if type(obj) is list:
-        arr = np.array(obj)
-        serialized = arr.tobytes()
-    else:
-        serialized = str(obj).encode('utf-8')
-    if serialized is None:
-        raise ValueError("serialized value should not be None")
-    if len(serialized) > (1 << 31):
-        raise ValueError("can not serialize object larger than 2G")
-    write_int(len(serialized), stream)
-    stream.write(serialized)
+def read_cached_udf(infile, udf_cache):
+    """
+    Reads the UDF of the next task, which is either shipped along with its key or, if it has been shipped
+    before, only referenced by its key.
+    """
+    key_length = read_int(infile)
+    key = infile.read(key_length)
+    udf_length = read_int(infile)
+    if udf_length == SpecialLengths.CACHED_UDF:
+        return udf_cache[key]
+    func = load_udf(infile.read(udf_length))
+    udf_cache[key] = func
+    return func
 
 
-def dump_stream(iterator, stream):
-    if type(iterator) is bool:
-        write_with_length(str(int(iterator == True)), stream)
-    else:
-        for obj in iterator:
-            if type(obj) is str:
-                write_with_length(obj, stream)
-            if type(obj) is bool:
-                write_with_length(int(obj == True), stream)
-            else:
-                write_with_length(obj, stream)
-            ## elif type(obj) is list:
-            ##    write_with_length(obj, stream)
-    write_int(SpecialLengths.END_OF_DATA_SECTION, stream)
-
-
-def process(infile, outfile):
-    udf_length = read_int(infile)
-    serialized_udf = infile.read(udf_length)
-    decoded_udf = base64.b64decode(serialized_udf)
-    func = pickle.loads(decoded_udf)
-    iterator = UTF8Deserializer().load_stream(infile)
-    out_iter = func(iterator)
-    dump_stream(iterator=out_iter, stream=outfile)
+def serve(infile, outfile, batch_size):
+    """
+    Processes tasks until the JVM closes the connection or a task fails, as the stream position is unknown then.
+    """
+    udf_cache = {}
+    while True:
+        try:
+            func = read_cached_udf(infile, udf_cache)
+        except EOFError:
+            return
+        if not run_task(func, infile, outfile, batch_size):
+            return
 
 
 def local_connect(port):
@@ -131,7 +173,13 @@ def local_connect(port):
 
 if __name__ == '__main__':
     java_port = int(os.environ["PYTHON_WORKER_FACTORY_PORT"])
+    batch_size = int(os.environ.get("PYTHON_WORKER_BATCH_SIZE", "1024"))
     sock_file, sock = local_connect(java_port)
-    process(sock_file, sock_file)
+    if os.environ.get("PYTHON_WORKER_REUSE") == "1":
+        # Pooled workers idle between tasks, so they must not time out.
+        sock.settimeout(None)
+        serve(sock_file, sock_file, batch_size)
+    else:
+        process(sock_file, sock_file, batch_size)
     sock_file.flush()
     exit()
@@ -27,6 +27,7 @@ import org.apache.wayang.api.json.operatorfromdrawflow.OperatorFromDrawflowConve
 import org.apache.wayang.api.json.operatorfromjson.OperatorFromJson
 import org.apache.wayang.api.json.parserutil.ParseOperatorsFromDrawflow
 import org.apache.wayang.api.json.parserutil.ParsePlanFromJson
+import org.apache.wayang.api.json.parserutil.UdfCompiler
 
 object Main extends ZIOAppDefault {
   val drawRoute =
@@ -77,8 +78,13 @@ object Main extends ZIOAppDefault {
      })
     }
 
+  val udfCacheRoute =
+    Method.GET / "wayang-api-json" / "udf-cache" -> handler { (_: Request) =>
+      Response.text(UdfCompiler.getStats)
+    }
+
   // Create HTTP route
-  val app = Routes(drawRoute, jsonRoute).toHttpApp
+  val app = Routes(drawRoute, jsonRoute, udfCacheRoute).toHttpApp
 
   // Run it like any simple app
   def run = for {
@@ -18,7 +18,7 @@
 package org.apache.wayang.api.json.builder
 
 import org.apache.wayang.api.json.operatorfromjson.OperatorFromJson.ExecutionPlatforms
-import org.apache.wayang.api.json.parserutil.{SerializableIterable, SerializableLambda, SerializableLambda2}
+import org.apache.wayang.api.json.parserutil.{SerializableIterable, SerializableLambda, SerializableLambda2, UdfCompiler}
 import org.apache.wayang.api.json.operatorfromjson.{ComposedOperatorFromJson, OperatorFromJson}
 import org.apache.wayang.api.json.operatorfromjson.binary.{CartesianOperatorFromJson, CoGroupOperatorFromJson, IntersectOperatorFromJson, JoinOperatorFromJson, PredictOperatorFromJson, DLTrainingOperatorFromJson, UnionOperatorFromJson}
 import org.apache.wayang.api.json.operatorfromjson.other.KMeansFromJson
@@ -60,6 +60,11 @@ class JsonPlanBuilder() {
   )
   var origin: String = null
 
+  /**
+   * Prepended to the sources of loop bodies, which operate on [[DataQuanta]].
+   */
+  private val BodyBuilderImports = "import org.apache.wayang.api.DataQuanta\n"
+
   def setPlatforms(platforms: List[String]): JsonPlanBuilder = {
     plugins = platforms.map(pl => getPlatformPlugin(pl))
     this
@@ -147,9 +152,42 @@ class JsonPlanBuilder() {
     if (outputOperators.isEmpty)
       outputOperators = operators.values.filter(operator => operator.output.length == 0).toList
     val outputOperator = outputOperators.head
+
+    // Compile all UDFs of the plan in parallel rather than one after another while building the plan.
+    UdfCompiler.precompile(operators.values.flatMap(getUdfSources))
+
     executeRecursive(outputOperator, planBuilder)
   }
 
+  /**
+   * Collects the Scala sources of the UDFs of the given operator exactly as they are passed to
+   * [[SerializableLambda]], [[SerializableLambda2]], and [[SerializableIterable]] by the `visit` methods.
+   * The operators nested in a [[ComposedOperatorFromJson]] are included.
+   */
+  private def getUdfSources(operator: OperatorFromJson): List[String] = {
+    val isPython = this.origin == "python"
+    operator match {
+      case operator: ComposedOperatorFromJson => operator.operators.toList.flatMap(getUdfSources)
+      case operator: InputCollectionFromJson => List(operator.data.udf)
+      case operator: MapOperatorFromJson if !isPython => List(operator.data.udf)
+      case operator: FilterOperatorFromJson if !isPython => List(operator.data.udf)
+      case operator: FlatMapOperatorFromJson if !isPython => List(operator.data.udf)
+      case operator: ReduceByOperatorFromJson if !isPython => List(operator.data.keyUdf, operator.data.udf)
+      case operator: ReduceOperatorFromJson if !isPython => List(operator.data.udf)
+      case operator: MapPartitionsOperatorFromJson if !isPython => List(operator.data.udf)
+      case operator: JoinOperatorFromJson if !isPython => List(operator.data.thisKeyUdf, operator.data.thatKeyUdf)
+      case operator: GroupByOperatorFromJson => List(operator.data.keyUdf)
+      case operator: SortOperatorFromJson => List(operator.data.keyUdf)
+      case operator: CoGroupOperatorFromJson => List(operator.data.thisKeyUdf, operator.data.thatKeyUdf)
+      case operator: DoWhileOperatorFromJson => List(operator.data.udf, BodyBuilderImports + operator.data.bodyBuilder)
+      case operator: RepeatOperatorFromJson => List(BodyBuilderImports + operator.data.bodyBuilder)
+      case operator: ForeachOperatorFromJson => List(operator.data.udf)
+      case operator: KMeansFromJson =>
+        List(operator.data.distanceUdf, operator.data.sumUdf, operator.data.divideUdf, operator.data.initialCentroidsUdf)
+      case _ => List()
+    }
+  }
+
   private def executeRecursive(operator: OperatorFromJson, planBuilder: PlanBuilder): DataQuanta[Any] = {
     operator match {
       // input
@@ -516,7 +554,7 @@ class JsonPlanBuilder() {
   //
   private def visit(operator: DoWhileOperatorFromJson, dataQuanta: DataQuanta[Any]): DataQuanta[Any] = {
     val lambda1 = SerializableLambda.createLambda[Any, Boolean](operator.data.udf)
-    val lambda2 = SerializableLambda.createLambda[DataQuanta[Any], (DataQuanta[Any], DataQuanta[Any])]("import org.apache.wayang.api.DataQuanta\n" + operator.data.bodyBuilder)
+    val lambda2 = SerializableLambda.createLambda[DataQuanta[Any], (DataQuanta[Any], DataQuanta[Any])](BodyBuilderImports + operator.data.bodyBuilder)
     if (!ExecutionPlatforms.All.contains(operator.executionPlatform))
       dataQuanta.doWhile(lambda1, lambda2)
     else
@@ -524,7 +562,7 @@ class JsonPlanBuilder() {
   }
 
   private def visit(operator: RepeatOperatorFromJson, dataQuanta: DataQuanta[Any]): DataQuanta[Any] = {
-    val lambda = SerializableLambda.createLambda[DataQuanta[Any], DataQuanta[Any]]("import org.apache.wayang.api.DataQuanta\n" + operator.data.bodyBuilder)
+    val lambda = SerializableLambda.createLambda[DataQuanta[Any], DataQuanta[Any]](BodyBuilderImports + operator.data.bodyBuilder)
     if (!ExecutionPlatforms.All.contains(operator.executionPlatform))
       dataQuanta.repeat(operator.data.n, lambda)
     else
@@ -0,0 +1,251 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.wayang.api.json.parserutil
+
+import java.nio.charset.StandardCharsets
+import java.security.MessageDigest
+import java.util.concurrent.atomic.{AtomicInteger, LongAdder}
+import java.util.concurrent.{ArrayBlockingQueue, CompletableFuture, CompletionException, ExecutionException, Executors, ThreadFactory, TimeUnit}
+
+import scala.annotation.tailrec
+import scala.reflect.runtime.universe
+import scala.reflect.runtime.universe._
+import scala.tools.reflect.ToolBox
+import scala.util.control.NonFatal
+
+/**
+ * Compiles the UDF source strings of JSON plans. Creating a [[ToolBox]] and compiling a source string takes
+ * hundreds of milliseconds, so compiled UDFs are kept in a bounded LRU cache that is keyed by the SHA-256 hash of
+ * their source. The [[ToolBox]]es are pooled, because a single one must not be used by several threads at the same
+ * time. A [[ToolBox]] retains the symbols of everything it has compiled, so it is replaced by a fresh one after
+ * `maxCompilationsPerToolbox` compilations.
+ *
+ * @param cacheSize                 maximum number of cached UDFs
+ * @param numCompilers              maximum number of [[ToolBox]]es and hence of concurrent compilations
+ * @param maxCompilationsPerToolbox number of compilations after which a [[ToolBox]] is replaced
+ */
+class UdfCompiler(val cacheSize: Int, val numCompilers: Int, val maxCompilationsPerToolbox: Int) {
+
+  require(cacheSize > 0 && numCompilers > 0 && maxCompilationsPerToolbox > 0)
+
+  /**
+   * Compiled UDFs by the hash of their source. Concurrent requests for the same source wait for the same
+   * [[CompletableFuture]] instead of compiling it again.
+   */
+  private val cache = new java.util.LinkedHashMap[String, CompletableFuture[Any]](16, 0.75f, true) {
+    override def removeEldestEntry(eldest: java.util.Map.Entry[String, CompletableFuture[Any]]): Boolean =
+      this.size() > cacheSize
+  }
+
+  /**
+   * Idle [[ToolBox]]es. They are created lazily up to [[numCompilers]] of them.
+   */
+  private val toolboxes = new ArrayBlockingQueue[PooledToolbox](numCompilers)
+
+  private val numCreatedToolboxes = new AtomicInteger(0)
+
+  private lazy val executor = Executors.newFixedThreadPool(numCompilers, new ThreadFactory {
+    override def newThread(runnable: Runnable): Thread = {
+      val thread = new Thread(runnable, "wayang-udf-compiler")
+      thread.setDaemon(true)
+      thread
+    }
+  })
+
+  private val hits = new LongAdder
+  private val misses = new LongAdder
+  private val compileNanos = new LongAdder
+  private val recycledToolboxes = new LongAdder
+
+  /**
+   * Provides the value of the given source string, compiling it only if it is not cached yet.
+   *
+   * @param source Scala source of the UDF
+   * @return the value of the source, e.g., a function
+   */
+  def compile[T](source: String): T = {
+    val key = UdfCompiler.hash(source)
+    var future: CompletableFuture[Any] = null
+    var isOwner = false
+    cache.synchronized {
+      future = cache.get(key)
+      if (future == null) {
+        future = new CompletableFuture[Any]
+        cache.put(key, future)
+        isOwner = true
+      }
+    }
+
+    if (isOwner) {
+      misses.increment()
+      try future.complete(doCompile(source))
+      catch {
+        case e: Throwable =>
+          cache.synchronized(cache.remove(key, future))
+          future.completeExceptionally(e)
+          ParsingErrors.handleException(e, source)
+      }
+    } else {
+      hits.increment()
+    }
+
+    try future.get().asInstanceOf[T]
+    catch {
+      case e@(_: ExecutionException | _: CompletionException) => ParsingErrors.handleException(e.getCause, source)
+    }
+  }
+
+  /**
+   * Compiles the given source strings in parallel, so that later calls to [[compile]] are served from the cache.
+   * Failures are not reported here but when the failed source is requested via [[compile]].
+   *
+   * @param sources Scala sources of UDFs
+   */
+  def precompile(sources: Iterable[String]): Unit = {
+    val futures = sources.toSeq.distinct.map { source =>
+      CompletableFuture.runAsync(new Runnable {
+        override def run(): Unit = compile[Any](source)
+      }, executor)
+    }
+    futures.foreach { future =>
+      try future.join()
+      catch {
+        case _: CompletionException =>
+      }
+    }
+  }
+
+  private def doCompile(source: String): Any = {
+    val toolbox = borrowToolbox()
+    val startTime = System.nanoTime()
+    try toolbox.compile(source)
+    finally {
+      compileNanos.add(System.nanoTime() - startTime)
+      returnToolbox(toolbox)
+    }
+  }
+
+  @tailrec
+  private def borrowToolbox(): PooledToolbox = {
+    val toolbox = toolboxes.poll()
+    if (toolbox != null) toolbox
+    else if (numCreatedToolboxes.incrementAndGet() <= numCompilers) createToolbox()
+    else {
+      numCreatedToolboxes.decrementAndGet()
+      // Wait for a returned toolbox, but check regularly whether a failed creation has freed up a slot.
+      val returnedToolbox = toolboxes.poll(100, TimeUnit.MILLISECONDS)
+      if (returnedToolbox != null) returnedToolbox else borrowToolbox()
+    }
+  }
+
+  /**
+   * Creates a [[PooledToolbox]] for a slot that has been reserved in [[numCreatedToolboxes]] and releases the slot
+   * if that fails.
+   */
+  private def createToolbox(): PooledToolbox =
+    try new PooledToolbox
+    catch {
+      case e: Throwable =>
+        numCreatedToolboxes.decrementAndGet()
+        throw e
+    }
+
+  /**
+   * Puts the given [[PooledToolbox]] back into the pool or, if it is worn out, a fresh one in its place. Either
+   * way, threads waiting in [[borrowToolbox]] get one: If the fresh one cannot be created, the worn-out one is
+   * kept until its next return.
+   */
+  private def returnToolbox(toolbox: PooledToolbox): Unit = {
+    if (toolbox.numCompilations >= maxCompilationsPerToolbox) {
+      try {
+        val freshToolbox = new PooledToolbox
+        recycledToolboxes.increment()
+        toolboxes.offer(freshToolbox)
+      } catch {
+        case e: Throwable =>
+          toolboxes.offer(toolbox)
+          if (!NonFatal(e)) throw e
+      }
+    } else {
+      toolboxes.offer(toolbox)
+    }
+  }
+
+  def getNumHits: Long = hits.sum()
+
+  def getNumMisses: Long = misses.sum()
+
+  def getCompileMillis: Long = compileNanos.sum() / 1000000
+
+  def getNumCached: Int = cache.synchronized(cache.size())
+
+  def getNumRecycledToolboxes: Long = recycledToolboxes.sum()
+
+  /**
+   * Drops all cached UDFs and resets the statistics.
+   */
+  def clear(): Unit = {
+    cache.synchronized(cache.clear())
+    hits.reset()
+    misses.reset()
+    compileNanos.reset()
+    recycledToolboxes.reset()
+  }
+
+  def getStats: String =
+    s"UDF cache: $getNumHits hits, $getNumMisses misses, $getNumCached cached, ${getCompileMillis} ms compiling, " +
+      s"$getNumRecycledToolboxes toolboxes recycled"
+
+  /**
+   * A [[ToolBox]] along with the number of its compilations. Used by one thread at a time only.
+   */
+  private class PooledToolbox {
+
+    private val toolbox: ToolBox[universe.type] = runtimeMirror(getClass.getClassLoader).mkToolBox()
+
+    var numCompilations = 0
+
+    def compile(source: String): Any = {
+      numCompilations += 1
+      toolbox.compile(toolbox.parse(source))()
+    }
+  }
+
+}
+
+/**
+ * The [[UdfCompiler]] that is shared by all plans of this JVM. Note that plans with the same UDF source hence share
+ * the compiled value, so UDFs should not keep mutable state.
+ *
+ * Its bounds can be configured via the system properties `wayang.api.json.udf-cache.size` (default 1024),
+ * `wayang.api.json.udf-compilers` (default: number of cores), and `wayang.api.json.udf-compiler.max-compilations`
+ * (default 256).
+ */
+object UdfCompiler extends UdfCompiler(
+  sys.props.get("wayang.api.json.udf-cache.size").map(_.toInt).getOrElse(1024),
+  math.max(1, sys.props.get("wayang.api.json.udf-compilers").map(_.toInt)
+    .getOrElse(Runtime.getRuntime.availableProcessors())),
+  sys.props.get("wayang.api.json.udf-compiler.max-compilations").map(_.toInt).getOrElse(256)
+) {
+
+  private def hash(source: String): String = {
+    val digest = MessageDigest.getInstance("SHA-256").digest(source.getBytes(StandardCharsets.UTF_8))
+    digest.map(b => f"$b%02x").mkString
+  }
+
+}
@@ -0,0 +1,123 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.wayang.api.json.parserutil
+
+import java.util.concurrent.{Callable, CountDownLatch, Executors, TimeUnit}
+
+import org.apache.wayang.api.json.exception.WayangApiJsonException
+import org.junit.jupiter.api.Assertions._
+import org.junit.jupiter.api.Test
+
+/**
+ * Test suite for [[UdfCompiler]].
+ */
+class UdfCompilerTest {
+
+  @Test
+  def testHitsAndMisses(): Unit = {
+    val compiler = new UdfCompiler(16, 1, 100)
+    val increment = compiler.compile[Int => Int]("(x: Int) => x + 1")
+    assertEquals(2, increment(1))
+    assertSame(increment, compiler.compile[Int => Int]("(x: Int) => x + 1"))
+    assertEquals(6, compiler.compile[Int => Int]("(x: Int) => x * 2")(3))
+
+    assertEquals(1, compiler.getNumHits)
+    assertEquals(2, compiler.getNumMisses)
+    assertEquals(2, compiler.getNumCached)
+
+    compiler.clear()
+    assertEquals(0, compiler.getNumHits)
+    assertEquals(0, compiler.getNumCached)
+  }
+
+  @Test
+  def testConcurrentCompilation(): Unit = {
+    val compiler = new UdfCompiler(16, 4, 100)
+    val numThreads = 8
+    val start = new CountDownLatch(1)
+    val executor = Executors.newFixedThreadPool(numThreads)
+    try {
+      val futures = (1 to numThreads).map { _ =>
+        executor.submit(new Callable[Int => Int] {
+          override def call(): Int => Int = {
+            start.await()
+            compiler.compile[Int => Int]("(x: Int) => x - 1")
+          }
+        })
+      }
+      start.countDown()
+      val results = futures.map(_.get(60, TimeUnit.SECONDS))
+
+      // The source is compiled once, and all threads get the same value.
+      assertEquals(1, compiler.getNumMisses)
+      assertEquals(numThreads - 1, compiler.getNumHits)
+      assertTrue(results.forall(_ eq results.head))
+      assertEquals(0, results.head(1))
+    } finally {
+      executor.shutdownNow()
+    }
+  }
+
+  @Test
+  def testFailuresAreNotCached(): Unit = {
+    val compiler = new UdfCompiler(16, 1, 100)
+    val illegalSource = "(x: Int) => x +"
+    assertThrows(classOf[WayangApiJsonException], () => compiler.compile[Int => Int](illegalSource))
+    assertEquals(0, compiler.getNumCached)
+
+    // The next request compiles the source again rather than failing from the cache.
+    assertThrows(classOf[WayangApiJsonException], () => compiler.compile[Int => Int](illegalSource))
+    assertEquals(2, compiler.getNumMisses)
+    assertEquals(0, compiler.getNumHits)
+
+    // Precompiling swallows the failure, which is reported once the source is requested.
+    compiler.precompile(Seq(illegalSource, "(x: Int) => x + 2"))
+    assertEquals(1, compiler.getNumCached)
+    assertThrows(classOf[WayangApiJsonException], () => compiler.compile[Int => Int](illegalSource))
+    assertEquals(4, compiler.compile[Int => Int]("(x: Int) => x + 2")(2))
+  }
+
+  @Test
+  def testLruBound(): Unit = {
+    val compiler = new UdfCompiler(2, 1, 100)
+    compiler.compile[Int => Int]("(x: Int) => x + 1")
+    compiler.compile[Int => Int]("(x: Int) => x + 2")
+    compiler.compile[Int => Int]("(x: Int) => x + 1")
+    compiler.compile[Int => Int]("(x: Int) => x + 3")
+    assertEquals(2, compiler.getNumCached)
+    assertEquals(3, compiler.getNumMisses)
+
+    // "x + 2" was the least recently used one and has been evicted.
+    compiler.compile[Int => Int]("(x: Int) => x + 1")
+    assertEquals(3, compiler.getNumMisses)
+    compiler.compile[Int => Int]("(x: Int) => x + 2")
+    assertEquals(4, compiler.getNumMisses)
+    assertEquals(2, compiler.getNumCached)
+  }
+
+  @Test
+  def testToolboxRecycling(): Unit = {
+    val compiler = new UdfCompiler(16, 1, 2)
+    for (i <- 1 to 5) {
+      assertEquals(i + 1, compiler.compile[Int => Int](s"(x: Int) => x + $i")(1))
+    }
+    assertEquals(2, compiler.getNumRecycledToolboxes)
+    assertEquals(5, compiler.getNumMisses)
+  }
+
+}
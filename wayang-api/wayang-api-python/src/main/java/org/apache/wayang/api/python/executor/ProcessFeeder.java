@@ -19,31 +19,58 @@
 package org.apache.wayang.api.python.executor;
 
 import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
 import java.net.Socket;
-import java.nio.charset.StandardCharsets;
 import java.util.Iterator;
-import java.util.Map;
 
 import org.apache.wayang.core.api.exception.WayangException;
 
 import com.google.protobuf.ByteString;
 
+/**
+ * Sends a UDF and its input data quanta to a Python worker. The data quanta are encoded with the
+ * {@link PythonWireFormat} and sent in batches, each of which is prefixed with its byte length and its number of
+ * data quanta, so that the worker can read a whole batch at once.
+ */
 public class ProcessFeeder<Input, Output> {
 
-    // TODO add to a config file
+    // Special lengths, mirrored in pywy/execution/util.py.
     static final int END_OF_DATA_SECTION = -1;
+    static final int PYTHON_EXCEPTION_THROWN = -2;
     static final int NULL = -5;
+    static final int CACHED_UDF = -7;
+
+    static final int DEFAULT_BATCH_SIZE = 1024;
+
+    static final int DEFAULT_BUFFER_SIZE = 65536;
 
     private final Socket socket;
     private final ByteString serializedUDF;
     private final Iterable<Input> input;
+    private final int batchSize;
 
     public ProcessFeeder(
             final Socket socket,
             final ByteString serializedUDF,
             final Iterable<Input> input) {
+        this(socket, serializedUDF, input, DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * Creates a new instance.
+     *
+     * @param socket        connects to the Python worker
+     * @param serializedUDF the UDF to run
+     * @param input         the input data quanta of the UDF
+     * @param batchSize     the maximum number of data quanta per batch
+     */
+    public ProcessFeeder(
+            final Socket socket,
+            final ByteString serializedUDF,
+            final Iterable<Input> input,
+            final int batchSize) {
 
         if (input == null)
             throw new WayangException("Nothing to process with Python API");
@@ -51,120 +78,68 @@ public class ProcessFeeder<Input, Output> {
         this.socket = socket;
         this.serializedUDF = serializedUDF;
         this.input = input;
-
+        this.batchSize = Math.max(1, batchSize);
     }
 
     public void send() {
         try {
-            // TODO use config buffer size
-            final int BUFFER_SIZE = 65536;
-
-            final BufferedOutputStream stream = new BufferedOutputStream(socket.getOutputStream(), BUFFER_SIZE);
+            final BufferedOutputStream stream = new BufferedOutputStream(socket.getOutputStream(), DEFAULT_BUFFER_SIZE);
             final DataOutputStream dataOut = new DataOutputStream(stream);
 
             writeUDF(serializedUDF, dataOut);
-            this.writeIteratorToStream(input.iterator(), dataOut);
-            dataOut.writeInt(END_OF_DATA_SECTION);
-            dataOut.flush();
+            this.sendInput(dataOut);
         } catch (final IOException e) {
-            e.printStackTrace();
+            throw new WayangException("Could not send the input to the Python worker.", e);
         }
     }
 
-    public void writeUDF(final ByteString serializedUDF, final DataOutputStream dataOut) {
-        writeBytes(serializedUDF.toByteArray(), dataOut);
+    /**
+     * Writes only the input data quanta followed by the end-of-data marker, e.g., if the UDF has been sent
+     * separately to a pooled worker.
+     *
+     * @param dataOut the stream to write to
+     * @throws IOException if the stream cannot be written
+     */
+    public void sendInput(final DataOutputStream dataOut) throws IOException {
+        this.writeIteratorToStream(input.iterator(), dataOut);
+        dataOut.writeInt(END_OF_DATA_SECTION);
+        dataOut.flush();
     }
 
-    public void writeIteratorToStream(final Iterator<Input> iter, final DataOutputStream dataOut) {
-        for (final Iterator<Input> it = iter; it.hasNext();) {
-            final Input elem = it.next();
-            write(elem, dataOut);
-        }
-    }
-
-    /* TODO Missing case PortableDataStream */
-    public void write(final Object obj, final DataOutputStream dataOut) {
-        try {
-
-            if (obj == null)
-                dataOut.writeInt(ProcessFeeder.NULL);
-
-            /**
-             * Byte Array cases
-             */
-            else if (obj instanceof Byte[] || obj instanceof byte[]) {
-                writeBytes(obj, dataOut);
-            }
-            /**
-             * String case
-             */
-            else if (obj instanceof final String str) {
-                writeUTF(str, dataOut);
-            }
-
-            // TODO: Properly type this in the future
-            else if (obj instanceof Object) {
-                writeUTF(String.valueOf(obj), dataOut);
-            }
-
-            /**
-             * Key, Value case
-             */
-            else if (obj instanceof final Map.Entry<?,?> entry) {
-                writeKeyValue(entry, dataOut);
-            }
-
-            else {
-                throw new WayangException("Unexpected element type " + obj.getClass());
-            }
-
-        } catch (final IOException e) {
-            e.printStackTrace();
-        }
+    public void writeUDF(final ByteString serializedUDF, final DataOutputStream dataOut) throws IOException {
+        dataOut.writeInt(serializedUDF.size());
+        serializedUDF.writeTo(dataOut);
     }
 
-    public void writeBytes(final Object obj, final DataOutputStream dataOut) {
-
-        try {
-
-            if (obj instanceof final Byte[] objBytes) {
-
-                final int length = objBytes.length;
-
-                final byte[] bytes = new byte[length];
-                int j = 0;
-
-                // Unboxing Byte values. (Byte[] to byte[])
-                for (final Byte b : objBytes)
-                    bytes[j++] = b.byteValue();
-
-                dataOut.writeInt(length);
-                dataOut.write(bytes);
-
-            } else if (obj instanceof final byte[] objBytes) {
-
-                dataOut.writeInt(objBytes.length);
-                dataOut.write(objBytes);
+    /**
+     * Writes the data quanta in batches.
+     *
+     * @param iter    provides the data quanta
+     * @param dataOut the stream to write to
+     * @throws IOException if the stream cannot be written
+     */
+    public void writeIteratorToStream(final Iterator<Input> iter, final DataOutputStream dataOut) throws IOException {
+        final ByteArrayOutputStream batchBuffer = new ByteArrayOutputStream();
+        final DataOutputStream batchOut = new DataOutputStream(batchBuffer);
+        int batchCount = 0;
+        while (iter.hasNext()) {
+            PythonWireFormat.write(iter.next(), batchOut);
+            if (++batchCount == this.batchSize) {
+                writeBatch(batchBuffer, batchCount, dataOut);
+                batchCount = 0;
             }
-        } catch (final IOException e) {
-            e.printStackTrace();
         }
-    }
-
-    public void writeUTF(final String str, final DataOutputStream dataOut) {
-
-        final byte[] bytes = str.getBytes(StandardCharsets.UTF_8);
-
-        try {
-            dataOut.writeInt(bytes.length);
-            dataOut.write(bytes);
-        } catch (final Exception e) {
-            e.printStackTrace();
+        if (batchCount > 0) {
+            writeBatch(batchBuffer, batchCount, dataOut);
         }
     }
 
-    public void writeKeyValue(final Map.Entry<?, ?> obj, final DataOutputStream dataOut) {
-        write(obj.getKey(), dataOut);
-        write(obj.getValue(), dataOut);
+    private static void writeBatch(final ByteArrayOutputStream batchBuffer,
+                                   final int batchCount,
+                                   final DataOutputStream dataOut) throws IOException {
+        dataOut.writeInt(batchBuffer.size());
+        dataOut.writeInt(batchCount);
+        batchBuffer.writeTo(dataOut);
+        batchBuffer.reset();
     }
 }
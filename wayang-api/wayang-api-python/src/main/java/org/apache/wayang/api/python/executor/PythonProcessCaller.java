@@ -42,9 +42,19 @@ public class PythonProcessCaller {
     private final Configuration configuration;
 
     public PythonProcessCaller() {
-
         // TODO create documentation to how to the configuration in the code
-        this.configuration = createConfiguration();
+        this(createConfiguration(), false);
+    }
+
+    /**
+     * Starts a new Python worker.
+     *
+     * @param configuration provides the Python settings
+     * @param isReusable    whether the worker should serve several tasks over its connection rather than exit
+     *                      after the first one
+     */
+    public PythonProcessCaller(final Configuration configuration, final boolean isReusable) {
+        this.configuration = configuration;
         this.ready = false;
         final byte[] addr = new byte[4];
         addr[0] = 127;
@@ -62,6 +72,10 @@ public class PythonProcessCaller {
             final Map<String, String> workerEnv = pb.environment();
             workerEnv.put("PYTHON_WORKER_FACTORY_PORT", String.valueOf(this.serverSocket.getLocalPort()));
             workerEnv.put("PYTHONPATH", this.configuration.getStringProperty("wayang.api.python.env.path"));
+            workerEnv.put("PYTHON_WORKER_BATCH_SIZE", String.valueOf(getBatchSize(this.configuration)));
+            if (isReusable) {
+                workerEnv.put("PYTHON_WORKER_REUSE", "1");
+            }
 
             // Redirect worker stdout and stderr
             pb.redirectOutput(ProcessBuilder.Redirect.INHERIT);
@@ -98,7 +112,7 @@ public class PythonProcessCaller {
         }
     }
 
-    private static Configuration createConfiguration() {
+    static Configuration createConfiguration() {
         final Configuration configuration = new Configuration((String) null);
         final URL pythonDefaults = ReflectionUtils.getResourceURL("wayang-api-python-defaults.properties");
         if (pythonDefaults != null) {
@@ -115,6 +129,22 @@ public class PythonProcessCaller {
         return configuration;
     }
 
+    /**
+     * Tells the maximum number of data quanta per batch exchanged with Python workers.
+     *
+     * @param configuration provides the {@code wayang.api.python.batch.size}
+     * @return the batch size
+     */
+    static int getBatchSize(final Configuration configuration) {
+        return (int) Math.max(1, configuration.getLongProperty(
+                "wayang.api.python.batch.size", ProcessFeeder.DEFAULT_BATCH_SIZE
+        ));
+    }
+
+    public Configuration getConfiguration() {
+        return configuration;
+    }
+
     public Process getProcess() {
         return process;
     }
@@ -0,0 +1,169 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.api.python.executor;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import org.apache.wayang.basic.data.Record;
+import org.apache.wayang.basic.data.Tuple2;
+import org.apache.wayang.core.api.exception.WayangException;
+
+/**
+ * Typed binary encoding of data quanta exchanged with Python workers. Every value is a one-byte type tag followed
+ * by its payload in network byte order:
+ * <ul>
+ * <li>{@link String}s become {@code str}s (length-prefixed UTF-8),</li>
+ * <li>{@code byte[]}s become {@code bytes} (length-prefixed),</li>
+ * <li>{@link Integer}s, {@link Long}s, {@link Short}s, and {@link Byte}s become {@code int}s, while Python
+ * {@code int}s become {@link Long}s,</li>
+ * <li>{@link Double}s and {@link Float}s become {@code float}s, while Python {@code float}s become
+ * {@link Double}s,</li>
+ * <li>{@link Boolean}s become {@code bool}s,</li>
+ * <li>{@link Tuple2}s and {@link Map.Entry}s become 2-{@code tuple}s and vice versa,</li>
+ * <li>{@link Record}s become {@code list}s, while Python {@code list}s and other {@code tuple}s become
+ * {@link Record}s, and</li>
+ * <li>{@code null} becomes {@code None}.</li>
+ * </ul>
+ * Any other object is sent as its {@link String} representation. The Python counterpart is
+ * {@code pywy/execution/serialization.py}.
+ */
+public final class PythonWireFormat {
+
+    static final byte NULL = 0;
+    static final byte STRING = 1;
+    static final byte BYTES = 2;
+    static final byte INT32 = 3;
+    static final byte INT64 = 4;
+    static final byte FLOAT64 = 5;
+    static final byte BOOLEAN = 6;
+    static final byte TUPLE2 = 7;
+    static final byte RECORD = 8;
+
+    private PythonWireFormat() {
+    }
+
+    /**
+     * Encodes a value.
+     *
+     * @param obj     the value
+     * @param dataOut to write the encoded value to
+     * @throws IOException if writing fails
+     */
+    public static void write(final Object obj, final DataOutput dataOut) throws IOException {
+        if (obj == null) {
+            dataOut.writeByte(NULL);
+        } else if (obj instanceof final String str) {
+            dataOut.writeByte(STRING);
+            writeString(str, dataOut);
+        } else if (obj instanceof final Integer integer) {
+            dataOut.writeByte(INT32);
+            dataOut.writeInt(integer);
+        } else if (obj instanceof Long || obj instanceof Short || obj instanceof Byte) {
+            dataOut.writeByte(INT64);
+            dataOut.writeLong(((Number) obj).longValue());
+        } else if (obj instanceof Double || obj instanceof Float) {
+            dataOut.writeByte(FLOAT64);
+            dataOut.writeDouble(((Number) obj).doubleValue());
+        } else if (obj instanceof final Boolean bool) {
+            dataOut.writeByte(BOOLEAN);
+            dataOut.writeBoolean(bool);
+        } else if (obj instanceof final byte[] bytes) {
+            dataOut.writeByte(BYTES);
+            dataOut.writeInt(bytes.length);
+            dataOut.write(bytes);
+        } else if (obj instanceof final Byte[] boxedBytes) {
+            dataOut.writeByte(BYTES);
+            dataOut.writeInt(boxedBytes.length);
+            for (final Byte b : boxedBytes) {
+                dataOut.writeByte(b);
+            }
+        } else if (obj instanceof final Tuple2<?, ?> tuple) {
+            dataOut.writeByte(TUPLE2);
+            write(tuple.field0, dataOut);
+            write(tuple.field1, dataOut);
+        } else if (obj instanceof final Map.Entry<?, ?> entry) {
+            dataOut.writeByte(TUPLE2);
+            write(entry.getKey(), dataOut);
+            write(entry.getValue(), dataOut);
+        } else if (obj instanceof final Record record) {
+            dataOut.writeByte(RECORD);
+            dataOut.writeInt(record.size());
+            for (final Object field : record.getValues()) {
+                write(field, dataOut);
+            }
+        } else {
+            dataOut.writeByte(STRING);
+            writeString(String.valueOf(obj), dataOut);
+        }
+    }
+
+    private static void writeString(final String str, final DataOutput dataOut) throws IOException {
+        final byte[] bytes = str.getBytes(StandardCharsets.UTF_8);
+        dataOut.writeInt(bytes.length);
+        dataOut.write(bytes);
+    }
+
+    /**
+     * Decodes a value.
+     *
+     * @param dataIn to read the encoded value from
+     * @return the value
+     * @throws IOException if reading fails
+     */
+    public static Object read(final DataInput dataIn) throws IOException {
+        final byte tag = dataIn.readByte();
+        switch (tag) {
+            case NULL:
+                return null;
+            case STRING:
+                return new String(readBytes(dataIn), StandardCharsets.UTF_8);
+            case BYTES:
+                return readBytes(dataIn);
+            case INT32:
+                return dataIn.readInt();
+            case INT64:
+                return dataIn.readLong();
+            case FLOAT64:
+                return dataIn.readDouble();
+            case BOOLEAN:
+                return dataIn.readBoolean();
+            case TUPLE2:
+                return new Tuple2<>(read(dataIn), read(dataIn));
+            case RECORD: {
+                final Object[] values = new Object[dataIn.readInt()];
+                for (int i = 0; i < values.length; i++) {
+                    values[i] = read(dataIn);
+                }
+                return new Record(values);
+            }
+            default:
+                throw new WayangException("Unknown type tag from Python worker: " + tag);
+        }
+    }
+
+    private static byte[] readBytes(final DataInput dataIn) throws IOException {
+        final byte[] bytes = new byte[dataIn.readInt()];
+        dataIn.readFully(bytes);
+        return bytes;
+    }
+}
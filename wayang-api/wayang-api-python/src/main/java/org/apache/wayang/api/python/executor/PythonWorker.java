@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.api.python.executor;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.apache.wayang.core.api.exception.WayangException;
+
+import com.google.protobuf.ByteString;
+
+/**
+ * A long-lived Python worker process that serves one task at a time over its connection. It remembers which UDFs
+ * it has already received, so that these need not be shipped again.
+ *
+ * @see PythonWorkerPool
+ */
+class PythonWorker {
+
+    private static final int OUTPUT_BUFFER_SIZE = 65536;
+
+    private static final int INPUT_BUFFER_SIZE = 8192;
+
+    private final PythonProcessCaller processCaller;
+
+    private final DataOutputStream dataOut;
+
+    private final DataInputStream dataIn;
+
+    /**
+     * Keys of the UDFs cached by the Python process.
+     */
+    private final Set<ByteString> cachedUdfKeys = new HashSet<>();
+
+    private long lastUseMillis = System.currentTimeMillis();
+
+    PythonWorker(final PythonProcessCaller processCaller) {
+        this.processCaller = processCaller;
+        try {
+            this.dataOut = new DataOutputStream(new BufferedOutputStream(
+                    processCaller.getSocket().getOutputStream(), OUTPUT_BUFFER_SIZE
+            ));
+            this.dataIn = new DataInputStream(new BufferedInputStream(
+                    processCaller.getSocket().getInputStream(), INPUT_BUFFER_SIZE
+            ));
+        } catch (final IOException e) {
+            processCaller.close();
+            throw new WayangException("Could not connect to the Python worker.", e);
+        }
+    }
+
+    /**
+     * Starts a new task by sending its UDF. If the worker has received the UDF before, only its key is sent.
+     *
+     * @param udfKey        identifies the {@code serializedUDF}
+     * @param serializedUDF the UDF to run
+     * @throws IOException if the worker cannot be written to
+     */
+    void sendUdf(final ByteString udfKey, final ByteString serializedUDF) throws IOException {
+        this.dataOut.writeInt(udfKey.size());
+        udfKey.writeTo(this.dataOut);
+        if (this.cachedUdfKeys.contains(udfKey)) {
+            this.dataOut.writeInt(ProcessFeeder.CACHED_UDF);
+        } else {
+            this.dataOut.writeInt(serializedUDF.size());
+            serializedUDF.writeTo(this.dataOut);
+            this.cachedUdfKeys.add(udfKey);
+        }
+    }
+
+    DataOutputStream getDataOut() {
+        return this.dataOut;
+    }
+
+    DataInputStream getDataIn() {
+        return this.dataIn;
+    }
+
+    boolean isAlive() {
+        return this.processCaller.getProcess().isAlive() && !this.processCaller.getSocket().isClosed();
+    }
+
+    void touch() {
+        this.lastUseMillis = System.currentTimeMillis();
+    }
+
+    long getLastUseMillis() {
+        return this.lastUseMillis;
+    }
+
+    void close() {
+        this.processCaller.close();
+    }
+}
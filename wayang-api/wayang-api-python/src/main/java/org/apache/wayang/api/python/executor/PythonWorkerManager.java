@@ -26,22 +26,44 @@ public class PythonWorkerManager<Input, Output> {
 
     private final ByteString serializedUDF;
     private final Iterable<Input> inputIterator;
+    private final PythonWorkerSettings settings;
 
     public PythonWorkerManager(
             final ByteString serializedUDF,
             final Iterable<Input> input) {
+        this(serializedUDF, input, PythonWorkerSettings.createDefault());
+    }
+
+    /**
+     * Creates a new instance.
+     *
+     * @param serializedUDF the Python UDF
+     * @param input         the input data quanta of the UDF
+     * @param settings      the effective Python settings of the job that runs the UDF
+     */
+    public PythonWorkerManager(
+            final ByteString serializedUDF,
+            final Iterable<Input> input,
+            final PythonWorkerSettings settings) {
         this.serializedUDF = serializedUDF;
         this.inputIterator = input;
+        this.settings = settings;
     }
 
     public Iterable<Output> execute() {
-        final PythonProcessCaller worker = new PythonProcessCaller();
+        final PythonWorkerPool pool = PythonWorkerPool.getInstance(this.settings);
+        if (pool.isEnabled()) {
+            return pool.execute(this.serializedUDF, this.inputIterator);
+        }
+
+        final PythonProcessCaller worker = new PythonProcessCaller(this.settings.toConfiguration(), false);
 
         if (worker.isReady()) {
             final ProcessFeeder<Input, Output> feed = new ProcessFeeder<>(
                     worker.getSocket(),
                     this.serializedUDF,
-                    this.inputIterator);
+                    this.inputIterator,
+                    PythonProcessCaller.getBatchSize(worker.getConfiguration()));
             feed.send();
             final ProcessReceiver<Output> r = new ProcessReceiver<>(worker.getSocket());
             return r.getIterable();
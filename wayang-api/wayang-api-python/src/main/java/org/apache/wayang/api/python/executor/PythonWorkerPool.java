@@ -0,0 +1,421 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.api.python.executor;
+
+import java.io.IOException;
+import java.lang.ref.Cleaner;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.wayang.core.api.Configuration;
+import org.apache.wayang.core.api.exception.WayangException;
+
+import com.google.protobuf.ByteString;
+
+/**
+ * Keeps warm {@link PythonWorker}s, so that Python UDF invocations do not pay for the process startup, the
+ * connect-back and re-shipping the UDF. Concurrent invocations run on different workers. Workers that crash are
+ * discarded and replaced on demand; idle workers are shut down after a timeout. There is one JVM-wide instance per
+ * distinct {@link PythonWorkerSettings}, so that jobs with different Python settings do not share workers.
+ * <p>The pool is configured via
+ * <ul>
+ * <li>{@code wayang.api.python.pool.size}: the maximum number of warm workers; {@code 0} disables pooling, and</li>
+ * <li>{@code wayang.api.python.pool.idle-timeout}: milliseconds after which an idle worker is shut down.</li>
+ * </ul>
+ * When more invocations run concurrently than there are warm workers, the excess invocations use transient
+ * workers rather than blocking, as blocking could dead-lock nested, lazily consumed invocations.</p>
+ */
+public class PythonWorkerPool {
+
+    private static final Logger logger = LogManager.getLogger(PythonWorkerPool.class);
+
+    private static final Map<PythonWorkerSettings, PythonWorkerPool> instances = new HashMap<>();
+
+    /**
+     * Discards the workers of abandoned {@link OutputIterator}s.
+     */
+    private static final Cleaner cleaner = Cleaner.create();
+
+    private final Configuration configuration;
+
+    private final int maxNumWorkers;
+
+    private final long idleTimeoutMillis;
+
+    private final int batchSize;
+
+    /**
+     * Idle workers with the most recently used one first.
+     */
+    private final Deque<PythonWorker> idleWorkers = new ArrayDeque<>();
+
+    /**
+     * Number of pooled workers, i.e., idle and busy ones.
+     */
+    private int numWorkers = 0;
+
+    private boolean isShutDown = false;
+
+    /**
+     * Feeds the input data quanta to the workers while the results are being read.
+     */
+    private final ExecutorService feederExecutor;
+
+    private final ScheduledExecutorService evictionExecutor;
+
+    /**
+     * Provides the JVM-wide instance for the given settings.
+     *
+     * @param settings the effective Python settings of a job
+     * @return the {@link PythonWorkerPool}
+     */
+    public static synchronized PythonWorkerPool getInstance(final PythonWorkerSettings settings) {
+        if (instances.isEmpty()) {
+            Runtime.getRuntime().addShutdownHook(
+                    new Thread(PythonWorkerPool::shutDownAll, "wayang-python-pool-shutdown")
+            );
+        }
+        return instances.computeIfAbsent(settings, key -> new PythonWorkerPool(key.toConfiguration()));
+    }
+
+    /**
+     * Shuts down all JVM-wide instances.
+     */
+    private static void shutDownAll() {
+        final List<PythonWorkerPool> pools;
+        synchronized (PythonWorkerPool.class) {
+            pools = new ArrayList<>(instances.values());
+        }
+        pools.forEach(PythonWorkerPool::shutDown);
+    }
+
+    /**
+     * Creates a new instance.
+     *
+     * @param configuration provides the Python and pool settings
+     */
+    public PythonWorkerPool(final Configuration configuration) {
+        this.configuration = configuration;
+        this.maxNumWorkers = (int) Math.max(0, configuration.getLongProperty("wayang.api.python.pool.size", 0));
+        this.idleTimeoutMillis = configuration.getLongProperty("wayang.api.python.pool.idle-timeout", 60000);
+        this.batchSize = PythonProcessCaller.getBatchSize(configuration);
+        this.feederExecutor = Executors.newCachedThreadPool(createDaemonThreadFactory("wayang-python-feeder"));
+        this.evictionExecutor = Executors.newSingleThreadScheduledExecutor(
+                createDaemonThreadFactory("wayang-python-eviction")
+        );
+        if (this.idleTimeoutMillis > 0) {
+            final long evictionPeriodMillis = Math.max(1, this.idleTimeoutMillis / 2);
+            this.evictionExecutor.scheduleWithFixedDelay(
+                    this::evictIdleWorkers, evictionPeriodMillis, evictionPeriodMillis, TimeUnit.MILLISECONDS
+            );
+        }
+    }
+
+    private static ThreadFactory createDaemonThreadFactory(final String namePrefix) {
+        final AtomicInteger threadCounter = new AtomicInteger();
+        return runnable -> {
+            final Thread thread = new Thread(runnable, namePrefix + "-" + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * @return whether this instance keeps any warm workers
+     */
+    public boolean isEnabled() {
+        return this.maxNumWorkers > 0;
+    }
+
+    /**
+     * Runs a Python UDF on a worker.
+     *
+     * @param serializedUDF the UDF
+     * @param input         the input data quanta of the UDF
+     * @return the output data quanta of the UDF; the worker is returned to the pool once they are consumed, and it
+     * is discarded if the {@link OutputIterator} is closed or garbage-collected before
+     */
+    public <Input, Output> Iterable<Output> execute(final ByteString serializedUDF, final Iterable<Input> input) {
+        final ByteString udfKey = computeUdfKey(serializedUDF);
+        final Lease lease = this.acquire();
+        final PythonWorker worker = lease.worker;
+
+        final Future<?> feeding;
+        try {
+            worker.sendUdf(udfKey, serializedUDF);
+            final ProcessFeeder<Input, Output> feeder = new ProcessFeeder<>(null, serializedUDF, input, this.batchSize);
+            feeding = this.feederExecutor.submit(() -> {
+                feeder.sendInput(worker.getDataOut());
+                return null;
+            });
+        } catch (final IOException | RuntimeException e) {
+            this.discard(lease);
+            throw new WayangException("Could not send the task to the Python worker.", e);
+        }
+
+        final OutputIterator<Output> iterator = new OutputIterator<>(
+                new ReaderIterator<>(worker.getDataIn()), new Completion(lease, feeding)
+        );
+        return () -> iterator;
+    }
+
+    /**
+     * Identifies a serialized UDF via its SHA-256 digest.
+     */
+    private static ByteString computeUdfKey(final ByteString serializedUDF) {
+        try {
+            final MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            messageDigest.update(serializedUDF.asReadOnlyByteBuffer());
+            return ByteString.copyFrom(messageDigest.digest());
+        } catch (final NoSuchAlgorithmException e) {
+            throw new WayangException("SHA-256 is not available.", e);
+        }
+    }
+
+    /**
+     * Provides an idle worker, starts a new one, or starts a transient one if the pool is exhausted.
+     */
+    private Lease acquire() {
+        synchronized (this) {
+            while (!this.idleWorkers.isEmpty()) {
+                final PythonWorker worker = this.idleWorkers.pollFirst();
+                if (worker.isAlive()) return new Lease(worker, true);
+                logger.info("Replacing a crashed Python worker.");
+                worker.close();
+                this.numWorkers--;
+            }
+            if (this.isShutDown || this.numWorkers >= this.maxNumWorkers) {
+                logger.debug("Python worker pool exhausted, starting a transient worker.");
+                // Transient workers speak the same protocol but are shut down after their single task.
+                return new Lease(new PythonWorker(new PythonProcessCaller(this.configuration, true)), false);
+            }
+            this.numWorkers++;
+        }
+        try {
+            return new Lease(new PythonWorker(new PythonProcessCaller(this.configuration, true)), true);
+        } catch (final RuntimeException e) {
+            synchronized (this) {
+                this.numWorkers--;
+            }
+            throw e;
+        }
+    }
+
+    private void release(final Lease lease) {
+        if (!lease.isPooled) {
+            lease.worker.close();
+            return;
+        }
+        synchronized (this) {
+            if (!this.isShutDown) {
+                lease.worker.touch();
+                this.idleWorkers.addFirst(lease.worker);
+                return;
+            }
+            this.numWorkers--;
+        }
+        lease.worker.close();
+    }
+
+    private void discard(final Lease lease) {
+        lease.worker.close();
+        if (lease.isPooled) {
+            synchronized (this) {
+                this.numWorkers--;
+            }
+        }
+    }
+
+    /**
+     * Shuts down workers that have been idle for longer than the idle timeout.
+     */
+    private void evictIdleWorkers() {
+        final long minLastUseMillis = System.currentTimeMillis() - this.idleTimeoutMillis;
+        final Deque<PythonWorker> evictedWorkers = new ArrayDeque<>();
+        synchronized (this) {
+            // The least recently used workers are at the end.
+            while (!this.idleWorkers.isEmpty() && this.idleWorkers.peekLast().getLastUseMillis() < minLastUseMillis) {
+                evictedWorkers.add(this.idleWorkers.pollLast());
+                this.numWorkers--;
+            }
+        }
+        evictedWorkers.forEach(PythonWorker::close);
+    }
+
+    /**
+     * @return the number of pooled workers, i.e., idle and busy ones
+     */
+    public synchronized int getNumWorkers() {
+        return this.numWorkers;
+    }
+
+    /**
+     * Shuts down all idle workers. Busy workers are shut down once they complete.
+     */
+    public void shutDown() {
+        final Deque<PythonWorker> workers;
+        synchronized (this) {
+            this.isShutDown = true;
+            workers = new ArrayDeque<>(this.idleWorkers);
+            this.numWorkers -= this.idleWorkers.size();
+            this.idleWorkers.clear();
+        }
+        workers.forEach(PythonWorker::close);
+        this.evictionExecutor.shutdownNow();
+        this.feederExecutor.shutdown();
+    }
+
+    /**
+     * Iterates the output of a worker and hands the worker back via its {@link Completion} once the output is
+     * exhausted. If the output is abandoned before, i.e., {@link #close() closed} or garbage-collected, the worker
+     * is discarded, as unread output is still pending on its connection.
+     */
+    public static class OutputIterator<Output> implements Iterator<Output>, AutoCloseable {
+
+        private final ReaderIterator<Output> reader;
+
+        private final Completion completion;
+
+        private final Cleaner.Cleanable cleanable;
+
+        private OutputIterator(final ReaderIterator<Output> reader, final Completion completion) {
+            this.reader = reader;
+            this.completion = completion;
+            // The Completion must not refer to this instance, so that it can become unreachable.
+            this.cleanable = cleaner.register(this, completion);
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (this.completion.isDone()) return false;
+            try {
+                if (this.reader.hasNext()) return true;
+            } catch (final RuntimeException e) {
+                this.cleanable.clean();
+                throw e;
+            }
+            this.completion.finish();
+            return false;
+        }
+
+        @Override
+        public Output next() {
+            if (!this.hasNext()) throw new NoSuchElementException();
+            try {
+                return this.reader.next();
+            } catch (final RuntimeException e) {
+                this.cleanable.clean();
+                throw e;
+            }
+        }
+
+        /**
+         * Discards the worker unless the output has been consumed completely.
+         */
+        @Override
+        public void close() {
+            this.cleanable.clean();
+        }
+    }
+
+    /**
+     * Hands back the worker of an invocation exactly once: to the pool if its output has been consumed completely
+     * and by discarding it otherwise. As a {@link Runnable}, it discards the worker.
+     */
+    private class Completion implements Runnable {
+
+        private final Lease lease;
+
+        private final Future<?> feeding;
+
+        private final AtomicBoolean isDone = new AtomicBoolean(false);
+
+        private Completion(final Lease lease, final Future<?> feeding) {
+            this.lease = lease;
+            this.feeding = feeding;
+        }
+
+        private boolean isDone() {
+            return this.isDone.get();
+        }
+
+        /**
+         * Called once the output is exhausted.
+         */
+        private void finish() {
+            if (!this.isDone.compareAndSet(false, true)) return;
+            try {
+                this.feeding.get();
+            } catch (final ExecutionException e) {
+                PythonWorkerPool.this.discard(this.lease);
+                throw new WayangException("Could not feed the Python worker.", e.getCause());
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                PythonWorkerPool.this.discard(this.lease);
+                throw new WayangException("Interrupted while feeding the Python worker.", e);
+            }
+            PythonWorkerPool.this.release(this.lease);
+        }
+
+        @Override
+        public void run() {
+            if (!this.isDone.compareAndSet(false, true)) return;
+            logger.debug("Discarding a Python worker whose output was not consumed completely.");
+            this.feeding.cancel(true);
+            PythonWorkerPool.this.discard(this.lease);
+        }
+    }
+
+    /**
+     * A worker lent to an invocation.
+     */
+    private static class Lease {
+
+        private final PythonWorker worker;
+
+        /**
+         * Whether the {@link #worker} belongs to the pool or is transient.
+         */
+        private final boolean isPooled;
+
+        private Lease(final PythonWorker worker, final boolean isPooled) {
+            this.worker = worker;
+            this.isPooled = isPooled;
+        }
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.api.python.executor;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.apache.wayang.core.api.Configuration;
+
+/**
+ * The effective Python settings of a job, i.e., the Python API defaults overridden by the job's
+ * {@link Configuration}. They determine how Python workers are started and pooled, so each distinct instance
+ * gets its own {@link PythonWorkerPool}. Instances are serializable, so that Python UDFs can carry them to
+ * wherever they are executed.
+ */
+public final class PythonWorkerSettings implements Serializable {
+
+    /**
+     * The properties that make up the settings.
+     */
+    static final List<String> PROPERTY_KEYS = Collections.unmodifiableList(Arrays.asList(
+            "wayang.api.python.path",
+            "wayang.api.python.worker",
+            "wayang.api.python.env.path",
+            "wayang.api.python.batch.size",
+            "wayang.api.python.pool.size",
+            "wayang.api.python.pool.idle-timeout"
+    ));
+
+    private final Map<String, String> properties;
+
+    private PythonWorkerSettings(final Map<String, String> properties) {
+        this.properties = properties;
+    }
+
+    /**
+     * Extracts the effective Python settings of a job.
+     *
+     * @param configuration the job's {@link Configuration}
+     * @return the settings
+     */
+    public static PythonWorkerSettings of(final Configuration configuration) {
+        final Configuration defaults = PythonProcessCaller.createConfiguration();
+        final Map<String, String> properties = new TreeMap<>();
+        for (final String key : PROPERTY_KEYS) {
+            configuration.getOptionalStringProperty(key)
+                    .or(() -> defaults.getOptionalStringProperty(key))
+                    .ifPresent(value -> properties.put(key, value));
+        }
+        return new PythonWorkerSettings(properties);
+    }
+
+    /**
+     * Provides the settings that apply if no job {@link Configuration} is known, i.e., the Python API defaults
+     * overridden by the {@code wayang.configuration} file.
+     *
+     * @return the settings
+     */
+    public static PythonWorkerSettings createDefault() {
+        return of(PythonProcessCaller.createConfiguration());
+    }
+
+    /**
+     * @return a new {@link Configuration} that comprises exactly these settings
+     */
+    Configuration toConfiguration() {
+        final Configuration configuration = new Configuration((String) null);
+        this.properties.forEach(configuration::setProperty);
+        return configuration;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) return true;
+        if (o == null || this.getClass() != o.getClass()) return false;
+        return this.properties.equals(((PythonWorkerSettings) o).properties);
+    }
+
+    @Override
+    public int hashCode() {
+        return this.properties.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "PythonWorkerSettings" + this.properties;
+    }
+}
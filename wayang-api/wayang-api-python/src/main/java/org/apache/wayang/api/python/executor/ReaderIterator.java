@@ -18,6 +18,7 @@
 
 package org.apache.wayang.api.python.executor;
 
+import java.io.ByteArrayInputStream;
 import java.io.DataInputStream;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
@@ -26,11 +27,20 @@ import java.util.NoSuchElementException;
 
 import org.apache.wayang.core.api.exception.WayangException;
 
+/**
+ * Reads the batches of {@link PythonWireFormat}-encoded data quanta that a Python worker emits, until the
+ * end-of-data marker.
+ */
 public class ReaderIterator<Output> implements Iterator<Output> {
 
-    private Output nextObj = null;
-    private boolean eos = false;
     private final DataInputStream stream;
+    private boolean eos = false;
+
+    /**
+     * The current batch and the number of data quanta that are still to be read from it.
+     */
+    private DataInputStream batch;
+    private int numRemainingInBatch = 0;
 
     public ReaderIterator(final DataInputStream stream) {
         this.stream = stream;
@@ -38,46 +48,47 @@ public class ReaderIterator<Output> implements Iterator<Output> {
 
     @Override
     public boolean hasNext() {
-
-        if (!this.eos) {
-            nextObj = read();
-            return !this.eos;
+        // Read ahead only once per batch, so that repeated calls do not skip elements.
+        while (this.numRemainingInBatch == 0 && !this.eos) {
+            this.readBatch();
         }
-
-        return false;
+        return this.numRemainingInBatch > 0;
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     public Output next() {
-
-        if (!this.eos) {
-            final Output obj = nextObj;
-            nextObj = null;
-            return obj;
+        if (!this.hasNext()) {
+            throw new NoSuchElementException();
+        }
+        try {
+            this.numRemainingInBatch--;
+            return (Output) PythonWireFormat.read(this.batch);
+        } catch (final IOException e) {
+            throw new WayangException("ReaderIterator failed while reading element", e);
         }
-
-        throw new NoSuchElementException();
     }
 
-    private Output read() {
-
-        final int END_OF_DATA_SECTION = -1;
-
+    private void readBatch() {
         try {
             final int length = this.stream.readInt();
-
-            if (length > 0) {
-                final byte[] obj = new byte[length];
-                stream.readFully(obj);
-                final String s = new String(obj, StandardCharsets.UTF_8);
-                return (Output) s;
-            } else if (length == END_OF_DATA_SECTION) {
+            if (length == ProcessFeeder.END_OF_DATA_SECTION) {
+                this.eos = true;
+            } else if (length == ProcessFeeder.PYTHON_EXCEPTION_THROWN) {
                 this.eos = true;
-                return null;
+                final byte[] message = new byte[this.stream.readInt()];
+                this.stream.readFully(message);
+                throw new WayangException("Python UDF failed: " + new String(message, StandardCharsets.UTF_8));
+            } else if (length >= 0) {
+                this.numRemainingInBatch = this.stream.readInt();
+                final byte[] bytes = new byte[length];
+                this.stream.readFully(bytes);
+                this.batch = new DataInputStream(new ByteArrayInputStream(bytes));
+            } else {
+                throw new WayangException("Unexpected batch length from Python worker: " + length);
             }
         } catch (final IOException e) {
             throw new WayangException("ReaderIterator failed while reading element", e);
         }
-        return null;
     }
 }
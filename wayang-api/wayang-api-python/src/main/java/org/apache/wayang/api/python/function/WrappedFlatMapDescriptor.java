@@ -19,6 +19,7 @@
 package org.apache.wayang.api.python.function;
 
 import org.apache.wayang.api.python.executor.PythonWorkerManager;
+import org.apache.wayang.api.python.executor.PythonWorkerSettings;
 import org.apache.wayang.core.function.FlatMapDescriptor;
 import org.apache.wayang.core.optimizer.ProbabilisticDoubleInterval;
 import org.apache.wayang.core.optimizer.costs.LoadProfileEstimator;
@@ -35,10 +36,20 @@ public class WrappedFlatMapDescriptor<Input, Output> extends FlatMapDescriptor<I
             final BasicDataUnitType<Output> outputTypeClass,
             final ProbabilisticDoubleInterval selectivity,
             final LoadProfileEstimator udfLoad) {
+        this(serializedUDF, inputTypeClass, outputTypeClass, selectivity, udfLoad, PythonWorkerSettings.createDefault());
+    }
+
+    public WrappedFlatMapDescriptor(
+            final ByteString serializedUDF,
+            final BasicDataUnitType<Input> inputTypeClass,
+            final BasicDataUnitType<Output> outputTypeClass,
+            final ProbabilisticDoubleInterval selectivity,
+            final LoadProfileEstimator udfLoad,
+            final PythonWorkerSettings settings) {
         super(item -> {
             final ArrayList<Input> input = new ArrayList<>();
             input.add(item);
-            final PythonWorkerManager<Input, Output> manager = new PythonWorkerManager<>(serializedUDF, input);
+            final PythonWorkerManager<Input, Output> manager = new PythonWorkerManager<>(serializedUDF, input, settings);
             return manager.execute();
         },
                 inputTypeClass,
@@ -19,6 +19,7 @@
 package org.apache.wayang.api.python.function;
 
 import org.apache.wayang.api.python.executor.PythonWorkerManager;
+import org.apache.wayang.api.python.executor.PythonWorkerSettings;
 import org.apache.wayang.core.function.MapPartitionsDescriptor;
 import org.apache.wayang.core.optimizer.ProbabilisticDoubleInterval;
 import org.apache.wayang.core.types.BasicDataUnitType;
@@ -31,8 +32,16 @@ import com.google.protobuf.ByteString;
             final ByteString serializedUDF,
             final Class<Input> inputTypeClass,
             final Class<Output> outputTypeClass) {
+        this(serializedUDF, inputTypeClass, outputTypeClass, PythonWorkerSettings.createDefault());
+    }
+
+    public WrappedMapPartitionsDescriptor(
+            final ByteString serializedUDF,
+            final Class<Input> inputTypeClass,
+            final Class<Output> outputTypeClass,
+            final PythonWorkerSettings settings) {
         super(input -> {
-            final PythonWorkerManager<Input, Output> manager = new PythonWorkerManager<>(serializedUDF, input);
+            final PythonWorkerManager<Input, Output> manager = new PythonWorkerManager<>(serializedUDF, input, settings);
             return manager.execute();
         },
                 inputTypeClass,
@@ -40,12 +49,20 @@ import com.google.protobuf.ByteString;
                 (ProbabilisticDoubleInterval) null);
     }
 
-        public WrappedMapPartitionsDescriptor(
+    public WrappedMapPartitionsDescriptor(
             final ByteString serializedUDF,
             final BasicDataUnitType<Input> inputTypeClass,
             final BasicDataUnitType<Output> outputTypeClass) {
+        this(serializedUDF, inputTypeClass, outputTypeClass, PythonWorkerSettings.createDefault());
+    }
+
+    public WrappedMapPartitionsDescriptor(
+            final ByteString serializedUDF,
+            final BasicDataUnitType<Input> inputTypeClass,
+            final BasicDataUnitType<Output> outputTypeClass,
+            final PythonWorkerSettings settings) {
         super(input -> {
-            final PythonWorkerManager<Input, Output> manager = new PythonWorkerManager<>(serializedUDF, input);
+            final PythonWorkerManager<Input, Output> manager = new PythonWorkerManager<>(serializedUDF, input, settings);
             return manager.execute();
         },
                 inputTypeClass,
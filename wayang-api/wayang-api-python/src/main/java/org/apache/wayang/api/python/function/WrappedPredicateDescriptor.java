@@ -21,6 +21,7 @@ package org.apache.wayang.api.python.function;
 import java.util.ArrayList;
 
 import org.apache.wayang.api.python.executor.PythonWorkerManager;
+import org.apache.wayang.api.python.executor.PythonWorkerSettings;
 import org.apache.wayang.core.function.PredicateDescriptor;
 import org.apache.wayang.core.optimizer.ProbabilisticDoubleInterval;
 import org.apache.wayang.core.optimizer.costs.LoadProfileEstimator;
@@ -35,16 +36,24 @@ public class WrappedPredicateDescriptor<Input> extends PredicateDescriptor<Input
             final BasicDataUnitType<Input> inputTypeClass,
             final ProbabilisticDoubleInterval selectivity,
             final LoadProfileEstimator udfLoad) {
+        this(serializedUDF, inputTypeClass, selectivity, udfLoad, PythonWorkerSettings.createDefault());
+    }
+
+    public WrappedPredicateDescriptor(
+            final ByteString serializedUDF,
+            final BasicDataUnitType<Input> inputTypeClass,
+            final ProbabilisticDoubleInterval selectivity,
+            final LoadProfileEstimator udfLoad,
+            final PythonWorkerSettings settings) {
         super(item -> {
             final ArrayList<Input> input = new ArrayList<>();
             input.add(item);
-            final PythonWorkerManager<Input, Object> manager = new PythonWorkerManager<>(serializedUDF, input);
-            final Iterable<Object> output = manager.execute();
-            if (output.iterator().hasNext()) {
-                final Object next = output.iterator().next();
-                return next.equals(1);
+            final PythonWorkerManager<Input, Object> manager = new PythonWorkerManager<>(serializedUDF, input, settings);
+            final Object next = WrappedPythonFunction.firstOf(manager.execute());
+            if (next instanceof final Boolean bool) {
+                return bool;
             }
-            return false;
+            return next instanceof final Number number && number.longValue() == 1L;
         },
                 inputTypeClass,
                 selectivity,
@@ -18,7 +18,11 @@
 
 package org.apache.wayang.api.python.function;
 
+import java.util.Iterator;
+
 import org.apache.wayang.api.python.executor.PythonWorkerManager;
+import org.apache.wayang.api.python.executor.PythonWorkerSettings;
+import org.apache.wayang.core.api.exception.WayangException;
 import org.apache.wayang.core.function.FunctionDescriptor;
 
 import com.google.protobuf.ByteString;
@@ -28,13 +32,45 @@ public class WrappedPythonFunction<Input, Output>
 
     private final ByteString serializedUDF;
 
+    private final PythonWorkerSettings settings;
+
     public WrappedPythonFunction(final ByteString serializedUDF) {
+        this(serializedUDF, PythonWorkerSettings.createDefault());
+    }
+
+    public WrappedPythonFunction(final ByteString serializedUDF, final PythonWorkerSettings settings) {
         this.serializedUDF = serializedUDF;
+        this.settings = settings;
     }
 
     @Override
     public Iterable<Output> apply(final Iterable<Input> input) {
-        final PythonWorkerManager<Input, Output> manager = new PythonWorkerManager<>(serializedUDF, input);
+        final PythonWorkerManager<Input, Output> manager = new PythonWorkerManager<>(serializedUDF, input, settings);
         return manager.execute();
     }
+
+    /**
+     * Provides the first output of a Python UDF invocation. The output is consumed completely, so that the Python
+     * worker can serve further invocations.
+     *
+     * @param output the output
+     * @return the first element of the {@code output} or {@code null} if it is empty
+     */
+    static <T> T firstOf(final Iterable<T> output) {
+        final Iterator<T> iterator = output.iterator();
+        try {
+            final T first = iterator.hasNext() ? iterator.next() : null;
+            iterator.forEachRemaining(ignored -> { });
+            return first;
+        } finally {
+            // Releases the Python worker if the output could not be consumed completely.
+            if (iterator instanceof AutoCloseable) {
+                try {
+                    ((AutoCloseable) iterator).close();
+                } catch (final Exception e) {
+                    throw new WayangException("Could not close the output of the Python worker.", e);
+                }
+            }
+        }
+    }
 }
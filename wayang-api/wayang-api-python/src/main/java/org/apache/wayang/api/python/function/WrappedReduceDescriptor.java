@@ -21,6 +21,7 @@ package org.apache.wayang.api.python.function;
 import java.util.ArrayList;
 
 import org.apache.wayang.api.python.executor.PythonWorkerManager;
+import org.apache.wayang.api.python.executor.PythonWorkerSettings;
 import org.apache.wayang.core.function.ReduceDescriptor;
 import org.apache.wayang.core.types.BasicDataUnitType;
 import org.apache.wayang.core.types.DataUnitGroupType;
@@ -33,13 +34,20 @@ public class WrappedReduceDescriptor<Type> extends ReduceDescriptor<Type> {
             final ByteString serializedUDF,
             final DataUnitGroupType<Type> inputTypeClass,
             final BasicDataUnitType<Type> outputTypeClass) {
+        this(serializedUDF, inputTypeClass, outputTypeClass, PythonWorkerSettings.createDefault());
+    }
+
+    public WrappedReduceDescriptor(
+            final ByteString serializedUDF,
+            final DataUnitGroupType<Type> inputTypeClass,
+            final BasicDataUnitType<Type> outputTypeClass,
+            final PythonWorkerSettings settings) {
         super((a, b) -> {
             final ArrayList<Type> input = new ArrayList<>();
             input.add(a);
             input.add(b);
-            final PythonWorkerManager<Type, Type> manager = new PythonWorkerManager<>(serializedUDF, input);
-            final Iterable<Type> output = manager.execute();
-            return output.iterator().next();
+            final PythonWorkerManager<Type, Type> manager = new PythonWorkerManager<>(serializedUDF, input, settings);
+            return WrappedPythonFunction.firstOf(manager.execute());
         },
                 inputTypeClass,
                 outputTypeClass);
@@ -21,6 +21,7 @@ package org.apache.wayang.api.python.function;
 import java.util.ArrayList;
 
 import org.apache.wayang.api.python.executor.PythonWorkerManager;
+import org.apache.wayang.api.python.executor.PythonWorkerSettings;
 import org.apache.wayang.core.function.TransformationDescriptor;
 import org.apache.wayang.core.types.BasicDataUnitType;
 
@@ -32,16 +33,19 @@ public class WrappedTransformationDescriptor<Input, Output> extends Transformati
             final ByteString serializedUDF,
             final BasicDataUnitType<Input> inputTypeClass,
             final BasicDataUnitType<Output> outputTypeClass) {
+        this(serializedUDF, inputTypeClass, outputTypeClass, PythonWorkerSettings.createDefault());
+    }
+
+    public WrappedTransformationDescriptor(
+            final ByteString serializedUDF,
+            final BasicDataUnitType<Input> inputTypeClass,
+            final BasicDataUnitType<Output> outputTypeClass,
+            final PythonWorkerSettings settings) {
         super(item -> {
             final ArrayList<Input> input = new ArrayList<>();
             input.add(item);
-            final PythonWorkerManager<Input, Output> manager = new PythonWorkerManager<>(serializedUDF, input);
-            final Iterable<Output> output = manager.execute();
-
-            if (output.iterator().hasNext()) {
-                return output.iterator().next();
-            }
-            return null;
+            final PythonWorkerManager<Input, Output> manager = new PythonWorkerManager<>(serializedUDF, input, settings);
+            return WrappedPythonFunction.firstOf(manager.execute());
         },
                 inputTypeClass,
                 outputTypeClass);
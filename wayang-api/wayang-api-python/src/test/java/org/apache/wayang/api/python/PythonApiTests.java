@@ -17,16 +17,30 @@
 
 package org.apache.wayang.api.python;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
 
 import org.apache.wayang.api.python.executor.PythonProcessCaller;
+import org.apache.wayang.api.python.executor.PythonWorkerManager;
+import org.apache.wayang.api.python.executor.PythonWorkerPool;
+import org.apache.wayang.api.python.executor.PythonWorkerSettings;
+import org.apache.wayang.basic.data.Record;
+import org.apache.wayang.basic.data.Tuple2;
 import org.apache.wayang.core.api.Configuration;
 
 import org.junit.jupiter.api.Test;
 
+import com.google.protobuf.ByteString;
+
 class PythonApiTests {
     @Test
     void processCallerSocketTest() {
@@ -42,4 +56,55 @@ class PythonApiTests {
             assumeTrue(false, "Skipping test due to setup error: " + e.getMessage());
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    void workerPoolReuseTest() {
+        // Pickled and Base64-encoded builtins.bool, which yields True for any input iterator.
+        final ByteString serializedUDF = ByteString.copyFromUtf8(
+                Base64.getEncoder().encodeToString("cbuiltins\nbool\n.".getBytes(StandardCharsets.US_ASCII)));
+        final Configuration configuration = new Configuration();
+        configuration.setProperty("wayang.api.python.pool.size", "2");
+        final PythonWorkerPool pool = PythonWorkerPool.getInstance(PythonWorkerSettings.of(configuration));
+        final List<String> result1, result2;
+        try {
+            result1 = collect(pool.execute(serializedUDF, Arrays.asList("a", "b")));
+            result2 = collect(pool.execute(serializedUDF, Arrays.asList("c")));
+        } catch (Exception e) {
+            assumeTrue(false, "Skipping test due to setup error: " + e.getMessage());
+            return;
+        }
+
+        assertEquals(Collections.singletonList("true"), result1);
+        assertEquals(Collections.singletonList("true"), result2);
+        // The second invocation should have reused the worker of the first one.
+        assertEquals(1, pool.getNumWorkers());
+    }
+
+    @Test
+    void typedRoundTripTest() {
+        // Pickled and Base64-encoded builtins.list, which echoes the input data quanta.
+        final ByteString serializedUDF = ByteString.copyFromUtf8(
+                Base64.getEncoder().encodeToString("cbuiltins\nlist\n.".getBytes(StandardCharsets.US_ASCII)));
+        final List<Object> input = Arrays.asList(
+                "text", 42, 42L, 0.5d, true, null, new Tuple2<>("key", 1), new Record("a", 2L, 3.0d)
+        );
+        final List<Object> result = new ArrayList<>();
+        try {
+            new PythonWorkerManager<Object, Object>(serializedUDF, input).execute().forEach(result::add);
+        } catch (Exception e) {
+            assumeTrue(false, "Skipping test due to setup error: " + e.getMessage());
+            return;
+        }
+
+        // Python ints come back as Longs.
+        assertEquals(Arrays.asList(
+                "text", 42L, 42L, 0.5d, true, null, new Tuple2<>("key", 1L), new Record("a", 2L, 3.0d)
+        ), result);
+    }
+
+    private static List<String> collect(final Iterable<Object> iterable) {
+        final List<String> result = new ArrayList<>();
+        iterable.forEach(element -> result.add(String.valueOf(element)));
+        return result;
+    }
+}
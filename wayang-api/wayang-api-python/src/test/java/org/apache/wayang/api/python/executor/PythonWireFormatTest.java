@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.api.python.executor;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.apache.wayang.basic.data.Record;
+import org.apache.wayang.basic.data.Tuple2;
+import org.junit.jupiter.api.Test;
+
+import com.google.protobuf.ByteString;
+
+class PythonWireFormatTest {
+
+    @Test
+    void roundTripTest() throws IOException {
+        final List<Object> values = Arrays.asList(
+                null, "wayang", "", 7, -7L, 1.5d, false,
+                new Tuple2<>(1, "one"), new Record("a", 2, new Tuple2<>(null, 3.5d))
+        );
+        for (final Object value : values) {
+            assertEquals(value, roundTrip(value));
+        }
+        assertArrayEquals(new byte[]{1, 2, 3}, (byte[]) roundTrip(new byte[]{1, 2, 3}));
+        assertEquals(new Tuple2<>("key", 1), roundTrip(new AbstractMap.SimpleEntry<>("key", 1)));
+        assertEquals(2L, roundTrip((short) 2));
+        assertEquals("[1, 2]", roundTrip(Arrays.asList(1, 2)));
+    }
+
+    private static Object roundTrip(final Object value) throws IOException {
+        final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        PythonWireFormat.write(value, new DataOutputStream(buffer));
+        return PythonWireFormat.read(new DataInputStream(new ByteArrayInputStream(buffer.toByteArray())));
+    }
+
+    @Test
+    void batchingTest() throws IOException {
+        final List<Integer> input = IntStream.range(0, 10).boxed().collect(Collectors.toList());
+        final ProcessFeeder<Integer, Object> feeder = new ProcessFeeder<>(
+                null, ByteString.copyFrom("udf", StandardCharsets.UTF_8), input, 4
+        );
+        final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        feeder.sendInput(new DataOutputStream(buffer));
+
+        // Batches of 4, 4, and 2 data quanta followed by the end-of-data marker.
+        final List<Object> output = new ArrayList<>();
+        new ReaderIterator<>(new DataInputStream(new ByteArrayInputStream(buffer.toByteArray())))
+                .forEachRemaining(output::add);
+        assertEquals(new ArrayList<Object>(input), output);
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.api.python.executor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+
+import org.apache.wayang.core.api.Configuration;
+import org.junit.jupiter.api.Test;
+
+class PythonWorkerSettingsTest {
+
+    @Test
+    void jobConfigurationOverridesDefaultsTest() {
+        final Configuration configuration = new Configuration();
+        configuration.setProperty("wayang.api.python.path", "/opt/python3.12/bin/python3");
+        final Configuration settingsConfiguration = PythonWorkerSettings.of(configuration).toConfiguration();
+
+        assertEquals("/opt/python3.12/bin/python3", settingsConfiguration.getStringProperty("wayang.api.python.path"));
+        // Properties that the job does not set fall back to the Python API defaults.
+        assertEquals(
+                PythonProcessCaller.createConfiguration().getStringProperty("wayang.api.python.pool.idle-timeout"),
+                settingsConfiguration.getStringProperty("wayang.api.python.pool.idle-timeout")
+        );
+    }
+
+    @Test
+    void poolIsDisabledByDefaultTest() {
+        assertFalse(PythonWorkerPool.getInstance(PythonWorkerSettings.of(new Configuration())).isEnabled());
+    }
+
+    @Test
+    void poolsAreKeyedBySettingsTest() {
+        final Configuration configuration1 = new Configuration();
+        configuration1.setProperty("wayang.api.python.pool.size", "1");
+        configuration1.setProperty("wayang.api.python.env.path", "/tmp/env1");
+        final Configuration configuration2 = new Configuration();
+        configuration2.setProperty("wayang.api.python.pool.size", "1");
+        configuration2.setProperty("wayang.api.python.env.path", "/tmp/env2");
+        final Configuration configuration3 = new Configuration();
+        configuration3.setProperty("wayang.api.python.pool.size", "2");
+        configuration3.setProperty("wayang.api.python.env.path", "/tmp/env1");
+
+        final PythonWorkerSettings settings1 = PythonWorkerSettings.of(configuration1);
+        assertEquals(settings1, PythonWorkerSettings.of(configuration1));
+        assertNotEquals(settings1, PythonWorkerSettings.of(configuration2));
+        assertNotEquals(settings1, PythonWorkerSettings.of(configuration3));
+
+        final PythonWorkerPool pool1 = PythonWorkerPool.getInstance(settings1);
+        assertTrue(pool1.isEnabled());
+        assertSame(pool1, PythonWorkerPool.getInstance(PythonWorkerSettings.of(configuration1)));
+        assertNotSame(pool1, PythonWorkerPool.getInstance(PythonWorkerSettings.of(configuration2)));
+        assertNotSame(pool1, PythonWorkerPool.getInstance(PythonWorkerSettings.of(configuration3)));
+    }
+
+    @Test
+    void serializationTest() throws IOException, ClassNotFoundException {
+        final Configuration configuration = new Configuration();
+        configuration.setProperty("wayang.api.python.pool.size", "3");
+        final PythonWorkerSettings settings = PythonWorkerSettings.of(configuration);
+
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(settings);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            assertEquals(settings, in.readObject());
+        }
+    }
+}
@@ -41,6 +41,7 @@ import org.apache.wayang.basic.data.{Record, Tuple2 => WayangTuple2}
 import org.apache.wayang.basic.model.{DLModel, LogisticRegressionModel,DecisionTreeRegressionModel}
 import org.apache.wayang.commons.util.profiledb.model.Experiment
 import com.google.protobuf.ByteString
+import org.apache.wayang.api.python.executor.PythonWorkerSettings
 import org.apache.wayang.api.python.function._
 import org.tensorflow.ndarray.NdArray
 
@@ -71,6 +72,13 @@ class DataQuanta[Out: ClassTag](val operator: ElementaryOperator, outputIndex: I
     */
   implicit def output = operator.getOutput(outputIndex).asInstanceOf[OutputSlot[Out]]
 
+  /**
+    * Python UDFs start and pool their workers according to these settings.
+    *
+    * @return the effective Python settings of the [[org.apache.wayang.core.api.WayangContext]] of the `planBuilder`
+    */
+  private def pythonWorkerSettings = PythonWorkerSettings.of(this.planBuilder.wayangContext.getConfiguration)
+
   /**
     * Feed this instance into a [[MapOperator]].
     *
@@ -201,7 +209,8 @@ class DataQuanta[Out: ClassTag](val operator: ElementaryOperator, outputIndex: I
     val descriptor = new WrappedMapPartitionsDescriptor(
         ByteString.copyFromUtf8(udf),
         inputType,
-        outputType
+        outputType,
+        this.pythonWorkerSettings
     )
     val mapOperator = new MapPartitionsOperator(
       descriptor
@@ -279,7 +288,8 @@ class DataQuanta[Out: ClassTag](val operator: ElementaryOperator, outputIndex: I
         ByteString.copyFromUtf8(udf),
         this.output.getType.getDataUnitType.toBasicDataUnitType,
         selectivity,
-        udfLoad
+        udfLoad,
+        this.pythonWorkerSettings
     ).withSqlImplementation(sqlUdf))
     this.connectTo(filterOperator, 0)
     filterOperator
@@ -325,7 +335,8 @@ class DataQuanta[Out: ClassTag](val operator: ElementaryOperator, outputIndex: I
         basicDataUnitType[Out],
         basicDataUnitType[NewOut],
         selectivity,
-        udfLoad
+        udfLoad,
+        this.pythonWorkerSettings
       )
     )
     this.connectTo(flatMapOperator, 0)
@@ -465,12 +476,14 @@ class DataQuanta[Out: ClassTag](val operator: ElementaryOperator, outputIndex: I
       new WrappedTransformationDescriptor(
         ByteString.copyFromUtf8(keyUdf),
         basicDataUnitType[Out],
-        basicDataUnitType[Key]
+        basicDataUnitType[Key],
+        this.pythonWorkerSettings
       ),
       new WrappedReduceDescriptor(
         ByteString.copyFromUtf8(udf),
         groupedDataUnitType[Out],
-        basicDataUnitType[Out]
+        basicDataUnitType[Out],
+        this.pythonWorkerSettings
       )
     )
     this.connectTo(reduceByOperator, 0)
@@ -620,12 +633,14 @@ class DataQuanta[Out: ClassTag](val operator: ElementaryOperator, outputIndex: I
       new WrappedTransformationDescriptor(
         ByteString.copyFromUtf8(thisKeyUdf),
         basicDataUnitType[Out],
-        basicDataUnitType[Key]
+        basicDataUnitType[Key],
+        this.pythonWorkerSettings
       ),
       new WrappedTransformationDescriptor(
         ByteString.copyFromUtf8(thatKeyUdf),
         basicDataUnitType[ThatOut],
-        basicDataUnitType[Key]
+        basicDataUnitType[Key],
+        this.pythonWorkerSettings
       )
     )
     this.connectTo(joinOperator, 0)
@@ -34,6 +34,7 @@ import org.apache.wayang.core.types.DataSetType
 import scala.reflect.ClassTag
 import org.apache.iceberg.catalog.{Catalog, TableIdentifier}
 import org.apache.iceberg.expressions.Expression
+import org.apache.parquet.filter2.predicate.FilterPredicate
 
 /**
   * Utility to build and execute [[WayangPlan]]s.
@@ -70,6 +71,7 @@ class JavaPlanBuilder(wayangCtx: WayangContext, jobName: String) {
    * @param url the URL of the Parquet file
    * @param projection the projection, if any
    * @param preferDataset when {@code true}, emit a Dataset-backed channel
+   * @param filter optional filter to push down into the reading of the file
    * @return [[DataQuantaBuilder]] for the file
    */
   def readParquet(url: String,
@@ -78,8 +80,9 @@ class JavaPlanBuilder(wayangCtx: WayangContext, jobName: String) {
 
   def readParquet(url: String,
                   projection: Array[String] = null,
-                  preferDataset: Boolean = false): UnarySourceDataQuantaBuilder[UnarySourceDataQuantaBuilder[_, Record], Record] =
-    createSourceBuilder(ParquetSource.create(url, projection).preferDatasetOutput(preferDataset))(ClassTag(classOf[Record]))
+                  preferDataset: Boolean = false,
+                  filter: FilterPredicate = null): UnarySourceDataQuantaBuilder[UnarySourceDataQuantaBuilder[_, Record], Record] =
+    createSourceBuilder(ParquetSource.create(url, projection).preferDatasetOutput(preferDataset).withFilter(filter))(ClassTag(classOf[Record]))
 
   /**
    * Read an Apache Iceberg table and provide it as a dataset of [[Record]]s.
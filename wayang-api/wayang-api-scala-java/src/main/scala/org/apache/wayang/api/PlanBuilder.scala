@@ -36,6 +36,7 @@ import scala.language.implicitConversions
 import scala.reflect._
 import org.apache.iceberg.catalog.{Catalog, TableIdentifier}
 import org.apache.iceberg.expressions.Expression
+import org.apache.parquet.filter2.predicate.FilterPredicate
 
 /**
   * Utility to build [[WayangPlan]]s.
@@ -139,12 +140,14 @@ class PlanBuilder(private[api] val wayangContext: WayangContext, private var job
    * @param url the URL of the Parquet file
    * @param projection the projection, if any
    * @param preferDataset when {@code true}, keep the resulting channel backed by Spark Datasets
+   * @param filter optional filter to push down into the reading of the file
    * @return [[DataQuanta]] of [[Record]]s representing the file
    */
   def readParquet(url: String,
                   projection: Array[String] = null,
-                  preferDataset: Boolean = false): DataQuanta[Record] =
-    load(ParquetSource.create(url, projection).preferDatasetOutput(preferDataset))
+                  preferDataset: Boolean = false,
+                  filter: FilterPredicate = null): DataQuanta[Record] =
+    load(ParquetSource.create(url, projection).preferDatasetOutput(preferDataset).withFilter(filter))
 
   /**
    * Read an Apache Iceberg table and provide it as a dataset of [[Record]]s.
@@ -0,0 +1,159 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.benchmark.jmh;
+
+import org.apache.wayang.basic.data.Record;
+import org.apache.wayang.basic.data.Tuple2;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Generates the data sets for the benchmarks. All generators are deterministic for a given seed, so that
+ * measurements of different revisions are comparable.
+ */
+public final class BenchmarkData {
+
+    /**
+     * Describes how keys are drawn from the key domain.
+     */
+    public enum KeyDistribution {
+
+        /**
+         * Every key is equally likely.
+         */
+        UNIFORM,
+
+        /**
+         * Keys follow a Zipf distribution with exponent {@link #ZIPF_EXPONENT}, i.e., few keys are very frequent.
+         */
+        SKEWED
+
+    }
+
+    /**
+     * Exponent of the Zipf distribution for {@link KeyDistribution#SKEWED} keys.
+     */
+    public static final double ZIPF_EXPONENT = 1.2d;
+
+    /**
+     * Default seed for the generators.
+     */
+    public static final long SEED = 42L;
+
+    private BenchmarkData() {
+    }
+
+    /**
+     * Draw keys from {@code [0, numKeys)}.
+     *
+     * @param distribution the {@link KeyDistribution}
+     * @param size         the number of keys to draw
+     * @param numKeys      the size of the key domain
+     * @param seed         seeds the random number generator
+     * @return the keys
+     */
+    public static int[] createKeys(KeyDistribution distribution, int size, int numKeys, long seed) {
+        final SplittableRandom random = new SplittableRandom(seed);
+        final int[] keys = new int[size];
+        switch (distribution) {
+            case UNIFORM:
+                for (int i = 0; i < size; i++) {
+                    keys[i] = random.nextInt(numKeys);
+                }
+                break;
+            case SKEWED:
+                final double[] cdf = createZipfCdf(numKeys, ZIPF_EXPONENT);
+                for (int i = 0; i < size; i++) {
+                    final int pos = Arrays.binarySearch(cdf, random.nextDouble());
+                    keys[i] = Math.min(pos >= 0 ? pos : -pos - 1, numKeys - 1);
+                }
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown key distribution: " + distribution);
+        }
+        return keys;
+    }
+
+    /**
+     * Create the cumulative distribution function of a Zipf distribution over {@code numKeys} ranks.
+     */
+    private static double[] createZipfCdf(int numKeys, double exponent) {
+        final double[] cdf = new double[numKeys];
+        double sum = 0d;
+        for (int rank = 0; rank < numKeys; rank++) {
+            sum += 1d / Math.pow(rank + 1, exponent);
+            cdf[rank] = sum;
+        }
+        for (int rank = 0; rank < numKeys; rank++) {
+            cdf[rank] /= sum;
+        }
+        return cdf;
+    }
+
+    /**
+     * Create key-value pairs, where the values are random.
+     *
+     * @see #createKeys(KeyDistribution, int, int, long)
+     */
+    public static List<Tuple2<Integer, Integer>> createKeyValuePairs(KeyDistribution distribution,
+                                                                     int size,
+                                                                     int numKeys,
+                                                                     long seed) {
+        final int[] keys = createKeys(distribution, size, numKeys, seed);
+        final SplittableRandom random = new SplittableRandom(~seed);
+        final List<Tuple2<Integer, Integer>> pairs = new ArrayList<>(size);
+        for (int key : keys) {
+            pairs.add(new Tuple2<>(key, random.nextInt()));
+        }
+        return pairs;
+    }
+
+    /**
+     * Create boxed keys, e.g., as input for sorting or deduplication.
+     *
+     * @see #createKeys(KeyDistribution, int, int, long)
+     */
+    public static List<Integer> createBoxedKeys(KeyDistribution distribution, int size, int numKeys, long seed) {
+        final int[] keys = createKeys(distribution, size, numKeys, seed);
+        final List<Integer> boxedKeys = new ArrayList<>(size);
+        for (int key : keys) {
+            boxedKeys.add(key);
+        }
+        return boxedKeys;
+    }
+
+    /**
+     * Create {@link Record}s with the fields {@code (key: int, name: String, score: double)}.
+     *
+     * @see #createKeys(KeyDistribution, int, int, long)
+     */
+    public static List<Record> createRecords(KeyDistribution distribution, int size, int numKeys, long seed) {
+        final int[] keys = createKeys(distribution, size, numKeys, seed);
+        final SplittableRandom random = new SplittableRandom(~seed);
+        final List<Record> records = new ArrayList<>(size);
+        for (int key : keys) {
+            records.add(new Record(key, "name-" + key, random.nextDouble()));
+        }
+        return records;
+    }
+
+}
@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.benchmark.jmh;
+
+import org.apache.wayang.basic.operators.CollectionSource;
+import org.apache.wayang.basic.operators.FilterOperator;
+import org.apache.wayang.basic.operators.LocalCallbackSink;
+import org.apache.wayang.basic.operators.MapOperator;
+import org.apache.wayang.basic.operators.ReduceByOperator;
+import org.apache.wayang.basic.operators.UnionAllOperator;
+import org.apache.wayang.core.api.WayangContext;
+import org.apache.wayang.core.plan.wayangplan.Operator;
+import org.apache.wayang.core.plan.wayangplan.WayangPlan;
+import org.apache.wayang.java.Java;
+import org.apache.wayang.spark.Spark;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Generates {@link WayangPlan}s and {@link WayangContext}s for the optimizer benchmarks.
+ */
+public final class BenchmarkPlans {
+
+    private BenchmarkPlans() {
+    }
+
+    /**
+     * Creates a {@link WayangContext} with the basic plugins of the given platforms.
+     *
+     * @param platforms comma-separated platform names, i.e., {@code java} and/or {@code spark}
+     * @return the {@link WayangContext}
+     */
+    public static WayangContext createWayangContext(String platforms) {
+        final WayangContext wayangContext = new WayangContext();
+        for (String platform : platforms.split(",")) {
+            switch (platform.trim()) {
+                case "java":
+                    wayangContext.with(Java.basicPlugin());
+                    break;
+                case "spark":
+                    wayangContext.with(Spark.basicPlugin());
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unsupported platform: " + platform);
+            }
+        }
+        return wayangContext;
+    }
+
+    /**
+     * Creates a {@link WayangPlan} with {@code numBranches} branches that each read, map, and filter a collection.
+     * The branches are united, reduced by key, and collected. Every branch adds three {@link Operator}s to be
+     * enumerated.
+     *
+     * @param numBranches the number of branches
+     * @param sourceSize  the number of data quanta of each source
+     * @return the {@link WayangPlan}
+     */
+    public static WayangPlan createUnionPlan(int numBranches, int sourceSize) {
+        final List<Integer> data = BenchmarkData.createBoxedKeys(
+                BenchmarkData.KeyDistribution.UNIFORM, sourceSize, sourceSize, BenchmarkData.SEED
+        );
+        Operator head = null;
+        for (int branch = 0; branch < numBranches; branch++) {
+            final CollectionSource<Integer> source = new CollectionSource<>(data, Integer.class);
+            source.setName("source-" + branch);
+            final MapOperator<Integer, Integer> map = new MapOperator<>(i -> i + 1, Integer.class, Integer.class);
+            map.setName("map-" + branch);
+            source.connectTo(0, map, 0);
+            final FilterOperator<Integer> filter = new FilterOperator<>(i -> (i & 1) == 0, Integer.class);
+            filter.setName("filter-" + branch);
+            map.connectTo(0, filter, 0);
+
+            if (head == null) {
+                head = filter;
+            } else {
+                final UnionAllOperator<Integer> union = new UnionAllOperator<>(Integer.class);
+                union.setName("union-" + branch);
+                head.connectTo(0, union, 0);
+                filter.connectTo(0, union, 1);
+                head = union;
+            }
+        }
+
+        final ReduceByOperator<Integer, Integer> reduceBy = new ReduceByOperator<>(
+                i -> i % 100, Integer::sum, Integer.class, Integer.class
+        );
+        head.connectTo(0, reduceBy, 0);
+        final LocalCallbackSink<Integer> sink = LocalCallbackSink.createCollectingSink(new ArrayList<>(), Integer.class);
+        reduceBy.connectTo(0, sink, 0);
+        return new WayangPlan(sink);
+    }
+
+}
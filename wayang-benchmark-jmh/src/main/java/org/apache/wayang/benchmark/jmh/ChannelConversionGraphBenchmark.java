@@ -0,0 +1,127 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.benchmark.jmh;
+
+import org.apache.wayang.core.api.Configuration;
+import org.apache.wayang.core.api.Job;
+import org.apache.wayang.core.function.TransformationDescriptor;
+import org.apache.wayang.core.optimizer.DefaultOptimizationContext;
+import org.apache.wayang.core.optimizer.OptimizationContext;
+import org.apache.wayang.core.optimizer.cardinality.CardinalityEstimate;
+import org.apache.wayang.core.optimizer.channels.ChannelConversionGraph;
+import org.apache.wayang.core.plan.wayangplan.ExecutionOperator;
+import org.apache.wayang.core.plan.wayangplan.InputSlot;
+import org.apache.wayang.core.plan.wayangplan.OutputSlot;
+import org.apache.wayang.core.platform.Junction;
+import org.apache.wayang.core.types.DataSetType;
+import org.apache.wayang.java.operators.JavaMapOperator;
+import org.apache.wayang.spark.operators.SparkMapOperator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Benchmarks {@link ChannelConversionGraph#findMinimumCostJunction(OutputSlot, List, OptimizationContext, boolean)}
+ * for a Java producer and a mix of Java and Spark consumers.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ChannelConversionGraphBenchmark {
+
+    @Param({"1", "2", "8"})
+    public int numConsumers;
+
+    /**
+     * Whether conversion trees are memoized across searches; see {@code wayang.core.optimizer.channels.cache}.
+     */
+    @Param({"false", "true"})
+    public boolean treeCache;
+
+    private ChannelConversionGraph channelConversionGraph;
+
+    private OutputSlot<?> output;
+
+    private List<InputSlot<?>> inputs;
+
+    private OptimizationContext optimizationContext;
+
+    @Setup
+    public void setUp() {
+        final Configuration configuration = BenchmarkPlans.createWayangContext("java,spark").getConfiguration();
+        configuration.setProperty("wayang.core.optimizer.channels.cache", String.valueOf(this.treeCache));
+        this.channelConversionGraph = new ChannelConversionGraph(configuration);
+
+        final ExecutionOperator producer = createJavaMap();
+        this.output = producer.getOutput(0);
+        this.inputs = new ArrayList<>(this.numConsumers);
+        for (int i = 0; i < this.numConsumers; i++) {
+            final ExecutionOperator consumer = i % 2 == 0 ? createSparkMap() : createJavaMap();
+            this.inputs.add(consumer.getInput(0));
+        }
+
+        final Job job = mock(Job.class);
+        when(job.getConfiguration()).thenReturn(configuration);
+        this.optimizationContext = new DefaultOptimizationContext(job);
+        this.optimizationContext.addOneTimeOperator(producer)
+                .setOutputCardinality(0, new CardinalityEstimate(100_000, 1_000_000, 0.8d));
+    }
+
+    private static ExecutionOperator createJavaMap() {
+        return new JavaMapOperator<>(
+                DataSetType.createDefault(Integer.class),
+                DataSetType.createDefault(Integer.class),
+                new TransformationDescriptor<>(i -> i, Integer.class, Integer.class)
+        );
+    }
+
+    private static ExecutionOperator createSparkMap() {
+        return new SparkMapOperator<>(
+                DataSetType.createDefault(Integer.class),
+                DataSetType.createDefault(Integer.class),
+                new TransformationDescriptor<>(i -> i, Integer.class, Integer.class)
+        );
+    }
+
+    @Benchmark
+    public Junction findMinimumCostJunction() {
+        return this.channelConversionGraph.findMinimumCostJunction(
+                this.output, this.inputs, this.optimizationContext, false
+        );
+    }
+
+}
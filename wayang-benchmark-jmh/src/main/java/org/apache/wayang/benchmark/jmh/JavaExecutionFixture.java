@@ -0,0 +1,164 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.benchmark.jmh;
+
+import org.apache.wayang.core.api.Configuration;
+import org.apache.wayang.core.api.Job;
+import org.apache.wayang.core.optimizer.DefaultOptimizationContext;
+import org.apache.wayang.core.optimizer.OptimizationContext;
+import org.apache.wayang.core.optimizer.cardinality.CardinalityEstimate;
+import org.apache.wayang.core.plan.wayangplan.Operator;
+import org.apache.wayang.core.platform.ChannelInstance;
+import org.apache.wayang.core.platform.CrossPlatformExecutor;
+import org.apache.wayang.core.profiling.NoInstrumentationStrategy;
+import org.apache.wayang.java.channels.JavaChannelInstance;
+import org.apache.wayang.java.channels.StreamChannel;
+import org.apache.wayang.java.execution.JavaExecutor;
+import org.apache.wayang.java.operators.JavaExecutionOperator;
+import org.apache.wayang.java.platform.JavaPlatform;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Collection;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Evaluates {@link JavaExecutionOperator}s outside of a full {@link Job} execution, so that only the operator
+ * itself is measured.
+ */
+public class JavaExecutionFixture {
+
+    private final Configuration configuration;
+
+    private final Job job;
+
+    private final JavaExecutor executor;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param isParallel whether the {@link JavaExecutor} should run in the multi-core mode
+     */
+    public JavaExecutionFixture(boolean isParallel) {
+        this.configuration = new Configuration();
+        if (isParallel) {
+            this.configuration.setProperty("wayang.java.parallel", "true");
+            this.configuration.setProperty("wayang.java.cores", String.valueOf(Runtime.getRuntime().availableProcessors()));
+        }
+        this.job = mock(Job.class);
+        when(this.job.getConfiguration()).thenReturn(this.configuration);
+        when(this.job.getCrossPlatformExecutor()).thenReturn(new CrossPlatformExecutor(this.job, new NoInstrumentationStrategy()));
+        when(this.job.getOptimizationContext()).thenReturn(new DefaultOptimizationContext(this.job));
+        this.executor = new JavaExecutor(JavaPlatform.getInstance(), this.job);
+        // Keep the executor alive while the ChannelInstances come and go.
+        this.executor.noteObtainedReference();
+    }
+
+    /**
+     * Creates an {@link OptimizationContext.OperatorContext} for the given {@link Operator}.
+     *
+     * @param operator  the {@link Operator}
+     * @param inputSize the number of input data quanta to assume
+     * @return the {@link OptimizationContext.OperatorContext}
+     */
+    public OptimizationContext.OperatorContext createOperatorContext(Operator operator, long inputSize) {
+        final OptimizationContext.OperatorContext operatorContext =
+                this.job.getOptimizationContext().addOneTimeOperator(operator);
+        for (int i = 0; i < operator.getNumInputs(); i++) {
+            operatorContext.setInputCardinality(i, new CardinalityEstimate(inputSize, inputSize, 1d));
+        }
+        for (int i = 0; i < operator.getNumOutputs(); i++) {
+            operatorContext.setOutputCardinality(i, new CardinalityEstimate(1, inputSize, 0.9d));
+        }
+        return operatorContext;
+    }
+
+    /**
+     * Evaluates the given {@link JavaExecutionOperator} on the given inputs and feeds its output to a {@link Blackhole}.
+     * In the parallel mode, both the evaluation and the consumption of the output run within the
+     * {@link JavaExecutor}'s {@link ForkJoinPool}, just as in a regular {@link Job} execution.
+     *
+     * @param operator        the {@link JavaExecutionOperator} with a single output
+     * @param operatorContext created via {@link #createOperatorContext(Operator, long)}
+     * @param blackhole       consumes the output data quanta
+     * @param inputs          the input data quanta for each input of the {@code operator}
+     * @return the number of output data quanta
+     */
+    public long evaluate(JavaExecutionOperator operator,
+                         OptimizationContext.OperatorContext operatorContext,
+                         Blackhole blackhole,
+                         Collection<?>... inputs) {
+        final ChannelInstance[] inputInstances = new ChannelInstance[inputs.length];
+        for (int i = 0; i < inputs.length; i++) {
+            final StreamChannel.Instance inputInstance = this.createStreamChannelInstance();
+            inputInstance.accept(inputs[i]);
+            inputInstances[i] = inputInstance;
+        }
+        final ChannelInstance[] outputInstances = new ChannelInstance[]{this.createStreamChannelInstance()};
+
+        final long count;
+        final ForkJoinPool forkJoinPool = this.executor.getForkJoinPool();
+        if (forkJoinPool == null) {
+            count = this.evaluateAndConsume(operator, operatorContext, blackhole, inputInstances, outputInstances);
+        } else {
+            count = forkJoinPool.submit(
+                    () -> this.evaluateAndConsume(operator, operatorContext, blackhole, inputInstances, outputInstances)
+            ).join();
+        }
+
+        for (ChannelInstance inputInstance : inputInstances) {
+            inputInstance.dispose();
+        }
+        outputInstances[0].dispose();
+        return count;
+    }
+
+    private long evaluateAndConsume(JavaExecutionOperator operator,
+                                    OptimizationContext.OperatorContext operatorContext,
+                                    Blackhole blackhole,
+                                    ChannelInstance[] inputInstances,
+                                    ChannelInstance[] outputInstances) {
+        operator.evaluate(inputInstances, outputInstances, this.executor, operatorContext);
+
+        // Streams are lazy, so the output must be consumed to measure the complete operator.
+        final Stream<Object> outputStream =
+                ((JavaChannelInstance) outputInstances[0]).provideStream(this.executor.isParallel());
+        return outputStream.mapToLong(dataQuantum -> {
+            blackhole.consume(dataQuantum);
+            return 1L;
+        }).sum();
+    }
+
+    private StreamChannel.Instance createStreamChannelInstance() {
+        return (StreamChannel.Instance) StreamChannel.DESCRIPTOR
+                .createChannel(null, this.configuration)
+                .createInstance(this.executor, null, -1);
+    }
+
+    /**
+     * Releases the resources of this instance.
+     */
+    public void dispose() {
+        this.executor.noteDiscardedReference(true);
+    }
+
+}
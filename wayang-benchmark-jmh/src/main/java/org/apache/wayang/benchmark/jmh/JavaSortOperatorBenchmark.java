@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.benchmark.jmh;
+
+import org.apache.wayang.core.function.TransformationDescriptor;
+import org.apache.wayang.core.optimizer.OptimizationContext;
+import org.apache.wayang.core.types.DataSetType;
+import org.apache.wayang.java.operators.JavaSortOperator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the {@link JavaSortOperator} on integers.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JavaSortOperatorBenchmark {
+
+    @Param({"100000", "1000000"})
+    public int size;
+
+    @Param({"1000000"})
+    public int numKeys;
+
+    @Param({"UNIFORM", "SKEWED"})
+    public BenchmarkData.KeyDistribution distribution;
+
+    @Param({"false", "true"})
+    public boolean parallel;
+
+    private JavaExecutionFixture fixture;
+
+    private List<Integer> input;
+
+    private JavaSortOperator<Integer, Integer> operator;
+
+    private OptimizationContext.OperatorContext operatorContext;
+
+    @Setup
+    public void setUp() {
+        this.fixture = new JavaExecutionFixture(this.parallel);
+        this.input = BenchmarkData.createBoxedKeys(this.distribution, this.size, this.numKeys, BenchmarkData.SEED);
+        this.operator = new JavaSortOperator<>(
+                new TransformationDescriptor<>(key -> key, Integer.class, Integer.class),
+                DataSetType.createDefault(Integer.class)
+        );
+        this.operatorContext = this.fixture.createOperatorContext(this.operator, this.size);
+    }
+
+    @TearDown
+    public void tearDown() {
+        this.fixture.dispose();
+    }
+
+    @Benchmark
+    public long sort(Blackhole blackhole) {
+        return this.fixture.evaluate(this.operator, this.operatorContext, blackhole, this.input);
+    }
+
+}
@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.benchmark.jmh;
+
+import org.apache.wayang.basic.data.Tuple2;
+import org.apache.wayang.basic.operators.ObjectFileSerialization;
+import org.apache.wayang.basic.operators.ObjectFileSerializationMode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the chunk (de)serialization of {@link ObjectFileSerialization}, which backs the object file sources
+ * and sinks.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ObjectFileSerializationBenchmark {
+
+    @Param({"10", "1000"})
+    public int chunkSize;
+
+    @Param({"JSON", "LEGACY_JAVA_SERIALIZATION"})
+    public ObjectFileSerializationMode mode;
+
+    private Object[] chunk;
+
+    private byte[] payload;
+
+    @Setup
+    public void setUp() throws IOException {
+        final List<Tuple2<Integer, Integer>> tuples = BenchmarkData.createKeyValuePairs(
+                BenchmarkData.KeyDistribution.UNIFORM, this.chunkSize, Integer.MAX_VALUE, BenchmarkData.SEED
+        );
+        this.chunk = tuples.toArray();
+        this.payload = ObjectFileSerialization.serializeChunk(this.chunk, this.chunk.length, this.mode);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws IOException {
+        return ObjectFileSerialization.serializeChunk(this.chunk, this.chunk.length, this.mode);
+    }
+
+    @Benchmark
+    public List<Object> deserialize() throws IOException, ClassNotFoundException {
+        return ObjectFileSerialization.deserializeChunk(this.payload, this.mode, Tuple2.class);
+    }
+
+}
@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.benchmark.jmh;
+
+import org.apache.wayang.core.api.Job;
+import org.apache.wayang.core.api.WayangContext;
+import org.apache.wayang.core.optimizer.OptimizationContext;
+import org.apache.wayang.core.optimizer.enumeration.PlanEnumeration;
+import org.apache.wayang.core.optimizer.enumeration.PlanEnumerator;
+import org.apache.wayang.core.plan.executionplan.ExecutionPlan;
+import org.apache.wayang.core.plan.wayangplan.WayangPlan;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the {@link PlanEnumerator} on generated {@link WayangPlan}s. Comparing the sequential and parallel
+ * enumeration for the different plan sizes and platform counts shows the speedup of the parallel enumeration.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PlanEnumeratorBenchmark {
+
+    @Param({"1", "4", "16", "64"})
+    public int numBranches;
+
+    @Param({"java", "java,spark"})
+    public String platforms;
+
+    @Param({"false", "true"})
+    public boolean parallelEnumeration;
+
+    private WayangContext wayangContext;
+
+    /**
+     * A {@link WayangPlan} that has been prepared for the enumeration along with its {@link OptimizationContext}.
+     */
+    private WayangPlan preparedPlan;
+
+    private OptimizationContext optimizationContext;
+
+    @Setup
+    public void setUp() {
+        this.wayangContext = BenchmarkPlans.createWayangContext(this.platforms);
+        this.wayangContext.getConfiguration().setProperty(
+                "wayang.core.optimizer.enumeration.parallel-enumeration", String.valueOf(this.parallelEnumeration)
+        );
+        this.preparedPlan = BenchmarkPlans.createUnionPlan(this.numBranches, 100);
+        // Have the Job apply the mappings and estimate cardinalities and costs, so that we can enumerate on our own.
+        final Job job = this.wayangContext.createJob("plan-enumeration", this.preparedPlan);
+        job.buildInitialExecutionPlan();
+        this.optimizationContext = job.getOptimizationContext();
+    }
+
+    /**
+     * Measures the enumeration only.
+     */
+    @Benchmark
+    public PlanEnumeration enumerate() {
+        return new PlanEnumerator(this.preparedPlan, this.optimizationContext).enumerate(true);
+    }
+
+    /**
+     * Measures the complete optimization, i.e., the plan preparation, estimation, enumeration, and
+     * the creation of the {@link ExecutionPlan}.
+     */
+    @Benchmark
+    public ExecutionPlan optimize() {
+        final WayangPlan wayangPlan = BenchmarkPlans.createUnionPlan(this.numBranches, 100);
+        return this.wayangContext.createJob("optimization", wayangPlan).buildInitialExecutionPlan();
+    }
+
+}
@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.benchmark.jmh;
+
+import org.apache.wayang.basic.data.Record;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@link Record#hashCode()} and {@link Record#equals(Object)}, which dominate the hash-based
+ * operators on {@link Record}s, e.g., those fed from JDBC sources.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RecordBenchmark {
+
+    @Param({"100000"})
+    public int size;
+
+    @Param({"1000"})
+    public int numKeys;
+
+    @Param({"UNIFORM", "SKEWED"})
+    public BenchmarkData.KeyDistribution distribution;
+
+    private List<Record> records;
+
+    /**
+     * Equal to, but not identical with {@link #records}.
+     */
+    private List<Record> copies;
+
+    @Setup
+    public void setUp() {
+        this.records = BenchmarkData.createRecords(this.distribution, this.size, this.numKeys, BenchmarkData.SEED);
+        this.copies = BenchmarkData.createRecords(this.distribution, this.size, this.numKeys, BenchmarkData.SEED);
+    }
+
+    @Benchmark
+    public void hashCodes(Blackhole blackhole) {
+        for (Record record : this.records) {
+            blackhole.consume(record.hashCode());
+        }
+    }
+
+    @Benchmark
+    public int equalities() {
+        int numEqual = 0;
+        for (int i = 0; i < this.size; i++) {
+            if (this.records.get(i).equals(this.copies.get(i))) numEqual++;
+        }
+        return numEqual;
+    }
+
+    @Benchmark
+    public Map<Record, Integer> groupCount() {
+        final Map<Record, Integer> counts = new HashMap<>();
+        for (Record record : this.records) {
+            counts.merge(record, 1, Integer::sum);
+        }
+        return counts;
+    }
+
+}
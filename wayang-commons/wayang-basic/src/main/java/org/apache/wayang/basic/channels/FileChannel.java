@@ -37,6 +37,7 @@ import java.util.Collection;
 import java.util.LinkedList;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.OptionalLong;
 import java.util.Random;
 
 /**
@@ -196,6 +197,21 @@ public class FileChannel extends Channel {
             return this.paths.iterator().next();
         }
 
+        @Override
+        public OptionalLong getMeasuredBytes() {
+            long bytes = 0L;
+            for (String path : this.paths) {
+                final Optional<FileSystem> fileSystem = FileSystems.getFileSystem(path);
+                if (!fileSystem.isPresent()) return OptionalLong.empty();
+                try {
+                    bytes += fileSystem.get().getFileSize(path);
+                } catch (IOException e) {
+                    return OptionalLong.empty();
+                }
+            }
+            return this.paths.isEmpty() ? OptionalLong.empty() : OptionalLong.of(bytes);
+        }
+
         @Override
         public void doDispose() throws WayangException {
             Actions.doSafe(() -> {
@@ -22,6 +22,9 @@ import org.apache.commons.lang3.Validate;
 import org.apache.hadoop.fs.Path;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.apache.parquet.filter2.compat.FilterCompat;
+import org.apache.parquet.filter2.compat.RowGroupFilter;
+import org.apache.parquet.filter2.predicate.FilterPredicate;
 import org.apache.parquet.hadoop.ParquetFileReader;
 import org.apache.parquet.hadoop.metadata.BlockMetaData;
 import org.apache.parquet.hadoop.metadata.ParquetMetadata;
@@ -39,6 +42,7 @@ import org.apache.wayang.core.plan.wayangplan.UnarySource;
 import org.apache.wayang.core.types.DataSetType;
 import org.apache.wayang.core.util.fs.FileSystems;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.OptionalLong;
 
@@ -59,6 +63,16 @@ public class ParquetSource extends UnarySource<Record> {
 
     private boolean preferDatasetOutput = false;
 
+    /**
+     * Filter that is pushed down into the reading of the file or {@code null} if none.
+     */
+    private FilterPredicate filterPredicate;
+
+    /**
+     * Selectivity assumed for the {@link #filterPredicate} within the row groups that it cannot rule out.
+     */
+    private static final double DEFAULT_FILTER_SELECTIVITY = 0.1;
+
     /**
      * Creates a new instance.
      *
@@ -127,6 +141,7 @@ public class ParquetSource extends UnarySource<Record> {
         this.metadata = that.getMetadata();
         this.schema = that.getSchema();
         this.preferDatasetOutput = that.preferDatasetOutput;
+        this.filterPredicate = that.getFilterPredicate();
     }
 
     public ParquetSource preferDatasetOutput(boolean preferDataset) {
@@ -138,6 +153,23 @@ public class ParquetSource extends UnarySource<Record> {
         return this.preferDatasetOutput;
     }
 
+    /**
+     * Push a filter down into the reading of the file. Implementations may skip row groups by means of their
+     * statistics and dictionaries and must emit only {@link Record}s that satisfy the filter. The filter may refer
+     * only to columns that are part of the projection, if any.
+     *
+     * @param filterPredicate the filter or {@code null} for none
+     * @return this instance
+     */
+    public ParquetSource withFilter(FilterPredicate filterPredicate) {
+        this.filterPredicate = filterPredicate;
+        return this;
+    }
+
+    public FilterPredicate getFilterPredicate() {
+        return this.filterPredicate;
+    }
+
     @Override
     public Optional<org.apache.wayang.core.optimizer.cardinality.CardinalityEstimator> createCardinalityEstimator(
             final int outputIndex,
@@ -163,7 +195,8 @@ public class ParquetSource extends UnarySource<Record> {
             );
 
             // Query the job cache first to see if there is already an estimate.
-            String jobCacheKey = String.format("%s.estimate(%s)", this.getClass().getCanonicalName(), ParquetSource.this.inputUrl);
+            String jobCacheKey = String.format("%s.estimate(%s, %s)", this.getClass().getCanonicalName(),
+                    ParquetSource.this.inputUrl, ParquetSource.this.filterPredicate);
             CardinalityEstimate cardinalityEstimate = optimizationContext.queryJobCache(jobCacheKey, CardinalityEstimate.class);
             if (cardinalityEstimate != null) return cardinalityEstimate;
 
@@ -189,9 +222,16 @@ public class ParquetSource extends UnarySource<Record> {
                 return this.FALLBACK_ESTIMATE;
             }
 
-            // Create an exact cardinality estimate for the complete file.
+            // Create an exact cardinality estimate for the complete file, unless a filter applies.
             long rowCount = numberRows.getAsLong();
-            cardinalityEstimate = new CardinalityEstimate(rowCount, rowCount, 1d);
+            if (ParquetSource.this.filterPredicate == null || rowCount == 0) {
+                // The statistics might also have ruled out all row groups.
+                cardinalityEstimate = new CardinalityEstimate(rowCount, rowCount, 1d);
+            } else {
+                cardinalityEstimate = new CardinalityEstimate(
+                        (long) (rowCount * DEFAULT_FILTER_SELECTIVITY), rowCount, 0.7d
+                );
+            }
 
             // Cache the result, so that it will not be recalculated again.
             optimizationContext.putIntoJobCache(jobCacheKey, cardinalityEstimate);
@@ -206,7 +246,15 @@ public class ParquetSource extends UnarySource<Record> {
          * @return the number of rows in the file
          */
         private OptionalLong extractNumberRows() {
-            long rowCount = ParquetSource.this.metadata.getBlocks().stream()
+            List<BlockMetaData> blocks = ParquetSource.this.metadata.getBlocks();
+            if (ParquetSource.this.filterPredicate != null) {
+                // Row groups that the statistics rule out do not contribute any rows.
+                blocks = RowGroupFilter.filterRowGroups(
+                        FilterCompat.get(ParquetSource.this.filterPredicate), blocks, ParquetSource.this.schema
+                );
+                if (blocks.isEmpty()) return OptionalLong.of(0L);
+            }
+            long rowCount = blocks.stream()
                     .mapToLong(BlockMetaData::getRowCount)
                     .sum();
 
@@ -26,6 +26,8 @@ import org.apache.wayang.core.mapping.PlanTransformation;
 import org.apache.wayang.core.monitor.DisabledMonitor;
 import org.apache.wayang.core.monitor.FileMonitor;
 import org.apache.wayang.core.monitor.Monitor;
+import org.apache.wayang.core.monitor.tracing.Span;
+import org.apache.wayang.core.monitor.tracing.Tracer;
 import org.apache.wayang.core.optimizer.DefaultOptimizationContext;
 import org.apache.wayang.core.optimizer.OptimizationContext;
 import org.apache.wayang.core.optimizer.ProbabilisticDoubleInterval;
@@ -34,6 +36,7 @@ import org.apache.wayang.core.optimizer.cardinality.CardinalityEstimatorManager;
 import org.apache.wayang.core.optimizer.costs.TimeEstimate;
 import org.apache.wayang.core.optimizer.costs.TimeToCostConverter;
 import org.apache.wayang.core.optimizer.enumeration.ExecutionTaskFlow;
+import org.apache.wayang.core.optimizer.enumeration.PlanCache;
 import org.apache.wayang.core.optimizer.enumeration.PlanEnumeration;
 import org.apache.wayang.core.optimizer.enumeration.PlanEnumerator;
 import org.apache.wayang.core.optimizer.enumeration.PlanImplementation;
@@ -44,6 +47,7 @@ import org.apache.wayang.core.plan.executionplan.ExecutionStage;
 import org.apache.wayang.core.plan.executionplan.ExecutionTask;
 import org.apache.wayang.core.plan.wayangplan.ExecutionOperator;
 import org.apache.wayang.core.plan.wayangplan.Operator;
+import org.apache.wayang.core.plan.wayangplan.OperatorAlternative;
 import org.apache.wayang.core.plan.wayangplan.OutputSlot;
 import org.apache.wayang.core.plan.wayangplan.PlanMetrics;
 import org.apache.wayang.core.plan.wayangplan.WayangPlan;
@@ -73,6 +77,7 @@ import org.apache.logging.log4j.Logger;
 
 import java.io.IOException;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedList;
@@ -80,6 +85,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Queue;
 import java.util.Set;
+import java.util.UUID;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 
@@ -116,9 +122,9 @@ public class Job extends OneTimeExecutable {
     private DefaultOptimizationContext optimizationContext;
 
     /**
-     * General purpose cache.
+     * General purpose cache. Synchronized, because it might be accessed during parallel plan enumeration.
      */
-    private Map<String, Object> cache = new HashMap<>();
+    private final Map<String, Object> cache = Collections.synchronizedMap(new HashMap<>());
 
     /**
      * Executes the optimized {@link ExecutionPlan}.
@@ -162,11 +168,26 @@ public class Job extends OneTimeExecutable {
 
     private Monitor monitor;
 
+    /**
+     * Traces the optimization and execution of this instance.
+     */
+    private final Tracer tracer;
+
+    /**
+     * {@link Span} of the execution of this instance or {@code null} if it has not started.
+     */
+    private Span traceSpan;
+
     /**
      * Name for this instance.
      */
     private final String name;
 
+    /**
+     * Unique ID for this instance, e.g., to tell apart concurrent {@link Job}s in the {@link #monitor}.
+     */
+    private final String runId = UUID.randomUUID().toString();
+
     /**
      * <i>Currently not used.</i>
      */
@@ -223,6 +244,7 @@ public class Job extends OneTimeExecutable {
         } else {
             this.monitor = new DisabledMonitor();
         }
+        this.tracer = this.wayangContext.getTracer();
     }
 
     /**
@@ -235,18 +257,24 @@ public class Job extends OneTimeExecutable {
     }
 
     /**
-     * Run this instance. Must only be called once.
+     * Run this instance. Must only be called once. If the {@link WayangContext} bounds the number of concurrent
+     * {@link Job}s, this method waits for the admission of this instance first.
      *
      * @throws WayangException in case the execution fails for any reason
+     * @see WayangContext#getJobAdmission()
      */
     @Override
     public void execute() throws WayangException {
+        final JobAdmission jobAdmission = this.wayangContext.getJobAdmission();
+        if (jobAdmission != null) jobAdmission.admit(this);
         try {
             super.execute();
         } catch (WayangException e) {
             throw e;
         } catch (Throwable t) {
             throw new WayangException("Job execution failed.", t);
+        } finally {
+            if (jobAdmission != null) jobAdmission.release(this);
         }
     }
 
@@ -277,14 +305,21 @@ public class Job extends OneTimeExecutable {
             throw new WayangException("Job has already been executed.");
         }
 
+        this.traceSpan = this.tracer.startSpan(Tracer.JOB_SPAN, null)
+                .setAttribute("job.name", this.name)
+                .setAttribute("job.runId", this.runId);
         try {
 
             // Prepare the #wayangPlan for the optimization.
             this.optimizationRound.start();
-            this.prepareWayangPlan();
+            try (Span span = this.tracer.startSpan(Tracer.PREPARATION_SPAN, this.traceSpan)) {
+                this.prepareWayangPlan();
+            }
 
             // Estimate cardinalities and execution times for the #wayangPlan.
-            this.estimateKeyFigures();
+            try (Span span = this.tracer.startSpan(Tracer.CARDINALITY_ESTIMATION_SPAN, this.traceSpan)) {
+                this.estimateKeyFigures();
+            }
 
             // Get an execution plan.
             int executionId = 0;
@@ -297,10 +332,8 @@ public class Job extends OneTimeExecutable {
                 ));
             }
 
-            // TODO: generate run ID. For now we fix this because we can't handle multiple jobs, neither in montoring nor execution.
-            String runId = "1";
             try {
-                monitor.initialize(this.configuration, runId, executionPlan.toJsonList());
+                monitor.initialize(this.configuration, this.runId, executionPlan.toJsonList());
             } catch (Exception e) {
                 this.logger.warn("Failed to initialize monitor: {}", e);
             }
@@ -342,8 +375,10 @@ public class Job extends OneTimeExecutable {
                 this.logExecution();
             }
         } catch (WayangException e) {
+            this.traceSpan.recordError(e);
             throw e;
         } catch (Throwable t) {
+            this.traceSpan.recordError(t);
             throw new WayangException("Job execution failed.", t);
         } finally {
             this.stopWatch.stopAll();
@@ -351,6 +386,7 @@ public class Job extends OneTimeExecutable {
             this.releaseResources();
             this.stopWatch.stop("Post-processing");
             this.logger.info("StopWatch results:\n{}", this.stopWatch.toPrettyString());
+            this.traceSpan.end();
         }
     }
 
@@ -426,16 +462,41 @@ public class Job extends OneTimeExecutable {
 
         this.optimizationRound.start("Create Initial Execution Plan");
 
-        // Enumerate all possible plan.
-        final PlanEnumerator planEnumerator = this.createPlanEnumerator();
+        // Look for the choices of an earlier, equivalent plan.
+        final PlanCache planCache = this.wayangContext.getPlanCache();
+        final PlanCache.Fingerprint fingerprint = planCache == null ?
+                null :
+                PlanCache.fingerprint(this.wayangPlan, this.optimizationContext, this.configuration);
+        final Map<OperatorAlternative, OperatorAlternative.Alternative> cachedAlternatives = fingerprint == null ?
+                null :
+                planCache.get(fingerprint);
 
+        // Enumerate all possible plan.
         final TimeMeasurement enumerateMeasurment = this.optimizationRound.start("Create Initial Execution Plan", "Enumerate");
-        planEnumerator.setTimeMeasurement(enumerateMeasurment);
-        final PlanEnumeration comprehensiveEnumeration = planEnumerator.enumerate(true);
-        planEnumerator.setTimeMeasurement(null);
+        final long enumerationStartMillis = System.currentTimeMillis();
+        Collection<PlanImplementation> executionPlans = null;
+        final boolean isCacheHit;
+        try (Span span = this.tracer.startSpan(Tracer.ENUMERATION_SPAN, this.traceSpan)) {
+            if (cachedAlternatives != null) {
+                try {
+                    executionPlans = this.enumerateExecutionPlans(
+                            new PlanEnumerator(this.wayangPlan, this.optimizationContext, cachedAlternatives),
+                            enumerateMeasurment,
+                            span
+                    );
+                } catch (WayangException e) {
+                    this.logger.warn("Could not reuse the cached plan, enumerating all plans instead.", e);
+                }
+            }
+            isCacheHit = executionPlans != null;
+            if (!isCacheHit) {
+                executionPlans = this.enumerateExecutionPlans(this.createPlanEnumerator(), enumerateMeasurment, span);
+            }
+            span.setAttribute("plancache.hit", isCacheHit).setAttribute("plans", executionPlans.size());
+        }
+        final long enumerationMillis = System.currentTimeMillis() - enumerationStartMillis;
         this.optimizationRound.stop("Create Initial Execution Plan", "Enumerate");
 
-        final Collection<PlanImplementation> executionPlans = comprehensiveEnumeration.getPlanImplementations();
         this.logger.debug("Enumerated {} plans.", executionPlans.size());
         for (PlanImplementation planImplementation : executionPlans) {
             this.logger.debug("Plan with operators: {}", planImplementation.getOperators());
@@ -449,6 +510,14 @@ public class Job extends OneTimeExecutable {
         this.costEstimates.add(planImplementation.getCostEstimate());
         this.optimizationRound.stop("Create Initial Execution Plan", "Pick Best Plan");
 
+        if (fingerprint != null) {
+            if (isCacheHit) {
+                planCache.noteHit(fingerprint, enumerationMillis);
+            } else {
+                planCache.put(fingerprint, this.planImplementation, enumerationMillis);
+            }
+        }
+
         this.logger.info("Compiling execution plan...");
         this.optimizationRound.start("Create Initial Execution Plan", "Split Stages");
         final ExecutionTaskFlow executionTaskFlow = ExecutionTaskFlow.createFrom(this.planImplementation);
@@ -467,6 +536,20 @@ public class Job extends OneTimeExecutable {
     }
 
 
+    /**
+     * Runs the given {@link PlanEnumerator} within the given {@link Span} to obtain all {@link PlanImplementation}s.
+     */
+    private Collection<PlanImplementation> enumerateExecutionPlans(PlanEnumerator planEnumerator,
+                                                                   TimeMeasurement measurement,
+                                                                   Span span) {
+        planEnumerator.setTimeMeasurement(measurement);
+        planEnumerator.setTraceSpan(span);
+        final PlanEnumeration comprehensiveEnumeration = planEnumerator.enumerate(true);
+        planEnumerator.setTimeMeasurement(null);
+        planEnumerator.setTraceSpan(null);
+        return comprehensiveEnumeration.getPlanImplementations();
+    }
+
     private PlanImplementation pickBestExecutionPlan(Collection<PlanImplementation> executionPlans,
                                                      ExecutionPlan existingPlan,
                                                      Set<Channel> openChannels,
@@ -608,32 +691,38 @@ public class Job extends OneTimeExecutable {
         }
 
         final TimeMeasurement round = this.optimizationRound.start(String.format("Post-processing %d", executionId));
+        try (Span span = this.tracer.startSpan(Tracer.REOPTIMIZATION_SPAN, this.traceSpan)
+                .setAttribute("execution.id", executionId)) {
+
+            round.start("Reestimate Cardinalities&Time");
+            boolean isCardinalitiesUpdated = this.reestimateCardinalities(this.crossPlatformExecutor);
+            round.stop("Reestimate Cardinalities&Time");
+            span.setAttribute("cardinalities.updated", isCardinalitiesUpdated);
+
+            round.start("Update Execution Plan");
+            if (isCardinalitiesUpdated) {
+                this.logger.info("Re-optimizing execution plan.");
+                this.updateExecutionPlan(executionPlan, span);
+            } else {
+                this.logger.info("Skipping re-optimization: no new insights on cardinalities.");
+                this.timeEstimates.add(this.timeEstimates.get(this.timeEstimates.size() - 1));
+                this.costEstimates.add(this.costEstimates.get(this.costEstimates.size() - 1));
 
-        round.start("Reestimate Cardinalities&Time");
-        boolean isCardinalitiesUpdated = this.reestimateCardinalities(this.crossPlatformExecutor);
-        round.stop("Reestimate Cardinalities&Time");
-
-        round.start("Update Execution Plan");
-        if (isCardinalitiesUpdated) {
-            this.logger.info("Re-optimizing execution plan.");
-            this.updateExecutionPlan(executionPlan);
-        } else {
-            this.logger.info("Skipping re-optimization: no new insights on cardinalities.");
-            this.timeEstimates.add(this.timeEstimates.get(this.timeEstimates.size() - 1));
-            this.costEstimates.add(this.costEstimates.get(this.costEstimates.size() - 1));
+            }
+            round.stop("Update Execution Plan");
 
+            round.stop();
         }
-        round.stop("Update Execution Plan");
-
-        round.stop();
 
         return true;
     }
 
     /**
      * Enumerate possible execution plans from the given {@link WayangPlan} and determine the (seemingly) best one.
+     *
+     * @param span the {@link Span} of the re-optimization
      */
-    private void updateExecutionPlan(ExecutionPlan executionPlan) {
+    private void updateExecutionPlan(ExecutionPlan executionPlan, Span span) {
         // Defines the plan that we want to use in the end.
         // Find and copy the open Channels.
         final Set<ExecutionStage> completedStages = this.crossPlatformExecutor.getCompletedStages();
@@ -646,6 +735,7 @@ public class Job extends OneTimeExecutable {
 
         // Enumerate all possible plan.
         final PlanEnumerator planEnumerator = this.createPlanEnumerator(executionPlan, openChannels);
+        planEnumerator.setTraceSpan(span);
         final PlanEnumeration comprehensiveEnumeration = planEnumerator.enumerate(true);
         final Collection<PlanImplementation> executionPlans = comprehensiveEnumeration.getPlanImplementations();
         this.logger.debug("Enumerated {} plans.", executionPlans.size());
@@ -861,6 +951,33 @@ public class Job extends OneTimeExecutable {
         return this.name;
     }
 
+    /**
+     * Retrieves the run ID of this instance, which is unique among all {@link Job}s.
+     *
+     * @return the run ID
+     */
+    public String getRunId() {
+        return this.runId;
+    }
+
+    /**
+     * Provides the {@link Tracer} that traces the optimization and execution of this instance.
+     *
+     * @return the {@link Tracer}
+     */
+    public Tracer getTracer() {
+        return this.tracer;
+    }
+
+    /**
+     * Provides the {@link Span} of the execution of this instance, which should enclose all further {@link Span}s.
+     *
+     * @return the {@link Span} or {@code null} if the execution of this instance has not started
+     */
+    public Span getTraceSpan() {
+        return this.traceSpan;
+    }
+
     @Override
     public String toString() {
         return String.format("%s[%s]", this.getClass().getSimpleName(), this.name);
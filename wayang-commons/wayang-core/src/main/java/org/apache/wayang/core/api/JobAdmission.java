@@ -0,0 +1,145 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.wayang.core.api;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.wayang.core.api.exception.WayangException;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Bounds the number of {@link Job}s that a {@link WayangContext} executes concurrently. Further {@link Job}s wait
+ * in a bounded queue and are admitted in the order of their arrival; if the queue is full, they are rejected.
+ *
+ * @see WayangContext#getJobAdmission()
+ */
+public class JobAdmission {
+
+    private final Logger logger = LogManager.getLogger(this.getClass());
+
+    /**
+     * Maximum number of concurrently executing {@link Job}s.
+     */
+    private final int maxConcurrentJobs;
+
+    /**
+     * Maximum number of {@link Job}s that may wait for their admission.
+     */
+    private final int queueCapacity;
+
+    /**
+     * Fair, so that waiting {@link Job}s are admitted first-come, first-served.
+     */
+    private final Semaphore permits;
+
+    /**
+     * Number of {@link Job}s that currently wait for their admission.
+     */
+    private final AtomicInteger numWaitingJobs = new AtomicInteger(0);
+
+    /**
+     * Creates a new instance.
+     *
+     * @param maxConcurrentJobs maximum number of concurrently executing {@link Job}s
+     * @param queueCapacity     maximum number of waiting {@link Job}s
+     */
+    public JobAdmission(int maxConcurrentJobs, int queueCapacity) {
+        if (maxConcurrentJobs <= 0) {
+            throw new IllegalArgumentException(String.format("Illegal number of concurrent jobs: %d", maxConcurrentJobs));
+        }
+        this.maxConcurrentJobs = maxConcurrentJobs;
+        this.queueCapacity = Math.max(0, queueCapacity);
+        this.permits = new Semaphore(maxConcurrentJobs, true);
+    }
+
+    /**
+     * Creates a new instance as specified by {@code wayang.core.jobs.max-concurrent} and
+     * {@code wayang.core.jobs.queue-capacity}.
+     *
+     * @return the new instance or {@code null} if the number of concurrent {@link Job}s is not bounded
+     */
+    public static JobAdmission createFor(Configuration configuration) {
+        final long maxConcurrentJobs = configuration.getLongProperty("wayang.core.jobs.max-concurrent", 0);
+        if (maxConcurrentJobs <= 0) return null;
+        final long queueCapacity = configuration.getLongProperty("wayang.core.jobs.queue-capacity", Integer.MAX_VALUE);
+        return new JobAdmission(
+                (int) Math.min(maxConcurrentJobs, Integer.MAX_VALUE),
+                (int) Math.min(queueCapacity, Integer.MAX_VALUE)
+        );
+    }
+
+    /**
+     * Blocks until the given {@link Job} may be executed. Every successful call must be followed by a call
+     * to {@link #release(Job)}.
+     *
+     * @param job that should be executed
+     * @throws WayangException if the queue is full or the waiting thread is interrupted
+     */
+    public void admit(Job job) throws WayangException {
+        try {
+            // Unlike #tryAcquire(), a zero timeout does not barge in front of waiting jobs.
+            if (this.permits.tryAcquire(0, TimeUnit.MILLISECONDS)) return;
+
+            if (this.numWaitingJobs.incrementAndGet() > this.queueCapacity) {
+                this.numWaitingJobs.decrementAndGet();
+                throw new WayangException(String.format(
+                        "Rejected %s: %d jobs are running and %d are waiting already.",
+                        job.getName(), this.maxConcurrentJobs, this.queueCapacity
+                ));
+            }
+            this.logger.debug("{} waits for its admission.", job.getName());
+            try {
+                this.permits.acquire();
+            } finally {
+                this.numWaitingJobs.decrementAndGet();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new WayangException(String.format("Interrupted while %s was waiting for its admission.", job.getName()), e);
+        }
+    }
+
+    /**
+     * Signals that the given {@link Job} has finished, so that the next one can be admitted.
+     *
+     * @param job that has been admitted via {@link #admit(Job)}
+     */
+    public void release(Job job) {
+        this.permits.release();
+    }
+
+    /**
+     * @return the number of currently executing {@link Job}s
+     */
+    public int getNumRunningJobs() {
+        return this.maxConcurrentJobs - this.permits.availablePermits();
+    }
+
+    /**
+     * @return the number of {@link Job}s that currently wait for their admission
+     */
+    public int getNumWaitingJobs() {
+        return this.numWaitingJobs.get();
+    }
+
+}
@@ -21,7 +21,10 @@ package org.apache.wayang.core.api;
 import org.apache.wayang.commons.util.profiledb.model.Experiment;
 import org.apache.wayang.commons.util.profiledb.model.Subject;
 import org.apache.wayang.core.monitor.Monitor;
+import org.apache.wayang.core.monitor.tracing.NoopTracer;
+import org.apache.wayang.core.monitor.tracing.Tracer;
 import org.apache.wayang.core.optimizer.cardinality.CardinalityEstimator;
+import org.apache.wayang.core.optimizer.enumeration.PlanCache;
 import org.apache.wayang.core.plan.executionplan.ExecutionPlan;
 import org.apache.wayang.core.plan.wayangplan.WayangPlan;
 import org.apache.wayang.core.plugin.Plugin;
@@ -35,7 +38,8 @@ import org.apache.logging.log4j.core.LoggerContext;
 import org.apache.logging.log4j.core.config.LoggerConfig;
 
 /**
- * This is the entry point for users to work with Wayang.
+ * This is the entry point for users to work with Wayang. {@link Job}s of the same instance can be executed
+ * concurrently from multiple threads.
  */
 public class WayangContext {
 
@@ -47,6 +51,23 @@ public class WayangContext {
      */
     private CardinalityRepository cardinalityRepository;
 
+    /**
+     * Reuses the optimization results across {@link Job}s; see {@code wayang.core.optimizer.plancache.enabled}.
+     */
+    private PlanCache planCache;
+
+    /**
+     * Bounds the number of concurrently executing {@link Job}s; see {@code wayang.core.jobs.max-concurrent}.
+     */
+    private JobAdmission jobAdmission;
+
+    private boolean isJobAdmissionInitialized = false;
+
+    /**
+     * Traces all {@link Job}s of this instance; see {@code wayang.core.tracing.tracer}.
+     */
+    private Tracer tracer;
+
     private final Configuration configuration;
 
     public WayangContext() {
@@ -205,13 +226,64 @@ public class WayangContext {
         return this.configuration;
     }
 
-    public CardinalityRepository getCardinalityRepository() {
+    public synchronized CardinalityRepository getCardinalityRepository() {
         if (this.cardinalityRepository == null) {
             this.cardinalityRepository = new CardinalityRepository(this.configuration);
         }
         return this.cardinalityRepository;
     }
 
+    /**
+     * Provides the {@link PlanCache} of this instance.
+     *
+     * @return the {@link PlanCache} or {@code null} if it is disabled
+     */
+    public synchronized PlanCache getPlanCache() {
+        if (this.planCache == null && this.configuration.getBooleanProperty("wayang.core.optimizer.plancache.enabled", false)) {
+            this.planCache = new PlanCache(this.configuration);
+        }
+        return this.planCache;
+    }
+
+    /**
+     * Provides the {@link JobAdmission} of this instance.
+     *
+     * @return the {@link JobAdmission} or {@code null} if the number of concurrent {@link Job}s is not bounded
+     */
+    public synchronized JobAdmission getJobAdmission() {
+        if (!this.isJobAdmissionInitialized) {
+            this.jobAdmission = JobAdmission.createFor(this.configuration);
+            this.isJobAdmissionInitialized = true;
+        }
+        return this.jobAdmission;
+    }
+
+    /**
+     * Provides the {@link Tracer} of this instance. Unless one has been set explicitly, it is instantiated from the
+     * class named by {@code wayang.core.tracing.tracer}.
+     *
+     * @return the {@link Tracer}; the {@link NoopTracer} if none is configured
+     */
+    public synchronized Tracer getTracer() {
+        if (this.tracer == null) {
+            this.tracer = this.configuration.getOptionalStringProperty("wayang.core.tracing.tracer")
+                    .<Tracer>map(ReflectionUtils::instantiateDefault)
+                    .orElse(NoopTracer.INSTANCE);
+        }
+        return this.tracer;
+    }
+
+    /**
+     * Sets the {@link Tracer} for all subsequently created {@link Job}s of this instance.
+     *
+     * @param tracer the {@link Tracer}
+     * @return this instance
+     */
+    public synchronized WayangContext withTracer(Tracer tracer) {
+        this.tracer = tracer;
+        return this;
+    }
+
     public WayangContext setLogLevel(Level level) {
         LoggerContext ctx = (LoggerContext) LogManager.getContext(false);
         org.apache.logging.log4j.core.config.Configuration config = ctx.getConfiguration();
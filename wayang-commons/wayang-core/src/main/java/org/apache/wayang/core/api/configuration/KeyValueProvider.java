@@ -23,7 +23,11 @@ import org.apache.wayang.core.api.exception.WayangException;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Used by {@link Configuration}s to provide some value.
@@ -105,6 +109,27 @@ public abstract class KeyValueProvider<Key, Value> {
         return this.tryToProvide(key, this);
     }
 
+    /**
+     * Collect the keys that this instance and its parents explicitly associate values with. Keys whose values are
+     * only computed on demand are not included.
+     *
+     * @return the keys
+     */
+    public Set<Key> getKeys() {
+        final Set<Key> keys = this.parent == null ? new HashSet<>() : this.parent.getKeys();
+        keys.addAll(this.getLocalKeys());
+        return keys;
+    }
+
+    /**
+     * Provide the keys that this very instance explicitly associates values with. Returns no keys by default.
+     *
+     * @return the keys
+     */
+    protected Collection<Key> getLocalKeys() {
+        return Collections.emptyList();
+    }
+
     /**
      * React to a value that has been delivered by a {@link #parent}. Does nothing be default.
      *
@@ -20,6 +20,9 @@ package org.apache.wayang.core.api.configuration;
 
 import org.apache.wayang.core.api.Configuration;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
@@ -29,7 +32,11 @@ import java.util.Objects;
  */
 public class MapBasedKeyValueProvider<Key, Value> extends KeyValueProvider<Key, Value> {
 
-    private final Map<Key, Value> storedValues = new HashMap<>();
+    /**
+     * Stores the values. Synchronized, because caching instances are written to while they are read, e.g., during
+     * parallel plan enumeration.
+     */
+    private final Map<Key, Value> storedValues = Collections.synchronizedMap(new HashMap<>());
 
     private final boolean isCaching;
 
@@ -90,6 +97,13 @@ public class MapBasedKeyValueProvider<Key, Value> extends KeyValueProvider<Key,
         }
     }
 
+    @Override
+    protected Collection<Key> getLocalKeys() {
+        synchronized (this.storedValues) {
+            return new ArrayList<>(this.storedValues.keySet());
+        }
+    }
+
     @Override
     public void set(Key key, Value value) {
         Objects.requireNonNull(key);
@@ -0,0 +1,163 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.wayang.core.monitor.tracing;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * {@link Tracer} that hands {@link FinishedSpan}s and metric values to an {@link Exporter}. An {@link Exporter} is
+ * the place to adapt to a tracing or metrics backend: For instance, it can replay {@link FinishedSpan}s with their
+ * explicit timestamps and IDs via OpenTelemetry's {@code SpanBuilder} or record their durations with Micrometer
+ * {@code Timer}s, and it can add metric values to OpenTelemetry or Micrometer counters. The optional
+ * {@code wayang-opentelemetry} module provides such an {@link Exporter} for OpenTelemetry.
+ */
+public class ExportingTracer implements Tracer {
+
+    /**
+     * Receives the data recorded by an {@link ExportingTracer}. Must be thread-safe.
+     */
+    public interface Exporter {
+
+        void export(FinishedSpan span);
+
+        void exportMetric(String name, double value);
+
+    }
+
+    /**
+     * Relates {@link System#nanoTime()} to the epoch, so that {@link Span}s get monotonic epoch timestamps.
+     */
+    private static final long EPOCH_NANOS_OFFSET = System.currentTimeMillis() * 1_000_000L - System.nanoTime();
+
+    private final Exporter exporter;
+
+    public ExportingTracer(Exporter exporter) {
+        this.exporter = exporter;
+    }
+
+    @Override
+    public Span startSpan(String name, Span parent) {
+        final RecordingSpan recordingParent = parent instanceof RecordingSpan ? (RecordingSpan) parent : null;
+        return new RecordingSpan(
+                name,
+                recordingParent == null ? createId(2) : recordingParent.traceId,
+                recordingParent == null ? null : recordingParent.spanId
+        );
+    }
+
+    @Override
+    public void recordMetric(String name, double value) {
+        this.exporter.exportMetric(name, value);
+    }
+
+    /**
+     * Creates a random, non-zero ID of {@code 16 * numLongs} hex digits.
+     */
+    private static String createId(int numLongs) {
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        final StringBuilder sb = new StringBuilder(16 * numLongs);
+        for (int i = 0; i < numLongs; i++) {
+            long bits;
+            do {
+                bits = random.nextLong();
+            } while (bits == 0L);
+            final String hex = Long.toHexString(bits);
+            for (int j = hex.length(); j < 16; j++) sb.append('0');
+            sb.append(hex);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * {@link Span} implementation for this class.
+     */
+    private class RecordingSpan implements Span {
+
+        private final String name, traceId, spanId, parentSpanId;
+
+        private final long startNanos;
+
+        private final Map<String, Object> attributes = Collections.synchronizedMap(new LinkedHashMap<>());
+
+        private volatile FinishedSpan.Status status = FinishedSpan.Status.UNSET;
+
+        private volatile String statusDescription = null;
+
+        private boolean isEnded = false;
+
+        private RecordingSpan(String name, String traceId, String parentSpanId) {
+            this.name = name;
+            this.traceId = traceId;
+            this.spanId = createId(1);
+            this.parentSpanId = parentSpanId;
+            this.startNanos = System.nanoTime();
+        }
+
+        @Override
+        public Span setAttribute(String key, String value) {
+            this.attributes.put(key, value);
+            return this;
+        }
+
+        @Override
+        public Span setAttribute(String key, long value) {
+            this.attributes.put(key, value);
+            return this;
+        }
+
+        @Override
+        public Span setAttribute(String key, double value) {
+            this.attributes.put(key, value);
+            return this;
+        }
+
+        @Override
+        public Span setAttribute(String key, boolean value) {
+            this.attributes.put(key, value);
+            return this;
+        }
+
+        @Override
+        public Span recordError(Throwable error) {
+            this.status = FinishedSpan.Status.ERROR;
+            this.statusDescription = error.getMessage();
+            this.attributes.put("exception.type", error.getClass().getName());
+            if (error.getMessage() != null) this.attributes.put("exception.message", error.getMessage());
+            return this;
+        }
+
+        @Override
+        public void end() {
+            final long endNanos = System.nanoTime();
+            synchronized (this) {
+                if (this.isEnded) return;
+                this.isEnded = true;
+            }
+            ExportingTracer.this.exporter.export(new FinishedSpan(
+                    this.traceId, this.spanId, this.parentSpanId, this.name,
+                    EPOCH_NANOS_OFFSET + this.startNanos, EPOCH_NANOS_OFFSET + endNanos,
+                    this.attributes, this.status, this.statusDescription
+            ));
+        }
+    }
+}
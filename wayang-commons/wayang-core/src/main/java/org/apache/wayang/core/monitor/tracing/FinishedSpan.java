@@ -0,0 +1,151 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.wayang.core.monitor.tracing;
+
+import org.apache.wayang.core.util.json.WayangJsonObj;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Immutable record of an ended {@link Span}. The IDs follow the W3C trace context format, i.e., 32 and 16 hex digits
+ * for trace and span IDs, respectively, so that they can be handed to OpenTelemetry as they are.
+ */
+public class FinishedSpan {
+
+    /**
+     * Outcome of a {@link Span}, as in OpenTelemetry. Successful {@link Span}s leave it {@link #UNSET}.
+     */
+    public enum Status {
+        UNSET, ERROR
+    }
+
+    private final String traceId, spanId, parentSpanId;
+
+    private final String name;
+
+    private final long startEpochNanos, endEpochNanos;
+
+    private final Map<String, Object> attributes;
+
+    private final Status status;
+
+    private final String statusDescription;
+
+    public FinishedSpan(String traceId, String spanId, String parentSpanId, String name,
+                        long startEpochNanos, long endEpochNanos, Map<String, Object> attributes) {
+        this(traceId, spanId, parentSpanId, name, startEpochNanos, endEpochNanos, attributes, Status.UNSET, null);
+    }
+
+    public FinishedSpan(String traceId, String spanId, String parentSpanId, String name,
+                        long startEpochNanos, long endEpochNanos, Map<String, Object> attributes,
+                        Status status, String statusDescription) {
+        this.traceId = traceId;
+        this.spanId = spanId;
+        this.parentSpanId = parentSpanId;
+        this.name = name;
+        this.startEpochNanos = startEpochNanos;
+        this.endEpochNanos = endEpochNanos;
+        this.attributes = Collections.unmodifiableMap(new LinkedHashMap<>(attributes));
+        this.status = status;
+        this.statusDescription = statusDescription;
+    }
+
+    public String getTraceId() {
+        return this.traceId;
+    }
+
+    public String getSpanId() {
+        return this.spanId;
+    }
+
+    /**
+     * @return the ID of the parent {@link Span} or {@code null} if this is a root {@link Span}
+     */
+    public String getParentSpanId() {
+        return this.parentSpanId;
+    }
+
+    public String getName() {
+        return this.name;
+    }
+
+    public long getStartEpochNanos() {
+        return this.startEpochNanos;
+    }
+
+    public long getEndEpochNanos() {
+        return this.endEpochNanos;
+    }
+
+    public long getDurationNanos() {
+        return this.endEpochNanos - this.startEpochNanos;
+    }
+
+    public Map<String, Object> getAttributes() {
+        return this.attributes;
+    }
+
+    public Object getAttribute(String key) {
+        return this.attributes.get(key);
+    }
+
+    public Status getStatus() {
+        return this.status;
+    }
+
+    /**
+     * @return a description of the {@link #getStatus() status}, e.g., an error message, or {@code null}
+     */
+    public String getStatusDescription() {
+        return this.statusDescription;
+    }
+
+    public boolean isError() {
+        return this.status == Status.ERROR;
+    }
+
+    /**
+     * Serializes this instance.
+     *
+     * @return a {@link WayangJsonObj} representing this instance
+     */
+    public WayangJsonObj toJson() {
+        final WayangJsonObj json = new WayangJsonObj()
+                .put("traceId", this.traceId)
+                .put("spanId", this.spanId)
+                .put("name", this.name)
+                .put("startEpochNanos", this.startEpochNanos)
+                .put("endEpochNanos", this.endEpochNanos);
+        if (this.parentSpanId != null) json.put("parentSpanId", this.parentSpanId);
+        if (this.status != Status.UNSET) json.put("status", this.status.name());
+        if (this.statusDescription != null) json.put("statusDescription", this.statusDescription);
+        final WayangJsonObj jsonAttributes = new WayangJsonObj();
+        this.attributes.forEach(jsonAttributes::put);
+        json.put("attributes", jsonAttributes);
+        return json;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s[%s, %d ns, %s]", this.getClass().getSimpleName(), this.name, this.getDurationNanos(), this.attributes);
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.wayang.core.monitor.tracing;
+
+import org.apache.wayang.core.util.json.WayangJsonArray;
+import org.apache.wayang.core.util.json.WayangJsonObj;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.stream.Collectors;
+
+/**
+ * {@link Tracer} that keeps all {@link FinishedSpan}s and metrics in memory, e.g., to inspect them in tests or to
+ * dump them as JSON.
+ */
+public class InMemoryTracer extends ExportingTracer {
+
+    private final Collector collector;
+
+    public InMemoryTracer() {
+        this(new Collector());
+    }
+
+    private InMemoryTracer(Collector collector) {
+        super(collector);
+        this.collector = collector;
+    }
+
+    /**
+     * @return the {@link FinishedSpan}s in the order they have ended
+     */
+    public List<FinishedSpan> getSpans() {
+        return new ArrayList<>(this.collector.spans);
+    }
+
+    /**
+     * @return the {@link FinishedSpan}s with the given name in the order they have ended
+     */
+    public List<FinishedSpan> getSpans(String name) {
+        return this.collector.spans.stream()
+                .filter(span -> span.getName().equals(name))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * @return the sum of all values recorded for the given metric
+     */
+    public double getMetric(String name) {
+        final DoubleAdder adder = this.collector.metrics.get(name);
+        return adder == null ? 0d : adder.sum();
+    }
+
+    /**
+     * Discards all recorded data.
+     */
+    public void clear() {
+        this.collector.spans.clear();
+        this.collector.metrics.clear();
+    }
+
+    /**
+     * Serializes the recorded data as {@code {"spans": [...], "metrics": {...}}}.
+     *
+     * @return a {@link WayangJsonObj} with the recorded data
+     */
+    public WayangJsonObj toJson() {
+        final WayangJsonArray jsonSpans = new WayangJsonArray();
+        this.collector.spans.forEach(span -> jsonSpans.put(span.toJson()));
+        final WayangJsonObj jsonMetrics = new WayangJsonObj();
+        this.collector.metrics.forEach((name, adder) -> jsonMetrics.put(name, adder.sum()));
+        return new WayangJsonObj().put("spans", jsonSpans).put("metrics", jsonMetrics);
+    }
+
+    /**
+     * {@link ExportingTracer.Exporter} that stores everything.
+     */
+    private static class Collector implements Exporter {
+
+        private final ConcurrentLinkedQueue<FinishedSpan> spans = new ConcurrentLinkedQueue<>();
+
+        private final Map<String, DoubleAdder> metrics = new ConcurrentHashMap<>();
+
+        @Override
+        public void export(FinishedSpan span) {
+            this.spans.add(span);
+        }
+
+        @Override
+        public void exportMetric(String name, double value) {
+            this.metrics.computeIfAbsent(name, key -> new DoubleAdder()).add(value);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.wayang.core.monitor.tracing;
+
+/**
+ * {@link Tracer} that discards everything. This is the default.
+ */
+public class NoopTracer implements Tracer {
+
+    public static final NoopTracer INSTANCE = new NoopTracer();
+
+    private static final Span NOOP_SPAN = new Span() {
+
+        @Override
+        public Span setAttribute(String key, String value) {
+            return this;
+        }
+
+        @Override
+        public Span setAttribute(String key, long value) {
+            return this;
+        }
+
+        @Override
+        public Span setAttribute(String key, double value) {
+            return this;
+        }
+
+        @Override
+        public Span setAttribute(String key, boolean value) {
+            return this;
+        }
+
+        @Override
+        public Span recordError(Throwable error) {
+            return this;
+        }
+
+        @Override
+        public void end() {
+        }
+    };
+
+    @Override
+    public Span startSpan(String name, Span parent) {
+        return NOOP_SPAN;
+    }
+
+    @Override
+    public void recordMetric(String name, double value) {
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return false;
+    }
+
+}
@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.wayang.core.monitor.tracing;
+
+/**
+ * A timed, named operation that is reported to a {@link Tracer}, e.g., an optimization phase or the execution of
+ * an {@link org.apache.wayang.core.plan.executionplan.ExecutionTask}. Attribute values are restricted to the types
+ * supported by common tracing backends.
+ */
+public interface Span extends AutoCloseable {
+
+    Span setAttribute(String key, String value);
+
+    Span setAttribute(String key, long value);
+
+    Span setAttribute(String key, double value);
+
+    Span setAttribute(String key, boolean value);
+
+    /**
+     * Marks this instance as failed and records the given error, e.g., as {@code exception.type} and
+     * {@code exception.message} attributes.
+     *
+     * @param error that caused the failure
+     * @return this instance
+     */
+    Span recordError(Throwable error);
+
+    /**
+     * Finishes this instance. Further calls have no effect.
+     */
+    void end();
+
+    @Override
+    default void close() {
+        this.end();
+    }
+
+}
@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.wayang.core.monitor.tracing;
+
+import org.apache.wayang.core.api.Job;
+
+/**
+ * SPI to trace the optimization and execution of {@link Job}s. Implementations must be thread-safe, as they are
+ * shared by all {@link Job}s of a {@link org.apache.wayang.core.api.WayangContext}.
+ *
+ * @see NoopTracer
+ * @see ExportingTracer
+ * @see InMemoryTracer
+ */
+public interface Tracer {
+
+    /**
+     * Names of the {@link Span}s reported by Wayang.
+     */
+    String JOB_SPAN = "wayang.job",
+            PREPARATION_SPAN = "wayang.optimizer.preparation",
+            CARDINALITY_ESTIMATION_SPAN = "wayang.optimizer.cardinality-estimation",
+            ENUMERATION_SPAN = "wayang.optimizer.enumeration",
+            JUNCTION_SEARCH_SPAN = "wayang.optimizer.junction-search",
+            REOPTIMIZATION_SPAN = "wayang.optimizer.reoptimization",
+            STAGE_SPAN = "wayang.execution.stage",
+            TASK_SPAN = "wayang.execution.task",
+            CONVERSION_SPAN = "wayang.execution.conversion";
+
+    /**
+     * Names of the metrics reported by Wayang.
+     */
+    String CARDINALITY_METRIC = "wayang.execution.cardinality",
+            BYTES_METRIC = "wayang.execution.bytes";
+
+    /**
+     * Starts a new {@link Span}.
+     *
+     * @param name   the name of the {@link Span}
+     * @param parent the enclosing {@link Span} or {@code null}
+     * @return the started {@link Span}
+     */
+    Span startSpan(String name, Span parent);
+
+    /**
+     * Adds a value to a metric, e.g., the number of processed data quanta.
+     *
+     * @param name  the name of the metric
+     * @param value the value to add
+     */
+    void recordMetric(String name, double value);
+
+    /**
+     * Tells whether this instance records anything at all. If not, callers may skip computing attributes.
+     *
+     * @return whether this instance is enabled
+     */
+    default boolean isEnabled() {
+        return true;
+    }
+
+    /**
+     * Provides the {@link Tracer} of the given {@link Job}.
+     *
+     * @param job the {@link Job} or {@code null}
+     * @return the {@link Tracer} or the {@link NoopTracer} if none is available
+     */
+    static Tracer of(Job job) {
+        final Tracer tracer = job == null ? null : job.getTracer();
+        return tracer == null ? NoopTracer.INSTANCE : tracer;
+    }
+
+}
@@ -19,6 +19,9 @@
 package org.apache.wayang.core.optimizer.channels;
 
 import org.apache.wayang.core.api.Configuration;
+import org.apache.wayang.core.api.Job;
+import org.apache.wayang.core.monitor.tracing.Span;
+import org.apache.wayang.core.monitor.tracing.Tracer;
 import org.apache.wayang.core.optimizer.DefaultOptimizationContext;
 import org.apache.wayang.core.optimizer.OptimizationContext;
 import org.apache.wayang.core.optimizer.OptimizationUtils;
@@ -52,8 +55,11 @@ import java.util.LinkedList;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Random;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.ToDoubleFunction;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
@@ -78,6 +84,22 @@ public class ChannelConversionGraph {
      */
     private final TreeSelectionStrategy treeSelectionStrategy;
 
+    /**
+     * Memoizes the conversion {@link Tree}s found by {@link ShortestTreeSearcher}s for recurring search problems or
+     * is {@code null} if disabled.
+     */
+    private final Map<TreeCacheKey, Tree> treeCache;
+
+    /**
+     * Upper bound for the size of the {@link #treeCache}.
+     */
+    private final int treeCacheCapacity;
+
+    /**
+     * Measure the effectiveness of the {@link #treeCache}.
+     */
+    private final AtomicLong numTreeCacheHits = new AtomicLong(), numTreeCacheMisses = new AtomicLong();
+
     private static final Logger logger = LogManager.getLogger(ChannelConversionGraph.class);
 
     /**
@@ -93,6 +115,11 @@ public class ChannelConversionGraph {
                 this.getClass().getCanonicalName() + '$' + CostbasedTreeSelectionStrategy.class.getSimpleName()
         );
         this.treeSelectionStrategy = ReflectionUtils.instantiateDefault(treeSelectionStrategyClassName);
+        // Random tree selection should not be frozen by memoization.
+        final boolean isCachingTrees = configuration.getBooleanProperty("wayang.core.optimizer.channels.cache", false)
+                && !(this.treeSelectionStrategy instanceof RandomTreeSelectionStrategy);
+        this.treeCache = isCachingTrees ? new ConcurrentHashMap<>() : null;
+        this.treeCacheCapacity = (int) configuration.getLongProperty("wayang.core.optimizer.channels.cache.capacity", 10000);
     }
 
     /**
@@ -101,6 +128,22 @@ public class ChannelConversionGraph {
     public void add(ChannelConversion channelConversion) {
         final List<ChannelConversion> edges = this.getOrCreateChannelConversions(channelConversion.getSourceChannelDescriptor());
         edges.add(channelConversion);
+        if (this.treeCache != null) this.treeCache.clear();
+    }
+
+    /**
+     * @return how many {@link Junction} searches could reuse a memoized conversion tree
+     */
+    public long getNumTreeCacheHits() {
+        return this.numTreeCacheHits.get();
+    }
+
+    /**
+     * @return how many {@link Junction} searches had to search a conversion tree from scratch although memoization
+     * was applicable
+     */
+    public long getNumTreeCacheMisses() {
+        return this.numTreeCacheMisses.get();
     }
 
     /**
@@ -127,7 +170,29 @@ public class ChannelConversionGraph {
                                             List<InputSlot<?>> destInputSlots,
                                             OptimizationContext optimizationContext,
                                             boolean isRequestBreakpoint) {
-        return new ShortestTreeSearcher(output, null, destInputSlots, optimizationContext, isRequestBreakpoint).getJunction();
+        return this.findMinimumCostJunction(output, destInputSlots, optimizationContext, isRequestBreakpoint, null);
+    }
+
+    /**
+     * Finds the minimum tree {@link Junction} (w.r.t. {@link TimeEstimate}s that connects the given {@link OutputSlot} to the
+     * {@code destInputSlots}.
+     *
+     * @param output              {@link OutputSlot} of an {@link ExecutionOperator} that should be consumed
+     * @param destInputSlots      {@link InputSlot}s of {@link ExecutionOperator}s that should receive data from the {@code output}
+     * @param optimizationContext describes the above mentioned {@link ExecutionOperator} key figures
+     * @param isRequestBreakpoint whether a breakpoint-capable {@link Channel} should be inserted if possible
+     * @param parentSpan          the {@link Span} of the enclosing optimization or {@code null} to trace the search
+     *                            within the {@link Span} of the {@link Job}
+     * @return a {@link Junction} or {@code null} if none could be found
+     */
+    public Junction findMinimumCostJunction(OutputSlot<?> output,
+                                            List<InputSlot<?>> destInputSlots,
+                                            OptimizationContext optimizationContext,
+                                            boolean isRequestBreakpoint,
+                                            Span parentSpan) {
+        try (Span span = startJunctionSearchSpan(output, optimizationContext, parentSpan)) {
+            return new ShortestTreeSearcher(output, null, destInputSlots, optimizationContext, isRequestBreakpoint).getJunction();
+        }
     }
 
     /**
@@ -144,7 +209,45 @@ public class ChannelConversionGraph {
                                             Collection<Channel> openChannels,
                                             List<InputSlot<?>> destInputSlots,
                                             OptimizationContext optimizationContext) {
-        return new ShortestTreeSearcher(output, openChannels, destInputSlots, optimizationContext, false).getJunction();
+        return this.findMinimumCostJunction(output, openChannels, destInputSlots, optimizationContext, null);
+    }
+
+    /**
+     * Finds the minimum tree {@link Junction} (w.r.t. {@link TimeEstimate}s that connects the given {@link OutputSlot} to the
+     * {@code destInputSlots}.
+     *
+     * @param output              {@link OutputSlot} of an {@link ExecutionOperator} that should be consumed
+     * @param openChannels        existing {@link Channel}s that must be part of the tree or {@code null}
+     * @param destInputSlots      {@link InputSlot}s of {@link ExecutionOperator}s that should receive data from the {@code output}
+     * @param optimizationContext describes the above mentioned {@link ExecutionOperator} key figures
+     * @param parentSpan          the {@link Span} of the enclosing optimization or {@code null} to trace the search
+     *                            within the {@link Span} of the {@link Job}
+     * @return a {@link Junction} or {@code null} if none could be found
+     */
+    public Junction findMinimumCostJunction(OutputSlot<?> output,
+                                            Collection<Channel> openChannels,
+                                            List<InputSlot<?>> destInputSlots,
+                                            OptimizationContext optimizationContext,
+                                            Span parentSpan) {
+        try (Span span = startJunctionSearchSpan(output, optimizationContext, parentSpan)) {
+            return new ShortestTreeSearcher(output, openChannels, destInputSlots, optimizationContext, false).getJunction();
+        }
+    }
+
+    /**
+     * Starts a {@link Span} for the search of a {@link Junction} from the given {@link OutputSlot} within the
+     * {@code parentSpan} or, if there is none, within the {@link Span} of the {@link Job}.
+     */
+    private static Span startJunctionSearchSpan(OutputSlot<?> output,
+                                                OptimizationContext optimizationContext,
+                                                Span parentSpan) {
+        final Job job = optimizationContext.getJob();
+        final Tracer tracer = Tracer.of(job);
+        final Span span = tracer.startSpan(
+                Tracer.JUNCTION_SEARCH_SPAN, parentSpan != null || job == null ? parentSpan : job.getTraceSpan()
+        );
+        if (tracer.isEnabled()) span.setAttribute("output", output.toString());
+        return span;
     }
 
     /**
@@ -492,8 +595,43 @@ public class ChannelConversionGraph {
 
         @Override
         protected void doExecute() {
+            // Existing channels make the search problem unique, so memoize only searches from scratch.
+            final Map<TreeCacheKey, Tree> treeCache = ChannelConversionGraph.this.treeCache;
+            final TreeCacheKey treeCacheKey = treeCache == null || !this.existingChannels.isEmpty() ?
+                    null :
+                    new TreeCacheKey(
+                            this.sourceChannelDescriptor,
+                            this.destChannelDescriptorSets,
+                            this.isRequestBreakpoint,
+                            this.cardinality,
+                            this.numExecutions
+                    );
+
+            Tree tree = null;
+            if (treeCacheKey != null) {
+                tree = treeCache.get(treeCacheKey);
+                if (tree != null && this.isAnyConversionFiltered(tree.root)) {
+                    tree = null;
+                }
+                if (tree != null) {
+                    ChannelConversionGraph.this.numTreeCacheHits.incrementAndGet();
+                } else {
+                    ChannelConversionGraph.this.numTreeCacheMisses.incrementAndGet();
+                }
+            }
+
             // Start from the root vertex.
-            final Tree tree = this.searchTree();
+            if (tree == null) {
+                tree = this.searchTree();
+                if (tree != null && treeCacheKey != null) {
+                    if (treeCache.size() >= ChannelConversionGraph.this.treeCacheCapacity) {
+                        logger.debug("Clearing the conversion tree cache ({} hits, {} misses).",
+                                ChannelConversionGraph.this.numTreeCacheHits, ChannelConversionGraph.this.numTreeCacheMisses);
+                        treeCache.clear();
+                    }
+                    treeCache.put(treeCacheKey, tree);
+                }
+            }
             if (tree != null) {
                 this.createJunction(tree);
             } else {
@@ -501,6 +639,22 @@ public class ChannelConversionGraph {
             }
         }
 
+        /**
+         * Check whether a memoized {@link Tree} contains {@link ChannelConversion}s that are filtered w.r.t. the
+         * {@link #cardinality} of this instance.
+         *
+         * @param vertex the root of the {@link Tree}
+         * @return whether some {@link ChannelConversion} is filtered
+         */
+        private boolean isAnyConversionFiltered(TreeVertex vertex) {
+            for (TreeEdge edge : vertex.outEdges) {
+                if (this.isFiltered(edge.channelConversion) || this.isAnyConversionFiltered(edge.destination)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
         /**
          * Rule out any non-reusable {@link ChannelDescriptor}s in recurring {@link ChannelDescriptor} sets.
          *
@@ -589,7 +743,7 @@ public class ChannelConversionGraph {
             final Map<Bitmask, Tree> solutions = this.enumerate(
                     visitedChannelDescriptors,
                     this.sourceChannelDescriptor,
-                    Bitmask.EMPTY_BITMASK,
+                    new Bitmask(this.destChannelDescriptorSets.size()),
                     this.sourceChannelDescriptor.isSuitableForBreakpoint()
             );
 
@@ -973,6 +1127,68 @@ public class ChannelConversionGraph {
 
     }
 
+    /**
+     * Describes a search problem of a {@link ShortestTreeSearcher} without existing {@link Channel}s. The
+     * {@link Tree}s for such problems do not depend on the concrete {@link OutputSlot} and {@link InputSlot}s. As
+     * the conversion costs do depend on the cardinality, the latter is considered by its order of magnitude.
+     */
+    private static final class TreeCacheKey {
+
+        private final ChannelDescriptor sourceChannelDescriptor;
+
+        /**
+         * The supported {@link ChannelDescriptor}s of the destinations. Their order matters, because {@link Tree}s
+         * refer to destinations by their indices.
+         */
+        private final List<Set<ChannelDescriptor>> destChannelDescriptorSets;
+
+        private final boolean isRequestBreakpoint;
+
+        private final int cardinalityMagnitude;
+
+        private final int numExecutions;
+
+        private final int hashCode;
+
+        private TreeCacheKey(ChannelDescriptor sourceChannelDescriptor,
+                             List<Set<ChannelDescriptor>> destChannelDescriptorSets,
+                             boolean isRequestBreakpoint,
+                             CardinalityEstimate cardinality,
+                             int numExecutions) {
+            this.sourceChannelDescriptor = sourceChannelDescriptor;
+            this.destChannelDescriptorSets = destChannelDescriptorSets;
+            this.isRequestBreakpoint = isRequestBreakpoint;
+            this.cardinalityMagnitude = cardinality == null ?
+                    -1 :
+                    64 - Long.numberOfLeadingZeros(Math.max(0, cardinality.getGeometricMeanEstimate()));
+            this.numExecutions = numExecutions;
+            this.hashCode = Objects.hash(
+                    this.sourceChannelDescriptor,
+                    this.destChannelDescriptorSets,
+                    this.isRequestBreakpoint,
+                    this.cardinalityMagnitude,
+                    this.numExecutions
+            );
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || this.getClass() != o.getClass()) return false;
+            final TreeCacheKey that = (TreeCacheKey) o;
+            return this.isRequestBreakpoint == that.isRequestBreakpoint
+                    && this.cardinalityMagnitude == that.cardinalityMagnitude
+                    && this.numExecutions == that.numExecutions
+                    && this.sourceChannelDescriptor.equals(that.sourceChannelDescriptor)
+                    && this.destChannelDescriptorSets.equals(that.destChannelDescriptorSets);
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hashCode;
+        }
+    }
+
     /**
      * A tree consisting of {@link TreeVertex}es connected by {@link TreeEdge}s.
      */
@@ -0,0 +1,251 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.core.optimizer.costs;
+
+import org.apache.wayang.core.util.mathex.Context;
+import org.apache.wayang.core.util.mathex.Expression;
+import org.apache.wayang.core.util.mathex.ExpressionBuilder;
+import org.apache.wayang.core.util.mathex.exceptions.EvaluationException;
+import org.apache.wayang.core.util.mathex.exceptions.ParseException;
+import org.apache.wayang.core.util.mathex.model.BinaryOperation;
+import org.apache.wayang.core.util.mathex.model.CompiledFunction;
+import org.apache.wayang.core.util.mathex.model.Constant;
+import org.apache.wayang.core.util.mathex.model.NamedFunction;
+import org.apache.wayang.core.util.mathex.model.UnaryOperation;
+import org.apache.wayang.core.util.mathex.model.Variable;
+
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.ToDoubleFunction;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Compiles the expressions of load profile specifications into trees of specialized closures that read the input
+ * and output cardinalities directly from their {@code long[]}s. In contrast to evaluating an {@link Expression}
+ * or a JUEL expression, the compiled functions neither look up variables by name nor share mutable state, so they
+ * are fast and can be evaluated concurrently.
+ */
+public class EstimationFunctionCompiler {
+
+    /**
+     * A compiled estimation expression.
+     */
+    @FunctionalInterface
+    public interface DoubleEstimationFunction extends Serializable {
+
+        /**
+         * Evaluate the expression.
+         *
+         * @param context         provides further variables; may be {@code null}
+         * @param inputEstimates  provides the variables {@code in0}, {@code in1}, ...
+         * @param outputEstimates provides the variables {@code out0}, {@code out1}, ...
+         * @return the value of the expression
+         */
+        double estimate(EstimationContext context, long[] inputEstimates, long[] outputEstimates);
+
+    }
+
+    /**
+     * Matches JUEL expressions of the form {@code ${...}}.
+     */
+    private static final Pattern JUEL_EXPRESSION = Pattern.compile("\\s*\\$\\{([^{}]*)}\\s*");
+
+    /**
+     * Characters of JUEL expressions that have the same meaning in mathematical expressions.
+     */
+    private static final Pattern MATHEX_COMPATIBLE_JUEL = Pattern.compile("[\\w\\s.+\\-*/(),]*");
+
+    /**
+     * Matches identifiers in (translated) JUEL expressions, but not exponents of numbers, such as {@code 1E8}.
+     */
+    private static final Pattern IDENTIFIER = Pattern.compile("(?<![\\w.])[A-Za-z_][\\w.]*");
+
+    private static final Pattern INPUT_VARIABLE = Pattern.compile("in(\\d+)");
+
+    private static final Pattern OUTPUT_VARIABLE = Pattern.compile("out(\\d+)");
+
+    /**
+     * Prevent instantiation of this class.
+     */
+    private EstimationFunctionCompiler() {
+    }
+
+    /**
+     * Compile an {@link Expression}. Variables other than {@code in*} and {@code out*} are requested from the
+     * {@link EstimationContext}.
+     *
+     * @param expression           should be compiled; should have been {@link Expression#specify specified} already
+     * @param missingPropertyValue the value for variables that the {@link EstimationContext} does not provide
+     * @return the compiled {@link Expression} or {@code null} if it contains unknown elements
+     */
+    public static DoubleEstimationFunction compile(Expression expression, double missingPropertyValue) {
+        if (expression instanceof Constant) {
+            final double value = ((Constant) expression).getValue();
+            return (context, inputEstimates, outputEstimates) -> value;
+
+        } else if (expression instanceof Variable) {
+            return compileVariable(((Variable) expression).getName(), missingPropertyValue);
+
+        } else if (expression instanceof UnaryOperation) {
+            final UnaryOperation operation = (UnaryOperation) expression;
+            final DoubleEstimationFunction operand = compile(operation.getOperand(), missingPropertyValue);
+            if (operand == null) return null;
+            switch (operation.getOperator()) {
+                case '+':
+                    return operand;
+                case '-':
+                    return (context, in, out) -> -operand.estimate(context, in, out);
+                default:
+                    return null;
+            }
+
+        } else if (expression instanceof BinaryOperation) {
+            final BinaryOperation operation = (BinaryOperation) expression;
+            final DoubleEstimationFunction operand0 = compile(operation.getOperand0(), missingPropertyValue);
+            final DoubleEstimationFunction operand1 = compile(operation.getOperand1(), missingPropertyValue);
+            if (operand0 == null || operand1 == null) return null;
+            switch (operation.getOperator()) {
+                case '+':
+                    return (context, in, out) -> operand0.estimate(context, in, out) + operand1.estimate(context, in, out);
+                case '-':
+                    return (context, in, out) -> operand0.estimate(context, in, out) - operand1.estimate(context, in, out);
+                case '*':
+                    return (context, in, out) -> operand0.estimate(context, in, out) * operand1.estimate(context, in, out);
+                case '/':
+                    return (context, in, out) -> operand0.estimate(context, in, out) / operand1.estimate(context, in, out);
+                case '%':
+                    return (context, in, out) -> operand0.estimate(context, in, out) % operand1.estimate(context, in, out);
+                case '^':
+                    return (context, in, out) -> Math.pow(operand0.estimate(context, in, out), operand1.estimate(context, in, out));
+                default:
+                    return null;
+            }
+
+        } else if (expression instanceof CompiledFunction) {
+            final CompiledFunction function = (CompiledFunction) expression;
+            return compileFunction(function.getImplementation(), function.getArguments(), missingPropertyValue);
+
+        } else if (expression instanceof NamedFunction) {
+            // The function is unknown, which the interpreted evaluation also reports only upon evaluation.
+            final String name = ((NamedFunction) expression).getName();
+            return (context, in, out) -> {
+                throw new EvaluationException(String.format("No function named \"%s\".", name));
+            };
+        }
+
+        return null;
+    }
+
+    private static DoubleEstimationFunction compileVariable(String name, double missingPropertyValue) {
+        final Matcher inputMatcher = INPUT_VARIABLE.matcher(name);
+        if (inputMatcher.matches()) {
+            final int index = Integer.parseInt(inputMatcher.group(1));
+            return (context, in, out) -> in[index];
+        }
+        final Matcher outputMatcher = OUTPUT_VARIABLE.matcher(name);
+        if (outputMatcher.matches()) {
+            final int index = Integer.parseInt(outputMatcher.group(1));
+            return (context, in, out) -> out[index];
+        }
+        return (context, in, out) -> context == null ?
+                missingPropertyValue :
+                context.getDoubleProperty(name, missingPropertyValue);
+    }
+
+    private static DoubleEstimationFunction compileFunction(ToDoubleFunction<double[]> implementation,
+                                                            List<Expression> argumentExpressions,
+                                                            double missingPropertyValue) {
+        final DoubleEstimationFunction[] arguments = new DoubleEstimationFunction[argumentExpressions.size()];
+        for (int i = 0; i < arguments.length; i++) {
+            arguments[i] = compile(argumentExpressions.get(i), missingPropertyValue);
+            if (arguments[i] == null) return null;
+        }
+        if (arguments.length == 1) {
+            final DoubleEstimationFunction argument = arguments[0];
+            return (context, in, out) -> implementation.applyAsDouble(new double[]{argument.estimate(context, in, out)});
+        }
+        return (context, in, out) -> {
+            final double[] values = new double[arguments.length];
+            for (int i = 0; i < arguments.length; i++) {
+                values[i] = arguments[i].estimate(context, in, out);
+            }
+            return implementation.applyAsDouble(values);
+        };
+    }
+
+    /**
+     * Compile a JUEL expression from a load profile specification. This is possible for arithmetic expressions
+     * over the cardinalities and the given {@code properties} that use only the functions {@code math:sqrt} and
+     * {@code wayang:logGrowth}, which covers all specifications shipped with Wayang.
+     *
+     * @param juel       the JUEL expression
+     * @param numInputs  the number of inputs, available as {@code in0}, {@code in1}, ...
+     * @param numOutputs the number of outputs, available as {@code out0}, {@code out1}, ...
+     * @param properties further variables that are requested from the {@link EstimationContext} (default {@code 0})
+     * @param context    provides the functions
+     * @return the compiled function or {@code null} if the {@code juel} expression cannot be compiled
+     */
+    public static DoubleEstimationFunction compileJuel(String juel,
+                                                       int numInputs,
+                                                       int numOutputs,
+                                                       Collection<String> properties,
+                                                       Context context) {
+        final Matcher juelMatcher = JUEL_EXPRESSION.matcher(juel);
+        if (!juelMatcher.matches()) return null;
+        final String translation = juelMatcher.group(1)
+                .replace("wayang:logGrowth", "logGrowth")
+                .replace("math:sqrt", "sqrt");
+        if (!MATHEX_COMPATIBLE_JUEL.matcher(translation).matches()) return null;
+
+        // Make sure that all identifiers mean the same in both languages.
+        final Matcher identifierMatcher = IDENTIFIER.matcher(translation);
+        while (identifierMatcher.find()) {
+            final String identifier = identifierMatcher.group();
+            if (isFunctionCall(translation, identifierMatcher.end())) {
+                if (!identifier.equals("logGrowth") && !identifier.equals("sqrt")) return null;
+            } else if (!properties.contains(identifier)
+                    && !isCardinalityVariable(INPUT_VARIABLE, identifier, numInputs)
+                    && !isCardinalityVariable(OUTPUT_VARIABLE, identifier, numOutputs)) {
+                return null;
+            }
+        }
+
+        try {
+            return compile(ExpressionBuilder.parse(translation).specify(context), 0d);
+        } catch (ParseException e) {
+            return null;
+        }
+    }
+
+    private static boolean isFunctionCall(String expression, int identifierEnd) {
+        for (int i = identifierEnd; i < expression.length(); i++) {
+            final char c = expression.charAt(i);
+            if (!Character.isWhitespace(c)) return c == '(';
+        }
+        return false;
+    }
+
+    private static boolean isCardinalityVariable(Pattern pattern, String identifier, int numCardinalities) {
+        final Matcher matcher = pattern.matcher(identifier);
+        return matcher.matches() && Integer.parseInt(matcher.group(1)) < numCardinalities;
+    }
+
+}
@@ -66,6 +66,8 @@ public class LoadProfileEstimators {
                 "logGrowth",
                 vals -> OptimizationUtils.logisticGrowth(vals[0], vals[1], vals[2], vals[3])
         );
+        // Counterpart of the JUEL function math:sqrt.
+        ctx.setFunction("sqrt", vals -> Math.sqrt(vals[0]));
         baseContext = ctx;
     }
 
@@ -117,6 +119,8 @@ public class LoadProfileEstimators {
      * </pre>
      * The JUEL expressions accept as parameters {@code in0}, {@code in1} a.s.o. for the input cardinalities and
      * {@code out0}, {@code out1} a.s.o. for the output cardinalities.
+     * <p>The expressions are compiled via the {@link EstimationFunctionCompiler} where possible, so that the
+     * resulting estimator is cheap and safe to evaluate from multiple threads.</p>
      *
      * @param configKey     the {@link Configuration} from that the {@code spec} was retrieved or else {@code null}
      * @param specification a specification that adheres to above format
@@ -301,6 +305,13 @@ public class LoadProfileEstimators {
                                                                int numInputs,
                                                                int numOutputs,
                                                                List<String> additionalProperties) {
+        final EstimationFunctionCompiler.DoubleEstimationFunction compiledFunction =
+                EstimationFunctionCompiler.compileJuel(juel, numInputs, numOutputs, additionalProperties, baseContext);
+        if (compiledFunction != null) {
+            // Coerce to long as JUEL does.
+            return (estimationContext, inCards, outCards) -> (long) compiledFunction.estimate(estimationContext, inCards, outCards);
+        }
+
         final Map<String, Class<?>> parameterClasses = createJuelParameterClasses(
                 numInputs,
                 numOutputs,
@@ -319,6 +330,12 @@ public class LoadProfileEstimators {
      * @return a {@link ToLongBiFunction} wrapping the JUEL expression
      */
     private static FunctionDescriptor.SerializableToDoubleBiFunction<long[], long[]> parseResourceUsageJuel(String juel, int numInputs, int numOutputs) {
+        final EstimationFunctionCompiler.DoubleEstimationFunction compiledFunction =
+                EstimationFunctionCompiler.compileJuel(juel, numInputs, numOutputs, Collections.emptyList(), baseContext);
+        if (compiledFunction != null) {
+            return (inCards, outCards) -> compiledFunction.estimate(null, inCards, outCards);
+        }
+
         final Map<String, Class<?>> parameterClasses = createJuelParameterClasses(numInputs, numOutputs);
         final JuelUtils.JuelFunction<Double> juelFunction = new JuelUtils.JuelFunction<>(juel, Double.class, parameterClasses);
         return (inCards, outCards) -> applyJuelFunction(juelFunction, null, inCards, outCards, Collections.emptyList());
@@ -379,6 +396,11 @@ public class LoadProfileEstimators {
      */
     private static SinglePointEstimationFunction compile(String expression) {
         final Expression expr = ExpressionBuilder.parse(expression).specify(baseContext);
+        final EstimationFunctionCompiler.DoubleEstimationFunction compiledFunction =
+                EstimationFunctionCompiler.compile(expr, Double.NaN);
+        if (compiledFunction != null) {
+            return (context, inCards, outCards) -> Math.round(compiledFunction.estimate(context, inCards, outCards));
+        }
         return (context, inCards, outCards) -> {
             Context mathContext = createMathContext(context, inCards, outCards);
             return Math.round(expr.evaluate(mathContext));
@@ -393,6 +415,11 @@ public class LoadProfileEstimators {
      */
     private static FunctionDescriptor.SerializableToDoubleBiFunction<long[], long[]> compileResourceUsage(String expression) {
         final Expression expr = ExpressionBuilder.parse(expression).specify(baseContext);
+        final EstimationFunctionCompiler.DoubleEstimationFunction compiledFunction =
+                EstimationFunctionCompiler.compile(expr, Double.NaN);
+        if (compiledFunction != null) {
+            return (inCards, outCards) -> compiledFunction.estimate(null, inCards, outCards);
+        }
         return (inCards, outCards) -> {
             Context mathContext = createMathContext(null, inCards, outCards);
             return expr.evaluate(mathContext);
@@ -152,7 +152,7 @@ public class LoopEnumerator extends OneTimeExecutable {
                 execLoopBodyInputs.addAll(existingJunction.getTargetInputs());
             }
             final Junction junction = optimizationContext.getChannelConversionGraph().findMinimumCostJunction(
-                    execOutput, execLoopBodyInputs, optimizationContext, false
+                    execOutput, execLoopBodyInputs, optimizationContext, false, this.planEnumerator.getTraceSpan()
             );
             if (junction == null) return false;
 
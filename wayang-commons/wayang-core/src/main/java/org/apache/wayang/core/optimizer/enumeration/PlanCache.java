@@ -0,0 +1,627 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.core.optimizer.enumeration;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.wayang.core.api.Configuration;
+import org.apache.wayang.core.api.WayangContext;
+import org.apache.wayang.core.api.exception.WayangException;
+import org.apache.wayang.core.function.FunctionDescriptor;
+import org.apache.wayang.core.optimizer.OptimizationContext;
+import org.apache.wayang.core.optimizer.cardinality.CardinalityEstimate;
+import org.apache.wayang.core.plan.wayangplan.CompositeOperator;
+import org.apache.wayang.core.plan.wayangplan.InputSlot;
+import org.apache.wayang.core.plan.wayangplan.Operator;
+import org.apache.wayang.core.plan.wayangplan.OperatorAlternative;
+import org.apache.wayang.core.plan.wayangplan.OperatorContainer;
+import org.apache.wayang.core.plan.wayangplan.OutputSlot;
+import org.apache.wayang.core.plan.wayangplan.WayangPlan;
+import org.apache.wayang.core.platform.Platform;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.lang.invoke.SerializedLambda;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Caches the outcome of the plan enumeration across {@link org.apache.wayang.core.api.Job}s of a
+ * {@link WayangContext}, so that recurring {@link WayangPlan}s need not be enumerated from scratch.
+ * <p>As {@link PlanImplementation}s and {@link org.apache.wayang.core.plan.executionplan.ExecutionPlan}s reference
+ * the {@link Operator}s of a specific {@link WayangPlan}, this class caches the skeleton of the picked
+ * {@link PlanImplementation} instead, i.e., which {@link OperatorAlternative.Alternative} has been chosen for
+ * each {@link OperatorAlternative}. Upon a cache hit, these choices are presettled, so that the
+ * {@link PlanEnumerator} only needs to enumerate the
+ * {@link org.apache.wayang.core.platform.Junction}s of a single plan.</p>
+ * <p>Plans are identified by a {@link Fingerprint} of their {@link Operator} classes, UDFs, topology, the relevant
+ * properties of the {@link Configuration}, and the orders of magnitude of their source cardinalities. Entries are
+ * evicted in least-recently-used order and can optionally be persisted to a file, to which new entries are appended.</p>
+ */
+public class PlanCache {
+
+    private static final Logger logger = LogManager.getLogger(PlanCache.class);
+
+    /**
+     * Prefixes of {@link Configuration} properties that do not affect the outcome of the plan enumeration. All other
+     * properties, e.g., load profiles, platform overheads, and cardinality settings, are part of the
+     * {@link Fingerprint}.
+     */
+    private static final List<String> IGNORED_PROPERTY_PREFIXES = Arrays.asList(
+            "wayang.core.optimizer.plancache.",
+            "wayang.core.optimizer.enumeration.parallel-",
+            "wayang.core.executor.",
+            "wayang.core.jobs.",
+            "wayang.core.log.",
+            "wayang.core.explain.",
+            "wayang.core.monitor.",
+            "wayang.core.tracing.",
+            "wayang.core.debug."
+    );
+
+    /**
+     * Identifies the {@link OperatorAlternative.Alternative}s that have not been chosen in a cached plan.
+     */
+    private static final int NO_CHOICE = -1;
+
+    /**
+     * Cached {@link Entry}s by their {@link Fingerprint#getKey() key}s in least-recently-used order.
+     */
+    private final LinkedHashMap<String, Entry> entries;
+
+    private final int capacity;
+
+    /**
+     * Optional file to persist the {@link #entries} to; can be {@code null}.
+     */
+    private final Path file;
+
+    /**
+     * Number of lines in the {@link #file}. As {@link #put(Fingerprint, PlanImplementation, long) new entries} are
+     * appended, the {@link #file} is compacted once it has grown to twice the {@link #capacity}.
+     */
+    private int numFileLines = 0;
+
+    private long numHits = 0, numMisses = 0, savedMillis = 0;
+
+    /**
+     * Creates a new instance as configured via {@code wayang.core.optimizer.plancache.*}.
+     *
+     * @param configuration provides the settings
+     */
+    public PlanCache(Configuration configuration) {
+        this(
+                (int) configuration.getLongProperty("wayang.core.optimizer.plancache.capacity", 128),
+                configuration.getOptionalStringProperty("wayang.core.optimizer.plancache.file").map(Paths::get).orElse(null)
+        );
+    }
+
+    /**
+     * Creates a new instance.
+     *
+     * @param capacity the maximum number of cached plans
+     * @param file     to persist the cached plans to or {@code null}
+     */
+    public PlanCache(int capacity, Path file) {
+        if (capacity < 1) {
+            throw new WayangException(String.format("Illegal plan cache capacity: %d.", capacity));
+        }
+        this.capacity = capacity;
+        this.file = file;
+        this.entries = new LinkedHashMap<String, Entry>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return this.size() > PlanCache.this.capacity;
+            }
+        };
+        if (this.file != null && Files.exists(this.file)) {
+            this.load();
+        }
+    }
+
+    /**
+     * Create a {@link Fingerprint} for the given {@link WayangPlan}. The {@link WayangPlan} should have been
+     * prepared already and its cardinalities should have been estimated.
+     *
+     * @param wayangPlan          the {@link WayangPlan}
+     * @param optimizationContext provides the cardinalities of the {@code wayangPlan}
+     * @param configuration       the {@link Configuration} of the optimization
+     * @return the {@link Fingerprint}
+     */
+    public static Fingerprint fingerprint(WayangPlan wayangPlan,
+                                          OptimizationContext optimizationContext,
+                                          Configuration configuration) {
+        final Canonicalizer canonicalizer = new Canonicalizer(optimizationContext);
+        for (Operator sink : wayangPlan.getSinks()) {
+            canonicalizer.describe(sink);
+            canonicalizer.description.append(';');
+        }
+
+        final StringBuilder description = canonicalizer.description;
+        description.append("|platforms=").append(configuration.getPlatformProvider().provideAll().stream()
+                .map(Platform::getName)
+                .sorted()
+                .collect(Collectors.joining(",")));
+        final Object costModel = configuration.getCostModel();
+        description.append("|costs=").append(costModel == null ? "" : costModel.getClass().getName());
+        configuration.getProperties().getKeys().stream()
+                .filter(property -> IGNORED_PROPERTY_PREFIXES.stream().noneMatch(property::startsWith))
+                .sorted()
+                .forEach(property -> description.append('|').append(property).append('=')
+                        .append(configuration.getOptionalStringProperty(property).orElse("")));
+
+        return new Fingerprint(digest(description.toString()), canonicalizer.operatorAlternatives);
+    }
+
+    private static String digest(String description) {
+        try {
+            final MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            final byte[] digest = messageDigest.digest(description.getBytes(StandardCharsets.UTF_8));
+            final StringBuilder sb = new StringBuilder(2 * digest.length);
+            for (byte b : digest) {
+                sb.append(String.format("%02x", b));
+            }
+            return sb.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new WayangException("SHA-256 is not available.", e);
+        }
+    }
+
+    /**
+     * Look up the cached choices for a {@link WayangPlan}.
+     *
+     * @param fingerprint of the {@link WayangPlan}
+     * @return the chosen {@link OperatorAlternative.Alternative}s, which can be presettled in a
+     * {@link PlanEnumerator}, or {@code null} if there is no (applicable) cache entry
+     */
+    public synchronized Map<OperatorAlternative, OperatorAlternative.Alternative> get(Fingerprint fingerprint) {
+        final Entry entry = this.entries.get(fingerprint.getKey());
+        if (entry == null) return null;
+
+        final List<OperatorAlternative> operatorAlternatives = fingerprint.getOperatorAlternatives();
+        if (entry.alternativeIndices.length != operatorAlternatives.size()) {
+            logger.warn("Discarding inconsistent plan cache entry {}.", fingerprint.getKey());
+            this.entries.remove(fingerprint.getKey());
+            return null;
+        }
+        final Map<OperatorAlternative, OperatorAlternative.Alternative> presettledAlternatives = new HashMap<>();
+        for (int i = 0; i < entry.alternativeIndices.length; i++) {
+            final int alternativeIndex = entry.alternativeIndices[i];
+            if (alternativeIndex == NO_CHOICE) continue;
+            final List<OperatorAlternative.Alternative> alternatives = operatorAlternatives.get(i).getAlternatives();
+            if (alternativeIndex >= alternatives.size()) {
+                logger.warn("Discarding inconsistent plan cache entry {}.", fingerprint.getKey());
+                this.entries.remove(fingerprint.getKey());
+                return null;
+            }
+            presettledAlternatives.put(operatorAlternatives.get(i), alternatives.get(alternativeIndex));
+        }
+        return presettledAlternatives;
+    }
+
+    /**
+     * Notes that the cached choices for a {@link WayangPlan} have been reused successfully.
+     *
+     * @param fingerprint       of the {@link WayangPlan}
+     * @param enumerationMillis the time it took to enumerate the presettled {@link WayangPlan}
+     */
+    public synchronized void noteHit(Fingerprint fingerprint, long enumerationMillis) {
+        this.numHits++;
+        final Entry entry = this.entries.get(fingerprint.getKey());
+        if (entry != null) {
+            this.savedMillis += Math.max(0, entry.enumerationMillis - enumerationMillis);
+        }
+        logger.info("Reused cached plan {} ({}).", fingerprint.getKey(), this.getStatistics());
+    }
+
+    /**
+     * Cache the choices of a {@link PlanImplementation}, which has been enumerated without this instance.
+     *
+     * @param fingerprint        of the enumerated {@link WayangPlan}
+     * @param planImplementation the picked {@link PlanImplementation}
+     * @param enumerationMillis  the time it took to enumerate the {@link WayangPlan}
+     */
+    public synchronized void put(Fingerprint fingerprint, PlanImplementation planImplementation, long enumerationMillis) {
+        this.numMisses++;
+        final List<OperatorAlternative> operatorAlternatives = fingerprint.getOperatorAlternatives();
+        final int[] alternativeIndices = new int[operatorAlternatives.size()];
+        for (int i = 0; i < alternativeIndices.length; i++) {
+            final OperatorAlternative operatorAlternative = operatorAlternatives.get(i);
+            final OperatorAlternative.Alternative alternative = findChosenAlternative(planImplementation, operatorAlternative);
+            alternativeIndices[i] = alternative == null ?
+                    NO_CHOICE :
+                    operatorAlternative.getAlternatives().indexOf(alternative);
+        }
+        final Entry entry = new Entry(alternativeIndices, enumerationMillis);
+        this.entries.put(fingerprint.getKey(), entry);
+        logger.info("Cached plan {} ({}).", fingerprint.getKey(), this.getStatistics());
+        if (this.file != null) {
+            if (this.numFileLines >= 2 * this.capacity) {
+                this.save();
+            } else {
+                this.append(fingerprint.getKey(), entry);
+            }
+        }
+    }
+
+    /**
+     * Find the {@link OperatorAlternative.Alternative} chosen by a {@link PlanImplementation} or any of its
+     * {@link LoopImplementation}s.
+     */
+    private static OperatorAlternative.Alternative findChosenAlternative(PlanImplementation planImplementation,
+                                                                         OperatorAlternative operatorAlternative) {
+        final OperatorAlternative.Alternative alternative = planImplementation.getChosenAlternative(operatorAlternative);
+        if (alternative != null) return alternative;
+        for (LoopImplementation loopImplementation : planImplementation.getLoopImplementations().values()) {
+            for (LoopImplementation.IterationImplementation iterationImplementation :
+                    loopImplementation.getIterationImplementations()) {
+                final OperatorAlternative.Alternative bodyAlternative =
+                        findChosenAlternative(iterationImplementation.getBodyImplementation(), operatorAlternative);
+                if (bodyAlternative != null) return bodyAlternative;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Load the {@link #entries} from the {@link #file}. Malformed lines are skipped and later lines override
+     * earlier ones with the same key.
+     */
+    private void load() {
+        try (BufferedReader reader = Files.newBufferedReader(this.file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                this.numFileLines++;
+                final String[] fields = line.split("\t", -1);
+                if (fields.length != 3) {
+                    logger.warn("Skipping malformed plan cache line \"{}\".", line);
+                    continue;
+                }
+                try {
+                    final int[] alternativeIndices = fields[2].isEmpty() ?
+                            new int[0] :
+                            Arrays.stream(fields[2].split(",")).mapToInt(Integer::parseInt).toArray();
+                    this.entries.put(fields[0], new Entry(alternativeIndices, Long.parseLong(fields[1])));
+                } catch (NumberFormatException e) {
+                    logger.warn("Skipping malformed plan cache line \"{}\".", line);
+                }
+            }
+            logger.info("Loaded {} cached plans from {}.", this.entries.size(), this.file);
+        } catch (IOException e) {
+            logger.error("Could not load the plan cache from {}.", this.file, e);
+        }
+    }
+
+    /**
+     * Append an {@link Entry} to the {@link #file}.
+     */
+    private void append(String key, Entry entry) {
+        try {
+            final Path absoluteFile = this.file.toAbsolutePath();
+            Files.createDirectories(absoluteFile.getParent());
+            try (BufferedWriter writer = Files.newBufferedWriter(absoluteFile, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                writeLine(writer, key, entry);
+            }
+            this.numFileLines++;
+        } catch (IOException e) {
+            logger.error("Could not save the plan cache to {}.", this.file, e);
+        }
+    }
+
+    /**
+     * Save the {@link #entries} to the {@link #file}, thereby dropping evicted and overridden entries. The file is
+     * replaced atomically, so that concurrent readers never see partial contents.
+     */
+    private void save() {
+        try {
+            final Path absoluteFile = this.file.toAbsolutePath();
+            Files.createDirectories(absoluteFile.getParent());
+            final Path tempFile = Files.createTempFile(absoluteFile.getParent(), absoluteFile.getFileName().toString(), ".tmp");
+            try (BufferedWriter writer = Files.newBufferedWriter(tempFile, StandardCharsets.UTF_8)) {
+                for (Map.Entry<String, Entry> entry : this.entries.entrySet()) {
+                    writeLine(writer, entry.getKey(), entry.getValue());
+                }
+            }
+            Files.move(tempFile, absoluteFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            this.numFileLines = this.entries.size();
+        } catch (IOException e) {
+            logger.error("Could not save the plan cache to {}.", this.file, e);
+        }
+    }
+
+    private static void writeLine(BufferedWriter writer, String key, Entry entry) throws IOException {
+        writer.write(key);
+        writer.write('\t');
+        writer.write(Long.toString(entry.enumerationMillis));
+        writer.write('\t');
+        writer.write(Arrays.stream(entry.alternativeIndices)
+                .mapToObj(Integer::toString)
+                .collect(Collectors.joining(",")));
+        writer.newLine();
+    }
+
+    public synchronized int size() {
+        return this.entries.size();
+    }
+
+    public synchronized long getNumHits() {
+        return this.numHits;
+    }
+
+    public synchronized long getNumMisses() {
+        return this.numMisses;
+    }
+
+    /**
+     * @return the ratio of {@link #noteHit(Fingerprint, long) hits} among all lookups that led to a plan
+     */
+    public synchronized double getHitRate() {
+        final long numLookups = this.numHits + this.numMisses;
+        return numLookups == 0 ? 0d : this.numHits / (double) numLookups;
+    }
+
+    /**
+     * @return the estimated time in milliseconds that cache hits saved in the plan enumeration
+     */
+    public synchronized long getSavedMillis() {
+        return this.savedMillis;
+    }
+
+    private String getStatistics() {
+        return String.format("%d hits, %d misses, hit rate %.2f, saved %d ms",
+                this.numHits, this.numMisses, this.getHitRate(), this.savedMillis);
+    }
+
+    /**
+     * Identifies a {@link WayangPlan} and orders its {@link OperatorAlternative}s canonically.
+     */
+    public static class Fingerprint {
+
+        private final String key;
+
+        private final List<OperatorAlternative> operatorAlternatives;
+
+        private Fingerprint(String key, List<OperatorAlternative> operatorAlternatives) {
+            this.key = key;
+            this.operatorAlternatives = operatorAlternatives;
+        }
+
+        /**
+         * @return a digest that is equal for {@link WayangPlan}s that can be optimized in the same way
+         */
+        public String getKey() {
+            return this.key;
+        }
+
+        /**
+         * @return the {@link OperatorAlternative}s of the {@link WayangPlan} in a canonical order
+         */
+        public List<OperatorAlternative> getOperatorAlternatives() {
+            return this.operatorAlternatives;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s[%s]", this.getClass().getSimpleName(), this.key);
+        }
+    }
+
+    /**
+     * A cached plan.
+     */
+    private static class Entry {
+
+        /**
+         * Index of the chosen {@link OperatorAlternative.Alternative} for each {@link OperatorAlternative}
+         * in the order of {@link Fingerprint#getOperatorAlternatives()} or {@link #NO_CHOICE}.
+         */
+        private final int[] alternativeIndices;
+
+        /**
+         * The time it took to enumerate the plan without this instance.
+         */
+        private final long enumerationMillis;
+
+        private Entry(int[] alternativeIndices, long enumerationMillis) {
+            this.alternativeIndices = alternativeIndices;
+            this.enumerationMillis = enumerationMillis;
+        }
+    }
+
+    /**
+     * Describes a {@link WayangPlan} by traversing it upstream from its sinks, visiting the {@link InputSlot}s of
+     * each {@link Operator} in order and descending into {@link CompositeOperator}s.
+     */
+    private static class Canonicalizer {
+
+        private final OptimizationContext optimizationContext;
+
+        private final StringBuilder description = new StringBuilder();
+
+        private final Map<Operator, Integer> operatorIds = new IdentityHashMap<>();
+
+        private final List<OperatorAlternative> operatorAlternatives = new ArrayList<>();
+
+        private Canonicalizer(OptimizationContext optimizationContext) {
+            this.optimizationContext = optimizationContext;
+        }
+
+        private void describe(Operator operator) {
+            final Integer operatorId = this.operatorIds.get(operator);
+            if (operatorId != null) {
+                // Already described (or being described, in the case of loops).
+                this.description.append('#').append(operatorId);
+                return;
+            }
+            this.operatorIds.put(operator, this.operatorIds.size());
+
+            this.description.append('(');
+            for (InputSlot<?> input : operator.getAllInputs()) {
+                final OutputSlot<?> occupant = input.getOccupant();
+                if (occupant == null) {
+                    this.description.append('-');
+                } else {
+                    this.describe(occupant.getOwner());
+                    this.description.append('.').append(occupant.getIndex());
+                }
+                this.description.append(',');
+            }
+            this.description.append(')').append(operator.getClass().getName());
+            this.describeUdfs(operator);
+            if (operator.getNumInputs() == 0) {
+                this.describeCardinality(operator);
+            }
+
+            if (operator.isAlternative()) {
+                final OperatorAlternative operatorAlternative = (OperatorAlternative) operator;
+                this.operatorAlternatives.add(operatorAlternative);
+                for (OperatorAlternative.Alternative alternative : operatorAlternative.getAlternatives()) {
+                    this.describeContainer(alternative);
+                }
+            } else if (operator instanceof CompositeOperator) {
+                for (OperatorContainer container : ((CompositeOperator) operator).getContainers()) {
+                    this.describeContainer(container);
+                }
+            }
+        }
+
+        private void describeContainer(OperatorContainer container) {
+            this.description.append('{');
+            final CompositeOperator compositeOperator = container.toOperator();
+            if (compositeOperator.isSink()) {
+                this.describe(container.getSink());
+            } else {
+                for (OutputSlot<?> output : compositeOperator.getAllOutputs()) {
+                    final OutputSlot<?> innerOutput = container.traceOutput(output);
+                    if (innerOutput != null) {
+                        this.describe(innerOutput.getOwner());
+                        this.description.append('.').append(innerOutput.getIndex());
+                    }
+                    this.description.append(',');
+                }
+            }
+            this.description.append('}');
+        }
+
+        /**
+         * Describe the {@link FunctionDescriptor}s of an {@link Operator} by the implementations of their UDFs.
+         */
+        private void describeUdfs(Operator operator) {
+            for (Class<?> cls = operator.getClass(); cls != null && cls != Object.class; cls = cls.getSuperclass()) {
+                for (Field field : cls.getDeclaredFields()) {
+                    if (Modifier.isStatic(field.getModifiers())
+                            || !FunctionDescriptor.class.isAssignableFrom(field.getType())) {
+                        continue;
+                    }
+                    final Object functionDescriptor = readField(field, operator);
+                    if (functionDescriptor == null) continue;
+                    this.description.append('<').append(functionDescriptor.getClass().getName());
+                    this.describeUdf(functionDescriptor);
+                    this.description.append('>');
+                }
+            }
+        }
+
+        private void describeUdf(Object functionDescriptor) {
+            for (Class<?> cls = functionDescriptor.getClass();
+                 cls != null && cls != FunctionDescriptor.class;
+                 cls = cls.getSuperclass()) {
+                for (Field field : cls.getDeclaredFields()) {
+                    if (Modifier.isStatic(field.getModifiers())) continue;
+                    if (field.getType() == String.class) {
+                        this.description.append(',').append(readField(field, functionDescriptor));
+                    } else if (field.getType().isInterface()) {
+                        final Object implementation = readField(field, functionDescriptor);
+                        if (implementation != null) {
+                            this.description.append(',').append(identifyImplementation(implementation));
+                        }
+                    }
+                }
+            }
+        }
+
+        /**
+         * Describe the cardinality of a source {@link Operator} by its order of magnitude, so that plans over
+         * similarly sized inputs share cache entries.
+         */
+        private void describeCardinality(Operator operator) {
+            if (this.optimizationContext == null || operator.getNumOutputs() == 0) return;
+            final OptimizationContext.OperatorContext operatorContext = this.optimizationContext.getOperatorContext(operator);
+            if (operatorContext == null) return;
+            final CardinalityEstimate cardinality = operatorContext.getOutputCardinality(0);
+            if (cardinality == null) return;
+            this.description.append("~2^")
+                    .append(64 - Long.numberOfLeadingZeros(Math.max(0, cardinality.getGeometricMeanEstimate())));
+        }
+
+        private static Object readField(Field field, Object object) {
+            try {
+                field.setAccessible(true);
+                return field.get(object);
+            } catch (ReflectiveOperationException | RuntimeException e) {
+                return null;
+            }
+        }
+
+        /**
+         * Identify the implementation of a UDF. Serializable lambdas are identified by their implementation
+         * method, which is stable across JVMs. Other lambdas are identified by their declaring class only, which
+         * can merge distinct UDFs; as all {@link OperatorAlternative.Alternative}s are equivalent, this might
+         * only degrade the quality of the reused plan.
+         */
+        private static String identifyImplementation(Object implementation) {
+            final Class<?> cls = implementation.getClass();
+            if (cls.isSynthetic()) {
+                try {
+                    final Method writeReplace = cls.getDeclaredMethod("writeReplace");
+                    writeReplace.setAccessible(true);
+                    final Object replacement = writeReplace.invoke(implementation);
+                    if (replacement instanceof SerializedLambda) {
+                        final SerializedLambda serializedLambda = (SerializedLambda) replacement;
+                        return serializedLambda.getImplClass() + "::" + serializedLambda.getImplMethodName();
+                    }
+                } catch (ReflectiveOperationException | RuntimeException e) {
+                    // Fall through.
+                }
+            }
+            // Strip the volatile parts of the names of lambda classes, e.g., "Foo$$Lambda$14/0x0000000800c03000".
+            return cls.getName().replaceAll("\\$\\$Lambda.*$", "\\$\\$Lambda");
+        }
+    }
+
+}
@@ -21,6 +21,7 @@ package org.apache.wayang.core.optimizer.enumeration;
 
 import org.apache.wayang.commons.util.profiledb.model.measurement.TimeMeasurement;
 import org.apache.wayang.core.api.Job;
+import org.apache.wayang.core.monitor.tracing.Span;
 import org.apache.wayang.core.optimizer.OptimizationContext;
 import org.apache.wayang.core.optimizer.channels.ChannelConversionGraph;
 import org.apache.wayang.core.plan.executionplan.Channel;
@@ -47,6 +48,9 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
@@ -201,6 +205,47 @@ public class PlanEnumeration {
                                        Map<InputSlot<?>, PlanEnumeration> targetEnumerations,
                                        OptimizationContext optimizationContext,
                                        TimeMeasurement enumerationMeasurement) {
+        return this.concatenate(
+                openOutputSlot, openChannels, targetEnumerations, optimizationContext, enumerationMeasurement, null
+        );
+    }
+
+    /**
+     * Concatenates the {@code baseEnumeration} via its {@code openOutputSlot} to the {@code targetEnumerations}.
+     * All {@link PlanEnumeration}s should be distinct.
+     *
+     * @param concatenationPool if not {@code null}, the {@link Junction}s for the different concatenation groups
+     *                          are searched concurrently on this {@link ForkJoinPool}; the result is the same as
+     *                          for the sequential concatenation
+     */
+    public PlanEnumeration concatenate(OutputSlot<?> openOutputSlot,
+                                       Collection<Channel> openChannels,
+                                       Map<InputSlot<?>, PlanEnumeration> targetEnumerations,
+                                       OptimizationContext optimizationContext,
+                                       TimeMeasurement enumerationMeasurement,
+                                       ForkJoinPool concatenationPool) {
+        return this.concatenate(
+                openOutputSlot, openChannels, targetEnumerations, optimizationContext, enumerationMeasurement,
+                concatenationPool, null
+        );
+    }
+
+    /**
+     * Concatenates the {@code baseEnumeration} via its {@code openOutputSlot} to the {@code targetEnumerations}.
+     * All {@link PlanEnumeration}s should be distinct.
+     *
+     * @param concatenationPool if not {@code null}, the {@link Junction}s for the different concatenation groups
+     *                          are searched concurrently on this {@link ForkJoinPool}; the result is the same as
+     *                          for the sequential concatenation
+     * @param enumerationSpan   the {@link Span} of the enclosing enumeration or {@code null}
+     */
+    public PlanEnumeration concatenate(OutputSlot<?> openOutputSlot,
+                                       Collection<Channel> openChannels,
+                                       Map<InputSlot<?>, PlanEnumeration> targetEnumerations,
+                                       OptimizationContext optimizationContext,
+                                       TimeMeasurement enumerationMeasurement,
+                                       ForkJoinPool concatenationPool,
+                                       Span enumerationSpan) {
 
         // Check the parameters' validity.
         assert this.getServingOutputSlots().stream()
@@ -253,7 +298,9 @@ public class PlanEnumeration {
                 targetEnumerations,
                 optimizationContext,
                 result,
-                concatenationMeasurement
+                concatenationMeasurement,
+                concatenationPool,
+                enumerationSpan
         ));
 
         logger.debug("Created {} plan implementations.", result.getPlanImplementations().size());
@@ -271,7 +318,9 @@ public class PlanEnumeration {
                                                                    Map<InputSlot<?>, PlanEnumeration> targetEnumerations,
                                                                    OptimizationContext optimizationContext,
                                                                    PlanEnumeration concatenationEnumeration,
-                                                                   TimeMeasurement concatenationMeasurement) {
+                                                                   TimeMeasurement concatenationMeasurement,
+                                                                   ForkJoinPool concatenationPool,
+                                                                   Span enumerationSpan) {
         final Job job = optimizationContext.getJob();
         final OptimizationContext.OperatorContext operatorContext = optimizationContext.getOperatorContext(openOutputSlot.getOwner());
         boolean isRequestBreakpoint = job.isRequestBreakpointFor(openOutputSlot, operatorContext);
@@ -282,7 +331,9 @@ public class PlanEnumeration {
                 optimizationContext,
                 isRequestBreakpoint,
                 concatenationEnumeration,
-                concatenationMeasurement
+                concatenationMeasurement,
+                concatenationPool,
+                enumerationSpan
         );
     }
 
@@ -297,6 +348,8 @@ public class PlanEnumeration {
      * @param concatenationEnumeration to which the {@link PlanImplementation}s should be added
      * @param concatenationMeasurement
      * @param isRequestBreakpoint      whether a breakpoint-capable {@link Channel} should be inserted
+     * @param concatenationPool        to process the concatenation groups concurrently or {@code null}
+     * @param enumerationSpan          the {@link Span} of the enclosing enumeration or {@code null}
      * @return the concatenated {@link PlanImplementation}s
      */
     private Collection<PlanImplementation> concatenatePartialPlansBatchwise(
@@ -306,10 +359,9 @@ public class PlanEnumeration {
             OptimizationContext optimizationContext,
             boolean isRequestBreakpoint,
             PlanEnumeration concatenationEnumeration,
-            TimeMeasurement concatenationMeasurement) {
-
-        // Preparatory initializations.
-        final ChannelConversionGraph channelConversionGraph = optimizationContext.getChannelConversionGraph();
+            TimeMeasurement concatenationMeasurement,
+            ForkJoinPool concatenationPool,
+            Span enumerationSpan) {
 
         // Allocate result collector.
         Collection<PlanImplementation> result = new LinkedList<>();
@@ -371,47 +423,98 @@ public class PlanEnumeration {
         for (PlanEnumeration enumeration : orderedEnumerations) {
             orderedConcatGroups.add(enum2concatGroup.get(enumeration));
         }
-        for (List<PlanImplementation.ConcatenationGroupDescriptor> concatGroupCombo : WayangCollections.streamedCrossProduct(orderedConcatGroups)) {
-            // Determine the execution output along with its OptimizationContext.
-            PlanImplementation.ConcatenationGroupDescriptor baseConcatGroup = concatGroupCombo.get(0);
-            final OutputSlot<?> execOutput = baseConcatGroup.execOutput;
-            Set<PlanImplementation.ConcatenationDescriptor> baseConcatDescriptors = concatGroup2concatDescriptor.get(baseConcatGroup);
-            final PlanImplementation innerPlanImplementation = WayangCollections.getAny(baseConcatDescriptors).execOutputPlanImplementation;
-            // The output should reside in the same OptimizationContext in all PlanImplementations.
-            assert baseConcatDescriptors.stream()
-                    .map(cd -> cd.execOutputPlanImplementation)
-                    .map(PlanImplementation::getOptimizationContext)
-                    .collect(Collectors.toSet()).size() == 1;
-
-            // Determine the execution OutputSlots.
-            List<InputSlot<?>> execInputs = new ArrayList<>(inputs.size());
-            for (PlanImplementation.ConcatenationGroupDescriptor concatGroup : concatGroupCombo) {
-                for (Set<InputSlot<?>> execInputSet : concatGroup.execInputs) {
-                    if (execInputSet != null) execInputs.addAll(execInputSet);
-                }
+        final Iterable<List<PlanImplementation.ConcatenationGroupDescriptor>> concatGroupCombos =
+                WayangCollections.streamedCrossProduct(orderedConcatGroups);
+        if (concatenationPool == null) {
+            for (List<PlanImplementation.ConcatenationGroupDescriptor> concatGroupCombo : concatGroupCombos) {
+                result.addAll(this.concatenateGroupCombo(
+                        concatGroupCombo, concatGroup2concatDescriptor, openChannels, inputs.size(), optimizationContext,
+                        isRequestBreakpoint, concatenationEnumeration, concatenationMeasurement, enumerationSpan
+                ));
             }
+        } else {
+            // The TimeMeasurement is not thread-safe, so we do not measure the individual combinations here.
+            final List<List<PlanImplementation.ConcatenationGroupDescriptor>> concatGroupComboList = new ArrayList<>();
+            concatGroupCombos.forEach(concatGroupComboList::add);
+            final List<Collection<PlanImplementation>> comboResults = mapInParallel(
+                    concatenationPool,
+                    concatGroupComboList,
+                    concatGroupCombo -> this.concatenateGroupCombo(
+                            concatGroupCombo, concatGroup2concatDescriptor, openChannels, inputs.size(), optimizationContext,
+                            isRequestBreakpoint, concatenationEnumeration, null, enumerationSpan
+                    )
+            );
+            comboResults.forEach(result::addAll);
+        }
+
+        return result;
+    }
+
+    /**
+     * Concatenates the {@link PlanImplementation}s of a single combination of concatenation groups, which all
+     * share the same {@link Junction}.
+     *
+     * @param concatGroupCombo             the concatenation groups; the first one belongs to this instance
+     * @param concatGroup2concatDescriptor provides the {@link PlanImplementation}s of each concatenation group
+     * @param numInputs                    the number of concatenated {@link InputSlot}s
+     * @param enumerationSpan              the {@link Span} of the enclosing enumeration or {@code null}
+     * @return the concatenated {@link PlanImplementation}s
+     */
+    private Collection<PlanImplementation> concatenateGroupCombo(
+            List<PlanImplementation.ConcatenationGroupDescriptor> concatGroupCombo,
+            MultiMap<PlanImplementation.ConcatenationGroupDescriptor, PlanImplementation.ConcatenationDescriptor> concatGroup2concatDescriptor,
+            Collection<Channel> openChannels,
+            int numInputs,
+            OptimizationContext optimizationContext,
+            boolean isRequestBreakpoint,
+            PlanEnumeration concatenationEnumeration,
+            TimeMeasurement concatenationMeasurement,
+            Span enumerationSpan) {
 
-            // Construct a Junction between the ExecutionOperators.
-            final Operator outputOperator = execOutput.getOwner();
-            assert outputOperator.isExecutionOperator() : String.format("Expected execution operator, found %s.", outputOperator);
-            TimeMeasurement channelConversionMeasurement = concatenationMeasurement == null ?
-                    null : concatenationMeasurement.start("Channel Conversion");
-            final Junction junction = openChannels == null || openChannels.isEmpty() ?
-                    channelConversionGraph.findMinimumCostJunction(
-                            execOutput,
-                            execInputs,
-                            innerPlanImplementation.getOptimizationContext(),
-                            isRequestBreakpoint
-                    ) :
-                    channelConversionGraph.findMinimumCostJunction(
-                            execOutput,
-                            openChannels,
-                            execInputs,
-                            innerPlanImplementation.getOptimizationContext());
-            if (channelConversionMeasurement != null) channelConversionMeasurement.stop();
-            if (junction == null) continue;
-
-            // If we found a junction, then we can enumerate all PlanImplementation combinations.
+        final ChannelConversionGraph channelConversionGraph = optimizationContext.getChannelConversionGraph();
+
+        // Determine the execution output along with its OptimizationContext.
+        PlanImplementation.ConcatenationGroupDescriptor baseConcatGroup = concatGroupCombo.get(0);
+        final OutputSlot<?> execOutput = baseConcatGroup.execOutput;
+        Set<PlanImplementation.ConcatenationDescriptor> baseConcatDescriptors = concatGroup2concatDescriptor.get(baseConcatGroup);
+        final PlanImplementation innerPlanImplementation = WayangCollections.getAny(baseConcatDescriptors).execOutputPlanImplementation;
+        // The output should reside in the same OptimizationContext in all PlanImplementations.
+        assert baseConcatDescriptors.stream()
+                .map(cd -> cd.execOutputPlanImplementation)
+                .map(PlanImplementation::getOptimizationContext)
+                .collect(Collectors.toSet()).size() == 1;
+
+        // Determine the execution OutputSlots.
+        List<InputSlot<?>> execInputs = new ArrayList<>(numInputs);
+        for (PlanImplementation.ConcatenationGroupDescriptor concatGroup : concatGroupCombo) {
+            for (Set<InputSlot<?>> execInputSet : concatGroup.execInputs) {
+                if (execInputSet != null) execInputs.addAll(execInputSet);
+            }
+        }
+
+        // Construct a Junction between the ExecutionOperators.
+        final Operator outputOperator = execOutput.getOwner();
+        assert outputOperator.isExecutionOperator() : String.format("Expected execution operator, found %s.", outputOperator);
+        TimeMeasurement channelConversionMeasurement = concatenationMeasurement == null ?
+                null : concatenationMeasurement.start("Channel Conversion");
+        final Junction junction = openChannels == null || openChannels.isEmpty() ?
+                channelConversionGraph.findMinimumCostJunction(
+                        execOutput,
+                        execInputs,
+                        innerPlanImplementation.getOptimizationContext(),
+                        isRequestBreakpoint,
+                        enumerationSpan
+                ) :
+                channelConversionGraph.findMinimumCostJunction(
+                        execOutput,
+                        openChannels,
+                        execInputs,
+                        innerPlanImplementation.getOptimizationContext(),
+                        enumerationSpan);
+        if (channelConversionMeasurement != null) channelConversionMeasurement.stop();
+        if (junction == null) return Collections.emptyList();
+
+        // If we found a junction, then we can enumerate all PlanImplementation combinations.
         final List<List<PlanImplementation>> groupPlans = WayangCollections.map(
                 concatGroupCombo,
                 concatGroup -> {
@@ -422,17 +525,36 @@ public class PlanEnumeration {
                             .collect(Collectors.toList());
                 });
 
-            for (List<PlanImplementation> planCombo : WayangCollections.streamedCrossProduct(groupPlans)) {
-                PlanImplementation basePlan = planCombo.get(0);
-                List<PlanImplementation> targetPlans = planCombo.subList(0, planCombo.size());
-                PlanImplementation concatenatedPlan = basePlan.concatenate(targetPlans, junction, basePlan, concatenationEnumeration);
-                if (concatenatedPlan != null) {
-                    result.add(concatenatedPlan);
-                }
+        Collection<PlanImplementation> concatenatedPlans = new LinkedList<>();
+        for (List<PlanImplementation> planCombo : WayangCollections.streamedCrossProduct(groupPlans)) {
+            PlanImplementation basePlan = planCombo.get(0);
+            List<PlanImplementation> targetPlans = planCombo.subList(0, planCombo.size());
+            PlanImplementation concatenatedPlan = basePlan.concatenate(targetPlans, junction, basePlan, concatenationEnumeration);
+            if (concatenatedPlan != null) {
+                concatenatedPlans.add(concatenatedPlan);
             }
         }
 
-        return result;
+        return concatenatedPlans;
+    }
+
+    /**
+     * Applies a {@link Function} to all elements of a {@link List} on the given {@link ForkJoinPool}.
+     *
+     * @param pool     on which the {@code function} should be applied or {@code null} to apply it on the calling thread
+     * @param elements to which the {@code function} should be applied
+     * @param function should be applied
+     * @return the results of the {@code function} in the order of the {@code elements}
+     */
+    static <T, R> List<R> mapInParallel(ForkJoinPool pool, List<T> elements, Function<? super T, R> function) {
+        if (pool == null || elements.size() < 2) {
+            return elements.stream().map(function).collect(Collectors.toList());
+        }
+        // Parallel streams run on the ForkJoinPool of the task that they are started from.
+        if (ForkJoinTask.getPool() == pool) {
+            return elements.parallelStream().map(function).collect(Collectors.toList());
+        }
+        return pool.submit(() -> elements.parallelStream().map(function).collect(Collectors.toList())).join();
     }
 
     /**
@@ -21,6 +21,7 @@ package org.apache.wayang.core.optimizer.enumeration;
 import org.apache.wayang.commons.util.profiledb.model.measurement.TimeMeasurement;
 import org.apache.wayang.core.api.Configuration;
 import org.apache.wayang.core.api.exception.WayangException;
+import org.apache.wayang.core.monitor.tracing.Span;
 import org.apache.wayang.core.optimizer.OptimizationContext;
 import org.apache.wayang.core.optimizer.OptimizationUtils;
 import org.apache.wayang.core.plan.executionplan.Channel;
@@ -42,6 +43,7 @@ import org.apache.wayang.core.util.Tuple;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -55,6 +57,8 @@ import java.util.Objects;
 import java.util.PriorityQueue;
 import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.ToDoubleFunction;
 import java.util.stream.Collectors;
@@ -63,6 +67,10 @@ import java.util.stream.Stream;
 /**
  * The plan partitioner recursively dissects a {@link WayangPlan} into {@link PlanEnumeration}s and then assembles
  * them.
+ * <p>If {@code wayang.core.optimizer.enumeration.parallel-enumeration} is enabled, the branches that are activated at
+ * the same time, the {@link OperatorAlternative.Alternative}s of an {@link OperatorAlternative}, and the
+ * junctions of a concatenation are enumerated on a {@link ForkJoinPool}. All intermediate results are merged
+ * in the same order as in the sequential enumeration, so that both modes yield the same {@link PlanEnumeration}.</p>
  */
 public class PlanEnumerator {
 
@@ -142,11 +150,21 @@ public class PlanEnumerator {
      */
     private TimeMeasurement timeMeasurement;
 
+    /**
+     * {@link Span} of the enclosing enumeration or {@code null}.
+     */
+    private Span traceSpan;
+
     /**
      * Tells whether branches should be enumerated first.
      */
     private boolean isEnumeratingBranchesFirst;
 
+    /**
+     * Runs independent enumeration steps concurrently or is {@code null} if the enumeration is sequential.
+     */
+    private ForkJoinPool enumerationPool;
+
     /**
      * Creates a new instance.
      *
@@ -159,7 +177,28 @@ public class PlanEnumerator {
                 null,
                 Collections.emptyMap(),
                 Collections.emptyMap(),
-                Collections.emptyMap());
+                Collections.emptyMap(),
+                null);
+    }
+
+    /**
+     * Creates a new instance that enumerates only the given choices for some {@link OperatorAlternative}s.
+     *
+     * @param wayangPlan             a hyperplan that should be used for enumeration.
+     * @param presettledAlternatives the {@link OperatorAlternative.Alternative}s to pick for their
+     *                               {@link OperatorAlternative}s
+     * @see PlanCache
+     */
+    public PlanEnumerator(WayangPlan wayangPlan,
+                          OptimizationContext optimizationContext,
+                          Map<OperatorAlternative, OperatorAlternative.Alternative> presettledAlternatives) {
+        this(wayangPlan.collectReachableTopLevelSources(),
+                optimizationContext,
+                null,
+                presettledAlternatives,
+                Collections.emptyMap(),
+                Collections.emptyMap(),
+                null);
     }
 
     /**
@@ -178,7 +217,8 @@ public class PlanEnumerator {
                 null,
                 new HashMap<>(),
                 new HashMap<>(),
-                new HashMap<>());
+                new HashMap<>(),
+                null);
 
         // Register all the tasks that have been executed already.
         final Set<ExecutionTask> executedTasks = baseplan.collectAllTasks();
@@ -214,13 +254,15 @@ public class PlanEnumerator {
                            OperatorAlternative.Alternative enumeratedAlternative,
                            Map<OperatorAlternative, OperatorAlternative.Alternative> presettledAlternatives,
                            Map<ExecutionOperator, ExecutionTask> executedTasks,
-                           Map<OutputSlot<?>, Collection<Channel>> openChannels) {
+                           Map<OutputSlot<?>, Collection<Channel>> openChannels,
+                           ForkJoinPool enumerationPool) {
 
         this.optimizationContext = optimizationContext;
         this.enumeratedAlternative = enumeratedAlternative;
         this.presettledAlternatives = presettledAlternatives;
         this.executedTasks = executedTasks;
         this.openChannels = openChannels;
+        this.enumerationPool = enumerationPool;
 
 
         // Set up start Operators.
@@ -323,29 +365,92 @@ public class PlanEnumerator {
      */
     private synchronized void run() {
         if (this.resultReference == null) {
-            while (!this.activatedEnumerations.isEmpty()) {
-                // Try to enumerate branches.
-                EnumerationActivator enumerationActivator;
-                if ((enumerationActivator = this.activatedEnumerations.poll()) != null) {
-                    if (this.isTopLevel()) {
-                        this.logger.debug("Execute {}.", enumerationActivator);
-                    }
-                    this.enumerateBranchStartingFrom(enumerationActivator);
+            final boolean isOwningEnumerationPool = this.enumerationPool == null && this.isTopLevel() &&
+                    this.getConfiguration().getBooleanProperty(
+                            "wayang.core.optimizer.enumeration.parallel-enumeration", false
+                    );
+            if (isOwningEnumerationPool) {
+                this.enumerationPool = createEnumerationPool(this.getConfiguration());
+            }
+            try {
+                this.runEnumeration();
+            } finally {
+                if (isOwningEnumerationPool) {
+                    this.enumerationPool.shutdown();
+                    this.enumerationPool = null;
                 }
             }
+        }
+    }
+
+    /**
+     * Create a {@link ForkJoinPool} with {@code wayang.core.optimizer.enumeration.parallel-enumeration.threads}
+     * threads (or the number of available processors if not positive).
+     */
+    private static ForkJoinPool createEnumerationPool(Configuration configuration) {
+        long numThreads = configuration.getLongProperty(
+                "wayang.core.optimizer.enumeration.parallel-enumeration.threads", 0L
+        );
+        if (numThreads <= 0) numThreads = Runtime.getRuntime().availableProcessors();
+        return new ForkJoinPool((int) numThreads);
+    }
+
+    /**
+     * Enumerate all activated branches and then all activated concatenations.
+     */
+    private void runEnumeration() {
+        while (!this.activatedEnumerations.isEmpty()) {
+            if (this.enumerationPool != null) {
+                this.enumerateActivatedBranches();
+                continue;
+            }
 
-            ConcatenationActivator concatenationActivator;
-            while ((concatenationActivator = this.activatedConcatenations.poll()) != null) {
+            // Try to enumerate branches.
+            EnumerationActivator enumerationActivator;
+            if ((enumerationActivator = this.activatedEnumerations.poll()) != null) {
                 if (this.isTopLevel()) {
-                    this.logger.debug("Execute {} (open inputs: {}).",
-                            concatenationActivator,
-                            concatenationActivator.getBaseEnumeration().getRequestedInputSlots()
-                    );
+                    this.logger.debug("Execute {}.", enumerationActivator);
                 }
-                this.concatenate(concatenationActivator);
+                this.enumerateBranchStartingFrom(enumerationActivator);
+            }
+        }
+
+        // NB: The concatenations are processed sequentially, because their order, as given by the
+        // concatenationPriorityFunction, affects the pruning. Each concatenation is parallelized internally, though.
+        ConcatenationActivator concatenationActivator;
+        while ((concatenationActivator = this.activatedConcatenations.poll()) != null) {
+            if (this.isTopLevel()) {
+                this.logger.debug("Execute {} (open inputs: {}).",
+                        concatenationActivator,
+                        concatenationActivator.getBaseEnumeration().getRequestedInputSlots()
+                );
             }
+            this.concatenate(concatenationActivator);
+        }
+
+        this.constructResultEnumeration();
+    }
 
-            this.constructResultEnumeration();
+    /**
+     * Enumerate all currently activated branches concurrently. The resulting {@link PlanEnumeration}s are
+     * post-processed in the order of activation, so that the following activations are the same as for the
+     * sequential enumeration.
+     */
+    private void enumerateActivatedBranches() {
+        final List<EnumerationActivator> enumerationActivators = new ArrayList<>(this.activatedEnumerations);
+        this.activatedEnumerations.clear();
+        if (this.isTopLevel()) {
+            this.logger.debug("Execute {}.", enumerationActivators);
+        }
+
+        final List<PlanEnumeration> branchEnumerations = PlanEnumeration.mapInParallel(
+                this.enumerationPool, enumerationActivators, this::enumerateBranchOf
+        );
+        for (int i = 0; i < enumerationActivators.size(); i++) {
+            final PlanEnumeration branchEnumeration = branchEnumerations.get(i);
+            if (branchEnumeration != null) {
+                this.postProcess(branchEnumeration, enumerationActivators.get(i).getOptimizationContext());
+            }
         }
     }
 
@@ -361,6 +466,23 @@ public class PlanEnumerator {
      * @param enumerationActivator the activated {@link EnumerationActivator}
      */
     private void enumerateBranchStartingFrom(EnumerationActivator enumerationActivator) {
+        PlanEnumeration branchEnumeration = this.enumerateBranchOf(enumerationActivator);
+        if (branchEnumeration == null) {
+            return;
+        }
+
+        this.postProcess(branchEnumeration, enumerationActivator.getOptimizationContext());
+    }
+
+    /**
+     * Create a {@link PlanEnumeration} for the branch that starts at the {@link Operator} of the given
+     * {@link EnumerationActivator} without sending any activations. Branches of different
+     * {@link EnumerationActivator}s can be enumerated concurrently.
+     *
+     * @param enumerationActivator the activated {@link EnumerationActivator}
+     * @return the {@link PlanEnumeration} or {@code null} if the branch cannot be enumerated
+     */
+    private PlanEnumeration enumerateBranchOf(EnumerationActivator enumerationActivator) {
         assert !enumerationActivator.wasExecuted();
         enumerationActivator.markAsExecuted();
 
@@ -368,7 +490,7 @@ public class PlanEnumerator {
         Operator currentOperator = enumerationActivator.activatableOperator;
         List<Operator> branch = this.collectBranchOperatorsStartingFrom(currentOperator);
         if (branch == null) {
-            return;
+            return null;
         }
         if (this.isTopLevel()) {
             this.logger.debug("Enumerating top-level {}.", branch);
@@ -376,12 +498,7 @@ public class PlanEnumerator {
 
         // Go over the branch and create a PlanEnumeration for it.
         final OptimizationContext currentOptimizationCtx = enumerationActivator.getOptimizationContext();
-        PlanEnumeration branchEnumeration = this.enumerateBranch(branch, currentOptimizationCtx);
-        if (branchEnumeration == null) {
-            return;
-        }
-
-        this.postProcess(branchEnumeration, currentOptimizationCtx);
+        return this.enumerateBranch(branch, currentOptimizationCtx);
     }
 
     /**
@@ -503,7 +620,9 @@ public class PlanEnumerator {
                         this.openChannels.get(output),
                         Collections.singletonMap(operator.getInput(0), operatorEnumeration),
                         optimizationContext,
-                        this.timeMeasurement);
+                        this.getTimeMeasurement(),
+                        this.enumerationPool,
+                        this.traceSpan);
 
                 if (branchEnumeration.getPlanImplementations().isEmpty()) {
                     if (this.isTopLevel()) {
@@ -534,14 +653,18 @@ public class PlanEnumerator {
                 this.presettledAlternatives == null || !this.presettledAlternatives.containsKey(operatorAlternative) ?
                         operatorAlternative.getAlternatives() :
                         Collections.singletonList(this.presettledAlternatives.get(operatorAlternative));
-        for (OperatorAlternative.Alternative alternative : alternatives) {
 
-            // Recursively enumerate all alternatives.
-            final PlanEnumerator alternativeEnumerator = this.forkFor(alternative, optimizationContext);
-            final PlanEnumeration alternativeEnumeration = alternativeEnumerator.enumerate(false);
+        // Recursively enumerate all alternatives.
+        final List<PlanEnumeration> alternativeEnumerations = PlanEnumeration.mapInParallel(
+                this.enumerationPool,
+                alternatives,
+                alternative -> this.forkFor(alternative, optimizationContext).enumerate(false)
+        );
 
+        for (int i = 0; i < alternatives.size(); i++) {
+            final PlanEnumeration alternativeEnumeration = alternativeEnumerations.get(i);
             if (alternativeEnumeration != null) {
-                final PlanEnumeration escapedEnumeration = alternativeEnumeration.escape(alternative);
+                final PlanEnumeration escapedEnumeration = alternativeEnumeration.escape(alternatives.get(i));
                 if (result == null) result = escapedEnumeration;
                 else result.unionInPlace(escapedEnumeration);
             }
@@ -562,8 +685,10 @@ public class PlanEnumerator {
                 alternative,
                 this.presettledAlternatives,
                 this.executedTasks,
-                this.openChannels);
+                this.openChannels,
+                this.enumerationPool);
         fork.setTimeMeasurement(this.timeMeasurement);
+        fork.setTraceSpan(this.traceSpan);
         return fork;
     }
 
@@ -576,8 +701,10 @@ public class PlanEnumerator {
                 null,
                 this.presettledAlternatives,
                 this.executedTasks,
-                this.openChannels);
+                this.openChannels,
+                this.enumerationPool);
         fork.setTimeMeasurement(this.timeMeasurement);
+        fork.setTraceSpan(this.traceSpan);
         return fork;
     }
 
@@ -598,7 +725,9 @@ public class PlanEnumerator {
                 this.openChannels.get(concatenationActivator.outputSlot),
                 concatenationActivator.getAdjacentEnumerations(),
                 concatenationActivator.getOptimizationContext(),
-                this.timeMeasurement
+                this.getTimeMeasurement(),
+                this.enumerationPool,
+                this.traceSpan
         );
 
         if (concatenatedEnumeration.getPlanImplementations().isEmpty()) {
@@ -789,8 +918,9 @@ public class PlanEnumerator {
      * @param planEnumeration to which the pruning should be applied
      */
     private void prune(final PlanEnumeration planEnumeration) {
+        final TimeMeasurement timeMeasurement = this.getTimeMeasurement();
         TimeMeasurement pruneMeasurement =
-                this.timeMeasurement == null ? null : this.timeMeasurement.start("Prune");
+                timeMeasurement == null ? null : timeMeasurement.start("Prune");
 
 
         if (this.logger.isDebugEnabled()) {
@@ -1115,4 +1245,33 @@ public class PlanEnumerator {
     public void setTimeMeasurement(TimeMeasurement timeMeasurement) {
         this.timeMeasurement = timeMeasurement;
     }
+
+    /**
+     * Provide the {@link Span} of the enclosing enumeration, which should enclose the {@link Span}s of this instance.
+     *
+     * @param traceSpan the {@link Span} or {@code null}
+     */
+    public void setTraceSpan(Span traceSpan) {
+        this.traceSpan = traceSpan;
+    }
+
+    /**
+     * @return the {@link Span} of the enclosing enumeration or {@code null}
+     */
+    Span getTraceSpan() {
+        return this.traceSpan;
+    }
+
+    /**
+     * Provide the {@link TimeMeasurement} unless we are running on the {@link #enumerationPool}, because the
+     * {@link TimeMeasurement} is not thread-safe.
+     *
+     * @return the {@link TimeMeasurement} or {@code null}
+     */
+    private TimeMeasurement getTimeMeasurement() {
+        if (this.enumerationPool != null && ForkJoinTask.getPool() == this.enumerationPool) {
+            return null;
+        }
+        return this.timeMeasurement;
+    }
 }
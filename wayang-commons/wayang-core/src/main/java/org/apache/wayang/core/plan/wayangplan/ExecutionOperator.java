@@ -245,6 +245,24 @@ public interface ExecutionOperator extends ElementaryOperator {
 
         final ExecutionLineageNode executionLineageNode = new ExecutionLineageNode(operatorContext);
         executionLineageNode.addAtomicExecutionFromOperatorContext();
+        return modelEagerExecution(inputs, outputs, executionLineageNode);
+    }
+
+    /**
+     * Models eager execution by marking all {@link LazyExecutionLineageNode}s as executed and collecting all marked ones.
+     * In contrast to {@link #modelEagerExecution(ChannelInstance[], ChannelInstance[], OptimizationContext.OperatorContext)},
+     * the caller provides the {@link ExecutionLineageNode}, e.g., to annotate it further.
+     *
+     * @param inputs               the input {@link ChannelInstance}s
+     * @param outputs              the output {@link ChannelInstance}s
+     * @param executionLineageNode the {@link ExecutionLineageNode} representing the execution
+     * @return the executed {@link OptimizationContext.OperatorContext} and produced {@link ChannelInstance}s
+     */
+    static Tuple<Collection<ExecutionLineageNode>, Collection<ChannelInstance>> modelEagerExecution(
+            ChannelInstance[] inputs,
+            ChannelInstance[] outputs,
+            ExecutionLineageNode executionLineageNode) {
+
         LazyExecutionLineageNode.connectAll(inputs, executionLineageNode, outputs);
 
         final Tuple<Collection<ExecutionLineageNode>, Collection<ChannelInstance>> collectors;
@@ -295,6 +313,24 @@ public interface ExecutionOperator extends ElementaryOperator {
 
         final ExecutionLineageNode executionLineageNode = new ExecutionLineageNode(operatorContext);
         executionLineageNode.addAtomicExecutionFromOperatorContext();
+        return modelLazyExecution(inputs, outputs, executionLineageNode);
+    }
+
+    /**
+     * Models lazy execution by not marking any {@link LazyExecutionLineageNode}s. In contrast to
+     * {@link #modelLazyExecution(ChannelInstance[], ChannelInstance[], OptimizationContext.OperatorContext)},
+     * the caller provides the {@link ExecutionLineageNode}, e.g., to annotate it once the lazy execution happens.
+     *
+     * @param inputs               the input {@link ChannelInstance}s
+     * @param outputs              the output {@link ChannelInstance}s
+     * @param executionLineageNode the {@link ExecutionLineageNode} representing the execution
+     * @return the executed {@link OptimizationContext.OperatorContext} and produced {@link ChannelInstance}s
+     */
+    static Tuple<Collection<ExecutionLineageNode>, Collection<ChannelInstance>>
+    modelLazyExecution(ChannelInstance[] inputs,
+                       ChannelInstance[] outputs,
+                       ExecutionLineageNode executionLineageNode) {
+
         LazyExecutionLineageNode.connectAll(inputs, executionLineageNode, outputs);
 
         return new Tuple<>(Collections.emptyList(), Collections.emptyList());
@@ -49,6 +49,16 @@ public interface ChannelInstance extends ExecutionResource {
      */
     void setMeasuredCardinality(long cardinality);
 
+    /**
+     * Optionally provides the size of the data of this instance in bytes. This is only available for some
+     * {@link Channel}s, e.g., those backed by files.
+     *
+     * @return the size if available
+     */
+    default OptionalLong getMeasuredBytes() {
+        return OptionalLong.empty();
+    }
+
     /**
      * Tells whether this instance should be instrumented
      */
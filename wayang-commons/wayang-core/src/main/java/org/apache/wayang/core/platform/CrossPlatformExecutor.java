@@ -20,6 +20,9 @@ package org.apache.wayang.core.platform;
 
 import org.apache.wayang.core.api.Configuration;
 import org.apache.wayang.core.api.Job;
+import org.apache.wayang.core.api.exception.WayangException;
+import org.apache.wayang.core.monitor.tracing.Span;
+import org.apache.wayang.core.monitor.tracing.Tracer;
 import org.apache.wayang.core.optimizer.OptimizationContext;
 import org.apache.wayang.core.plan.executionplan.Channel;
 import org.apache.wayang.core.plan.executionplan.ExecutionPlan;
@@ -36,8 +39,10 @@ import org.apache.wayang.core.util.Formats;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -45,10 +50,21 @@ import java.util.LinkedList;
 import java.util.Map;
 import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 
 /**
  * Executes a (cross-platform) {@link ExecutionPlan}.
+ * <p>If {@code wayang.core.optimizer.enumeration.parallel-tasks} is enabled, independent {@link ExecutionStage}s
+ * are scheduled on a bounded thread pool as soon as they are activated. Any access to the execution state
+ * (i.e., {@link StageActivator}s, {@link ChannelInstance}s, loop contexts) is guarded by the monitor of this
+ * instance; only the actual {@link Executor#execute(ExecutionStage, OptimizationContext, ExecutionState)}
+ * calls run outside of it.</p>
  */
 public class CrossPlatformExecutor implements ExecutionState {
 
@@ -72,7 +88,7 @@ public class CrossPlatformExecutor implements ExecutionState {
     /**
      * Activated and considered for execution.
      */
-    private final Queue<StageActivator> activatedStageActivators = new LinkedList<>();
+    private final Queue<StageActivator> activatedStageActivators = new ConcurrentLinkedQueue<>();
 
     /**
      * Keeps track of {@link StageActivator}s.
@@ -94,7 +110,7 @@ public class CrossPlatformExecutor implements ExecutionState {
      * among all iterations. If we would go with our normal handling scheme, we might lose them after the first
      * iteration. Therefore, we actively keep track of them via {@link ExecutionStageLoopContext}s.
      */
-    private final Map<ExecutionStageLoop, ExecutionStageLoopContext> loopContexts = new HashMap<>();
+    private final Map<ExecutionStageLoop, ExecutionStageLoopContext> loopContexts = new ConcurrentHashMap<>();
 
     /**
      * Marks {@link Channel}s for instrumentation.
@@ -104,12 +120,12 @@ public class CrossPlatformExecutor implements ExecutionState {
     /**
      * Keeps track of {@link ExecutionStage}s that have actually been executed by this instance.
      */
-    private Set<ExecutionStage> completedStages = new HashSet<>();
+    private final Set<ExecutionStage> completedStages = ConcurrentHashMap.newKeySet();
 
     /**
      * Keeps track of {@link ChannelInstance} cardinalities.
      */
-    private final Collection<ChannelInstance> cardinalityMeasurements = new LinkedList<>();
+    private final Collection<ChannelInstance> cardinalityMeasurements = new ConcurrentLinkedQueue<>();
 
     /**
      * Maintains {@link ExecutionResource}s that are "global" w.r.t. to this instance, i.e., they will not be
@@ -120,22 +136,28 @@ public class CrossPlatformExecutor implements ExecutionState {
     /**
      * Keeps track of {@link ChannelInstance}s so as to reuse them among {@link Executor} runs.
      */
-    private final Map<Channel, ChannelInstance> channelInstances = new HashMap<>();
+    private final Map<Channel, ChannelInstance> channelInstances = new ConcurrentHashMap<>();
 
     /**
      * Gathers {@link PartialExecution}s created during the execution.
      */
-    private final Collection<PartialExecution> partialExecutions = new LinkedList<>();
+    private final Collection<PartialExecution> partialExecutions = new ConcurrentLinkedQueue<>();
 
     /**
-     * Gathers {@link ParallelExecutionThread}s created during parallel execution.
+     * {@link Span}s of the {@link ExecutionStage}s that are currently being executed.
      */
-    private final ArrayList<Thread> parallelExecutionThreads = new ArrayList<>();
+    private final Map<ExecutionStage, Span> stageSpans = new ConcurrentHashMap<>();
 
     /**
-     * Keeps track of the completed {@link ParallelExecutionThread}s created during parallel execution.
+     * Keeps track of the queue-wait and run times of the executed {@link ExecutionStage}s.
      */
-    private volatile int completedThreads;
+    private final Map<ExecutionStage, StageTiming> stageTimings = new ConcurrentHashMap<>();
+
+    /**
+     * Executes {@link ExecutionStage}s in the parallel mode. Created lazily and reused across
+     * {@link #executeUntilBreakpoint(ExecutionPlan, OptimizationContext)} calls.
+     */
+    private ExecutorService stageExecutorService;
 
     public CrossPlatformExecutor(Job job, InstrumentationStrategy instrumentationStrategy) {
         this.job = job;
@@ -164,7 +186,7 @@ public class CrossPlatformExecutor implements ExecutionState {
      * @param executionPlan       whose {@link ExecutionStage}s will be executed
      * @param optimizationContext contains additional optimization info for the {@code executionPlan}
      */
-    public void prepare(ExecutionPlan executionPlan, OptimizationContext optimizationContext) {
+    public synchronized void prepare(ExecutionPlan executionPlan, OptimizationContext optimizationContext) {
         this.allStages.clear();
         this.activatedStageActivators.clear();
         this.suspendedStages.clear();
@@ -254,6 +276,13 @@ public class CrossPlatformExecutor implements ExecutionState {
         stageActivator.dispose();
 
         // Dispose obsolete ChannelInstances.
+        this.disposeObsoleteChannelInstances();
+    }
+
+    /**
+     * Discard all {@link ChannelInstance}s in {@link #channelInstances} that are not referenced by anyone else.
+     */
+    private void disposeObsoleteChannelInstances() {
         final Iterator<Map.Entry<Channel, ChannelInstance>> iterator = this.channelInstances.entrySet().iterator();
         while (iterator.hasNext()) {
             final Map.Entry<Channel, ChannelInstance> channelInstanceEntry = iterator.next();
@@ -269,32 +298,58 @@ public class CrossPlatformExecutor implements ExecutionState {
 
 
     /**
-     * Run parallel threads executing activated {@link ExecutionStage}s
+     * Execute the activated {@link ExecutionStage}s and all {@link ExecutionStage}s that they activate in turn
+     * on the {@link #stageExecutorService}. Each {@link ExecutionStage} is submitted as soon as it is activated,
+     * so that there is no barrier among independent {@link ExecutionStage}s.
      */
     private void runParallelExecution(boolean isBreakpointsDisabled) {
-        int numActiveStages = this.activatedStageActivators.size();
-
-        // Create execution threads
-        for (int i = 1; i <= numActiveStages; ++i) {
-            // TODO: Better pass the stage to the thread rather than letting the thread retrieve the stage itself (to avoid concurrency issues).
-            Thread thread = new Thread(new ParallelExecutionThread(isBreakpointsDisabled, "T" + String.valueOf(i), this));
-            // Start thread execution
-            thread.start();
-            this.parallelExecutionThreads.add(thread);
-        }
+        new StageScheduler(isBreakpointsDisabled).run();
+        CrossPlatformExecutor.this.logger.info("Parallel execution ended!");
+    }
 
-        //Join all created threads
-        for (Thread t : this.parallelExecutionThreads) {
-            try {
-                t.join();
-            } catch (InterruptedException e) {
-                CrossPlatformExecutor.this.logger.error("Thread Interrupted!", e);
+    /**
+     * Provide the {@link #stageExecutorService}, thereby creating it if necessary. Its size is bounded by
+     * {@code wayang.core.executor.parallel-tasks.threads} (or the number of available processors if not positive).
+     * If {@code wayang.core.executor.parallel-tasks.virtual-threads} is set and the JVM supports it, virtual
+     * threads are used instead.
+     *
+     * @return the {@link ExecutorService}
+     */
+    private synchronized ExecutorService getOrCreateStageExecutorService() {
+        if (this.stageExecutorService == null) {
+            final Configuration configuration = this.getConfiguration();
+            if (configuration.getBooleanProperty("wayang.core.executor.parallel-tasks.virtual-threads", false)) {
+                this.stageExecutorService = createVirtualThreadExecutorService();
+            }
+            if (this.stageExecutorService == null) {
+                long numThreads = configuration.getLongProperty("wayang.core.executor.parallel-tasks.threads", 0L);
+                if (numThreads <= 0) numThreads = Runtime.getRuntime().availableProcessors();
+                final AtomicInteger threadCounter = new AtomicInteger();
+                final ThreadFactory threadFactory = runnable -> {
+                    final Thread thread = new Thread(runnable, "wayang-stage-" + threadCounter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                };
+                this.stageExecutorService = Executors.newFixedThreadPool((int) numThreads, threadFactory);
             }
         }
+        return this.stageExecutorService;
+    }
 
-        // Clear the list of created threads
-        parallelExecutionThreads.clear();
-        CrossPlatformExecutor.this.logger.info("Parallel execution ended!");
+    /**
+     * Create an {@link ExecutorService} that starts a new virtual thread per task. Virtual threads are looked up
+     * reflectively, because they are not available on all supported JVMs.
+     *
+     * @return the {@link ExecutorService} or {@code null} if virtual threads are not available
+     */
+    private ExecutorService createVirtualThreadExecutorService() {
+        try {
+            final Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            this.logger.warn("Virtual threads are not supported by this JVM. Falling back to platform threads.");
+            return null;
+        }
     }
 
     /**
@@ -374,10 +429,62 @@ public class CrossPlatformExecutor implements ExecutionState {
 
         // Have the execution done.
         CrossPlatformExecutor.this.logger.info("Having {} execute {}:\n{}", executor, stage, stage.getPlanAsString("> "));
-        long startTime = System.currentTimeMillis();
-        executor.execute(stage, optimizationContext, this);
-        long finishTime = System.currentTimeMillis();
-        CrossPlatformExecutor.this.logger.info("Executed {} in {}.", stage, Formats.formatDuration(finishTime - startTime, true));
+        final long startNanos = System.nanoTime();
+        this.execute(executor, stage, optimizationContext);
+        final long finishNanos = System.nanoTime();
+
+        this.noteExecuted(stageActivator, startNanos, finishNanos);
+    }
+
+    /**
+     * Has the given {@link Executor} execute the {@link ExecutionStage} and traces it.
+     */
+    private void execute(Executor executor, ExecutionStage stage, OptimizationContext optimizationContext) {
+        final Tracer tracer = Tracer.of(this.job);
+        final Span span = tracer.startSpan(Tracer.STAGE_SPAN, this.job == null ? null : this.job.getTraceSpan());
+        if (tracer.isEnabled()) {
+            span.setAttribute("stage", stage.toString())
+                    .setAttribute("platform", executor.getPlatform().getName());
+        }
+        this.stageSpans.put(stage, span);
+        try {
+            executor.execute(stage, optimizationContext, this);
+        } catch (Throwable t) {
+            span.recordError(t);
+            throw t;
+        } finally {
+            this.stageSpans.remove(stage);
+            span.end();
+        }
+    }
+
+    /**
+     * Provides the {@link Span} of an {@link ExecutionStage} that is currently being executed.
+     *
+     * @param stage the {@link ExecutionStage}
+     * @return the {@link Span} or {@code null} if the {@code stage} is not being executed
+     */
+    public Span getStageSpan(ExecutionStage stage) {
+        return this.stageSpans.get(stage);
+    }
+
+    /**
+     * Update the execution state after the given {@link StageActivator}'s {@link ExecutionStage} has been executed.
+     *
+     * @param stageActivator whose {@link ExecutionStage} has been executed
+     * @param startNanos     {@link System#nanoTime()} when the execution started
+     * @param finishNanos    {@link System#nanoTime()} when the execution finished
+     */
+    private void noteExecuted(StageActivator stageActivator, long startNanos, long finishNanos) {
+        final ExecutionStage stage = stageActivator.getStage();
+        final StageTiming timing = new StageTiming(
+                (startNanos - stageActivator.getActivationNanos()) / 1_000_000L,
+                (finishNanos - startNanos) / 1_000_000L
+        );
+        this.stageTimings.put(stage, timing);
+        CrossPlatformExecutor.this.logger.info("Executed {} in {} (queued for {}).", stage,
+                Formats.formatDuration(timing.getRunMillis(), true),
+                Formats.formatDuration(timing.getQueueWaitMillis(), true));
 
         // Remember that we have executed the stage.
         this.completedStages.add(stage);
@@ -387,7 +494,7 @@ public class CrossPlatformExecutor implements ExecutionState {
         }
     }
 
-    private Executor getOrCreateExecutorFor(ExecutionStage stage) {
+    private synchronized Executor getOrCreateExecutorFor(ExecutionStage stage) {
         return this.executors.computeIfAbsent(
                 stage.getPlatformExecution().getPlatform(),
                 platform -> {
@@ -507,7 +614,7 @@ public class CrossPlatformExecutor implements ExecutionState {
         return this.getChannelInstance(channel, false);
     }
 
-    public ChannelInstance getChannelInstance(Channel channel, boolean isPeekingToNextTransition) {
+    public synchronized ChannelInstance getChannelInstance(Channel channel, boolean isPeekingToNextTransition) {
         final ExecutionStageLoop loop = getExecutionStageLoop(channel);
         if (loop == null) {
             return this.channelInstances.get(channel);
@@ -536,7 +643,7 @@ public class CrossPlatformExecutor implements ExecutionState {
     }
 
     @Override
-    public void register(ChannelInstance channelInstance) {
+    public synchronized void register(ChannelInstance channelInstance) {
         final ExecutionStageLoop loop = getExecutionStageLoop(channelInstance.getChannel());
         if (loop == null) {
             final ChannelInstance oldChannelInstance = this.channelInstances.put(channelInstance.getChannel(), channelInstance);
@@ -556,7 +663,7 @@ public class CrossPlatformExecutor implements ExecutionState {
      *
      * @param resource that should be registered
      */
-    public void registerGlobal(ExecutionResource resource) {
+    public synchronized void registerGlobal(ExecutionResource resource) {
         if (this.globalResources.add(resource)) {
             resource.noteObtainedReference();
         } else {
@@ -610,7 +717,13 @@ public class CrossPlatformExecutor implements ExecutionState {
         return !this.loopContexts.isEmpty();
     }
 
-    public void shutdown() {
+    public synchronized void shutdown() {
+        // Stop the threads for the parallel execution.
+        if (this.stageExecutorService != null) {
+            this.stageExecutorService.shutdown();
+            this.stageExecutorService = null;
+        }
+
         // Release global resources.
         this.globalResources.forEach(resource -> resource.noteDiscardedReference(true));
         this.globalResources.clear();
@@ -625,6 +738,15 @@ public class CrossPlatformExecutor implements ExecutionState {
         return this.completedStages;
     }
 
+    /**
+     * Retrieve the {@link StageTiming}s of the {@link ExecutionStage}s that have been completed so far.
+     *
+     * @return the {@link StageTiming}s
+     */
+    public Map<ExecutionStage, StageTiming> getStageTimings() {
+        return Collections.unmodifiableMap(this.stageTimings);
+    }
+
     public Configuration getConfiguration() {
         return this.job.getConfiguration();
     }
@@ -681,6 +803,11 @@ public class CrossPlatformExecutor implements ExecutionState {
          */
         private final Map<Channel, ChannelInstance> inputChannelInstances = new HashMap<>(4);
 
+        /**
+         * {@link System#nanoTime()} when this instance has been activated.
+         */
+        private long activationNanos;
+
         /**
          * Creates a new instance.
          *
@@ -845,8 +972,18 @@ public class CrossPlatformExecutor implements ExecutionState {
          * Notifies this instance that it has been activated.
          */
         public void noteActivation() {
+            this.activationNanos = System.nanoTime();
             if (this.stage.isLoopHead()) this.loopContext.activateNextIteration();
         }
+
+        /**
+         * Tells when this instance has been activated.
+         *
+         * @return the {@link System#nanoTime()} of the activation
+         */
+        long getActivationNanos() {
+            return this.activationNanos;
+        }
     }
 
 
@@ -1038,137 +1175,166 @@ public class CrossPlatformExecutor implements ExecutionState {
     }
 
     /**
-     * Executes {@link ExecutionStage}s in parallel threads
-     * It continues to live as long as there is a {@link ExecutionStage} activated after first {@link ExecutionStage} execution and another running {@link ParallelExecutionThread}s,
-     * if multiple {@link ExecutionStage} are activated it will create new threads to execute new {@link ExecutionStage} in recursive manner
+     * Schedules activated {@link ExecutionStage}s on the {@link #stageExecutorService}. Whenever an
+     * {@link ExecutionStage} completes, its successors are activated and submitted right away.
+     * {@link ExecutionStage}s on the same {@link Executor} are still executed one after another, because
+     * {@link Executor}s are not required to be thread-safe.
      */
-
-    private class ParallelExecutionThread implements Runnable {
+    private class StageScheduler {
 
         /**
-         * Thread identifier of {@link ParallelExecutionThread}
+         * Whether #breakpoint should be ignored.
          */
-        public String threadId;
+        private final boolean isBreakpointsDisabled;
 
         /**
-         * Check if #breakpoint permits the execution of {@link ExecutionStage}
+         * Number of {@link ExecutionStage}s that have been submitted but not yet completed. Guarded by the monitor
+         * of the {@link CrossPlatformExecutor}.
          */
-        private boolean thread_isBreakpointDisabled;
+        private int numRunningStages = 0;
 
         /**
-         * {@link CrossPlatformExecutor} initiating the running thread
+         * The first failure of an {@link ExecutionStage}, if any. Guarded by the monitor of the
+         * {@link CrossPlatformExecutor}.
          */
-        private final CrossPlatformExecutor crossPlatformExecutor;
+        private Throwable failure;
 
         /**
          * Creates a new instance.
          */
-        public ParallelExecutionThread(boolean isBreakpointsDisabled, String id, CrossPlatformExecutor cpe) {
-            this.thread_isBreakpointDisabled = isBreakpointsDisabled;
-            this.threadId = id;
-            this.crossPlatformExecutor = cpe;
+        private StageScheduler(boolean isBreakpointsDisabled) {
+            this.isBreakpointsDisabled = isBreakpointsDisabled;
         }
 
         /**
-         * Execution code of the thread.
+         * Submit the activated {@link ExecutionStage}s and wait until no more {@link ExecutionStage}s can be run.
          */
-        @Override
-        public void run() {
+        void run() {
+            final ExecutorService executorService = CrossPlatformExecutor.this.getOrCreateStageExecutorService();
+            final Throwable failure;
+            synchronized (CrossPlatformExecutor.this) {
+                this.submitActivatedStages(executorService);
+                while (this.numRunningStages > 0) {
+                    try {
+                        CrossPlatformExecutor.this.wait();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new WayangException("Interrupted while waiting for stages to complete.", e);
+                    }
+                }
+                failure = this.failure;
+            }
+
+            if (failure instanceof RuntimeException) {
+                throw (RuntimeException) failure;
+            } else if (failure instanceof Error) {
+                throw (Error) failure;
+            } else if (failure != null) {
+                throw new WayangException("Stage execution failed.", failure);
+            }
+        }
 
+        /**
+         * Submit all {@link #activatedStageActivators} unless the #breakpoint vetoes. Must be called while holding
+         * the monitor of the {@link CrossPlatformExecutor}.
+         */
+        private void submitActivatedStages(ExecutorService executorService) {
             StageActivator stageActivator;
-            this.crossPlatformExecutor.logger.info("Thread " + String.valueOf(this.threadId) + " started");
-            // Loop until there is no activated stage or only one thread running
-            do {
-                // Get the stageActivator for the stage to execute
-                synchronized (this.crossPlatformExecutor) {
-                    stageActivator = this.crossPlatformExecutor.activatedStageActivators.poll();
-                    if (stageActivator == null)
-                        break;
+            while (this.failure == null
+                    && (stageActivator = CrossPlatformExecutor.this.activatedStageActivators.poll()) != null) {
+                if (!this.isBreakpointsDisabled && CrossPlatformExecutor.this.suspendIfBreakpointRequest(stageActivator)) {
+                    continue;
                 }
-                this.crossPlatformExecutor.logger.info(this.threadId + " started executing Stage: {}:", stageActivator.getStage());
+                final StageActivator submittedStageActivator = stageActivator;
+                this.numRunningStages++;
+                executorService.execute(() -> this.runStage(submittedStageActivator, executorService));
+            }
+        }
 
-                // Check if #breakpoint permits the execution.
-                if (!this.thread_isBreakpointDisabled && this.crossPlatformExecutor.suspendIfBreakpointRequest(stageActivator)) {
-                    return;
+        /**
+         * Execute the {@link ExecutionStage} of the given {@link StageActivator} and submit its successors.
+         */
+        private void runStage(StageActivator stageActivator, ExecutorService executorService) {
+            try {
+                this.executeStage(stageActivator);
+            } catch (Throwable t) {
+                synchronized (CrossPlatformExecutor.this) {
+                    if (this.failure == null) this.failure = t;
                 }
+            } finally {
+                synchronized (CrossPlatformExecutor.this) {
+                    this.numRunningStages--;
+                    this.submitActivatedStages(executorService);
+                    CrossPlatformExecutor.this.notifyAll();
+                }
+            }
+        }
 
-                // Otherwise, execute the stage.
-
-                final ExecutionStage stage = stageActivator.getStage();
-                final OptimizationContext optimizationContext = stageActivator.getOptimizationContext();
-
+        private void executeStage(StageActivator stageActivator) {
+            final ExecutionStage stage = stageActivator.getStage();
+            final Executor executor;
+            synchronized (CrossPlatformExecutor.this) {
                 // Find parts of the stage to instrument.
-                this.crossPlatformExecutor.instrumentationStrategy.applyTo(stage);
+                CrossPlatformExecutor.this.instrumentationStrategy.applyTo(stage);
 
                 // Obtain an Executor for the stage.
-                final Executor executor = this.crossPlatformExecutor.getOrCreateExecutorFor(stage);
+                executor = CrossPlatformExecutor.this.getOrCreateExecutorFor(stage);
+            }
 
-                // Have the execution done.
-                CrossPlatformExecutor.this.logger.info("Having {} execute {}:\n{}", executor, stage, stage.getPlanAsString("> "));
-                long startTime = System.currentTimeMillis();
+            // Have the execution done.
+            CrossPlatformExecutor.this.logger.info("Having {} execute {} on {}:\n{}",
+                    executor, stage, Thread.currentThread().getName(), stage.getPlanAsString("> "));
+            final long startNanos, finishNanos;
+            synchronized (executor) {
+                startNanos = System.nanoTime();
+                CrossPlatformExecutor.this.execute(executor, stage, stageActivator.getOptimizationContext());
+                finishNanos = System.nanoTime();
+            }
 
-                // synchronize(this.crossplateform) can be used here to avoid error when we have two stages running same operators even on the same platform but still with different executors
-                synchronized (executor) {
-                    executor.execute(stage, optimizationContext, this.crossPlatformExecutor);
-                    long finishTime = System.currentTimeMillis();
+            synchronized (CrossPlatformExecutor.this) {
+                CrossPlatformExecutor.this.noteExecuted(stageActivator, startNanos, finishNanos);
 
-                    CrossPlatformExecutor.this.logger.info("Executed {} in {}.", stage, Formats.formatDuration(finishTime - startTime, true));
+                // Try to activate the successor stages.
+                CrossPlatformExecutor.this.tryToActivateSuccessors(stageActivator);
 
-                    // Remember that we have executed the stage.
-                    this.crossPlatformExecutor.completedStages.add(stage);
-                    if (stage.isLoopHead()) {
-                        this.crossPlatformExecutor.getOrCreateLoopContext(stage.getLoop()).scrapPreviousTransitionContext();
-                    }
-
-                    // Try to activate the successor stages.
-                    this.crossPlatformExecutor.tryToActivateSuccessors(stageActivator);
-                }
                 // We can now dispose the stageActivator that collected the input ChannelInstances.
                 stageActivator.dispose();
 
                 // Dispose obsolete ChannelInstances.
-                final Iterator<Map.Entry<Channel, ChannelInstance>> iterator = this.crossPlatformExecutor.channelInstances.entrySet().iterator();
-                while (iterator.hasNext()) {
-                    final Map.Entry<Channel, ChannelInstance> channelInstanceEntry = iterator.next();
-                    final ChannelInstance channelInstance = channelInstanceEntry.getValue();
-
-                    // If this is instance is the only one to still use this ChannelInstance, discard it.
-                    if (channelInstance.getNumReferences() == 1) {
-                        channelInstance.noteDiscardedReference(true);
-                        iterator.remove();
-                    }
+                CrossPlatformExecutor.this.disposeObsoleteChannelInstances();
+            }
+        }
+    }
 
-                }
+    /**
+     * Describes how long an {@link ExecutionStage} waited after its activation and how long it ran.
+     */
+    public static class StageTiming {
 
-                this.crossPlatformExecutor.logger.info(this.threadId + " completed executing Stage : {}:", stageActivator.getStage());
-
-                // Create new threads for more than one activated stages recursively
-                if (CrossPlatformExecutor.this.activatedStageActivators.size() > 1) {
-                    // Create new threads other than the existing thread
-                    for (int i = 1; i <= CrossPlatformExecutor.this.activatedStageActivators.size() - 1; i++) {
-                        // TODO: Better use Java's ForkJoinPool to reduce thread creation overhead and control concurrency.
-                        // Create parallel stage execution thread
-                        Thread thread = new Thread(new ParallelExecutionThread(this.thread_isBreakpointDisabled, "T" + String.valueOf(i) + "@" + this.threadId, this.crossPlatformExecutor));
-                        thread.start();
-                        synchronized (this.crossPlatformExecutor) {
-                            //Add the created thread to {@link #parallelExecutionThreads}
-                            CrossPlatformExecutor.this.parallelExecutionThreads.add(thread);
-                        }
-                    }
-                }
+        private final long queueWaitMillis, runMillis;
 
-            }
+        public StageTiming(long queueWaitMillis, long runMillis) {
+            this.queueWaitMillis = queueWaitMillis;
+            this.runMillis = runMillis;
+        }
 
-            // TODO: Do not busy-wait (could be solved with the ForkJoinPool as well).
-            while (CrossPlatformExecutor.this.activatedStageActivators.size() >= 1 &&
-                    CrossPlatformExecutor.this.parallelExecutionThreads.size() - CrossPlatformExecutor.this.completedThreads > 1);
+        /**
+         * @return the milliseconds between the activation and the start of the execution
+         */
+        public long getQueueWaitMillis() {
+            return this.queueWaitMillis;
+        }
 
-            // Increment a global variable of completed threads
-            // As long as the variable is volatile so there is no concern of race condition
-            CrossPlatformExecutor.this.completedThreads++;
+        /**
+         * @return the milliseconds that the execution took
+         */
+        public long getRunMillis() {
+            return this.runMillis;
+        }
 
-            // Notify thread ended
-            CrossPlatformExecutor.this.logger.info(this.threadId + " ended");
+        @Override
+        public String toString() {
+            return String.format("%s[queued %d ms, ran %d ms]", this.getClass().getSimpleName(), this.queueWaitMillis, this.runMillis);
         }
     }
 
@@ -55,6 +55,13 @@ public class PartialExecution {
      */
     private final Collection<AtomicExecutionGroup> atomicExecutionGroups;
 
+    /**
+     * Number of bytes spilled to disk and passes over the spilled data during this instance.
+     */
+    private final long spilledBytes;
+
+    private final int numSpillPasses;
+
     /**
      * Platforms initialized/involved this instance.
      */
@@ -112,6 +119,8 @@ public class PartialExecution {
                 .collect(Collectors.toList());
         this.lowerCost = lowerCost;
         this.upperCost = upperCost;
+        this.spilledBytes = executionLineageNodes.stream().mapToLong(ExecutionLineageNode::getSpilledBytes).sum();
+        this.numSpillPasses = executionLineageNodes.stream().mapToInt(ExecutionLineageNode::getNumSpillPasses).sum();
     }
 
     /**
@@ -120,11 +129,15 @@ public class PartialExecution {
     private PartialExecution(Collection<AtomicExecutionGroup> atomicExecutionGroups,
                              long measuredExecutionTime,
                              double lowerCost,
-                             double upperCost) {
+                             double upperCost,
+                             long spilledBytes,
+                             int numSpillPasses) {
         this.measuredExecutionTime = measuredExecutionTime;
         this.atomicExecutionGroups = atomicExecutionGroups;
         this.lowerCost = lowerCost;
         this.upperCost = upperCost;
+        this.spilledBytes = spilledBytes;
+        this.numSpillPasses = numSpillPasses;
     }
 
     public long getMeasuredExecutionTime() {
@@ -149,6 +162,24 @@ public class PartialExecution {
         return this.upperCost;
     }
 
+    /**
+     * The number of bytes that have been spilled to disk during this instance.
+     *
+     * @return the number of spilled bytes
+     */
+    public long getSpilledBytes() {
+        return this.spilledBytes;
+    }
+
+    /**
+     * The number of passes over spilled data that have been performed during this instance.
+     *
+     * @return the number of spill passes
+     */
+    public int getNumSpillPasses() {
+        return this.numSpillPasses;
+    }
+
     /**
      * Retrieve the {@link Platform}s involved in this instance.
      * <i>Note that this method can only be successful if the {@link AtomicExecutionGroup}s use
@@ -223,7 +254,9 @@ public class PartialExecution {
                     .putOptional(
                             "initPlatforms",
                             JsonSerializables.serializeAll(pe.initializedPlatforms, true, Platform.jsonSerializer)
-                    );
+                    )
+                    .putOptional("spilledBytes", pe.spilledBytes > 0 ? pe.spilledBytes : null)
+                    .putOptional("spillPasses", pe.numSpillPasses > 0 ? pe.numSpillPasses : null);
         }
 
         @Override
@@ -239,8 +272,10 @@ public class PartialExecution {
                     );
             final Collection<Platform> initializedPlatforms =
                     JsonSerializables.deserializeAllAsList(json.optionalWayangJsonArray("initPlatforms"), Platform.jsonSerializer);
+            final long spilledBytes = json.has("spilledBytes") ? json.getLong("spilledBytes") : 0L;
+            final int numSpillPasses = json.has("spillPasses") ? json.getInt("spillPasses") : 0;
             final PartialExecution partialExecution = new PartialExecution(
-                    atomicExecutionGroups, measuredExecutionTime, lowerCost, uppserCost
+                    atomicExecutionGroups, measuredExecutionTime, lowerCost, uppserCost, spilledBytes, numSpillPasses
             );
             partialExecution.initializedPlatforms.addAll(initializedPlatforms);
             return partialExecution;
@@ -19,6 +19,8 @@
 package org.apache.wayang.core.platform;
 
 import org.apache.wayang.core.api.Job;
+import org.apache.wayang.core.monitor.tracing.Span;
+import org.apache.wayang.core.monitor.tracing.Tracer;
 import org.apache.wayang.core.optimizer.OptimizationContext;
 import org.apache.wayang.core.plan.executionplan.Channel;
 import org.apache.wayang.core.plan.executionplan.ExecutionStage;
@@ -37,6 +39,7 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.OptionalLong;
 import java.util.Queue;
 import java.util.Set;
 
@@ -192,7 +195,59 @@ public abstract class PushExecutorTemplate extends ExecutorTemplate {
          */
         private Tuple<List<ChannelInstance>, PartialExecution> execute(TaskActivator readyActivator, ExecutionTask task) {
             final boolean isRequestEagerExecution = this.terminalTasks.contains(task);
-            return this.executor().execute(readyActivator, isRequestEagerExecution);
+            final Tracer tracer = Tracer.of(PushExecutorTemplate.this.job);
+            final Span span = this.startSpan(tracer, task);
+            try {
+                final Tuple<List<ChannelInstance>, PartialExecution> result =
+                        this.executor().execute(readyActivator, isRequestEagerExecution);
+                if (tracer.isEnabled()) this.trace(tracer, span, result.getField0());
+                return result;
+            } catch (Throwable t) {
+                span.recordError(t);
+                throw t;
+            } finally {
+                span.end();
+            }
+        }
+
+        /**
+         * Starts a {@link Span} for the given {@link ExecutionTask} within the {@link Span} of its {@link ExecutionStage}.
+         */
+        private Span startSpan(Tracer tracer, ExecutionTask task) {
+            final Job job = PushExecutorTemplate.this.job;
+            final CrossPlatformExecutor crossPlatformExecutor = job == null ? null : job.getCrossPlatformExecutor();
+            final Span stageSpan = crossPlatformExecutor == null ? null : crossPlatformExecutor.getStageSpan(task.getStage());
+            final ExecutionOperator operator = task.getOperator();
+            final Span span = tracer.startSpan(operator.isConversion() ? Tracer.CONVERSION_SPAN : Tracer.TASK_SPAN, stageSpan);
+            if (tracer.isEnabled()) {
+                span.setAttribute("operator", operator.toString())
+                        .setAttribute("platform", operator.getPlatform().getName());
+                if (operator.isConversion() && task.getNumInputChannels() > 0 && task.getNumOuputChannels() > 0) {
+                    span.setAttribute("channel.from", task.getInputChannel(0).getDescriptor().toString())
+                            .setAttribute("channel.to", task.getOutputChannel(0).getDescriptor().toString());
+                }
+            }
+            return span;
+        }
+
+        /**
+         * Reports the measured cardinalities and sizes of the given output {@link ChannelInstance}s.
+         */
+        private void trace(Tracer tracer, Span span, List<ChannelInstance> outputChannelInstances) {
+            for (int outputIndex = 0; outputIndex < outputChannelInstances.size(); outputIndex++) {
+                final ChannelInstance channelInstance = outputChannelInstances.get(outputIndex);
+                if (channelInstance == null) continue;
+                final OptionalLong cardinality = channelInstance.getMeasuredCardinality();
+                if (cardinality.isPresent()) {
+                    span.setAttribute("output." + outputIndex + ".cardinality", cardinality.getAsLong());
+                    tracer.recordMetric(Tracer.CARDINALITY_METRIC, cardinality.getAsLong());
+                }
+                final OptionalLong bytes = channelInstance.getMeasuredBytes();
+                if (bytes.isPresent()) {
+                    span.setAttribute("output." + outputIndex + ".bytes", bytes.getAsLong());
+                    tracer.recordMetric(Tracer.BYTES_METRIC, bytes.getAsLong());
+                }
+            }
         }
 
         /**
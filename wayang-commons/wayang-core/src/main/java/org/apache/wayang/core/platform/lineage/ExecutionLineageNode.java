@@ -41,6 +41,16 @@ public class ExecutionLineageNode extends LazyExecutionLineageNode {
      */
     private final Collection<AtomicExecution> atomicExecutions;
 
+    /**
+     * Number of bytes that the encapsulated executions have spilled to disk.
+     */
+    private long spilledBytes = 0L;
+
+    /**
+     * Number of passes over spilled data that the encapsulated executions have performed.
+     */
+    private int numSpillPasses = 0;
+
     public ExecutionLineageNode(final OptimizationContext.OperatorContext estimationContext) {
         this.operatorContext = estimationContext;
         this.atomicExecutions = new LinkedList<>();
@@ -94,6 +104,37 @@ public class ExecutionLineageNode extends LazyExecutionLineageNode {
         return this.atomicExecutions;
     }
 
+    /**
+     * Records that the encapsulated executions have spilled data to disk.
+     *
+     * @param spilledBytes   the number of spilled bytes
+     * @param numSpillPasses the number of passes over the spilled data
+     * @return this instance
+     */
+    public synchronized ExecutionLineageNode addSpill(long spilledBytes, int numSpillPasses) {
+        this.spilledBytes += spilledBytes;
+        this.numSpillPasses += numSpillPasses;
+        return this;
+    }
+
+    /**
+     * Retrieve the number of bytes that the encapsulated executions have spilled to disk.
+     *
+     * @return the number of spilled bytes
+     */
+    public synchronized long getSpilledBytes() {
+        return this.spilledBytes;
+    }
+
+    /**
+     * Retrieve the number of passes over spilled data that the encapsulated executions have performed.
+     *
+     * @return the number of spill passes
+     */
+    public synchronized int getNumSpillPasses() {
+        return this.numSpillPasses;
+    }
+
     @Override
     protected <T> T accept(T accumulator, Aggregator<T> aggregator) {
         return aggregator.aggregate(accumulator, this);
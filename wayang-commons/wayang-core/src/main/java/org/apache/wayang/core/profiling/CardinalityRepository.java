@@ -183,7 +183,7 @@ public class CardinalityRepository {
     /**
      * Writes the measuremnt to the {@link #repositoryPath}.
      */
-    private void write(WayangJsonObj jsonMeasurement) {
+    private synchronized void write(WayangJsonObj jsonMeasurement) {
         try {
             jsonMeasurement.write(this.getWriter());
             writer.write('\n');
@@ -213,7 +213,7 @@ public class CardinalityRepository {
     /**
      * Allows this instance to free its system resources, as they might not be needed in the closer future.
      */
-    public void sleep() {
+    public synchronized void sleep() {
         IOUtils.closeQuietly(this.writer);
         this.writer = null;
     }
@@ -21,7 +21,8 @@ package org.apache.wayang.core.util;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 /**
- * Implements a template for {@link ReferenceCountable} objects.
+ * Implements a template for {@link ReferenceCountable} objects. Instances are thread-safe, so that they can be shared
+ * among concurrent {@link org.apache.wayang.core.api.Job}s.
  */
 public abstract class AbstractReferenceCountable implements ReferenceCountable {
 
@@ -40,7 +41,7 @@ public abstract class AbstractReferenceCountable implements ReferenceCountable {
     private boolean isDisposed = false;
 
     @Override
-    public boolean disposeIfUnreferenced() {
+    public synchronized boolean disposeIfUnreferenced() {
         if (this.getNumReferences() == 0) {
             assert !this.isDisposed() : String.format("%s has already been disposed.", this);
             logger.debug("Discarding {} for being unreferenced.", this);
@@ -58,19 +59,19 @@ public abstract class AbstractReferenceCountable implements ReferenceCountable {
     protected abstract void disposeUnreferenced();
 
     @Override
-    public int getNumReferences() {
+    public synchronized int getNumReferences() {
         return this.numReferences;
     }
 
     @Override
-    public void noteObtainedReference() {
+    public synchronized void noteObtainedReference() {
         assert !this.isDisposed() : String.format("%s should not be resurrected.", this);
         this.numReferences++;
         logger.trace("{} has {} (+1) references now.", this, this.getNumReferences());
     }
 
     @Override
-    public void noteDiscardedReference(boolean isDisposeIfUnreferenced) {
+    public synchronized void noteDiscardedReference(boolean isDisposeIfUnreferenced) {
         assert this.numReferences > 0 : String.format("Reference on %s discarded, although the reference counter is 0.", this);
         this.numReferences--;
         logger.trace("{} has {} (-1) references now.", this, this.getNumReferences());
@@ -79,8 +80,20 @@ public abstract class AbstractReferenceCountable implements ReferenceCountable {
         }
     }
 
+    /**
+     * Obtains a reference on this instance unless it has already been disposed. Other than a check via
+     * {@link #isDisposed()} followed by {@link #noteObtainedReference()}, this cannot race with a concurrent disposal.
+     *
+     * @return whether a reference could be obtained
+     */
+    public synchronized boolean tryObtainReference() {
+        if (this.isDisposed()) return false;
+        this.noteObtainedReference();
+        return true;
+    }
+
     @Override
-    public boolean isDisposed() {
+    public synchronized boolean isDisposed() {
         return this.isDisposed;
     }
 
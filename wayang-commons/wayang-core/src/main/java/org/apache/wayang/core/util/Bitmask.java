@@ -31,9 +31,9 @@ import java.util.stream.StreamSupport;
 public class Bitmask implements Cloneable, Iterable<Integer> {
 
     /**
-     * An instance without any bits set.
+     * An instance without any bits set. Shared across threads, so it must never be altered in place.
      */
-    public static Bitmask EMPTY_BITMASK = new Bitmask(0);
+    public static final Bitmask EMPTY_BITMASK = new Bitmask(0);
 
     private static int BITS_PER_WORD = Long.BYTES * 8;
 
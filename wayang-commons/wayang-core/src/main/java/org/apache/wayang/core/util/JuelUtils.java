@@ -42,6 +42,12 @@ public class JuelUtils {
 
         private final SimpleContext context;
 
+        /**
+         * Binds the arguments for the evaluations of the current thread. Functions are resolved when parsing, so
+         * that only the argument values must be kept apart.
+         */
+        private final ThreadLocal<SimpleContext> evaluationContext = ThreadLocal.withInitial(SimpleContext::new);
+
         private final ValueExpression expression;
 
 
@@ -84,8 +90,13 @@ public class JuelUtils {
             return this.apply(values, false);
         }
 
+        /**
+         * Evaluate this instance. The arguments are bound in a JUEL context of the calling thread, so that
+         * concurrent calls do not interfere.
+         */
         @SuppressWarnings("unchecked")
         public T apply(Map<String, Object> values, boolean isExpectTooManyArguments) {
+            final SimpleContext context = this.evaluationContext.get();
             values.forEach((key, value) -> {
                 final Argument argument = this.arguments.get(key);
                 if (argument == null) {
@@ -95,10 +106,10 @@ public class JuelUtils {
                         LogManager.getLogger(this.getClass()).warn("Unknown field \"{}\" (available: {}).", key, this.arguments.keySet());
                     }
                 } else {
-                    argument.expression.setValue(this.context, value);
+                    argument.expression.setValue(context, value);
                 }
             });
-            return (T) this.expression.getValue(this.context);
+            return (T) this.expression.getValue(context);
         }
     }
 
@@ -38,6 +38,18 @@ public class BinaryOperation implements Expression {
         this.operand1 = operand1;
     }
 
+    public Expression getOperand0() {
+        return this.operand0;
+    }
+
+    public char getOperator() {
+        return this.operator;
+    }
+
+    public Expression getOperand1() {
+        return this.operand1;
+    }
+
     @Override
     public double evaluate(Context context) {
         switch (this.operator) {
@@ -52,6 +52,18 @@ public class CompiledFunction implements Expression {
         this.arguments = arguments;
     }
 
+    public String getName() {
+        return this.name;
+    }
+
+    public ToDoubleFunction<double[]> getImplementation() {
+        return this.implementation;
+    }
+
+    public List<Expression> getArguments() {
+        return this.arguments;
+    }
+
     @Override
     public double evaluate(Context context) {
         // Evaluate the arguments.
@@ -47,6 +47,14 @@ public class NamedFunction implements Expression {
         this.arguments = arguments;
     }
 
+    public String getName() {
+        return this.name;
+    }
+
+    public List<Expression> getArguments() {
+        return this.arguments;
+    }
+
     @Override
     public double evaluate(Context context) {
         // Determine the function.
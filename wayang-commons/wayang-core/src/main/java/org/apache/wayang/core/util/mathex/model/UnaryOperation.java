@@ -36,6 +36,14 @@ public class UnaryOperation implements Expression {
         this.operand = operand;
     }
 
+    public char getOperator() {
+        return this.operator;
+    }
+
+    public Expression getOperand() {
+        return this.operand;
+    }
+
     @Override
     public double evaluate(Context context) {
         switch (this.operator) {
@@ -33,6 +33,10 @@ public class Variable implements Expression {
         this.name = name;
     }
 
+    public String getName() {
+        return this.name;
+    }
+
     @Override
     public double evaluate(Context context) {
         return context.getVariable(this.name);
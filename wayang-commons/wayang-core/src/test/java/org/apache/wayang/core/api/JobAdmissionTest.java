@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.wayang.core.api;
+
+import org.apache.wayang.core.api.exception.WayangException;
+import org.apache.wayang.core.plan.wayangplan.WayangPlan;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Test suite for {@link JobAdmission}.
+ */
+class JobAdmissionTest {
+
+    @Test
+    void testAdmission() throws Exception {
+        final WayangContext wayangContext = new WayangContext();
+        final Job job1 = wayangContext.createJob("job1", mock(WayangPlan.class));
+        final Job job2 = wayangContext.createJob("job2", mock(WayangPlan.class));
+        final Job job3 = wayangContext.createJob("job3", mock(WayangPlan.class));
+        final JobAdmission jobAdmission = new JobAdmission(1, 1);
+
+        // The first job is admitted right away.
+        jobAdmission.admit(job1);
+        assertEquals(1, jobAdmission.getNumRunningJobs());
+
+        // The second job has to wait.
+        final CompletableFuture<Void> admission2 = CompletableFuture.runAsync(() -> jobAdmission.admit(job2));
+        while (jobAdmission.getNumWaitingJobs() == 0) {
+            Thread.sleep(1);
+        }
+        assertFalse(admission2.isDone());
+
+        // The third job does not fit into the queue anymore.
+        assertThrows(WayangException.class, () -> jobAdmission.admit(job3));
+        assertEquals(1, jobAdmission.getNumWaitingJobs());
+
+        // Once the first job finishes, the second job is admitted.
+        jobAdmission.release(job1);
+        admission2.get(10, TimeUnit.SECONDS);
+        assertEquals(1, jobAdmission.getNumRunningJobs());
+        assertEquals(0, jobAdmission.getNumWaitingJobs());
+        jobAdmission.release(job2);
+        assertEquals(0, jobAdmission.getNumRunningJobs());
+    }
+
+    @Test
+    void testConfiguration() {
+        final WayangContext unboundedContext = new WayangContext();
+        assertNull(unboundedContext.getJobAdmission());
+
+        final Configuration configuration = new Configuration();
+        configuration.setProperty("wayang.core.jobs.max-concurrent", "4");
+        final WayangContext boundedContext = new WayangContext(configuration);
+        assertNotNull(boundedContext.getJobAdmission());
+        assertEquals(boundedContext.getJobAdmission(), boundedContext.getJobAdmission());
+    }
+
+    @Test
+    void testUniqueRunIds() {
+        final WayangContext wayangContext = new WayangContext();
+        final Job job1 = wayangContext.createJob("job", mock(WayangPlan.class));
+        final Job job2 = wayangContext.createJob("job", mock(WayangPlan.class));
+        assertNotEquals(job1.getRunId(), job2.getRunId());
+    }
+
+}
@@ -0,0 +1,144 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.wayang.core.monitor.tracing;
+
+import org.apache.wayang.core.api.Job;
+import org.apache.wayang.core.api.WayangContext;
+import org.apache.wayang.core.api.exception.WayangException;
+import org.apache.wayang.core.plan.wayangplan.WayangPlan;
+import org.apache.wayang.core.util.json.WayangJsonObj;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Test suite for {@link InMemoryTracer}.
+ */
+class InMemoryTracerTest {
+
+    @Test
+    void testSpans() {
+        final InMemoryTracer tracer = new InMemoryTracer();
+        final Span jobSpan = tracer.startSpan(Tracer.JOB_SPAN, null).setAttribute("job.name", "test");
+        try (Span stageSpan = tracer.startSpan(Tracer.STAGE_SPAN, jobSpan)) {
+            tracer.startSpan(Tracer.TASK_SPAN, stageSpan)
+                    .setAttribute("output.0.cardinality", 42L)
+                    .end();
+        }
+        jobSpan.end();
+        jobSpan.end();
+
+        final List<FinishedSpan> spans = tracer.getSpans();
+        assertEquals(3, spans.size());
+        final FinishedSpan task = spans.get(0), stage = spans.get(1), job = spans.get(2);
+        assertEquals(Tracer.TASK_SPAN, task.getName());
+        assertEquals(42L, task.getAttribute("output.0.cardinality"));
+        assertEquals(stage.getSpanId(), task.getParentSpanId());
+        assertEquals(job.getSpanId(), stage.getParentSpanId());
+        assertNull(job.getParentSpanId());
+        assertEquals(job.getTraceId(), task.getTraceId());
+        assertEquals(32, job.getTraceId().length());
+        assertEquals(16, job.getSpanId().length());
+        assertTrue(job.getStartEpochNanos() <= stage.getStartEpochNanos());
+        assertTrue(stage.getEndEpochNanos() <= job.getEndEpochNanos());
+        assertEquals(1, tracer.getSpans(Tracer.STAGE_SPAN).size());
+
+
+        // Another root span starts a new trace.
+        tracer.startSpan(Tracer.JOB_SPAN, null).end();
+        final List<FinishedSpan> jobs = tracer.getSpans(Tracer.JOB_SPAN);
+        assertEquals(2, jobs.size());
+        assertNotEquals(jobs.get(0).getTraceId(), jobs.get(1).getTraceId());
+    }
+
+    @Test
+    void testMetricsAndJson() {
+        final InMemoryTracer tracer = new InMemoryTracer();
+        tracer.recordMetric(Tracer.CARDINALITY_METRIC, 10);
+        tracer.recordMetric(Tracer.CARDINALITY_METRIC, 5);
+        tracer.startSpan(Tracer.ENUMERATION_SPAN, null).setAttribute("plancache.hit", false).end();
+        assertEquals(15d, tracer.getMetric(Tracer.CARDINALITY_METRIC));
+        assertEquals(0d, tracer.getMetric(Tracer.BYTES_METRIC));
+
+        final WayangJsonObj json = tracer.toJson();
+        assertEquals(1, json.getJSONArray("spans").length());
+        final WayangJsonObj jsonSpan = json.getJSONArray("spans").getJSONObject(0);
+        assertEquals(Tracer.ENUMERATION_SPAN, jsonSpan.getString("name"));
+        assertFalse(jsonSpan.getJSONObject("attributes").getNode().get("plancache.hit").asBoolean());
+        assertEquals(15d, json.getJSONObject("metrics").getDouble(Tracer.CARDINALITY_METRIC));
+
+        tracer.clear();
+        assertTrue(tracer.getSpans().isEmpty());
+    }
+
+    @Test
+    void testErrors() {
+        final InMemoryTracer tracer = new InMemoryTracer();
+        tracer.startSpan(Tracer.STAGE_SPAN, null).end();
+        tracer.startSpan(Tracer.TASK_SPAN, null).recordError(new IllegalStateException("broken")).end();
+
+        final FinishedSpan stage = tracer.getSpans(Tracer.STAGE_SPAN).get(0);
+        assertFalse(stage.isError());
+        assertEquals(FinishedSpan.Status.UNSET, stage.getStatus());
+        assertFalse(stage.toJson().has("status"));
+
+        final FinishedSpan task = tracer.getSpans(Tracer.TASK_SPAN).get(0);
+        assertTrue(task.isError());
+        assertEquals("broken", task.getStatusDescription());
+        assertEquals(IllegalStateException.class.getName(), task.getAttribute("exception.type"));
+        assertEquals("ERROR", task.toJson().getString("status"));
+    }
+
+    @Test
+    void testFailedJob() {
+        final InMemoryTracer tracer = new InMemoryTracer();
+        final WayangContext wayangContext = new WayangContext().withTracer(tracer);
+        final Job job = wayangContext.createJob("failing", mock(WayangPlan.class));
+        assertThrows(WayangException.class, job::execute);
+
+        final List<FinishedSpan> jobSpans = tracer.getSpans(Tracer.JOB_SPAN);
+        assertEquals(1, jobSpans.size());
+        assertTrue(jobSpans.get(0).isError());
+        assertEquals(job.getRunId(), jobSpans.get(0).getAttribute("job.runId"));
+    }
+
+    @Test
+    void testConfiguration() {
+        assertSame(NoopTracer.INSTANCE, new WayangContext().getTracer());
+
+        final WayangContext wayangContext = new WayangContext();
+        wayangContext.getConfiguration().setProperty("wayang.core.tracing.tracer", InMemoryTracer.class.getName());
+        assertTrue(wayangContext.getTracer() instanceof InMemoryTracer);
+
+        final InMemoryTracer tracer = new InMemoryTracer();
+        assertSame(tracer, new WayangContext().withTracer(tracer).getTracer());
+        assertNotEquals(tracer, wayangContext.getTracer());
+    }
+
+}
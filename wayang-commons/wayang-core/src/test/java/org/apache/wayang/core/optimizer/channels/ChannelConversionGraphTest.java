@@ -20,6 +20,10 @@ package org.apache.wayang.core.optimizer.channels;
 
 import org.apache.wayang.core.api.Configuration;
 import org.apache.wayang.core.api.Job;
+import org.apache.wayang.core.monitor.tracing.FinishedSpan;
+import org.apache.wayang.core.monitor.tracing.InMemoryTracer;
+import org.apache.wayang.core.monitor.tracing.Span;
+import org.apache.wayang.core.monitor.tracing.Tracer;
 import org.apache.wayang.core.optimizer.DefaultOptimizationContext;
 import org.apache.wayang.core.optimizer.OptimizationContext;
 import org.apache.wayang.core.optimizer.OptimizationUtils;
@@ -39,12 +43,14 @@ import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.function.Supplier;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
 
 /**
  * Test suite for {@link ChannelConversionGraph}.
@@ -131,6 +137,38 @@ class ChannelConversionGraphTest {
         );
     }
 
+    @Test
+    void traceJunctionSearchWithinEnumerationSpan() {
+        ChannelConversionGraph channelConversionGraph = new ChannelConversionGraph(configuration);
+
+        ExecutionOperator sourceOperator = new DummyExecutionOperator(0, 1, false);
+        sourceOperator.getSupportedOutputChannels(0).add(DummyReusableChannel.DESCRIPTOR);
+        ExecutionOperator destOperator = new DummyExecutionOperator(1, 1, false);
+        destOperator.getSupportedInputChannels(0).add(DummyReusableChannel.DESCRIPTOR);
+
+        final InMemoryTracer tracer = new InMemoryTracer();
+        final Job tracedJob = MockFactory.createJob(configuration);
+        when(tracedJob.getTracer()).thenReturn(tracer);
+        final Span jobSpan = tracer.startSpan(Tracer.JOB_SPAN, null);
+        when(tracedJob.getTraceSpan()).thenReturn(jobSpan);
+        final OptimizationContext optimizationContext = new DefaultOptimizationContext(tracedJob);
+        optimizationContext.addOneTimeOperator(sourceOperator).setOutputCardinality(0, new CardinalityEstimate(1000, 10000, 0.8d));
+
+        try (Span enumerationSpan = tracer.startSpan(Tracer.ENUMERATION_SPAN, jobSpan)) {
+            channelConversionGraph.findMinimumCostJunction(
+                    sourceOperator.getOutput(0),
+                    Collections.singletonList(destOperator.getInput(0)),
+                    optimizationContext,
+                    false,
+                    enumerationSpan
+            );
+        }
+        jobSpan.end();
+
+        final FinishedSpan junctionSearchSpan = tracer.getSpans(Tracer.JUNCTION_SEARCH_SPAN).get(0);
+        assertEquals(tracer.getSpans(Tracer.ENUMERATION_SPAN).get(0).getSpanId(), junctionSearchSpan.getParentSpanId());
+    }
+
     @Test
     void findIntricateConversion() throws Exception {
         ChannelConversionGraph channelConversionGraph = new ChannelConversionGraph(new Configuration());
@@ -189,6 +227,49 @@ class ChannelConversionGraphTest {
         );
     }
 
+    @Test
+    void reuseMemoizedConversionTree() throws Exception {
+        final Configuration cachingConfiguration = new Configuration();
+        cachingConfiguration.setProperty("wayang.core.optimizer.channels.cache", "true");
+        ChannelConversionGraph channelConversionGraph = new ChannelConversionGraph(cachingConfiguration);
+        channelConversionGraph.add(reusableToNonReusableChannelConversion);
+        channelConversionGraph.add(nonReusableToReusableChannelConversion);
+        channelConversionGraph.add(reusableToExternalChannelConversion);
+        channelConversionGraph.add(nonReusableToExternalChannelConversion);
+        channelConversionGraph.add(externalToNonReusableChannelConversion);
+
+        final OptimizationContext optimizationContext = new DefaultOptimizationContext(job);
+        Junction[] junctions = new Junction[2];
+        for (int i = 0; i < junctions.length; i++) {
+            ExecutionOperator sourceOperator = new DummyExecutionOperator(0, 1, false);
+            sourceOperator.getSupportedOutputChannels(0).add(DummyReusableChannel.DESCRIPTOR);
+
+            ExecutionOperator destOperator0 = new DummyExecutionOperator(1, 1, false);
+            destOperator0.getSupportedInputChannels(0).add(DummyNonReusableChannel.DESCRIPTOR);
+
+            ExecutionOperator destOperator1 = new DummyExecutionOperator(1, 1, false);
+            destOperator1.getSupportedInputChannels(0).add(DummyExternalReusableChannel.DESCRIPTOR);
+
+            // Both cardinalities are of the same order of magnitude.
+            optimizationContext.addOneTimeOperator(sourceOperator)
+                    .setOutputCardinality(0, new CardinalityEstimate(1000 + i, 10000 + i, 0.8d));
+
+            junctions[i] = channelConversionGraph.findMinimumCostJunction(
+                    sourceOperator.getOutput(0),
+                    Arrays.asList(destOperator0.getInput(0), destOperator1.getInput(0)),
+                    optimizationContext,
+                    false
+            );
+        }
+
+        assertEquals(1, channelConversionGraph.getNumTreeCacheMisses());
+        assertEquals(1, channelConversionGraph.getNumTreeCacheHits());
+        assertEquals(junctions[0].getConversionTasks().size(), junctions[1].getConversionTasks().size());
+        for (int i = 0; i < 2; i++) {
+            assertSame(junctions[0].getTargetChannel(i).getClass(), junctions[1].getTargetChannel(i).getClass());
+        }
+    }
+
     @Test
     void updateExistingConversionWithOnlySourceChannel() throws Exception {
         ChannelConversionGraph channelConversionGraph = new ChannelConversionGraph(new Configuration());
@@ -0,0 +1,144 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.core.optimizer.costs;
+
+import org.apache.wayang.core.optimizer.OptimizationUtils;
+import org.apache.wayang.core.optimizer.cardinality.CardinalityEstimate;
+import org.apache.wayang.core.util.JuelUtils;
+import org.apache.wayang.core.util.mathex.ExpressionBuilder;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test suite for {@link EstimationFunctionCompiler}.
+ */
+class EstimationFunctionCompilerTest {
+
+    @Test
+    void testCompileJuelLikeInterpretation() {
+        String juel = "${1300 * (in0 + in1 + out0) + 1.2775981739537635E8 - in0 / 4}";
+        final EstimationFunctionCompiler.DoubleEstimationFunction compiledFunction =
+                EstimationFunctionCompiler.compileJuel(juel, 2, 1, Collections.emptyList(), LoadProfileEstimators.baseContext);
+        assertNotNull(compiledFunction);
+
+        Map<String, Class<?>> parameterClasses = new HashMap<>();
+        parameterClasses.put("in0", Long.class);
+        parameterClasses.put("in1", Long.class);
+        parameterClasses.put("out0", Long.class);
+        final JuelUtils.JuelFunction<Double> juelFunction = new JuelUtils.JuelFunction<>(juel, Double.class, parameterClasses);
+        Map<String, Object> arguments = new HashMap<>();
+        arguments.put("in0", 17L);
+        arguments.put("in1", 1000L);
+        arguments.put("out0", 42L);
+
+        assertEquals(
+                juelFunction.apply(arguments),
+                compiledFunction.estimate(null, new long[]{17, 1000}, new long[]{42}),
+                0.000001
+        );
+    }
+
+    @Test
+    void testCompileJuelFunctionsAndProperties() {
+        final EstimationFunctionCompiler.DoubleEstimationFunction compiledFunction = EstimationFunctionCompiler.compileJuel(
+                "${wayang:logGrowth(0.1, 0.1, 1000000, in0) + math:sqrt(out0) * numIterations + unset}",
+                1,
+                1,
+                Arrays.asList("numIterations", "unset"),
+                LoadProfileEstimators.baseContext
+        );
+        assertNotNull(compiledFunction);
+
+        HashMap<String, Double> properties = new HashMap<>();
+        properties.put("numIterations", 3d);
+        final SimpleEstimationContext estimationContext = new SimpleEstimationContext(
+                new CardinalityEstimate[]{new CardinalityEstimate(500, 500, 1d)},
+                new CardinalityEstimate[]{new CardinalityEstimate(16, 16, 1d)},
+                properties,
+                1
+        );
+        assertEquals(
+                OptimizationUtils.logisticGrowth(0.1, 0.1, 1000000, 500) + 4 * 3,
+                compiledFunction.estimate(estimationContext, new long[]{500}, new long[]{16}),
+                0.000001
+        );
+    }
+
+    @Test
+    void testRejectUnsupportedJuel() {
+        // Conditionals and comparisons are not available in mathematical expressions.
+        assertNull(EstimationFunctionCompiler.compileJuel(
+                "${in0 > 10 ? in0 : 10}", 1, 1, Collections.emptyList(), LoadProfileEstimators.baseContext
+        ));
+        // Undeclared variables must fail as in JUEL.
+        assertNull(EstimationFunctionCompiler.compileJuel(
+                "${in1 + 10}", 1, 1, Collections.emptyList(), LoadProfileEstimators.baseContext
+        ));
+        // Unknown functions must fail as in JUEL.
+        assertNull(EstimationFunctionCompiler.compileJuel(
+                "${math:log(in0)}", 1, 1, Collections.emptyList(), LoadProfileEstimators.baseContext
+        ));
+    }
+
+    @Test
+    void testCompileMathEx() {
+        final EstimationFunctionCompiler.DoubleEstimationFunction compiledFunction = EstimationFunctionCompiler.compile(
+                ExpressionBuilder.parse("-3*max(in0, in1) % 1000 + 2^out0 - missing").specify(LoadProfileEstimators.baseContext),
+                0d
+        );
+        assertNotNull(compiledFunction);
+        assertEquals(
+                -3 * Math.max(12, 7) % 1000 + Math.pow(2, 5),
+                compiledFunction.estimate(null, new long[]{12, 7}, new long[]{5}),
+                0.000001
+        );
+    }
+
+    @Test
+    void testConcurrentEvaluation() {
+        String specification = "{" +
+                "\"in\":2," +
+                "\"out\":1," +
+                "\"p\":0.8," +
+                "\"cpu\":\"${3*in0 + 2*in1 + 7*out0}\"," +
+                "\"ram\":\"${6*in0 + 4*in1 + 14*out0}\"" +
+                "}";
+        final NestableLoadProfileEstimator estimator = LoadProfileEstimators.createFromSpecification(null, specification);
+        assertTrue(IntStream.range(0, 10000).parallel().allMatch(i -> {
+            final LoadProfile estimate = estimator.estimate(new SimpleEstimationContext(
+                    new CardinalityEstimate[]{new CardinalityEstimate(i, i, 1d), new CardinalityEstimate(1, 1, 1d)},
+                    new CardinalityEstimate[]{new CardinalityEstimate(i, i, 1d)},
+                    new HashMap<>(),
+                    1
+            ));
+            return estimate.getCpuUsage().getLowerEstimate() == 3L * i + 2 + 7L * i;
+        }));
+    }
+
+}
@@ -0,0 +1,204 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.core.optimizer.enumeration;
+
+import org.apache.wayang.core.api.Configuration;
+import org.apache.wayang.core.plan.wayangplan.Operator;
+import org.apache.wayang.core.plan.wayangplan.OperatorAlternative;
+import org.apache.wayang.core.plan.wayangplan.WayangPlan;
+import org.apache.wayang.core.plan.wayangplan.test.TestFilterOperator;
+import org.apache.wayang.core.plan.wayangplan.test.TestMapOperator;
+import org.apache.wayang.core.plan.wayangplan.test.TestSink;
+import org.apache.wayang.core.plan.wayangplan.test.TestSource;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test suite for {@link PlanCache}.
+ */
+class PlanCacheTest {
+
+    /**
+     * Creates a {@code source -> (map | filter) -> sink} plan.
+     */
+    private static WayangPlan createPlan(boolean isWithFilterFirst) {
+        TestSource<String> source = new TestSource<>(String.class);
+        Operator map = new TestMapOperator<>(String.class, String.class);
+        Operator filter = new TestFilterOperator<>(String.class);
+        TestSink<String> sink = new TestSink<>(String.class);
+
+        Operator first = isWithFilterFirst ? filter : map;
+        source.connectTo(0, first, 0);
+        first.connectTo(0, sink, 0);
+        OperatorAlternative operatorAlternative = OperatorAlternative.wrap(first);
+        operatorAlternative.addAlternative(isWithFilterFirst ? map : filter);
+
+        return new WayangPlan(sink);
+    }
+
+    private static OperatorAlternative getOperatorAlternative(PlanCache.Fingerprint fingerprint) {
+        assertEquals(1, fingerprint.getOperatorAlternatives().size());
+        return fingerprint.getOperatorAlternatives().get(0);
+    }
+
+    private static PlanImplementation mockPlanImplementation(OperatorAlternative operatorAlternative, int alternativeIndex) {
+        PlanImplementation planImplementation = mock(PlanImplementation.class);
+        when(planImplementation.getChosenAlternative(operatorAlternative))
+                .thenReturn(operatorAlternative.getAlternatives().get(alternativeIndex));
+        when(planImplementation.getLoopImplementations()).thenReturn(Collections.emptyMap());
+        return planImplementation;
+    }
+
+    @Test
+    void testFingerprintIdentifiesEquivalentPlans() {
+        Configuration configuration = new Configuration();
+        PlanCache.Fingerprint fingerprint1 = PlanCache.fingerprint(createPlan(false), null, configuration);
+        PlanCache.Fingerprint fingerprint2 = PlanCache.fingerprint(createPlan(false), null, configuration);
+        PlanCache.Fingerprint fingerprint3 = PlanCache.fingerprint(createPlan(true), null, configuration);
+
+        assertEquals(fingerprint1.getKey(), fingerprint2.getKey());
+        assertNotEquals(fingerprint1.getKey(), fingerprint3.getKey());
+
+        Configuration otherConfiguration = new Configuration();
+        otherConfiguration.setProperty("wayang.core.optimizer.pruning.topk", "3");
+        assertNotEquals(
+                fingerprint1.getKey(),
+                PlanCache.fingerprint(createPlan(false), null, otherConfiguration).getKey()
+        );
+    }
+
+    @Test
+    void testFingerprintCoversEstimationProperties() {
+        String key = PlanCache.fingerprint(createPlan(false), null, new Configuration()).getKey();
+
+        // Load profiles and cardinality settings change the costs and hence the picked plan.
+        Configuration loadConfiguration = new Configuration();
+        loadConfiguration.setProperty("wayang.test.map.load", "{\"in\":1,\"out\":1,\"cpu\":\"${100*in0}\"}");
+        assertNotEquals(key, PlanCache.fingerprint(createPlan(false), null, loadConfiguration).getKey());
+        Configuration cardinalityConfiguration = new Configuration();
+        cardinalityConfiguration.setProperty("wayang.core.optimizer.cardinality.minconfidence", "0.1");
+        assertNotEquals(key, PlanCache.fingerprint(createPlan(false), null, cardinalityConfiguration).getKey());
+
+        // Other properties do not.
+        Configuration logConfiguration = new Configuration();
+        logConfiguration.setProperty("wayang.core.log.enabled", "false");
+        logConfiguration.setProperty("wayang.core.optimizer.plancache.capacity", "1");
+        assertEquals(key, PlanCache.fingerprint(createPlan(false), null, logConfiguration).getKey());
+    }
+
+    @Test
+    void testReuseChosenAlternatives() {
+        Configuration configuration = new Configuration();
+        PlanCache planCache = new PlanCache(4, null);
+
+        PlanCache.Fingerprint fingerprint1 = PlanCache.fingerprint(createPlan(false), null, configuration);
+        assertNull(planCache.get(fingerprint1));
+        OperatorAlternative operatorAlternative1 = getOperatorAlternative(fingerprint1);
+        planCache.put(fingerprint1, mockPlanImplementation(operatorAlternative1, 1), 100);
+
+        // The choice must be transferred to the OperatorAlternative of the new plan.
+        PlanCache.Fingerprint fingerprint2 = PlanCache.fingerprint(createPlan(false), null, configuration);
+        OperatorAlternative operatorAlternative2 = getOperatorAlternative(fingerprint2);
+        Map<OperatorAlternative, OperatorAlternative.Alternative> presettledAlternatives = planCache.get(fingerprint2);
+        assertNotNull(presettledAlternatives);
+        assertEquals(1, presettledAlternatives.size());
+        assertSame(operatorAlternative2.getAlternatives().get(1), presettledAlternatives.get(operatorAlternative2));
+
+        planCache.noteHit(fingerprint2, 10);
+        assertEquals(1, planCache.getNumHits());
+        assertEquals(1, planCache.getNumMisses());
+        assertEquals(0.5d, planCache.getHitRate(), 0.000001);
+        assertEquals(90, planCache.getSavedMillis());
+    }
+
+    @Test
+    void testLeastRecentlyUsedEviction() {
+        Configuration configuration = new Configuration();
+        PlanCache planCache = new PlanCache(1, null);
+
+        PlanCache.Fingerprint fingerprint1 = PlanCache.fingerprint(createPlan(false), null, configuration);
+        planCache.put(fingerprint1, mockPlanImplementation(getOperatorAlternative(fingerprint1), 0), 100);
+        PlanCache.Fingerprint fingerprint2 = PlanCache.fingerprint(createPlan(true), null, configuration);
+        planCache.put(fingerprint2, mockPlanImplementation(getOperatorAlternative(fingerprint2), 0), 100);
+
+        assertEquals(1, planCache.size());
+        assertNull(planCache.get(fingerprint1));
+        assertNotNull(planCache.get(fingerprint2));
+    }
+
+    @Test
+    void testPersistence(@TempDir Path tempDir) {
+        Configuration configuration = new Configuration();
+        Path file = tempDir.resolve("plancache.tsv");
+
+        PlanCache.Fingerprint fingerprint1 = PlanCache.fingerprint(createPlan(false), null, configuration);
+        new PlanCache(4, file).put(fingerprint1, mockPlanImplementation(getOperatorAlternative(fingerprint1), 1), 100);
+
+        PlanCache.Fingerprint fingerprint2 = PlanCache.fingerprint(createPlan(false), null, configuration);
+        OperatorAlternative operatorAlternative2 = getOperatorAlternative(fingerprint2);
+        Map<OperatorAlternative, OperatorAlternative.Alternative> presettledAlternatives =
+                new PlanCache(4, file).get(fingerprint2);
+        assertNotNull(presettledAlternatives);
+        assertSame(operatorAlternative2.getAlternatives().get(1), presettledAlternatives.get(operatorAlternative2));
+    }
+
+    @Test
+    void testPersistenceAppendsAndCompacts(@TempDir Path tempDir) throws IOException {
+        Configuration configuration = new Configuration();
+        Path file = tempDir.resolve("plancache.tsv");
+        PlanCache planCache = new PlanCache(2, file);
+
+        // Repeatedly caching the same plan appends lines until the file is compacted.
+        PlanCache.Fingerprint fingerprint = PlanCache.fingerprint(createPlan(false), null, configuration);
+        OperatorAlternative operatorAlternative = getOperatorAlternative(fingerprint);
+        for (int i = 0; i < 4; i++) {
+            planCache.put(fingerprint, mockPlanImplementation(operatorAlternative, i % 2), 100);
+            assertEquals(i + 1, Files.readAllLines(file).size());
+        }
+        planCache.put(fingerprint, mockPlanImplementation(operatorAlternative, 1), 100);
+        assertEquals(1, Files.readAllLines(file).size());
+        planCache.put(fingerprint, mockPlanImplementation(operatorAlternative, 0), 100);
+        assertEquals(2, Files.readAllLines(file).size());
+
+        // The last line for a plan wins.
+        PlanCache.Fingerprint fingerprint2 = PlanCache.fingerprint(createPlan(false), null, configuration);
+        OperatorAlternative operatorAlternative2 = getOperatorAlternative(fingerprint2);
+        PlanCache reloadedPlanCache = new PlanCache(2, file);
+        assertEquals(1, reloadedPlanCache.size());
+        assertSame(
+                operatorAlternative2.getAlternatives().get(0),
+                reloadedPlanCache.get(fingerprint2).get(operatorAlternative2)
+        );
+    }
+
+}
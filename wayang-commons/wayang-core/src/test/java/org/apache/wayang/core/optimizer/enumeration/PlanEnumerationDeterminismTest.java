@@ -23,6 +23,8 @@ import org.apache.wayang.core.api.Job;
 import org.apache.wayang.core.api.configuration.ExplicitCollectionProvider;
 import org.apache.wayang.core.optimizer.DefaultOptimizationContext;
 import org.apache.wayang.core.optimizer.OptimizationContext;
+import org.apache.wayang.core.optimizer.cardinality.CardinalityEstimate;
+import org.apache.wayang.core.optimizer.channels.DefaultChannelConversion;
 import org.apache.wayang.core.optimizer.costs.ConstantLoadProfileEstimator;
 import org.apache.wayang.core.optimizer.costs.LoadEstimate;
 import org.apache.wayang.core.optimizer.costs.LoadProfile;
@@ -30,15 +32,23 @@ import org.apache.wayang.core.plan.executionplan.Channel;
 import org.apache.wayang.core.plan.wayangplan.ExecutionOperator;
 import org.apache.wayang.core.plan.wayangplan.InputSlot;
 import org.apache.wayang.core.plan.wayangplan.OutputSlot;
+import org.apache.wayang.core.platform.ChannelDescriptor;
 import org.apache.wayang.core.test.DummyExecutionOperator;
+import org.apache.wayang.core.test.DummyExternalReusableChannel;
+import org.apache.wayang.core.test.DummyNonReusableChannel;
 import org.apache.wayang.core.test.DummyReusableChannel;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -52,6 +62,8 @@ import static org.mockito.Mockito.when;
  */
 class PlanEnumerationDeterminismTest {
 
+    private static final String CONVERSION_LOAD_KEY = "wayang.core.test.conversion.load";
+
     @Test
     void concatenationProducesStablePlanOrdering() {
         Configuration configuration = new Configuration();
@@ -97,11 +109,160 @@ class PlanEnumerationDeterminismTest {
         assertEquals(firstRun, secondRun, "Enumeration order with multiple targets must be deterministic.");
     }
 
+    @Test
+    void parallelConcatenationMatchesSequentialConcatenation() {
+        Configuration configuration = new Configuration();
+        configuration.setPruningStrategyClassProvider(
+                new ExplicitCollectionProvider<Class<PlanEnumerationPruningStrategy>>(configuration)
+        );
+        Job job = mock(Job.class);
+        when(job.getConfiguration()).thenReturn(configuration);
+
+        DummyExecutionOperator producer = new DummyExecutionOperator(0, 1, false);
+        DummyExecutionOperator consumerA = new DummyExecutionOperator(1, 0, false);
+        DummyExecutionOperator consumerB = new DummyExecutionOperator(1, 0, false);
+        registerChannelDescriptors(producer, Arrays.asList(consumerA, consumerB));
+        registerLoadEstimator(configuration, producer, 10);
+        registerLoadEstimator(configuration, consumerA, 7);
+        registerLoadEstimator(configuration, consumerB, 3);
+
+        List<String> sequentialRun = enumerateDeterministicIds(job, producer, Arrays.asList(consumerA, consumerB), 4, 3);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            List<String> parallelRun = enumerateDeterministicIds(
+                    job, producer, Arrays.asList(consumerA, consumerB), 4, 3, pool
+            );
+            assertEquals(sequentialRun, parallelRun, "Parallel concatenation must yield the sequential result.");
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void parallelConcatenationWithChannelConversionsMatchesSequentialConcatenation() throws Exception {
+        Configuration configuration = new Configuration();
+        configuration.setPruningStrategyClassProvider(
+                new ExplicitCollectionProvider<Class<PlanEnumerationPruningStrategy>>(configuration)
+        );
+        // The conversions are estimated with a JUEL function, which all junction searches share via the cache of
+        // the Configuration.
+        configuration.setProperty(CONVERSION_LOAD_KEY, "{" +
+                "\"type\":\"juel\"," +
+                "\"in\":1," +
+                "\"out\":1," +
+                "\"p\":0.9," +
+                "\"cpu\":\"${7*in0 + 3*out0}\"," +
+                "\"ram\":\"${in0}\"" +
+                "}");
+        configuration.getChannelConversionProvider().addToWhitelist(new DefaultChannelConversion(
+                DummyReusableChannel.DESCRIPTOR, DummyNonReusableChannel.DESCRIPTOR,
+                () -> createConversionOperator(DummyNonReusableChannel.DESCRIPTOR)
+        ));
+        configuration.getChannelConversionProvider().addToWhitelist(new DefaultChannelConversion(
+                DummyReusableChannel.DESCRIPTOR, DummyExternalReusableChannel.DESCRIPTOR,
+                () -> createConversionOperator(DummyExternalReusableChannel.DESCRIPTOR)
+        ));
+        Job job = mock(Job.class);
+        when(job.getConfiguration()).thenReturn(configuration);
+
+        // Enumerate several junctions with different cardinalities, so that interleaved estimates would show.
+        final int numScenarios = 16;
+        List<Callable<List<String>>> scenarios = new ArrayList<>(numScenarios);
+        for (int i = 0; i < numScenarios; i++) {
+            DummyExecutionOperator producer = new DummyExecutionOperator(0, 1, false);
+            producer.getSupportedOutputChannels(0).add(DummyReusableChannel.DESCRIPTOR);
+            DummyExecutionOperator consumerA = new DummyExecutionOperator(1, 0, false);
+            consumerA.getSupportedInputChannels(0).add(DummyNonReusableChannel.DESCRIPTOR);
+            DummyExecutionOperator consumerB = new DummyExecutionOperator(1, 0, false);
+            consumerB.getSupportedInputChannels(0).add(DummyExternalReusableChannel.DESCRIPTOR);
+            registerLoadEstimator(configuration, producer, 10);
+            registerLoadEstimator(configuration, consumerA, 7);
+            registerLoadEstimator(configuration, consumerB, 3);
+            final CardinalityEstimate cardinality = new CardinalityEstimate(1000L * (i + 1), 2000L * (i + 1), 0.9d);
+            scenarios.add(() -> enumerateCostedPlans(
+                    job, producer, cardinality, Arrays.asList(consumerA, consumerB), ForkJoinTask.inForkJoinPool() ? ForkJoinTask.getPool() : null
+            ));
+        }
+
+        List<List<String>> sequentialRuns = new ArrayList<>(numScenarios);
+        for (Callable<List<String>> scenario : scenarios) {
+            sequentialRuns.add(scenario.call());
+        }
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            // Interference is a matter of timing, so give it several chances.
+            for (int round = 0; round < 5; round++) {
+                List<List<String>> parallelRuns = new ArrayList<>(numScenarios);
+                for (Future<List<String>> future : pool.invokeAll(scenarios)) {
+                    parallelRuns.add(future.get());
+                }
+                assertEquals(sequentialRuns, parallelRuns, "Parallel enumeration must yield the sequential plans and costs.");
+            }
+        } finally {
+            pool.shutdown();
+        }
+        // The conversion costs depend on the cardinalities.
+        assertEquals(numScenarios, sequentialRuns.stream().distinct().count());
+    }
+
+    private static List<String> enumerateCostedPlans(Job job,
+                                                     ExecutionOperator producer,
+                                                     CardinalityEstimate cardinality,
+                                                     List<? extends ExecutionOperator> consumers,
+                                                     ForkJoinPool pool) {
+        DefaultOptimizationContext optimizationContext = new DefaultOptimizationContext(job);
+        optimizationContext.addOneTimeOperator(producer).setOutputCardinality(0, cardinality);
+        consumers.forEach(consumer -> optimizationContext.addOneTimeOperator(consumer).setInputCardinality(0, cardinality));
+
+        PlanEnumeration baseEnumeration = PlanEnumeration.createSingleton(producer, optimizationContext);
+        duplicatePlanImplementations(baseEnumeration, 3);
+        Map<InputSlot<?>, PlanEnumeration> targets = new LinkedHashMap<>();
+        consumers.forEach(consumer -> {
+            PlanEnumeration targetEnumeration = PlanEnumeration.createSingleton(consumer, optimizationContext);
+            duplicatePlanImplementations(targetEnumeration, 2);
+            targets.put(consumer.getInput(0), targetEnumeration);
+        });
+
+        PlanEnumeration concatenated = baseEnumeration.concatenate(
+                producer.getOutput(0),
+                Collections.<Channel>emptyList(),
+                targets,
+                optimizationContext,
+                null,
+                pool
+        );
+
+        return concatenated.getPlanImplementations().stream()
+                .map(planImplementation -> String.format("%s: %s",
+                        planImplementation.getDeterministicIdentifier(), planImplementation.getCostEstimate()))
+                .collect(Collectors.toList());
+    }
+
+    private static ExecutionOperator createConversionOperator(ChannelDescriptor outputChannelDescriptor) {
+        DummyExecutionOperator conversionOperator = new DummyExecutionOperator(1, 1, false) {
+            @Override
+            public String getLoadProfileEstimatorConfigurationKey() {
+                return CONVERSION_LOAD_KEY;
+            }
+        };
+        conversionOperator.getSupportedOutputChannels(0).add(outputChannelDescriptor);
+        return conversionOperator;
+    }
+
     private static List<String> enumerateDeterministicIds(Job job,
                                                           ExecutionOperator producer,
                                                           List<? extends ExecutionOperator> consumers,
                                                           int numBaseCopies,
                                                           int numTargetCopies) {
+        return enumerateDeterministicIds(job, producer, consumers, numBaseCopies, numTargetCopies, null);
+    }
+
+    private static List<String> enumerateDeterministicIds(Job job,
+                                                          ExecutionOperator producer,
+                                                          List<? extends ExecutionOperator> consumers,
+                                                          int numBaseCopies,
+                                                          int numTargetCopies,
+                                                          ForkJoinPool pool) {
         DefaultOptimizationContext optimizationContext = new DefaultOptimizationContext(job);
         optimizationContext.addOneTimeOperator(producer);
         consumers.forEach(optimizationContext::addOneTimeOperator);
@@ -121,7 +282,8 @@ class PlanEnumerationDeterminismTest {
                 Collections.<Channel>emptyList(),
                 targets,
                 optimizationContext,
-                null
+                null,
+                pool
         );
 
         return concatenated.getPlanImplementations().stream()
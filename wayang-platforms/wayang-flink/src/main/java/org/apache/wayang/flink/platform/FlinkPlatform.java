@@ -85,12 +85,13 @@ public class FlinkPlatform extends Platform {
 
     /**
      * Configures the single maintained {@link ExecutionEnvironment} according to
-     * the {@code job} and returns it.
+     * the {@code job} and returns it. Concurrent {@link Job}s share the {@link ExecutionEnvironment}, but each of
+     * them holds its own reference on it.
      *
      * @return a {@link FlinkContextReference} wrapping the
      *         {@link ExecutionEnvironment}
      */
-    public FlinkContextReference getFlinkContext(final Job job) {
+    public synchronized FlinkContextReference getFlinkContext(final Job job) {
         final Configuration conf = job.getConfiguration();
         final String[] jars = getJars(job);
 
@@ -127,6 +128,8 @@ public class FlinkPlatform extends Platform {
                             1);
                     break;
             }
+        else if (job.getCrossPlatformExecutor() != null)
+            job.getCrossPlatformExecutor().registerGlobal(this.flinkContextReference);
         return this.flinkContextReference;
 
     }
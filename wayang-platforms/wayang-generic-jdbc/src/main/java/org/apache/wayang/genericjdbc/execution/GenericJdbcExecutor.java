@@ -62,8 +62,6 @@ public class GenericJdbcExecutor extends ExecutorTemplate {
 
     private final GenericJdbcPlatform platform;
 
-    private final Connection connection = null;
-
     private final Logger logger = LogManager.getLogger(this.getClass());
 
     private final FunctionCompiler functionCompiler = new FunctionCompiler();
@@ -71,7 +69,6 @@ public class GenericJdbcExecutor extends ExecutorTemplate {
     public GenericJdbcExecutor(GenericJdbcPlatform platform, Job job) {
         super(job.getCrossPlatformExecutor());
         this.platform = platform;
-//        this.connection = this.platform.createDatabaseDescriptor(job.getConfiguration()).createJdbcConnection();
     }
 
     @Override
@@ -114,15 +111,22 @@ public class GenericJdbcExecutor extends ExecutorTemplate {
             nextTask = this.findGenericJdbcExecutionOperatorTaskInStage(nextTask, stage);
         }
 
-        // Create the SQL query.
-        String tableName = this.getSqlClause(tableOp);
+        // Create the SQL query over a connection from the pool for the queried database. The pool lives along with
+        // the job, so that the consumers of the query reuse its connections.
         String jdbcName = tableOp.jdbcName;
-        Collection<String> conditions = filterTasks.stream()
-                .map(ExecutionTask::getOperator)
-                .map(this::getSqlClause)
-                .collect(Collectors.toList());
-        String projection = projectionTask == null ? "*" : this.getSqlClause(projectionTask.getOperator());
-        String query = this.createSqlQuery(tableName, conditions, projection);
+        final String poolName = jdbcName == null || jdbcName.trim().isEmpty() ? this.platform.getPlatformId() : jdbcName;
+        final String query;
+        try (Connection connection = this.platform.getConnectionPool(poolName, this.getCrossPlatformExecutor()).getConnection()) {
+            String tableName = this.getSqlClause(tableOp, connection);
+            Collection<String> conditions = filterTasks.stream()
+                    .map(ExecutionTask::getOperator)
+                    .map(operator -> this.getSqlClause(operator, connection))
+                    .collect(Collectors.toList());
+            String projection = projectionTask == null ? "*" : this.getSqlClause(projectionTask.getOperator(), connection);
+            query = this.createSqlQuery(tableName, conditions, projection);
+        } catch (SQLException e) {
+            throw new WayangException(String.format("Could not create the SQL query for %s.", stage), e);
+        }
         tipChannelInstance.setSqlQuery(query);
         tipChannelInstance.setJdbcName(jdbcName);
 
@@ -212,11 +216,12 @@ public class GenericJdbcExecutor extends ExecutorTemplate {
     /**
      * Creates a SQL clause that corresponds to the given {@link Operator}.
      *
-     * @param operator for that the SQL clause should be generated
+     * @param operator   for that the SQL clause should be generated
+     * @param connection to the queried database
      * @return the SQL clause
      */
-    private String getSqlClause(Operator operator) {
-        return ((GenericJdbcExecutionOperator) operator).createSqlClause(this.connection, this.functionCompiler);
+    private String getSqlClause(Operator operator, Connection connection) {
+        return ((GenericJdbcExecutionOperator) operator).createSqlClause(connection, this.functionCompiler);
     }
 
     @Override
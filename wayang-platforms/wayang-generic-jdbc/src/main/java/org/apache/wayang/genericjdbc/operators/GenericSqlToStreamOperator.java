@@ -17,10 +17,8 @@
 
 package org.apache.wayang.genericjdbc.operators;
 
-import org.apache.logging.log4j.LogManager;
 import org.apache.wayang.basic.data.Record;
 import org.apache.wayang.basic.types.RecordType;
-import org.apache.wayang.core.api.exception.WayangException;
 import org.apache.wayang.core.optimizer.OptimizationContext;
 import org.apache.wayang.core.optimizer.costs.LoadProfileEstimators;
 import org.apache.wayang.core.plan.wayangplan.Operator;
@@ -38,11 +36,8 @@ import org.apache.wayang.java.channels.StreamChannel;
 import org.apache.wayang.java.execution.JavaExecutor;
 import org.apache.wayang.java.operators.JavaExecutionOperator;
 import org.apache.wayang.jdbc.channels.SqlQueryChannel;
+import org.apache.wayang.jdbc.operators.SqlToStreamOperator;
 
-import java.sql.Connection;
-import java.sql.ResultSet;
-import java.sql.SQLException;
-import java.sql.Statement;
 import java.util.*;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
@@ -86,15 +81,15 @@ public class GenericSqlToStreamOperator extends UnaryToUnaryOperator<Record, Rec
             jdbcName = producerPlatform.getPlatformId();
         }
 
-        final Connection connection = producerPlatform
-                .createDatabaseDescriptor(executor.getConfiguration(), jdbcName)
-                .createJdbcConnection();
-
-        Iterator<Record> resultSetIterator = new ResultSetIterator(connection, input.getSqlQuery());
+        final SqlToStreamOperator.ResultSetIterator resultSetIterator = new SqlToStreamOperator.ResultSetIterator(
+                producerPlatform.createDatabaseDescriptor(executor.getConfiguration(), jdbcName),
+                producerPlatform.getConnectionPool(jdbcName, executor.getCrossPlatformExecutor()).getConnection(),
+                input.getSqlQuery()
+        );
         Spliterator<Record> resultSetSpliterator =
                 Spliterators.spliteratorUnknownSize(resultSetIterator, 0);
         Stream<Record> resultSetStream =
-                StreamSupport.stream(resultSetSpliterator, false);
+                StreamSupport.stream(resultSetSpliterator, false).onClose(resultSetIterator::close);
 
         output.accept(resultSetStream);
 
@@ -136,74 +131,6 @@ public class GenericSqlToStreamOperator extends UnaryToUnaryOperator<Record, Rec
         );
     }
 
-    /**
-     * Exposes a {@link ResultSet} as an {@link Iterator}.
-     */
-    private static class ResultSetIterator implements Iterator<Record>, AutoCloseable {
-
-        private ResultSet resultSet;
-        private Record next;
-
-        ResultSetIterator(Connection connection, String sqlQuery) {
-            try {
-                Statement st = connection.createStatement();
-                this.resultSet = st.executeQuery(sqlQuery);
-            } catch (SQLException e) {
-                this.close();
-                throw new WayangException("Could not execute SQL.", e);
-            }
-            this.moveToNext();
-        }
-
-        private void moveToNext() {
-            try {
-                if (this.resultSet == null || !this.resultSet.next()) {
-                    this.next = null;
-                    this.close();
-                } else {
-                    final int recordWidth = this.resultSet.getMetaData().getColumnCount();
-
-                    Object[] values = new Object[recordWidth];
-
-                    for (int i = 0; i < recordWidth; i++) {
-                        values[i] = this.resultSet.getObject(i + 1);
-                    }
-
-                    this.next = new Record(values);
-                }
-            } catch (SQLException e) {
-                this.next = null;
-                this.close();
-                throw new WayangException("Exception while iterating the result set.", e);
-            }
-        }
-
-        @Override
-        public boolean hasNext() {
-            return this.next != null;
-        }
-
-        @Override
-        public Record next() {
-            Record curNext = this.next;
-            this.moveToNext();
-            return curNext;
-        }
-
-        @Override
-        public void close() {
-            if (this.resultSet != null) {
-                try {
-                    this.resultSet.close();
-                } catch (Throwable t) {
-                    LogManager.getLogger(this.getClass()).error("Could not close result set.", t);
-                } finally {
-                    this.resultSet = null;
-                }
-            }
-        }
-    }
-
     @Override
     public WayangJsonObj toJson() {
         return new WayangJsonObj().put("platform", this.jdbcPlatform.getClass().getCanonicalName());
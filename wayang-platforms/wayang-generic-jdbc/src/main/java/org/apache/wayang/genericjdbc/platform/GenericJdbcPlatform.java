@@ -19,11 +19,13 @@
 package org.apache.wayang.genericjdbc.platform;
 
 import org.apache.wayang.core.api.Configuration;
+import org.apache.wayang.core.platform.CrossPlatformExecutor;
 import org.apache.wayang.core.platform.Executor;
 import org.apache.wayang.core.platform.Platform;
 import org.apache.wayang.jdbc.channels.SqlQueryChannel;
 import org.apache.wayang.genericjdbc.execution.GenericJdbcExecutor;
 import org.apache.wayang.jdbc.execution.DatabaseDescriptor;
+import org.apache.wayang.jdbc.execution.JdbcConnectionPool;
 import org.apache.wayang.jdbc.platform.JdbcPlatformTemplate;
 
 /**
@@ -70,9 +72,25 @@ public class GenericJdbcPlatform extends JdbcPlatformTemplate {
                 configuration.getStringProperty(String.format("wayang.%s.jdbc.url", jdbcName)),
                 configuration.getStringProperty(String.format("wayang.%s.jdbc.user", jdbcName), null),
                 configuration.getStringProperty(String.format("wayang.%s.jdbc.password", jdbcName), null),
-                configuration.getStringProperty(String.format("wayang.%s.jdbc.driverName", jdbcName))
+                configuration.getStringProperty(String.format("wayang.%s.jdbc.driverName", jdbcName)),
+                (int) configuration.getLongProperty(String.format("wayang.%s.jdbc.fetch-size", jdbcName), DEFAULT_FETCH_SIZE)
 //                this.getJdbcDriverClassName()
         );
     }
 
+    /**
+     * Retrieves the {@link JdbcConnectionPool} for the database named {@code jdbcName} or creates it.
+     *
+     * @param jdbcName              names the database in the configuration
+     * @param crossPlatformExecutor executes the current job
+     * @return the {@link JdbcConnectionPool}
+     */
+    public JdbcConnectionPool getConnectionPool(String jdbcName, CrossPlatformExecutor crossPlatformExecutor) {
+        return JdbcConnectionPool.getOrCreate(
+                this,
+                this.createDatabaseDescriptor(crossPlatformExecutor.getConfiguration(), jdbcName),
+                crossPlatformExecutor
+        );
+    }
+
 }
@@ -84,6 +84,12 @@ public class CollectionChannel extends Channel {
             return (Stream<T>) this.collection.stream();
         }
 
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> Stream<T> provideStream(boolean isParallel) {
+            return isParallel ? (Stream<T>) this.collection.parallelStream() : this.provideStream();
+        }
+
         @Override
         public Channel getChannel() {
             return CollectionChannel.this;
@@ -35,4 +35,19 @@ public interface JavaChannelInstance extends ChannelInstance {
      */
     <T> Stream<T> provideStream();
 
+    /**
+     * Provide the producer's result to a consumer, either as a sequential or as a parallel {@link Stream}.
+     * Note that the execution mode of a {@link Stream} pipeline is determined by its terminal operation, so
+     * only consumers that process the data quanta in a thread-safe manner should request a parallel {@link Stream}.
+     * Implementations must not switch the execution mode of an inherited {@link Stream} pipeline, as its upstream
+     * stages need not be thread-safe. Hence, the request for a parallel {@link Stream} is only a hint that is
+     * honored where the execution mode can be decided at the source.
+     *
+     * @param isParallel whether a parallel {@link Stream} may be provided
+     * @return the producer's result
+     */
+    default <T> Stream<T> provideStream(boolean isParallel) {
+        return this.provideStream();
+    }
+
 }
@@ -25,11 +25,15 @@ import org.apache.wayang.core.plan.wayangplan.OutputSlot;
 import org.apache.wayang.core.platform.AbstractChannelInstance;
 import org.apache.wayang.core.platform.ChannelDescriptor;
 import org.apache.wayang.core.platform.Executor;
+import org.apache.wayang.java.compiler.FunctionCompiler;
+import org.apache.wayang.java.compiler.FusedFunction;
 import org.apache.wayang.java.operators.JavaExecutionOperator;
 
 import java.util.Collection;
 import java.util.OptionalLong;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * {@link Channel} between two {@link JavaExecutionOperator}s using a {@link Stream}.
@@ -112,10 +116,25 @@ public class StreamChannel extends Channel {
 
         private Stream<?> stream;
 
+        /**
+         * If this instance has been fed with materialized data quanta, we keep them, so that the execution mode of
+         * the {@link Stream} can be decided at its source.
+         */
+        private Collection<?> collection;
+
+        /**
+         * If the data quanta of this instance are not yet materialized as {@link #stream}, they are described as
+         * {@link #fusedFunction} over the {@link #source}, so that consumers can fuse further functions into it.
+         */
+        private Stream<?> source;
+
+        private FusedFunction<?, ?> fusedFunction;
+
         // In principle, we could use Stream#onClose() to make sure that we really counted the cardinality (so as to
         // detect, when the cardinality is 0 because the #stream has not been fully executed for whatever reason).
         // However, this would require to call Stream#close() on all methods.
-        private long cardinality = 0;
+        // Note that the stream might be consumed in parallel, hence the LongAdder.
+        private final LongAdder cardinality = new LongAdder();
 
         public Instance(Executor executor, OptimizationContext.OperatorContext producerOperatorContext, int producerOutputIndex) {
             super(executor, producerOperatorContext, producerOutputIndex);
@@ -123,26 +142,94 @@ public class StreamChannel extends Channel {
 
 
         public <T> void accept(Stream<T> stream) {
-            assert this.stream == null;
+            assert this.stream == null && this.collection == null && this.fusedFunction == null;
             this.stream = stream;
             if (this.isMarkedForInstrumentation()) {
                 this.stream = this.stream.filter(dataQuantum -> {
-                    this.cardinality += 1;
+                    this.cardinality.increment();
                     return true;
                 });
             }
         }
 
         public void accept(Collection<?> collection) {
-            assert this.stream == null;
-            this.stream = collection.stream();
+            assert this.stream == null && this.collection == null && this.fusedFunction == null;
+            this.collection = collection;
             this.setMeasuredCardinality(collection.size());
         }
 
-        @Override
+        /**
+         * Provide the data quanta of the {@code input} as transformed by the {@code function}. If the data quanta of
+         * the {@code input} are themselves described by a {@link FusedFunction}, the {@code function} is fused into
+         * it rather than adding a further stage to the {@link Stream} pipeline. Should the {@code input} be marked
+         * for instrumentation, its data quanta are counted within the fused loop body.
+         *
+         * @param input      provides the data quanta to be transformed
+         * @param function   the transformation
+         * @param compiler   fuses the {@code function} with any pending {@link FusedFunction} of the {@code input}
+         * @param isParallel whether the {@code function} may be applied to the data quanta in parallel
+         */
         @SuppressWarnings("unchecked")
+        public <I, O> void accept(JavaChannelInstance input, FusedFunction<I, O> function, FunctionCompiler compiler,
+                                  boolean isParallel) {
+            assert this.stream == null && this.collection == null && this.fusedFunction == null;
+            if (input instanceof Instance && ((Instance) input).fusedFunction != null
+                    && input.getChannel().getConsumers().size() <= 1) {
+                final Instance fusedInput = (Instance) input;
+                this.source = fusedInput.source;
+                this.fusedFunction = compiler.fuse(
+                        (FusedFunction<Object, I>) fusedInput.fusedFunction,
+                        function,
+                        fusedInput.isMarkedForInstrumentation() ? fusedInput.cardinality : null
+                );
+                // The input has been fused into this instance and must not be consumed anymore.
+                fusedInput.source = null;
+                fusedInput.fusedFunction = null;
+            } else {
+                this.source = input.provideStream(isParallel);
+                this.fusedFunction = function;
+            }
+        }
+
+        /**
+         * Materializes any pending {@link #fusedFunction} as a single stage of the {@link #stream}.
+         */
+        @SuppressWarnings("unchecked")
+        private Stream<?> getStream() {
+            if (this.fusedFunction != null) {
+                final FusedFunction<Object, Object> function = (FusedFunction<Object, Object>) this.fusedFunction;
+                final Stream<Object> source = (Stream<Object>) this.source;
+                this.source = null;
+                this.fusedFunction = null;
+                this.accept(source.mapMulti(function));
+            }
+            return this.stream;
+        }
+
+        @Override
         public <T> Stream<T> provideStream() {
-            return (Stream<T>) this.stream;
+            return this.provideStream(false);
+        }
+
+        /**
+         * {@inheritDoc}
+         * <p>This method never switches the execution mode of an inherited {@link Stream} pipeline, because that
+         * would also affect the upstream stages, which need not be thread-safe. Instead, the execution mode is
+         * decided at the source if the data quanta are materialized. Otherwise, a sequential pipeline is handed
+         * over as is, and a parallel pipeline is handed over to sequential consumers via a sequential
+         * {@link Stream} on top of it, which preserves the encounter order.</p>
+         */
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> Stream<T> provideStream(boolean isParallel) {
+            if (this.collection != null) {
+                return (Stream<T>) (isParallel ? this.collection.parallelStream() : this.collection.stream());
+            }
+            final Stream<T> stream = (Stream<T>) this.getStream();
+            if (stream.isParallel() && !isParallel) {
+                return StreamSupport.stream(stream.spliterator(), false);
+            }
+            return stream;
         }
 
         @Override
@@ -152,12 +239,16 @@ public class StreamChannel extends Channel {
 
         @Override
         public OptionalLong getMeasuredCardinality() {
-            return this.cardinality == 0 ? super.getMeasuredCardinality() : OptionalLong.of(this.cardinality);
+            final long cardinality = this.cardinality.sum();
+            return cardinality == 0 ? super.getMeasuredCardinality() : OptionalLong.of(cardinality);
         }
 
         @Override
         protected void doDispose() throws WayangException {
             this.stream = null;
+            this.collection = null;
+            this.source = null;
+            this.fusedFunction = null;
         }
     }
 
@@ -25,19 +25,27 @@ import org.apache.wayang.core.function.PredicateDescriptor;
 import org.apache.wayang.core.function.ReduceDescriptor;
 import org.apache.wayang.core.function.TransformationDescriptor;
 
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.BinaryOperator;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
 /**
- * A compiler translates Wayang functions into executable Java functions.
+ * A compiler translates Wayang functions into executable Java functions. Furthermore, it fuses chains of element-wise
+ * functions into {@link FusedFunction}s, so that they run in a single loop body.
  */
 public class FunctionCompiler {
 
     private final Configuration configuration;
 
+    /**
+     * Whether chains of element-wise operators should be fused (cf. {@code wayang.java.fusion}).
+     */
+    private final boolean isFusionEnabled;
+
     public FunctionCompiler(Configuration configuration) {
         this.configuration = configuration;
+        this.isFusionEnabled = configuration.getBooleanProperty("wayang.java.fusion", true);
     }
 
     /**
@@ -94,6 +102,41 @@ public class FunctionCompiler {
         return predicateDescriptor.getJavaImplementation();
     }
 
+    /**
+     * Fuse two {@link FusedFunction}s into a single one that applies them one after another.
+     *
+     * @param first   the first {@link FusedFunction}
+     * @param second  the second {@link FusedFunction}
+     * @param counter if not {@code null}, counts the data quanta passed from {@code first} to {@code second}, so as
+     *                to retain a cardinality measurement in between them
+     * @param <I>     input type of {@code first}
+     * @param <M>     output type of {@code first} and input type of {@code second}
+     * @param <O>     output type of {@code second}
+     * @return the fused {@link FusedFunction}
+     */
+    public <I, M, O> FusedFunction<I, O> fuse(FusedFunction<I, M> first, FusedFunction<M, O> second, LongAdder counter) {
+        final FusedFunction<I, M> countedFirst = counter == null ? first : first.concat(FusedFunction.count(counter));
+        return countedFirst.concat(second);
+    }
+
+    /**
+     * Fuse two {@link FusedFunction}s into a single one that applies them one after another.
+     *
+     * @see #fuse(FusedFunction, FusedFunction, LongAdder)
+     */
+    public <I, M, O> FusedFunction<I, O> fuse(FusedFunction<I, M> first, FusedFunction<M, O> second) {
+        return this.fuse(first, second, null);
+    }
+
+    /**
+     * Tells whether chains of maps, filters, and flat maps should be fused into single {@link FusedFunction}s.
+     *
+     * @return whether fusion is enabled via {@code wayang.java.fusion}
+     */
+    public boolean isFusionEnabled() {
+        return this.isFusionEnabled;
+    }
+
     public Configuration getConfiguration() {
         return this.configuration;
     }
@@ -0,0 +1,139 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.java.compiler;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Loop body of a chain of element-wise transformations, i.e., maps, filters, and flat maps. Instead of passing each
+ * data quantum through one {@link java.util.stream.Stream} stage per transformation, the whole chain is applied in a
+ * single loop over its steps and the surviving data quanta are pushed to a downstream {@link Consumer}. Hence, an
+ * instance can serve as the mapper of {@link java.util.stream.Stream#mapMulti(BiConsumer)}.
+ * <p>Instances are immutable and stateless (apart from counters) and can thus be applied concurrently.</p>
+ *
+ * @param <Input>  input type of the chain
+ * @param <Output> output type of the chain
+ * @see FunctionCompiler#fuse(FusedFunction, FusedFunction)
+ */
+public final class FusedFunction<Input, Output> implements BiConsumer<Input, Consumer<Output>> {
+
+    private static final byte MAP = 0, FILTER = 1, FLAT_MAP = 2, COUNT = 3;
+
+    /**
+     * Kind of each step.
+     */
+    private final byte[] kinds;
+
+    /**
+     * The {@link Function}, {@link Predicate}, or {@link LongAdder} of each step.
+     */
+    private final Object[] steps;
+
+    private FusedFunction(byte[] kinds, Object[] steps) {
+        this.kinds = kinds;
+        this.steps = steps;
+    }
+
+    /**
+     * Creates an instance that transforms each data quantum with the given {@link Function}.
+     */
+    public static <I, O> FusedFunction<I, O> map(Function<I, O> function) {
+        return new FusedFunction<>(new byte[]{MAP}, new Object[]{function});
+    }
+
+    /**
+     * Creates an instance that retains the data quanta satisfying the given {@link Predicate}.
+     */
+    public static <T> FusedFunction<T, T> filter(Predicate<T> predicate) {
+        return new FusedFunction<>(new byte[]{FILTER}, new Object[]{predicate});
+    }
+
+    /**
+     * Creates an instance that transforms each data quantum into the data quanta provided by the given {@link Function}.
+     */
+    public static <I, O> FusedFunction<I, O> flatMap(Function<I, ? extends Iterable<O>> function) {
+        return new FusedFunction<>(new byte[]{FLAT_MAP}, new Object[]{function});
+    }
+
+    /**
+     * Creates an instance that passes on all data quanta and counts them.
+     */
+    static <T> FusedFunction<T, T> count(LongAdder counter) {
+        return new FusedFunction<>(new byte[]{COUNT}, new Object[]{counter});
+    }
+
+    /**
+     * Appends the steps of {@code that} instance to the steps of this instance.
+     */
+    <Next> FusedFunction<Input, Next> concat(FusedFunction<Output, Next> that) {
+        final byte[] kinds = Arrays.copyOf(this.kinds, this.kinds.length + that.kinds.length);
+        System.arraycopy(that.kinds, 0, kinds, this.kinds.length, that.kinds.length);
+        final Object[] steps = Arrays.copyOf(this.steps, this.steps.length + that.steps.length);
+        System.arraycopy(that.steps, 0, steps, this.steps.length, that.steps.length);
+        return new FusedFunction<>(kinds, steps);
+    }
+
+    /**
+     * @return the number of fused steps
+     */
+    public int getNumSteps() {
+        return this.kinds.length;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void accept(Input dataQuantum, Consumer<Output> downstream) {
+        this.push(dataQuantum, 0, (Consumer<Object>) downstream);
+    }
+
+    /**
+     * Applies the steps from the given index on to the data quantum.
+     */
+    @SuppressWarnings("unchecked")
+    private void push(Object dataQuantum, int fromStep, Consumer<Object> downstream) {
+        for (int step = fromStep; step < this.kinds.length; step++) {
+            switch (this.kinds[step]) {
+                case MAP:
+                    dataQuantum = ((Function<Object, Object>) this.steps[step]).apply(dataQuantum);
+                    break;
+                case FILTER:
+                    if (!((Predicate<Object>) this.steps[step]).test(dataQuantum)) return;
+                    break;
+                case FLAT_MAP:
+                    final Iterable<?> dataQuanta = ((Function<Object, Iterable<?>>) this.steps[step]).apply(dataQuantum);
+                    for (Object nextDataQuantum : dataQuanta) {
+                        this.push(nextDataQuantum, step + 1, downstream);
+                    }
+                    return;
+                case COUNT:
+                    ((LongAdder) this.steps[step]).increment();
+                    break;
+                default:
+                    throw new IllegalStateException("Unknown step kind " + this.kinds[step]);
+            }
+        }
+        downstream.accept(dataQuantum);
+    }
+
+}
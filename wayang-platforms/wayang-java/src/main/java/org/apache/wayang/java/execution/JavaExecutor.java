@@ -38,6 +38,8 @@ import org.apache.wayang.java.platform.JavaPlatform;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * {@link Executor} implementation for the {@link JavaPlatform}.
@@ -48,10 +50,29 @@ public class JavaExecutor extends PushExecutorTemplate {
 
     private final FunctionCompiler compiler;
 
+    /**
+     * Whether {@link JavaExecutionOperator}s should process their data quanta with parallel
+     * {@link java.util.stream.Stream}s.
+     */
+    private final boolean isParallel;
+
+    /**
+     * Executes the {@link JavaExecutionOperator}s in the parallel mode, so as to bound the number of used cores
+     * to {@code wayang.java.cores}; {@code null} if not {@link #isParallel}.
+     */
+    private final ForkJoinPool forkJoinPool;
+
     public JavaExecutor(JavaPlatform javaPlatform, Job job) {
         super(job);
         this.platform = javaPlatform;
         this.compiler = new FunctionCompiler(job.getConfiguration());
+        this.isParallel = job.getConfiguration().getBooleanProperty("wayang.java.parallel", false);
+        if (this.isParallel) {
+            final int numCores = (int) Math.max(1, job.getConfiguration().getLongProperty("wayang.java.cores"));
+            this.forkJoinPool = new ForkJoinPool(numCores);
+        } else {
+            this.forkJoinPool = null;
+        }
     }
 
     @Override
@@ -79,12 +100,7 @@ public class JavaExecutor extends PushExecutorTemplate {
         long startTime = System.currentTimeMillis();
         try {
             final Tuple<Collection<ExecutionLineageNode>, Collection<ChannelInstance>> results =
-                    cast(task.getOperator()).evaluate(
-                            toArray(inputChannelInstances),
-                            outputChannelInstances,
-                            this,
-                            producerOperatorContext
-                    );
+                    this.evaluate(task, inputChannelInstances, outputChannelInstances, producerOperatorContext);
             //Thread.sleep(1000);
             executionLineageNodes = results.getField0();
             producedChannelInstances = results.getField1();
@@ -115,6 +131,30 @@ public class JavaExecutor extends PushExecutorTemplate {
     }
 
 
+    /**
+     * Evaluates the {@link JavaExecutionOperator} of the given {@link ExecutionTask}. In the parallel mode, this
+     * happens within the {@link #forkJoinPool}, so that any parallel {@link java.util.stream.Stream} that is consumed
+     * during the evaluation uses it rather than the common pool.
+     */
+    private Tuple<Collection<ExecutionLineageNode>, Collection<ChannelInstance>> evaluate(
+            ExecutionTask task,
+            List<ChannelInstance> inputChannelInstances,
+            ChannelInstance[] outputChannelInstances,
+            OptimizationContext.OperatorContext producerOperatorContext) throws Exception {
+        final JavaExecutionOperator operator = cast(task.getOperator());
+        final ChannelInstance[] inputs = toArray(inputChannelInstances);
+        if (this.forkJoinPool == null) {
+            return operator.evaluate(inputs, outputChannelInstances, this, producerOperatorContext);
+        }
+        try {
+            return this.forkJoinPool.submit(
+                    () -> operator.evaluate(inputs, outputChannelInstances, this, producerOperatorContext)
+            ).get();
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+        }
+    }
+
     private static JavaExecutionOperator cast(ExecutionOperator executionOperator) {
         return (JavaExecutionOperator) executionOperator;
     }
@@ -146,4 +186,41 @@ public class JavaExecutor extends PushExecutorTemplate {
     public FunctionCompiler getCompiler() {
         return this.compiler;
     }
+
+    /**
+     * Tells whether this instance runs in the multi-core mode, i.e., whether {@link JavaExecutionOperator}s should
+     * request parallel {@link java.util.stream.Stream}s from their inputs where they can process them thread-safely.
+     *
+     * @return whether the multi-core mode is enabled via {@code wayang.java.parallel}
+     */
+    public boolean isParallel() {
+        return this.isParallel;
+    }
+
+    /**
+     * Tells the number of cores that this instance may use.
+     *
+     * @return the parallelism in the multi-core mode or {@code 1} otherwise
+     */
+    public int getParallelism() {
+        return this.forkJoinPool == null ? 1 : this.forkJoinPool.getParallelism();
+    }
+
+    /**
+     * Provides the {@link ForkJoinPool} that backs the multi-core mode. Parallel {@link java.util.stream.Stream}s
+     * should be consumed within it, so that they do not fall back to the common pool.
+     *
+     * @return the {@link ForkJoinPool} or {@code null} if not {@link #isParallel()}
+     */
+    public ForkJoinPool getForkJoinPool() {
+        return this.forkJoinPool;
+    }
+
+    @Override
+    public void dispose() {
+        super.dispose();
+        if (this.forkJoinPool != null) {
+            this.forkJoinPool.shutdown();
+        }
+    }
 }
@@ -76,7 +76,7 @@ public class JavaCountOperator<Type>
         if (input instanceof CollectionChannel.Instance) {
             count = ((CollectionChannel.Instance) input).provideCollection().size();
         } else {
-            count = input.provideStream().count();
+            count = input.provideStream(javaExecutor.isParallel()).count();
         }
         ((CollectionChannel.Instance) outputs[0]).accept(Collections.singleton(count));
 
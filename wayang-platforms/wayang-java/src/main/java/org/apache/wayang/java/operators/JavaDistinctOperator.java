@@ -30,11 +30,18 @@ import org.apache.wayang.java.channels.CollectionChannel;
 import org.apache.wayang.java.channels.JavaChannelInstance;
 import org.apache.wayang.java.channels.StreamChannel;
 import org.apache.wayang.java.execution.JavaExecutor;
+import org.apache.wayang.java.spill.HybridHashAggregator;
+import org.apache.wayang.java.spill.SpillManager;
 
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Function;
+import java.util.stream.StreamSupport;
 
 /**
  * Java implementation of the {@link DistinctOperator}.
@@ -71,7 +78,25 @@ public class JavaDistinctOperator<Type>
         assert inputs.length == this.getNumInputs();
         assert outputs.length == this.getNumOutputs();
 
-        ((StreamChannel.Instance) outputs[0]).accept(((JavaChannelInstance) inputs[0]).provideStream().distinct());
+        if (SpillManager.isEnabled(javaExecutor.getConfiguration())) {
+            // Deduplicate with a spilling hash table once the input is being consumed.
+            final SpillManager spillManager = new SpillManager(javaExecutor);
+            final ExecutionLineageNode executionLineageNode = new ExecutionLineageNode(operatorContext);
+            executionLineageNode.addAtomicExecutionFromOperatorContext();
+            final JavaChannelInstance input = (JavaChannelInstance) inputs[0];
+            ((StreamChannel.Instance) outputs[0]).accept(StreamSupport.stream(() -> {
+                final Iterator<Type> distinctIterator = spillManager.disposeWhenExhausted(
+                        HybridHashAggregator.aggregate(
+                                input.<Type>provideStream().iterator(), Function.identity(), (a, b) -> a, spillManager
+                        ),
+                        executionLineageNode
+                );
+                return Spliterators.spliteratorUnknownSize(distinctIterator, Spliterator.ORDERED);
+            }, Spliterator.ORDERED, false));
+            return ExecutionOperator.modelLazyExecution(inputs, outputs, executionLineageNode);
+        }
+
+        ((StreamChannel.Instance) outputs[0]).accept(((JavaChannelInstance) inputs[0]).provideStream(javaExecutor.isParallel()).distinct());
 
         return ExecutionOperator.modelLazyExecution(inputs, outputs, operatorContext);
     }
@@ -33,6 +33,8 @@ import org.apache.wayang.core.util.Tuple;
 import org.apache.wayang.java.channels.CollectionChannel;
 import org.apache.wayang.java.channels.JavaChannelInstance;
 import org.apache.wayang.java.channels.StreamChannel;
+import org.apache.wayang.java.compiler.FunctionCompiler;
+import org.apache.wayang.java.compiler.FusedFunction;
 import org.apache.wayang.java.execution.JavaExecutor;
 
 import java.util.Arrays;
@@ -82,9 +84,16 @@ public class JavaFilterOperator<Type>
         assert inputs.length == this.getNumInputs();
         assert outputs.length == this.getNumOutputs();
 
-        final Predicate<Type> filterFunction = javaExecutor.getCompiler().compile(this.predicateDescriptor);
+        final FunctionCompiler compiler = javaExecutor.getCompiler();
+        final Predicate<Type> filterFunction = compiler.compile(this.predicateDescriptor);
         JavaExecutor.openFunction(this, filterFunction, inputs, operatorContext);
-        ((StreamChannel.Instance) outputs[0]).accept(((JavaChannelInstance) inputs[0]).<Type>provideStream().filter(filterFunction));
+        final JavaChannelInstance input = (JavaChannelInstance) inputs[0];
+        final StreamChannel.Instance output = (StreamChannel.Instance) outputs[0];
+        if (compiler.isFusionEnabled()) {
+            output.accept(input, FusedFunction.filter(filterFunction), compiler, javaExecutor.isParallel());
+        } else {
+            output.accept(input.<Type>provideStream(javaExecutor.isParallel()).filter(filterFunction));
+        }
 
         return ExecutionOperator.modelLazyExecution(inputs, outputs, operatorContext);
     }
@@ -33,6 +33,8 @@ import org.apache.wayang.core.util.Tuple;
 import org.apache.wayang.java.channels.CollectionChannel;
 import org.apache.wayang.java.channels.JavaChannelInstance;
 import org.apache.wayang.java.channels.StreamChannel;
+import org.apache.wayang.java.compiler.FunctionCompiler;
+import org.apache.wayang.java.compiler.FusedFunction;
 import org.apache.wayang.java.execution.JavaExecutor;
 
 import java.util.Arrays;
@@ -80,12 +82,19 @@ public class JavaFlatMapOperator<InputType, OutputType>
         assert inputs.length == this.getNumInputs();
         assert outputs.length == this.getNumOutputs();
 
-        final Function<InputType, Iterable<OutputType>> flatmapFunction =
-                javaExecutor.getCompiler().compile(this.functionDescriptor);
+        final FunctionCompiler compiler = javaExecutor.getCompiler();
+        final Function<InputType, Iterable<OutputType>> flatmapFunction = compiler.compile(this.functionDescriptor);
         JavaExecutor.openFunction(this, flatmapFunction, inputs, operatorContext);
 
-        ((StreamChannel.Instance) outputs[0]).accept(
-                ((JavaChannelInstance) inputs[0]).<InputType>provideStream().flatMap(dataQuantum ->
+        final JavaChannelInstance input = (JavaChannelInstance) inputs[0];
+        final StreamChannel.Instance output = (StreamChannel.Instance) outputs[0];
+        if (compiler.isFusionEnabled()) {
+            output.accept(input, FusedFunction.flatMap(flatmapFunction), compiler, javaExecutor.isParallel());
+            return ExecutionOperator.modelLazyExecution(inputs, outputs, operatorContext);
+        }
+
+        output.accept(
+                input.<InputType>provideStream(javaExecutor.isParallel()).flatMap(dataQuantum ->
                         StreamSupport.stream(
                                 Spliterators.spliteratorUnknownSize(
                                         flatmapFunction.apply(dataQuantum).iterator(),
@@ -82,7 +82,7 @@ public class JavaGlobalReduceOperator<Type>
         final BinaryOperator<Type> reduceFunction = javaExecutor.getCompiler().compile(this.reduceDescriptor);
         JavaExecutor.openFunction(this, reduceFunction, inputs, operatorContext);
 
-        final Optional<Type> reduction = ((JavaChannelInstance) inputs[0]).<Type>provideStream().reduce(reduceFunction);
+        final Optional<Type> reduction = ((JavaChannelInstance) inputs[0]).<Type>provideStream(javaExecutor.isParallel()).reduce(reduceFunction);
         ((CollectionChannel.Instance) outputs[0]).accept(reduction.isPresent() ?
                 Collections.singleton(reduction.get()) :
                 Collections.emptyList());
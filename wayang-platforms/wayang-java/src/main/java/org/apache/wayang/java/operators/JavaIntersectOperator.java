@@ -39,6 +39,7 @@ import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -101,12 +102,12 @@ public class JavaIntersectOperator<Type>
         final Set<Type> probingTable;
         if (isMaterialize0) {
             candidateStream = ((JavaChannelInstance) inputs[0]).provideStream();
-            probingTable = this.createProbingTable(((JavaChannelInstance) inputs[1]).provideStream());
+            probingTable = this.createProbingTable(((JavaChannelInstance) inputs[1]).provideStream(), javaExecutor.isParallel());
             indexingExecutionLineageNode.addPredecessor(inputs[0].getLineage());
             probingExecutionLineageNode.addPredecessor(inputs[1].getLineage());
         } else {
             candidateStream = ((JavaChannelInstance) inputs[1]).provideStream();
-            probingTable = this.createProbingTable(((JavaChannelInstance) inputs[0]).provideStream());
+            probingTable = this.createProbingTable(((JavaChannelInstance) inputs[0]).provideStream(), javaExecutor.isParallel());
             indexingExecutionLineageNode.addPredecessor(inputs[1].getLineage());
             probingExecutionLineageNode.addPredecessor(inputs[0].getLineage());
         }
@@ -122,11 +123,14 @@ public class JavaIntersectOperator<Type>
     /**
      * Creates a new probing table. The can be altered then.
      *
-     * @param stream for that the probing table should be created
+     * @param stream     for that the probing table should be created
+     * @param isParallel whether the probing table might be altered concurrently
      * @return the probing table
      */
-    private Set<Type> createProbingTable(Stream<Type> stream) {
-        return stream.collect(Collectors.toSet());
+    private Set<Type> createProbingTable(Stream<Type> stream, boolean isParallel) {
+        return isParallel ?
+                stream.collect(Collectors.toCollection(ConcurrentHashMap::newKeySet)) :
+                stream.collect(Collectors.toSet());
     }
 
     @Override
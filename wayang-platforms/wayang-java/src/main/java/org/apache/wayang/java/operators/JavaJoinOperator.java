@@ -36,17 +36,23 @@ import org.apache.wayang.java.channels.CollectionChannel;
 import org.apache.wayang.java.channels.JavaChannelInstance;
 import org.apache.wayang.java.channels.StreamChannel;
 import org.apache.wayang.java.execution.JavaExecutor;
+import org.apache.wayang.java.spill.GraceHashJoin;
+import org.apache.wayang.java.spill.SpillManager;
+import org.apache.wayang.java.util.JoinHashTable;
 
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Java implementation of the {@link JoinOperator}.
@@ -103,46 +109,57 @@ public class JavaJoinOperator<InputType0, InputType1, KeyType>
         Collection<ExecutionLineageNode> executionLineageNodes = new LinkedList<>();
         Collection<ChannelInstance> producedChannelInstances = new LinkedList<>();
 
-        boolean isMaterialize0 = cardinalityEstimate0 != null &&
-                cardinalityEstimate1 != null &&
-                cardinalityEstimate0.getGeometricMeanEstimate() <= cardinalityEstimate1.getGeometricMeanEstimate();
+        final boolean isMaterialize0;
+        if (inputs[0] instanceof CollectionChannel.Instance && inputs[1] instanceof CollectionChannel.Instance) {
+            // We know the actual input sizes, so we do not need to rely on the estimates.
+            isMaterialize0 = ((CollectionChannel.Instance) inputs[0]).provideCollection().size() <=
+                    ((CollectionChannel.Instance) inputs[1]).provideCollection().size();
+        } else {
+            isMaterialize0 = cardinalityEstimate0 != null &&
+                    cardinalityEstimate1 != null &&
+                    cardinalityEstimate0.getGeometricMeanEstimate() <= cardinalityEstimate1.getGeometricMeanEstimate();
+        }
+
+        // Spilling joins keep the build side within the memory budget and partition both sides to disk otherwise.
+        final SpillManager spillManager = SpillManager.isEnabled(javaExecutor.getConfiguration()) ?
+                new SpillManager(javaExecutor) :
+                null;
 
         if (isMaterialize0) {
-            final int expectedNumElements =
-                    (int) cardinalityEstimate0.getGeometricMeanEstimate();
-            Map<KeyType, Collection<InputType0>> probeTable = new HashMap<>(expectedNumElements);
-            ((JavaChannelInstance) inputs[0]).<InputType0>provideStream().forEach(dataQuantum0 ->
-                    probeTable.compute(keyExtractor0.apply(dataQuantum0),
-                            (key, value) -> {
-                                value = value == null ? new LinkedList<>() : value;
-                                value.add(dataQuantum0);
-                                return value;
-                            }
-                    )
-            );
-            joinStream = ((JavaChannelInstance) inputs[1]).<InputType1>provideStream().flatMap(dataQuantum1 ->
-                    probeTable.getOrDefault(keyExtractor1.apply(dataQuantum1), Collections.emptyList()).stream()
-                            .map(dataQuantum0 -> new Tuple2<>(dataQuantum0, dataQuantum1)));
+            if (spillManager != null) {
+                joinStream = spillingHashJoin(
+                        ((JavaChannelInstance) inputs[0]).provideStream(), keyExtractor0,
+                        ((JavaChannelInstance) inputs[1]).provideStream(), keyExtractor1,
+                        (dataQuantum0, dataQuantum1) -> new Tuple2<>(dataQuantum0, dataQuantum1),
+                        spillManager, indexingExecutionLineageNode, probingExecutionLineageNode
+                );
+            } else {
+                final long expectedNumElements = getExpectedNumElements(inputs[0], cardinalityEstimate0);
+                joinStream = hashJoin(
+                        ((JavaChannelInstance) inputs[0]).provideStream(), keyExtractor0, expectedNumElements,
+                        ((JavaChannelInstance) inputs[1]).provideStream(javaExecutor.isParallel()), keyExtractor1,
+                        (dataQuantum0, dataQuantum1) -> new Tuple2<>(dataQuantum0, dataQuantum1)
+                );
+            }
             indexingExecutionLineageNode.addPredecessor(inputs[0].getLineage());
             indexingExecutionLineageNode.collectAndMark(executionLineageNodes, producedChannelInstances);
             probingExecutionLineageNode.addPredecessor(inputs[1].getLineage());
         } else {
-            final int expectedNumElements = cardinalityEstimate1 == null ?
-                    1000 :
-                    (int) cardinalityEstimate1.getGeometricMeanEstimate();
-            Map<KeyType, Collection<InputType1>> probeTable = new HashMap<>(expectedNumElements);
-            ((JavaChannelInstance) inputs[1]).<InputType1>provideStream().forEach(dataQuantum1 ->
-                    probeTable.compute(keyExtractor1.apply(dataQuantum1),
-                            (key, value) -> {
-                                value = value == null ? new LinkedList<>() : value;
-                                value.add(dataQuantum1);
-                                return value;
-                            }
-                    )
-            );
-            joinStream = ((JavaChannelInstance) inputs[0]).<InputType0>provideStream().flatMap(dataQuantum0 ->
-                    probeTable.getOrDefault(keyExtractor0.apply(dataQuantum0), Collections.emptyList()).stream()
-                            .map(dataQuantum1 -> new Tuple2<>(dataQuantum0, dataQuantum1)));
+            if (spillManager != null) {
+                joinStream = spillingHashJoin(
+                        ((JavaChannelInstance) inputs[1]).provideStream(), keyExtractor1,
+                        ((JavaChannelInstance) inputs[0]).provideStream(), keyExtractor0,
+                        (dataQuantum1, dataQuantum0) -> new Tuple2<>(dataQuantum0, dataQuantum1),
+                        spillManager, indexingExecutionLineageNode, probingExecutionLineageNode
+                );
+            } else {
+                final long expectedNumElements = getExpectedNumElements(inputs[1], cardinalityEstimate1);
+                joinStream = hashJoin(
+                        ((JavaChannelInstance) inputs[1]).provideStream(), keyExtractor1, expectedNumElements,
+                        ((JavaChannelInstance) inputs[0]).provideStream(javaExecutor.isParallel()), keyExtractor0,
+                        (dataQuantum1, dataQuantum0) -> new Tuple2<>(dataQuantum0, dataQuantum1)
+                );
+            }
             indexingExecutionLineageNode.addPredecessor(inputs[1].getLineage());
             indexingExecutionLineageNode.collectAndMark(executionLineageNodes, producedChannelInstances);
             probingExecutionLineageNode.addPredecessor(inputs[0].getLineage());
@@ -154,6 +171,79 @@ public class JavaJoinOperator<InputType0, InputType1, KeyType>
         return new Tuple<>(executionLineageNodes, producedChannelInstances);
     }
 
+    /**
+     * Determines the number of data quanta that will be put into a {@link JoinHashTable}.
+     *
+     * @param input               that will be indexed
+     * @param cardinalityEstimate of the {@code input} or {@code null} if unknown
+     * @return the actual number of data quanta if known or else an estimate
+     */
+    private static long getExpectedNumElements(ChannelInstance input, CardinalityEstimate cardinalityEstimate) {
+        if (input instanceof CollectionChannel.Instance) {
+            return ((CollectionChannel.Instance) input).provideCollection().size();
+        }
+        return cardinalityEstimate == null ? 1000 : (long) cardinalityEstimate.getGeometricMeanEstimate();
+    }
+
+    /**
+     * Indexes the data quanta of the build side in a {@link JoinHashTable} and lazily probes it with the
+     * data quanta from the probe side.
+     *
+     * @param buildStream         provides the data quanta to be indexed
+     * @param buildKeyExtractor   extracts the join keys from the {@code buildStream}
+     * @param expectedNumElements the expected number of data quanta in the {@code buildStream}
+     * @param probeStream         provides the data quanta to be probed
+     * @param probeKeyExtractor   extracts the join keys from the {@code probeStream}
+     * @param combiner            creates the join product of two matching data quanta
+     * @return the join products
+     */
+    private static <Build, Probe, Key, Output> Stream<Output> hashJoin(Stream<Build> buildStream,
+                                                                     Function<Build, Key> buildKeyExtractor,
+                                                                     long expectedNumElements,
+                                                                     Stream<Probe> probeStream,
+                                                                     Function<Probe, Key> probeKeyExtractor,
+                                                                     BiFunction<Build, Probe, Output> combiner) {
+        final JoinHashTable<Key, Build> hashTable = new JoinHashTable<>(expectedNumElements);
+        buildStream.forEach(dataQuantum -> hashTable.put(buildKeyExtractor.apply(dataQuantum), dataQuantum));
+        // Push the join products to the downstream directly rather than creating a Stream per probe.
+        return probeStream.<Output>mapMulti((probeDataQuantum, downstream) -> hashTable.forEachMatch(
+                probeKeyExtractor.apply(probeDataQuantum),
+                buildDataQuantum -> downstream.accept(combiner.apply(buildDataQuantum, probeDataQuantum))
+        ));
+    }
+
+    /**
+     * Joins the build side and the probe side with a {@link GraceHashJoin}, i.e., within the memory budget of the
+     * given {@link SpillManager}. The build side is consumed right away, the probe side lazily.
+     *
+     * @param buildStream                  provides the data quanta to be indexed
+     * @param buildKeyExtractor            extracts the join keys from the {@code buildStream}
+     * @param probeStream                  provides the data quanta to be probed
+     * @param probeKeyExtractor            extracts the join keys from the {@code probeStream}
+     * @param combiner                     creates the join product of two matching data quanta
+     * @param spillManager                 manages the spilling and is disposed once the join products are exhausted
+     * @param indexingExecutionLineageNode receives the spill statistics of the build side
+     * @param probingExecutionLineageNode  receives the spill statistics of the probe side
+     * @return the join products
+     */
+    private static <Build, Probe, Key, Output> Stream<Output> spillingHashJoin(Stream<Build> buildStream,
+                                                                             Function<Build, Key> buildKeyExtractor,
+                                                                             Stream<Probe> probeStream,
+                                                                             Function<Probe, Key> probeKeyExtractor,
+                                                                             BiFunction<Build, Probe, Output> combiner,
+                                                                             SpillManager spillManager,
+                                                                             ExecutionLineageNode indexingExecutionLineageNode,
+                                                                             ExecutionLineageNode probingExecutionLineageNode) {
+        final Stream<Output> joinStream = GraceHashJoin.join(
+                buildStream.iterator(), buildKeyExtractor, probeStream, probeKeyExtractor, combiner, spillManager
+        );
+        spillManager.reportTo(indexingExecutionLineageNode);
+        final Iterator<Output> joinIterator = spillManager.disposeWhenExhausted(
+                joinStream.iterator(), probingExecutionLineageNode
+        );
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(joinIterator, Spliterator.ORDERED), false);
+    }
+
     @Override
     public Collection<String> getLoadProfileEstimatorConfigurationKeys() {
         return Arrays.asList("wayang.java.join.load.indexing", "wayang.java.join.load.probing");
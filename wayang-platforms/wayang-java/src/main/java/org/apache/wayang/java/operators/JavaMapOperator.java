@@ -33,6 +33,8 @@ import org.apache.wayang.core.util.Tuple;
 import org.apache.wayang.java.channels.CollectionChannel;
 import org.apache.wayang.java.channels.JavaChannelInstance;
 import org.apache.wayang.java.channels.StreamChannel;
+import org.apache.wayang.java.compiler.FunctionCompiler;
+import org.apache.wayang.java.compiler.FusedFunction;
 import org.apache.wayang.java.execution.JavaExecutor;
 
 import java.util.Arrays;
@@ -78,9 +80,14 @@ public class JavaMapOperator<InputType, OutputType>
         final JavaChannelInstance input = (JavaChannelInstance) inputs[0];
         final StreamChannel.Instance output = (StreamChannel.Instance) outputs[0];
 
-        final Function<InputType, OutputType> function = javaExecutor.getCompiler().compile(this.functionDescriptor);
+        final FunctionCompiler compiler = javaExecutor.getCompiler();
+        final Function<InputType, OutputType> function = compiler.compile(this.functionDescriptor);
         JavaExecutor.openFunction(this, function, inputs, operatorContext);
-        output.accept(input.<InputType>provideStream().map(function));
+        if (compiler.isFusionEnabled()) {
+            output.accept(input, FusedFunction.map(function), compiler, javaExecutor.isParallel());
+        } else {
+            output.accept(input.<InputType>provideStream(javaExecutor.isParallel()).map(function));
+        }
 
         return ExecutionOperator.modelLazyExecution(inputs, outputs, operatorContext);
     }
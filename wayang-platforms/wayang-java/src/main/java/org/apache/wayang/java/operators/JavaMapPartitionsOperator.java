@@ -22,6 +22,7 @@ import org.apache.wayang.basic.operators.MapPartitionsOperator;
 import org.apache.wayang.core.api.Configuration;
 import org.apache.wayang.core.function.MapPartitionsDescriptor;
 import org.apache.wayang.core.optimizer.OptimizationContext;
+import org.apache.wayang.core.optimizer.cardinality.CardinalityEstimate;
 import org.apache.wayang.core.optimizer.costs.LoadProfileEstimator;
 import org.apache.wayang.core.optimizer.costs.LoadProfileEstimators;
 import org.apache.wayang.core.plan.wayangplan.ExecutionOperator;
@@ -36,14 +37,18 @@ import org.apache.wayang.java.channels.JavaChannelInstance;
 import org.apache.wayang.java.channels.StreamChannel;
 import org.apache.wayang.java.execution.JavaExecutor;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
 import java.util.Spliterator;
 import java.util.Spliterators;
 import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 /**
@@ -53,6 +58,11 @@ public class JavaMapPartitionsOperator<InputType, OutputType>
         extends MapPartitionsOperator<InputType, OutputType>
         implements JavaExecutionOperator {
 
+    /**
+     * The maximum number of data quanta per partition in the parallel mode.
+     */
+    private static final int MAX_PARTITION_SIZE = 1 << 16;
+
     /**
      * Creates a new instance.
      */
@@ -82,6 +92,26 @@ public class JavaMapPartitionsOperator<InputType, OutputType>
         final Function<Iterable<InputType>, Iterable<OutputType>> function =
                 javaExecutor.getCompiler().compile(this.functionDescriptor);
         JavaExecutor.openFunction(this, function, inputs, operatorContext);
+
+        if (javaExecutor.isParallel()) {
+            // Read the input in waves of one partition per core and apply the function to the partitions of each
+            // wave in parallel. The partitions are bounded in size, so we never hold the whole input in memory.
+            final Iterator<InputType> inputIterator = ((JavaChannelInstance) inputs[0]).<InputType>provideStream().iterator();
+            final int parallelism = javaExecutor.getParallelism();
+            final int partitionSize = estimatePartitionSize(operatorContext, parallelism);
+            ((StreamChannel.Instance) outputs[0]).accept(
+                    Stream.generate(() -> readPartitions(inputIterator, parallelism, partitionSize))
+                            .takeWhile(partitions -> !partitions.isEmpty())
+                            .flatMap(partitions -> partitions.parallelStream()
+                                    .map(partition -> StreamSupport.stream(function.apply(partition).spliterator(), false)
+                                            .collect(Collectors.toList()))
+                                    .collect(Collectors.toList())
+                                    .stream()
+                                    .flatMap(List::stream))
+            );
+            return ExecutionOperator.modelLazyExecution(inputs, outputs, operatorContext);
+        }
+
         final Iterable<OutputType> outputDataQuanta =
                 function.apply(Iterators.wrapWithIterable(((JavaChannelInstance) inputs[0]).<InputType>provideStream().iterator()));
 
@@ -95,6 +125,39 @@ public class JavaMapPartitionsOperator<InputType, OutputType>
         return ExecutionOperator.modelLazyExecution(inputs, outputs, operatorContext);
     }
 
+    /**
+     * Determines the number of data quanta per partition in the parallel mode, such that the estimated input is
+     * spread across all cores but no partition exceeds {@link #MAX_PARTITION_SIZE}.
+     *
+     * @param operatorContext provides the input cardinality estimate
+     * @param parallelism     the number of cores
+     * @return the partition size
+     */
+    private static int estimatePartitionSize(OptimizationContext.OperatorContext operatorContext, int parallelism) {
+        final CardinalityEstimate inputCardinality = operatorContext.getInputCardinality(0);
+        final long numDataQuanta = inputCardinality == null ?
+                (long) MAX_PARTITION_SIZE * parallelism :
+                inputCardinality.getGeometricMeanEstimate();
+        return (int) Math.max(1, Math.min(MAX_PARTITION_SIZE, (numDataQuanta + parallelism - 1) / parallelism));
+    }
+
+    /**
+     * Reads up to {@code numPartitions} partitions of up to {@code partitionSize} data quanta each.
+     *
+     * @return the partitions, which are empty if the {@code iterator} is exhausted
+     */
+    private static <T> List<List<T>> readPartitions(Iterator<T> iterator, int numPartitions, int partitionSize) {
+        final List<List<T>> partitions = new ArrayList<>(numPartitions);
+        while (partitions.size() < numPartitions && iterator.hasNext()) {
+            final List<T> partition = new ArrayList<>(partitionSize);
+            while (partition.size() < partitionSize && iterator.hasNext()) {
+                partition.add(iterator.next());
+            }
+            partitions.add(partition);
+        }
+        return partitions;
+    }
+
     @Override
     protected ExecutionOperator createCopy() {
         return new JavaMapPartitionsOperator<>(this.getInputType(), this.getOutputType(), this.getFunctionDescriptor());
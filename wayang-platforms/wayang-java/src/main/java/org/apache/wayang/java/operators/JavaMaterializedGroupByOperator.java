@@ -34,6 +34,8 @@ import org.apache.wayang.java.channels.CollectionChannel;
 import org.apache.wayang.java.channels.JavaChannelInstance;
 import org.apache.wayang.java.channels.StreamChannel;
 import org.apache.wayang.java.execution.JavaExecutor;
+import org.apache.wayang.java.spill.GraceHashGrouper;
+import org.apache.wayang.java.spill.SpillManager;
 
 import java.util.Arrays;
 import java.util.Collection;
@@ -77,10 +79,25 @@ public class JavaMaterializedGroupByOperator<Type, KeyType>
         assert outputs.length == this.getNumOutputs();
 
         final Function<Type, KeyType> keyExtractor = javaExecutor.getCompiler().compile(this.keyDescriptor);
-        final Map<KeyType, List<Type>> collocation = ((JavaChannelInstance) inputs[0]).<Type>provideStream().collect(
+        if (SpillManager.isEnabled(javaExecutor.getConfiguration())) {
+            final SpillManager spillManager = new SpillManager(javaExecutor);
+            final ExecutionLineageNode executionLineageNode = new ExecutionLineageNode(operatorContext);
+            executionLineageNode.addAtomicExecutionFromOperatorContext();
+            try {
+                ((CollectionChannel.Instance) outputs[0]).accept(GraceHashGrouper.group(
+                        ((JavaChannelInstance) inputs[0]).<Type>provideStream().iterator(), keyExtractor, spillManager
+                ));
+                spillManager.reportTo(executionLineageNode);
+            } finally {
+                spillManager.dispose();
+            }
+            return ExecutionOperator.modelEagerExecution(inputs, outputs, executionLineageNode);
+        }
+
+        final Map<KeyType, List<Type>> collocation = ((JavaChannelInstance) inputs[0]).<Type>provideStream(javaExecutor.isParallel()).collect(
                 Collectors.groupingBy(
                         keyExtractor,
-                        Collectors.toList())); // Not sure if this is thread-safe... Will we use #parallelStream()?
+                        Collectors.toList()));
 
         ((CollectionChannel.Instance) outputs[0]).accept(collocation.values());
 
@@ -23,17 +23,43 @@ import org.apache.avro.Schema;
 import org.apache.avro.Schema.Field;
 import org.apache.avro.data.TimeConversions;
 import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericEnumSymbol;
+import org.apache.avro.generic.GenericFixed;
 import org.apache.avro.generic.GenericRecord;
 
 import org.apache.hadoop.conf.Configuration;
+import org.apache.parquet.HadoopReadOptions;
+import org.apache.parquet.ParquetReadOptions;
 import org.apache.parquet.avro.AvroParquetReader;
 import org.apache.parquet.avro.AvroReadSupport;
 import org.apache.parquet.avro.AvroSchemaConverter;
+import org.apache.parquet.column.Dictionary;
+import org.apache.parquet.column.page.PageReadStore;
+import org.apache.parquet.filter2.compat.FilterCompat;
+import org.apache.parquet.filter2.predicate.FilterPredicate;
+import org.apache.parquet.filter2.predicate.Operators;
+import org.apache.parquet.filter2.predicate.SchemaCompatibilityValidator;
+import org.apache.parquet.filter2.predicate.UserDefinedPredicate;
+import org.apache.parquet.hadoop.ParquetFileReader;
 import org.apache.parquet.hadoop.ParquetReader;
 import org.apache.hadoop.fs.Path;
 
+import org.apache.parquet.hadoop.metadata.BlockMetaData;
+import org.apache.parquet.hadoop.metadata.ColumnPath;
 import org.apache.parquet.hadoop.util.HadoopInputFile;
+import org.apache.parquet.io.ColumnIOFactory;
 import org.apache.parquet.io.InputFile;
+import org.apache.parquet.io.MessageColumnIO;
+import org.apache.parquet.io.RecordReader;
+import org.apache.parquet.io.api.Binary;
+import org.apache.parquet.io.api.Converter;
+import org.apache.parquet.io.api.GroupConverter;
+import org.apache.parquet.io.api.PrimitiveConverter;
+import org.apache.parquet.io.api.RecordMaterializer;
+import org.apache.parquet.schema.LogicalTypeAnnotation;
+import org.apache.parquet.schema.MessageType;
+import org.apache.parquet.schema.PrimitiveType;
+import org.apache.parquet.schema.Type;
 import org.apache.wayang.basic.data.Record;
 import org.apache.wayang.basic.operators.ParquetSource;
 import org.apache.wayang.core.api.exception.WayangException;
@@ -46,11 +72,25 @@ import org.apache.wayang.core.util.Tuple;
 import org.apache.wayang.java.channels.StreamChannel;
 import org.apache.wayang.java.execution.JavaExecutor;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
 import java.util.*;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.LongFunction;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * This execution operator implements the {@link ParquetSource} for the {@link org.apache.wayang.java.platform.JavaPlatform}.
+ * <p>Flat schemas are read row group by row group straight into {@link Record}s, while other schemas are read via
+ * Avro. In both cases, the {@link #getFilterPredicate() filter} is pushed down to skip row groups by means of
+ * their statistics and dictionaries. In the parallel mode of the {@link JavaExecutor}, row groups are read in
+ * parallel.</p>
  */
 public class JavaParquetSource extends ParquetSource implements JavaExecutionOperator {
 
@@ -79,33 +119,31 @@ public class JavaParquetSource extends ParquetSource implements JavaExecutionOpe
 
         try {
             Configuration conf = new Configuration();
-
-            // Define a projection schema, if any (uses default schema if no projection defined)
-            Schema schema = getSchemaToRead();
-            AvroReadSupport.setAvroReadSchema(conf, schema);
-            AvroReadSupport.setRequestedProjection(conf, schema);
-
             InputFile file = HadoopInputFile.fromPath(new Path(urlStr), conf);
 
-            // Parse dates as logical types
-            GenericData model = new GenericData();
-            model.addLogicalTypeConversion(new TimeConversions.TimestampMicrosConversion());
-            model.addLogicalTypeConversion(new TimeConversions.TimestampMillisConversion());
-            model.addLogicalTypeConversion(new TimeConversions.DateConversion());
-            model.addLogicalTypeConversion(new TimeConversions.TimeMicrosConversion());
-            model.addLogicalTypeConversion(new TimeConversions.TimeMillisConversion());
-
-            ParquetReader<GenericRecord> reader = AvroParquetReader.<GenericRecord>builder(file)
-                    .withDataModel(model)
-                    .build();
-
-            List<Record> records = new ArrayList<>();
-            GenericRecord record;
-
-            while ((record = reader.read()) != null) {
-                records.add(convertGenericRecordToRecord(record));
+            final MessageType requestedSchema;
+            try (ParquetFileReader reader = ParquetFileReader.open(file, this.createReadOptions(conf, false))) {
+                requestedSchema = this.getRequestedSchema(reader.getFileMetaData().getSchema());
+            }
+            if (this.getFilterPredicate() != null) {
+                // Make sure that the filter does not refer to columns that are projected away.
+                final ColumnCollector columnCollector = new ColumnCollector();
+                this.getFilterPredicate().accept(columnCollector);
+                for (ColumnPath column : columnCollector.columns) {
+                    if (!requestedSchema.containsPath(column.toArray())) {
+                        throw new WayangException(String.format(
+                                "The filter %s refers to the column %s, which is not projected.",
+                                this.getFilterPredicate(), column.toDotString()
+                        ));
+                    }
+                }
+                SchemaCompatibilityValidator.validate(this.getFilterPredicate(), requestedSchema);
             }
+            final int[] rowGroups = this.selectRowGroups(file, conf);
 
+            final Stream<Record> records = RecordConverter.isSupported(requestedSchema) ?
+                    this.readRowGroups(file, conf, requestedSchema, rowGroups, javaExecutor.isParallel()) :
+                    this.readAvroRecords(file, conf);
             ((StreamChannel.Instance) outputs[0]).accept(records);
 
         } catch (Exception e) {
@@ -126,6 +164,152 @@ public class JavaParquetSource extends ParquetSource implements JavaExecutionOpe
         return prepareLineageNode.collectAndMark();
     }
 
+    /**
+     * Finds the row groups that the {@link #getFilterPredicate() filter} cannot rule out by means of their
+     * statistics, dictionaries, and bloom filters.
+     *
+     * @return the ordinals of the row groups to read
+     */
+    int[] selectRowGroups(InputFile file, Configuration conf) throws IOException {
+        try (ParquetFileReader reader = ParquetFileReader.open(file, this.createReadOptions(conf, true))) {
+            return reader.getRowGroups().stream().mapToInt(BlockMetaData::getOrdinal).toArray();
+        }
+    }
+
+    /**
+     * Creates the {@link ParquetReadOptions} for reading the file.
+     *
+     * @param isFilterRowGroups whether the row groups should be filtered via their statistics and dictionaries
+     */
+    private ParquetReadOptions createReadOptions(Configuration conf, boolean isFilterRowGroups) {
+        return HadoopReadOptions.builder(conf)
+                .withRecordFilter(this.getFilter())
+                .useStatsFilter(isFilterRowGroups)
+                .useDictionaryFilter(isFilterRowGroups)
+                .useBloomFilter(isFilterRowGroups)
+                .useColumnIndexFilter(true)
+                .useRecordFilter(true)
+                .build();
+    }
+
+    private FilterCompat.Filter getFilter() {
+        return this.getFilterPredicate() == null ? FilterCompat.NOOP : FilterCompat.get(this.getFilterPredicate());
+    }
+
+    /**
+     * Reads the given row groups lazily, in parallel if requested.
+     */
+    private Stream<Record> readRowGroups(InputFile file,
+                                         Configuration conf,
+                                         MessageType requestedSchema,
+                                         int[] rowGroups,
+                                         boolean isParallel) {
+        // The row groups have been filtered already, so that the readers can address them by their ordinals.
+        final ParquetReadOptions options = this.createReadOptions(conf, false);
+        final FilterCompat.Filter filter = this.getFilter();
+        if (!isParallel || rowGroups.length <= 1) {
+            return this.readRowGroups(file, options, requestedSchema, filter, rowGroups);
+        }
+        return Arrays.stream(rowGroups).parallel().boxed().flatMap(
+                rowGroup -> this.readRowGroups(file, options, requestedSchema, filter, new int[]{rowGroup})
+        );
+    }
+
+    private Stream<Record> readRowGroups(InputFile file,
+                                         ParquetReadOptions options,
+                                         MessageType requestedSchema,
+                                         FilterCompat.Filter filter,
+                                         int[] rowGroups) {
+        final RowGroupIterator iterator;
+        try {
+            iterator = new RowGroupIterator(
+                    ParquetFileReader.open(file, options), requestedSchema, filter, rowGroups
+            );
+        } catch (IOException e) {
+            throw new WayangException(String.format("Opening Parquet file %s failed.", file), e);
+        }
+        return StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false
+        ).onClose(iterator::close);
+    }
+
+    /**
+     * Reads the file lazily via Avro.
+     */
+    private Stream<Record> readAvroRecords(InputFile file, Configuration conf) throws IOException {
+        // Define a projection schema, if any (uses default schema if no projection defined)
+        Schema schema = getSchemaToRead();
+        AvroReadSupport.setAvroReadSchema(conf, schema);
+        AvroReadSupport.setRequestedProjection(conf, schema);
+
+        // Parse dates as logical types
+        GenericData model = new GenericData();
+        model.addLogicalTypeConversion(new TimeConversions.TimestampMicrosConversion());
+        model.addLogicalTypeConversion(new TimeConversions.TimestampMillisConversion());
+        model.addLogicalTypeConversion(new TimeConversions.DateConversion());
+        model.addLogicalTypeConversion(new TimeConversions.TimeMicrosConversion());
+        model.addLogicalTypeConversion(new TimeConversions.TimeMillisConversion());
+
+        ParquetReader<GenericRecord> reader = AvroParquetReader.<GenericRecord>builder(file)
+                .withDataModel(model)
+                .withFilter(this.getFilter())
+                .withConf(conf)
+                .build();
+
+        Iterator<Record> iterator = new Iterator<Record>() {
+
+            private GenericRecord next = this.read();
+
+            private GenericRecord read() {
+                try {
+                    GenericRecord record = reader.read();
+                    if (record == null) reader.close();
+                    return record;
+                } catch (IOException e) {
+                    throw new WayangException(String.format("Reading from Parquet file %s failed.", file), e);
+                }
+            }
+
+            @Override
+            public boolean hasNext() {
+                return this.next != null;
+            }
+
+            @Override
+            public Record next() {
+                if (this.next == null) throw new NoSuchElementException();
+                Record record = convertGenericRecordToRecord(this.next);
+                this.next = this.read();
+                return record;
+            }
+        };
+        return StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false
+        ).onClose(() -> {
+            try {
+                reader.close();
+            } catch (IOException e) {
+                throw new WayangException(String.format("Closing Parquet file %s failed.", file), e);
+            }
+        });
+    }
+
+    /**
+     * Restricts the schema of the file to the projected columns, if any.
+     */
+    private MessageType getRequestedSchema(MessageType fileSchema) {
+        String[] projection = this.getProjection();
+        if (projection == null || projection.length == 0) {
+            return fileSchema;
+        }
+
+        Set<String> projectionSet = Set.of(projection);
+        List<Type> filteredFields = fileSchema.getFields().stream()
+                .filter(field -> projectionSet.contains(field.getName()))
+                .collect(Collectors.toList());
+        return new MessageType(fileSchema.getName(), filteredFields);
+    }
+
     private Schema getSchemaToRead() {
         String[] projection = this.getProjection();
         Schema avroSchema = new AvroSchemaConverter().convert(this.getSchema());
@@ -151,13 +335,451 @@ public class JavaParquetSource extends ParquetSource implements JavaExecutionOpe
         return fieldAssembler.endRecord();
     }
 
-    private Record convertGenericRecordToRecord(GenericRecord record) {
-        List<Object> values = record.getSchema().getFields().stream()
-                .map(field -> record.get(field.name()))
-                .collect(Collectors.toList());
+    private static Record convertGenericRecordToRecord(GenericRecord record) {
+        Object[] values = new Object[record.getSchema().getFields().size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = convertAvroValue(record.get(i));
+        }
         return new Record(values);
     }
 
+    /**
+     * Converts a value read by Avro into the value that the {@link RecordConverter} would produce for the same
+     * column, e.g., {@link org.apache.avro.util.Utf8} into {@link String}. Nested values are converted recursively.
+     */
+    private static Object convertAvroValue(Object value) {
+        if (value instanceof CharSequence || value instanceof GenericEnumSymbol) {
+            return value.toString();
+        } else if (value instanceof GenericFixed) {
+            return ByteBuffer.wrap(((GenericFixed) value).bytes());
+        } else if (value instanceof GenericRecord) {
+            return convertGenericRecordToRecord((GenericRecord) value);
+        } else if (value instanceof List) {
+            final List<?> list = (List<?>) value;
+            final List<Object> converted = new ArrayList<>(list.size());
+            for (Object element : list) {
+                converted.add(convertAvroValue(element));
+            }
+            return converted;
+        } else if (value instanceof Map) {
+            final Map<Object, Object> converted = new LinkedHashMap<>();
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                converted.put(convertAvroValue(entry.getKey()), convertAvroValue(entry.getValue()));
+            }
+            return converted;
+        }
+        return value;
+    }
+
+    /**
+     * Collects the columns that a {@link FilterPredicate} refers to.
+     */
+    private static class ColumnCollector implements FilterPredicate.Visitor<Void> {
+
+        private final Set<ColumnPath> columns = new HashSet<>();
+
+        private Void add(Operators.Column<?> column) {
+            this.columns.add(column.getColumnPath());
+            return null;
+        }
+
+        @Override
+        public <T extends Comparable<T>> Void visit(Operators.Eq<T> eq) {
+            return this.add(eq.getColumn());
+        }
+
+        @Override
+        public <T extends Comparable<T>> Void visit(Operators.NotEq<T> notEq) {
+            return this.add(notEq.getColumn());
+        }
+
+        @Override
+        public <T extends Comparable<T>> Void visit(Operators.Lt<T> lt) {
+            return this.add(lt.getColumn());
+        }
+
+        @Override
+        public <T extends Comparable<T>> Void visit(Operators.LtEq<T> ltEq) {
+            return this.add(ltEq.getColumn());
+        }
+
+        @Override
+        public <T extends Comparable<T>> Void visit(Operators.Gt<T> gt) {
+            return this.add(gt.getColumn());
+        }
+
+        @Override
+        public <T extends Comparable<T>> Void visit(Operators.GtEq<T> gtEq) {
+            return this.add(gtEq.getColumn());
+        }
+
+        @Override
+        public <T extends Comparable<T>> Void visit(Operators.In<T> in) {
+            return this.add(in.getColumn());
+        }
+
+        @Override
+        public <T extends Comparable<T>> Void visit(Operators.NotIn<T> notIn) {
+            return this.add(notIn.getColumn());
+        }
+
+        @Override
+        public <T extends Comparable<T>> Void visit(Operators.Contains<T> contains) {
+            return this.add(contains.getColumn());
+        }
+
+        @Override
+        public Void visit(Operators.And and) {
+            and.getLeft().accept(this);
+            return and.getRight().accept(this);
+        }
+
+        @Override
+        public Void visit(Operators.Or or) {
+            or.getLeft().accept(this);
+            return or.getRight().accept(this);
+        }
+
+        @Override
+        public Void visit(Operators.Not not) {
+            return not.getPredicate().accept(this);
+        }
+
+        @Override
+        public <T extends Comparable<T>, U extends UserDefinedPredicate<T>> Void visit(Operators.UserDefined<T, U> udp) {
+            return this.add(udp.getColumn());
+        }
+
+        @Override
+        public <T extends Comparable<T>, U extends UserDefinedPredicate<T>> Void visit(Operators.LogicalNotUserDefined<T, U> udp) {
+            return udp.getUserDefined().accept(this);
+        }
+    }
+
+    /**
+     * Iterates the {@link Record}s of some row groups of a Parquet file and closes the file when done.
+     */
+    private static class RowGroupIterator implements Iterator<Record>, AutoCloseable {
+
+        private final ParquetFileReader reader;
+
+        private final MessageType requestedSchema;
+
+        private final MessageColumnIO columnIO;
+
+        private final FilterCompat.Filter filter;
+
+        private final int[] rowGroups;
+
+        private int nextRowGroupIndex = 0;
+
+        private RecordReader<Record> recordReader;
+
+        private long numRemainingRows = 0;
+
+        private Record next;
+
+        private boolean isClosed = false;
+
+        private RowGroupIterator(ParquetFileReader reader,
+                                 MessageType requestedSchema,
+                                 FilterCompat.Filter filter,
+                                 int[] rowGroups) {
+            this.reader = reader;
+            this.requestedSchema = requestedSchema;
+            this.filter = filter;
+            this.rowGroups = rowGroups;
+            reader.setRequestedSchema(requestedSchema);
+            this.columnIO = new ColumnIOFactory().getColumnIO(requestedSchema, reader.getFileMetaData().getSchema());
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (this.next == null) {
+                if (this.numRemainingRows == 0 && !this.advanceRowGroup()) {
+                    return false;
+                }
+                this.numRemainingRows--;
+                final Record record = this.recordReader.read();
+                // Records that do not satisfy the filter are skipped.
+                if (record != null && !this.recordReader.shouldSkipCurrentRecord()) {
+                    this.next = record;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public Record next() {
+            if (!this.hasNext()) throw new NoSuchElementException();
+            final Record record = this.next;
+            this.next = null;
+            return record;
+        }
+
+        /**
+         * Reads the pages of the next row group, thereby skipping pages that the column indexes rule out.
+         *
+         * @return whether there is another row group
+         */
+        private boolean advanceRowGroup() {
+            try {
+                while (this.nextRowGroupIndex < this.rowGroups.length) {
+                    final PageReadStore pages = this.reader.readFilteredRowGroup(this.rowGroups[this.nextRowGroupIndex++]);
+                    if (pages == null || pages.getRowCount() == 0) continue;
+                    this.numRemainingRows = pages.getRowCount();
+                    this.recordReader = this.columnIO.getRecordReader(
+                            pages, new DirectRecordMaterializer(this.requestedSchema), this.filter
+                    );
+                    return true;
+                }
+            } catch (IOException e) {
+                throw new WayangException("Reading a Parquet row group failed.", e);
+            }
+            this.close();
+            return false;
+        }
+
+        @Override
+        public void close() {
+            if (this.isClosed) return;
+            this.isClosed = true;
+            try {
+                this.reader.close();
+            } catch (IOException e) {
+                throw new WayangException("Closing a Parquet file failed.", e);
+            }
+        }
+    }
+
+    /**
+     * Materializes {@link Record}s directly from the columns of a flat Parquet schema.
+     */
+    private static class DirectRecordMaterializer extends RecordMaterializer<Record> {
+
+        private final RecordConverter rootConverter;
+
+        private DirectRecordMaterializer(MessageType schema) {
+            this.rootConverter = new RecordConverter(schema);
+        }
+
+        @Override
+        public Record getCurrentRecord() {
+            return this.rootConverter.current;
+        }
+
+        @Override
+        public GroupConverter getRootConverter() {
+            return this.rootConverter;
+        }
+    }
+
+    /**
+     * Assembles {@link Record}s from the values of the individual columns.
+     */
+    private static class RecordConverter extends GroupConverter {
+
+        private final FieldConverter[] fieldConverters;
+
+        private Object[] values;
+
+        private Record current;
+
+        private RecordConverter(MessageType schema) {
+            this.fieldConverters = new FieldConverter[schema.getFieldCount()];
+            for (int i = 0; i < this.fieldConverters.length; i++) {
+                this.fieldConverters[i] = createFieldConverter(schema.getType(i), this, i);
+                assert this.fieldConverters[i] != null : String.format("Unsupported Parquet type %s.", schema.getType(i));
+            }
+        }
+
+        /**
+         * Tells whether the given schema can be read by instances of this class, i.e., whether it is flat and all
+         * its columns can be converted to the same values as the Avro reader would produce.
+         */
+        private static boolean isSupported(MessageType schema) {
+            return schema.getFields().stream().allMatch(field -> createFieldConverter(field, null, -1) != null);
+        }
+
+        @Override
+        public Converter getConverter(int fieldIndex) {
+            return this.fieldConverters[fieldIndex];
+        }
+
+        @Override
+        public void start() {
+            // Absent optional values remain null.
+            this.values = new Object[this.fieldConverters.length];
+        }
+
+        @Override
+        public void end() {
+            this.current = new Record(this.values);
+        }
+    }
+
+    /**
+     * Creates a {@link FieldConverter} for a column.
+     *
+     * @return the {@link FieldConverter} or {@code null} if the column type is not supported
+     */
+    private static FieldConverter createFieldConverter(Type field, RecordConverter parent, int index) {
+        if (!field.isPrimitive() || field.isRepetition(Type.Repetition.REPEATED)) return null;
+        final PrimitiveType type = field.asPrimitiveType();
+        final LogicalTypeAnnotation annotation = type.getLogicalTypeAnnotation();
+        switch (type.getPrimitiveTypeName()) {
+            case BOOLEAN:
+            case FLOAT:
+            case DOUBLE:
+                return annotation == null ? new FieldConverter(parent, index, type, null, null, null) : null;
+            case INT32:
+                if (annotation == null || (annotation instanceof LogicalTypeAnnotation.IntLogicalTypeAnnotation
+                        && ((LogicalTypeAnnotation.IntLogicalTypeAnnotation) annotation).getBitWidth() < 32)) {
+                    return new FieldConverter(parent, index, type, Integer::valueOf, null, null);
+                } else if (annotation instanceof LogicalTypeAnnotation.DateLogicalTypeAnnotation) {
+                    return new FieldConverter(parent, index, type, LocalDate::ofEpochDay, null, null);
+                } else if (annotation instanceof LogicalTypeAnnotation.TimeLogicalTypeAnnotation
+                        && ((LogicalTypeAnnotation.TimeLogicalTypeAnnotation) annotation).getUnit() == LogicalTypeAnnotation.TimeUnit.MILLIS) {
+                    return new FieldConverter(parent, index, type, value -> LocalTime.ofNanoOfDay(value * 1_000_000L), null, null);
+                }
+                return null;
+            case INT64:
+                if (annotation == null || annotation instanceof LogicalTypeAnnotation.IntLogicalTypeAnnotation) {
+                    return new FieldConverter(parent, index, type, null, Long::valueOf, null);
+                } else if (annotation instanceof LogicalTypeAnnotation.TimestampLogicalTypeAnnotation) {
+                    final LogicalTypeAnnotation.TimestampLogicalTypeAnnotation timestamp =
+                            (LogicalTypeAnnotation.TimestampLogicalTypeAnnotation) annotation;
+                    if (timestamp.getUnit() == LogicalTypeAnnotation.TimeUnit.NANOS) {
+                        return null;
+                    } else if (!timestamp.isAdjustedToUTC()) {
+                        // Avro reads local timestamps as plain longs.
+                        return new FieldConverter(parent, index, type, null, Long::valueOf, null);
+                    } else if (timestamp.getUnit() == LogicalTypeAnnotation.TimeUnit.MILLIS) {
+                        return new FieldConverter(parent, index, type, null, Instant::ofEpochMilli, null);
+                    }
+                    return new FieldConverter(parent, index, type, null, value -> Instant.ofEpochSecond(
+                            Math.floorDiv(value, 1_000_000L), Math.floorMod(value, 1_000_000L) * 1_000L
+                    ), null);
+                } else if (annotation instanceof LogicalTypeAnnotation.TimeLogicalTypeAnnotation
+                        && ((LogicalTypeAnnotation.TimeLogicalTypeAnnotation) annotation).getUnit() == LogicalTypeAnnotation.TimeUnit.MICROS) {
+                    return new FieldConverter(parent, index, type, null, value -> LocalTime.ofNanoOfDay(value * 1_000L), null);
+                }
+                return null;
+            case BINARY:
+                if (annotation instanceof LogicalTypeAnnotation.StringLogicalTypeAnnotation
+                        || annotation instanceof LogicalTypeAnnotation.EnumLogicalTypeAnnotation
+                        || annotation instanceof LogicalTypeAnnotation.JsonLogicalTypeAnnotation) {
+                    return new FieldConverter(parent, index, type, null, null, Binary::toStringUsingUTF8);
+                } else if (annotation == null) {
+                    return new FieldConverter(parent, index, type, null, null, Binary::toByteBuffer);
+                }
+                return null;
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Converts the values of a single column and puts them into the current {@link Record}. Dictionary-encoded
+     * values are converted only once per dictionary entry.
+     */
+    private static class FieldConverter extends PrimitiveConverter {
+
+        private final RecordConverter parent;
+
+        private final int index;
+
+        private final PrimitiveType type;
+
+        private final IntFunction<Object> intConversion;
+
+        private final LongFunction<Object> longConversion;
+
+        private final Function<Binary, Object> binaryConversion;
+
+        private Object[] dictionary;
+
+        private FieldConverter(RecordConverter parent,
+                               int index,
+                               PrimitiveType type,
+                               IntFunction<Object> intConversion,
+                               LongFunction<Object> longConversion,
+                               Function<Binary, Object> binaryConversion) {
+            this.parent = parent;
+            this.index = index;
+            this.type = type;
+            this.intConversion = intConversion;
+            this.longConversion = longConversion;
+            this.binaryConversion = binaryConversion;
+        }
+
+        @Override
+        public boolean hasDictionarySupport() {
+            return true;
+        }
+
+        @Override
+        public void setDictionary(Dictionary dictionary) {
+            this.dictionary = new Object[dictionary.getMaxId() + 1];
+            for (int id = 0; id < this.dictionary.length; id++) {
+                switch (this.type.getPrimitiveTypeName()) {
+                    case INT32:
+                        this.dictionary[id] = this.intConversion.apply(dictionary.decodeToInt(id));
+                        break;
+                    case INT64:
+                        this.dictionary[id] = this.longConversion.apply(dictionary.decodeToLong(id));
+                        break;
+                    case FLOAT:
+                        this.dictionary[id] = dictionary.decodeToFloat(id);
+                        break;
+                    case DOUBLE:
+                        this.dictionary[id] = dictionary.decodeToDouble(id);
+                        break;
+                    case BOOLEAN:
+                        this.dictionary[id] = dictionary.decodeToBoolean(id);
+                        break;
+                    default:
+                        this.dictionary[id] = this.binaryConversion.apply(dictionary.decodeToBinary(id));
+                }
+            }
+        }
+
+        @Override
+        public void addValueFromDictionary(int dictionaryId) {
+            this.parent.values[this.index] = this.dictionary[dictionaryId];
+        }
+
+        @Override
+        public void addBoolean(boolean value) {
+            this.parent.values[this.index] = value;
+        }
+
+        @Override
+        public void addInt(int value) {
+            this.parent.values[this.index] = this.intConversion.apply(value);
+        }
+
+        @Override
+        public void addLong(long value) {
+            this.parent.values[this.index] = this.longConversion.apply(value);
+        }
+
+        @Override
+        public void addFloat(float value) {
+            this.parent.values[this.index] = value;
+        }
+
+        @Override
+        public void addDouble(double value) {
+            this.parent.values[this.index] = value;
+        }
+
+        @Override
+        public void addBinary(Binary value) {
+            this.parent.values[this.index] = this.binaryConversion.apply(value);
+        }
+    }
+
     @Override
     public Collection<String> getLoadProfileEstimatorConfigurationKeys() {
         return Arrays.asList("wayang.java.parquetsource.load.prepare", "wayang.java.parquetsource.load.main");
@@ -41,6 +41,7 @@ import java.util.Random;
 import java.util.function.IntUnaryOperator;
 import java.util.function.LongUnaryOperator;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 /**
  * Java implementation of the {@link JavaRandomSampleOperator}. This sampling method is with replacement (i.e., duplicates may appear in the sample).
@@ -101,6 +102,20 @@ public class JavaRandomSampleOperator<Type>
             }
             Arrays.sort(sampleIndices);
 
+            if (javaExecutor.isParallel()) {
+                // The filter below relies on the encounter order, so we must not let a consumer parallelize it.
+                final List<Type> dataQuanta = ((JavaChannelInstance) inputs[0]).<Type>provideStream()
+                        .collect(Collectors.toList());
+                // Like the sequential filter, we pick fewer samples if the dataset size was overestimated.
+                ((StreamChannel.Instance) outputs[0]).accept(
+                        Arrays.stream(sampleIndices)
+                                .filter(index -> index < dataQuanta.size())
+                                .mapToObj(dataQuanta::get)
+                                .collect(Collectors.toList())
+                );
+                return ExecutionOperator.modelEagerExecution(inputs, outputs, operatorContext);
+            }
+
             ((StreamChannel.Instance) outputs[0]).accept(((JavaChannelInstance) inputs[0]).<Type>provideStream().filter(new Predicate<Type>() {
                         int streamIndex = 0;
                         int sampleIndex = 0;
@@ -35,6 +35,8 @@ import org.apache.wayang.java.channels.CollectionChannel;
 import org.apache.wayang.java.channels.JavaChannelInstance;
 import org.apache.wayang.java.channels.StreamChannel;
 import org.apache.wayang.java.execution.JavaExecutor;
+import org.apache.wayang.java.spill.HybridHashAggregator;
+import org.apache.wayang.java.spill.SpillManager;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -93,7 +95,26 @@ public class JavaReduceByOperator<Type, KeyType>
         final BinaryOperator<Type> reduceFunction = javaExecutor.getCompiler().compile(this.reduceDescriptor);
         JavaExecutor.openFunction(this, reduceFunction, inputs, operatorContext);
 
-        final Map<KeyType, Type> reductionResult = ((JavaChannelInstance) inputs[0]).<Type>provideStream().collect(
+        if (SpillManager.isEnabled(javaExecutor.getConfiguration())) {
+            final SpillManager spillManager = new SpillManager(javaExecutor);
+            final ExecutionLineageNode executionLineageNode = new ExecutionLineageNode(operatorContext);
+            executionLineageNode.addAtomicExecutionFromOperatorContext();
+            try {
+                // The CollectionChannel requires the reduced data quanta to be materialized.
+                final List<Type> reducedDataQuanta = new ArrayList<>();
+                HybridHashAggregator.aggregate(
+                        ((JavaChannelInstance) inputs[0]).<Type>provideStream().iterator(),
+                        keyExtractor, reduceFunction, spillManager
+                ).forEachRemaining(reducedDataQuanta::add);
+                ((CollectionChannel.Instance) outputs[0]).accept(reducedDataQuanta);
+                spillManager.reportTo(executionLineageNode);
+            } finally {
+                spillManager.dispose();
+            }
+            return ExecutionOperator.modelEagerExecution(inputs, outputs, executionLineageNode);
+        }
+
+        final Map<KeyType, Type> reductionResult = ((JavaChannelInstance) inputs[0]).<Type>provideStream(javaExecutor.isParallel()).collect(
                 Collectors.groupingBy(keyExtractor, new ReducingCollector<>(reduceFunction))
         );
         ((CollectionChannel.Instance) outputs[0]).accept(reductionResult.values());
@@ -167,7 +188,7 @@ public class JavaReduceByOperator<Type, KeyType>
                 if (list1.isEmpty()) {
                     return list2;
                 } else if (list2.isEmpty()) {
-                    return list2;
+                    return list1;
                 } else {
                     list1.set(0, this.reduceFunction.apply(list1.get(0), list2.get(0)));
                     return list1;
@@ -31,12 +31,19 @@ import org.apache.wayang.java.channels.CollectionChannel;
 import org.apache.wayang.java.channels.JavaChannelInstance;
 import org.apache.wayang.java.channels.StreamChannel;
 import org.apache.wayang.java.execution.JavaExecutor;
+import org.apache.wayang.java.spill.ExternalSorter;
+import org.apache.wayang.java.spill.SpillManager;
 
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.function.Function;
+import java.util.stream.StreamSupport;
 
 /**
  * Java implementation of the {@link SortOperator}.
@@ -74,9 +81,27 @@ public class JavaSortOperator<Type, Key>
         assert outputs.length == this.getNumOutputs();
 
         final Function<Type, Key> keyExtractor = javaExecutor.getCompiler().compile(this.keyDescriptor);
-
-        ((StreamChannel.Instance) outputs[0]).accept(((JavaChannelInstance) inputs[0]).<Type>provideStream()
-                .sorted((e1, e2) -> ((Comparable) keyExtractor.apply(e1)).compareTo(keyExtractor.apply(e2))));
+        final Comparator<Type> comparator =
+                (e1, e2) -> ((Comparable) keyExtractor.apply(e1)).compareTo(keyExtractor.apply(e2));
+
+        if (SpillManager.isEnabled(javaExecutor.getConfiguration())) {
+            // Sort externally once the input is being consumed.
+            final SpillManager spillManager = new SpillManager(javaExecutor);
+            final ExecutionLineageNode executionLineageNode = new ExecutionLineageNode(operatorContext);
+            executionLineageNode.addAtomicExecutionFromOperatorContext();
+            final JavaChannelInstance input = (JavaChannelInstance) inputs[0];
+            ((StreamChannel.Instance) outputs[0]).accept(StreamSupport.stream(() -> {
+                final Iterator<Type> sortedIterator = spillManager.disposeWhenExhausted(
+                        ExternalSorter.sort(input.<Type>provideStream().iterator(), comparator, spillManager),
+                        executionLineageNode
+                );
+                return Spliterators.spliteratorUnknownSize(sortedIterator, Spliterator.ORDERED);
+            }, Spliterator.ORDERED, false));
+            return ExecutionOperator.modelLazyExecution(inputs, outputs, executionLineageNode);
+        }
+
+        ((StreamChannel.Instance) outputs[0]).accept(((JavaChannelInstance) inputs[0]).<Type>provideStream(javaExecutor.isParallel())
+                .sorted(comparator));
 
         return ExecutionOperator.modelLazyExecution(inputs, outputs, operatorContext);
     }
@@ -0,0 +1,275 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.java.operators.graph;
+
+import org.apache.wayang.basic.data.Tuple2;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.stream.IntStream;
+
+/**
+ * Directed graph in primitive arrays for the graph operators of the Java platform. The vertex IDs are densified
+ * to {@code 0, ..., n-1} once, and the edges are stored both in compressed sparse row (outgoing edges) and in
+ * compressed sparse column (incoming edges) form, so that iterative algorithms can either push along or pull
+ * over the edges without any hashing or boxing.
+ */
+public class CsrGraph {
+
+    /**
+     * Maps dense vertex indices to the original vertex IDs.
+     */
+    private final long[] vertexIds;
+
+    /**
+     * The outgoing edges of vertex {@code v} are {@code outTargets[outOffsets[v]], ..., outTargets[outOffsets[v+1]-1]}.
+     */
+    private final int[] outOffsets, outTargets;
+
+    /**
+     * The incoming edges of vertex {@code v} are {@code inSources[inOffsets[v]], ..., inSources[inOffsets[v+1]-1]}.
+     */
+    private final int[] inOffsets, inSources;
+
+    private CsrGraph(long[] vertexIds, int[] outOffsets, int[] outTargets, int[] inOffsets, int[] inSources) {
+        this.vertexIds = vertexIds;
+        this.outOffsets = outOffsets;
+        this.outTargets = outTargets;
+        this.inOffsets = inOffsets;
+        this.inSources = inSources;
+    }
+
+    /**
+     * Builds a new instance. Every vertex that appears as source or as target of some edge becomes a vertex of the
+     * graph. Duplicate edges are retained.
+     *
+     * @param edges the edges as {@code (source vertex ID, target vertex ID)}
+     * @return the new instance
+     */
+    public static CsrGraph fromEdges(Collection<Tuple2<Long, Long>> edges) {
+        if (edges.size() > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException(String.format("Cannot handle %d edges.", edges.size()));
+        }
+        final int numEdges = edges.size();
+
+        // Densify the vertex IDs and remember the edges as dense indices.
+        final VertexIndex vertexIndex = new VertexIndex(numEdges);
+        final int[] sources = new int[numEdges], targets = new int[numEdges];
+        int e = 0;
+        for (Tuple2<Long, Long> edge : edges) {
+            sources[e] = vertexIndex.getOrAdd(edge.field0);
+            targets[e] = vertexIndex.getOrAdd(edge.field1);
+            e++;
+        }
+        final int numVertices = vertexIndex.size();
+
+        final int[] outOffsets = computeOffsets(sources, numVertices);
+        final int[] outTargets = scatter(sources, targets, outOffsets);
+        final int[] inOffsets = computeOffsets(targets, numVertices);
+        final int[] inSources = scatter(targets, sources, inOffsets);
+
+        return new CsrGraph(vertexIndex.getVertexIds(), outOffsets, outTargets, inOffsets, inSources);
+    }
+
+    /**
+     * Counting sort, part 1: compute the start offset of each vertex' edges.
+     */
+    private static int[] computeOffsets(int[] keys, int numVertices) {
+        final int[] offsets = new int[numVertices + 1];
+        for (int key : keys) {
+            offsets[key + 1]++;
+        }
+        for (int v = 0; v < numVertices; v++) {
+            offsets[v + 1] += offsets[v];
+        }
+        return offsets;
+    }
+
+    /**
+     * Counting sort, part 2: place the {@code values} of each {@code key} at the {@code offsets} of the key.
+     */
+    private static int[] scatter(int[] keys, int[] values, int[] offsets) {
+        final int[] cursors = Arrays.copyOf(offsets, offsets.length - 1);
+        final int[] result = new int[values.length];
+        for (int e = 0; e < keys.length; e++) {
+            result[cursors[keys[e]]++] = values[e];
+        }
+        return result;
+    }
+
+    public int getNumVertices() {
+        return this.vertexIds.length;
+    }
+
+    public int getNumEdges() {
+        return this.outTargets.length;
+    }
+
+    /**
+     * @param vertex a dense vertex index
+     * @return the original ID of the vertex
+     */
+    public long getVertexId(int vertex) {
+        return this.vertexIds[vertex];
+    }
+
+    public int getOutDegree(int vertex) {
+        return this.outOffsets[vertex + 1] - this.outOffsets[vertex];
+    }
+
+    public int getInDegree(int vertex) {
+        return this.inOffsets[vertex + 1] - this.inOffsets[vertex];
+    }
+
+    /**
+     * Provides the CSR offsets, i.e., vertex {@code v} has the outgoing edges
+     * {@code [getOutOffsets()[v], getOutOffsets()[v+1])} in {@link #getOutTargets()}. Must not be modified.
+     */
+    public int[] getOutOffsets() {
+        return this.outOffsets;
+    }
+
+    /**
+     * Provides the dense target vertex indices of the CSR form. Must not be modified.
+     */
+    public int[] getOutTargets() {
+        return this.outTargets;
+    }
+
+    /**
+     * Provides the CSC offsets, i.e., vertex {@code v} has the incoming edges
+     * {@code [getInOffsets()[v], getInOffsets()[v+1])} in {@link #getInSources()}. Must not be modified.
+     */
+    public int[] getInOffsets() {
+        return this.inOffsets;
+    }
+
+    /**
+     * Provides the dense source vertex indices of the CSC form. Must not be modified.
+     */
+    public int[] getInSources() {
+        return this.inSources;
+    }
+
+    /**
+     * Splits the dense vertex indices into contiguous ranges and processes them, potentially in parallel.
+     *
+     * @param numPartitions the number of ranges; if {@code 1}, the ranges are processed in the calling thread
+     * @param consumer      processes a vertex range
+     */
+    public void forEachVertexRange(int numPartitions, VertexRangeConsumer consumer) {
+        final int numVertices = this.getNumVertices();
+        if (numPartitions <= 1 || numVertices < 2) {
+            consumer.accept(0, numVertices);
+            return;
+        }
+        final int rangeSize = (numVertices + numPartitions - 1) / numPartitions;
+        IntStream.range(0, numPartitions).parallel()
+                .filter(partition -> partition * rangeSize < numVertices)
+                .forEach(partition -> consumer.accept(
+                        partition * rangeSize,
+                        Math.min((partition + 1) * rangeSize, numVertices)
+                ));
+    }
+
+    /**
+     * Processes the dense vertex indices {@code [from, to)}.
+     */
+    @FunctionalInterface
+    public interface VertexRangeConsumer {
+
+        void accept(int from, int to);
+
+    }
+
+    /**
+     * Open-addressing hash map from {@code long} vertex IDs to dense {@code int} indices.
+     */
+    private static class VertexIndex {
+
+        private static final int EMPTY = -1;
+
+        private long[] keys;
+
+        private int[] indices;
+
+        private long[] vertexIds;
+
+        private int size = 0;
+
+        VertexIndex(int expectedNumEdges) {
+            final int expectedNumVertices = Math.min(Math.max(8, expectedNumEdges), 1 << 28);
+            this.allocate(Integer.highestOneBit(expectedNumVertices * 2 - 1) << 1);
+            this.vertexIds = new long[expectedNumVertices];
+        }
+
+        private void allocate(int capacity) {
+            this.keys = new long[capacity];
+            this.indices = new int[capacity];
+            Arrays.fill(this.indices, EMPTY);
+        }
+
+        int getOrAdd(long vertexId) {
+            final int mask = this.keys.length - 1;
+            int slot = hash(vertexId) & mask;
+            while (this.indices[slot] != EMPTY) {
+                if (this.keys[slot] == vertexId) return this.indices[slot];
+                slot = (slot + 1) & mask;
+            }
+            final int index = this.size++;
+            this.keys[slot] = vertexId;
+            this.indices[slot] = index;
+            if (index == this.vertexIds.length) {
+                this.vertexIds = Arrays.copyOf(this.vertexIds, this.vertexIds.length * 2);
+            }
+            this.vertexIds[index] = vertexId;
+            if (this.size * 2 > this.keys.length) this.rehash();
+            return index;
+        }
+
+        private void rehash() {
+            final long[] oldKeys = this.keys;
+            final int[] oldIndices = this.indices;
+            this.allocate(oldKeys.length * 2);
+            final int mask = this.keys.length - 1;
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldIndices[i] == EMPTY) continue;
+                int slot = hash(oldKeys[i]) & mask;
+                while (this.indices[slot] != EMPTY) slot = (slot + 1) & mask;
+                this.keys[slot] = oldKeys[i];
+                this.indices[slot] = oldIndices[i];
+            }
+        }
+
+        private static int hash(long key) {
+            final long h = key * 0x9E3779B97F4A7C15L;
+            return (int) (h ^ (h >>> 32));
+        }
+
+        int size() {
+            return this.size;
+        }
+
+        long[] getVertexIds() {
+            return Arrays.copyOf(this.vertexIds, this.size);
+        }
+
+    }
+
+}
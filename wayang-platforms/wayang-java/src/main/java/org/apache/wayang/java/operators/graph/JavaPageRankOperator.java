@@ -18,9 +18,6 @@
 
 package org.apache.wayang.java.operators.graph;
 
-import java.util.HashMap;
-import java.util.Map;
-import java.util.function.BiFunction;
 import org.apache.wayang.basic.data.Tuple2;
 import org.apache.wayang.basic.operators.PageRankOperator;
 import org.apache.wayang.core.optimizer.OptimizationContext;
@@ -34,16 +31,17 @@ import org.apache.wayang.java.channels.StreamChannel;
 import org.apache.wayang.java.execution.JavaExecutor;
 import org.apache.wayang.java.operators.JavaExecutionOperator;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.Iterator;
 import java.util.List;
-import java.util.Spliterators;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
-import java.util.stream.StreamSupport;
 
 /**
- * Java implementation of the {@link PageRankOperator}.
+ * Java implementation of the {@link PageRankOperator}. The edges are converted into a {@link CsrGraph} once, and
+ * the iterations pull the ranks over the incoming edges of each vertex into a second {@code float[]}, which is
+ * done for ranges of vertices in parallel if the {@link JavaExecutor} is {@link JavaExecutor#isParallel() parallel}.
  */
 public class JavaPageRankOperator extends PageRankOperator implements JavaExecutionOperator {
 
@@ -65,8 +63,12 @@ public class JavaPageRankOperator extends PageRankOperator implements JavaExecut
         StreamChannel.Instance output = (StreamChannel.Instance) outputs[0];
 
         final Collection<Tuple2<Long, Long>> edges = input.provideCollection();
-        final Map<Long, Float> pageRanks = this.pageRank(edges);
-        final Stream<Tuple2<Long, Float>> pageRankStream = pageRanks.entrySet().stream().map(entry -> new Tuple2<>(entry.getKey(), entry.getValue()));
+        final CsrGraph graph = CsrGraph.fromEdges(edges);
+        final float[] pageRanks = pageRank(
+                graph, this.getNumIterations(), this.dampingFactor, javaExecutor.getParallelism()
+        );
+        final Stream<Tuple2<Long, Float>> pageRankStream = IntStream.range(0, graph.getNumVertices())
+                .mapToObj(vertex -> new Tuple2<>(graph.getVertexId(vertex), pageRanks[vertex]));
 
         output.accept(pageRankStream);
 
@@ -74,71 +76,53 @@ public class JavaPageRankOperator extends PageRankOperator implements JavaExecut
     }
 
     /**
-     * Execute the PageRank algorithm.
+     * Execute the PageRank algorithm. Vertices without outgoing edges do not pass on their ranks.
      *
-     * @param edgeDataSet edges of a graph
-     * @return the page ranks
+     * @param graph         the graph
+     * @param numIterations the number of PageRank iterations
+     * @param dampingFactor the PageRank damping factor
+     * @param numPartitions the number of vertex ranges to process in parallel
+     * @return the page ranks indexed by the dense vertex indices of the {@code graph}
      */
-    //TODO: change for efficient map
-    private Map<Long, Float> pageRank(Collection<Tuple2<Long, Long>> edgeDataSet) {
-        // Get the degress of all vertices and make sure we collect *all* vertices.
-        //TODO: change for efficient map
-        HashMap<Long, Integer> degrees = new HashMap<>();
-        for (Tuple2<Long, Long> edge : edgeDataSet) {
-            this.adjustOrPutValue(degrees, edge.field0, 1, 1, Integer::sum);
-            this.adjustOrPutValue(degrees, edge.field0, 0, 0, Integer::sum);
-        }
-        int numVertices = degrees.size();
-        float initialRank = 1f / numVertices;
-        float dampingRank = (1 - this.dampingFactor) / numVertices;
-
-        // Initialize the rank map.
-        //TODO: change for efficient map
-        HashMap<Long, Float> initialRanks = new HashMap<>();
-        degrees.forEach( (k, v) -> {
-            initialRanks.putIfAbsent(k, initialRank);
-        });
-
-        HashMap<Long, Float> currentRanks = initialRanks;
-        for (int iteration = 0; iteration < this.getNumIterations(); iteration++) {
-            // Add the damping first.
-            //TODO: change for efficient map
-            HashMap<Long, Float> newRanks = new HashMap<Long, Float>(currentRanks.size());
-            degrees.forEach( (k, v) -> {
-                newRanks.putIfAbsent(k, dampingRank);
+    static float[] pageRank(CsrGraph graph, int numIterations, float dampingFactor, int numPartitions) {
+        final int numVertices = graph.getNumVertices();
+        final int[] outOffsets = graph.getOutOffsets(), inOffsets = graph.getInOffsets(), inSources = graph.getInSources();
+        final float dampingRank = (1 - dampingFactor) / numVertices;
+
+        float[] currentRanks = new float[numVertices];
+        Arrays.fill(currentRanks, 1f / numVertices);
+        float[] newRanks = new float[numVertices];
+        final float[] contributions = new float[numVertices];
+
+        for (int iteration = 0; iteration < numIterations; iteration++) {
+            final float[] ranks = currentRanks, nextRanks = newRanks;
+
+            // Determine what each vertex passes on along each of its outgoing edges...
+            graph.forEachVertexRange(numPartitions, (from, to) -> {
+                for (int v = from; v < to; v++) {
+                    final int degree = outOffsets[v + 1] - outOffsets[v];
+                    contributions[v] = degree == 0 ? 0f : dampingFactor * ranks[v] / degree;
+                }
+            });
+
+            // ...and sum these contributions up at the target vertices.
+            graph.forEachVertexRange(numPartitions, (from, to) -> {
+                for (int v = from; v < to; v++) {
+                    float rank = dampingRank;
+                    for (int e = inOffsets[v]; e < inOffsets[v + 1]; e++) {
+                        rank += contributions[inSources[e]];
+                    }
+                    nextRanks[v] = rank;
+                }
             });
 
-            // Now add the other ranks.
-            for (Tuple2<Long, Long> edge : edgeDataSet) {
-                final long sourceVertex = edge.field0;
-                final long targetVertex = edge.field1;
-                final int degree = degrees.get(sourceVertex);
-                final float currentRank = currentRanks.get(sourceVertex);
-                final float partialRank = this.dampingFactor * currentRank / degree;
-                this.adjustOrPutValue(newRanks, targetVertex, partialRank, partialRank, Float::sum);
-            }
-
-            currentRanks = newRanks;
+            newRanks = currentRanks;
+            currentRanks = nextRanks;
         }
 
         return currentRanks;
     }
 
-    /**
-     * simulate the process on the Trove4j library
-     * @param key key to modify on the map
-     * @param default_value default value in the case of not key
-     * @param correction element to add the array in the case of the key exist
-     */
-    private <T> void adjustOrPutValue(Map<Long, T> map, Long key, T default_value, T correction, BiFunction<T, T, T> update){
-        if(map.containsKey(key)){
-            T value = map.get(key);
-            map.replace(key, update.apply(value, correction) );
-        }else{
-            map.put(key, default_value);
-        }
-    }
-
     @Override
     public String getLoadProfileEstimatorConfigurationKey() {
         return "wayang.java.pagerank.load";
@@ -64,7 +64,10 @@ public class JavaPlatform extends Platform {
     @Override
     public LoadProfileToTimeConverter createLoadProfileToTimeConverter(Configuration configuration) {
         int cpuMhz = (int) configuration.getLongProperty("wayang.java.cpu.mhz");
-        int numCores = (int) configuration.getLongProperty("wayang.java.cores");
+        // Only in the multi-core mode, the Java platform can actually make use of several cores.
+        int numCores = configuration.getBooleanProperty("wayang.java.parallel", false) ?
+                (int) Math.max(1, configuration.getLongProperty("wayang.java.cores")) :
+                1;
         double hdfsMsPerMb = configuration.getDoubleProperty("wayang.java.hdfs.ms-per-mb");
         double stretch = configuration.getDoubleProperty("wayang.java.stretch");
         return LoadProfileToTimeConverter.createTopLevelStretching(
@@ -0,0 +1,149 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.java.spill;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+
+/**
+ * Sorts data quanta within a memory budget: Sorted runs that exceed the budget are spilled to disk and eventually
+ * combined with a k-way merge. If there are more runs than the configured fan-in, they are merged in several passes.
+ * The sort is stable.
+ */
+public class ExternalSorter {
+
+    private ExternalSorter() {
+    }
+
+    /**
+     * Sorts the given data quanta.
+     *
+     * @param input        the data quanta to sort
+     * @param comparator   defines the sort order
+     * @param spillManager manages the spilling
+     * @return an {@link Iterator} over the sorted data quanta
+     */
+    public static <T> Iterator<T> sort(Iterator<T> input, Comparator<? super T> comparator, SpillManager spillManager) {
+        final MemoryTracker memoryTracker = spillManager.createMemoryTracker();
+        List<SpillFile<T>> runs = new ArrayList<>();
+        List<T> buffer = new ArrayList<>();
+        while (input.hasNext()) {
+            final T dataQuantum = input.next();
+            buffer.add(dataQuantum);
+            if (memoryTracker.add(dataQuantum)) {
+                runs.add(spillRun(buffer, comparator, spillManager));
+                buffer = new ArrayList<>();
+                memoryTracker.reset();
+            }
+        }
+        buffer.sort(comparator);
+        if (runs.isEmpty()) {
+            return buffer.iterator();
+        }
+
+        // Reduce the number of runs until they can be merged with the in-memory buffer in a single pass.
+        while (runs.size() + 1 > spillManager.getFanIn()) {
+            final List<SpillFile<T>> mergedRuns = new ArrayList<>();
+            for (int start = 0; start < runs.size(); start += spillManager.getFanIn()) {
+                final List<SpillFile<T>> group = runs.subList(start, Math.min(start + spillManager.getFanIn(), runs.size()));
+                final List<Iterator<T>> groupIterators = new ArrayList<>();
+                group.forEach(run -> groupIterators.add(run.read()));
+                final SpillFile<T> mergedRun = spillManager.createSpillFile();
+                merge(groupIterators, comparator).forEachRemaining(mergedRun::write);
+                mergedRun.finishWriting();
+                group.forEach(SpillFile::delete);
+                mergedRuns.add(mergedRun);
+            }
+            spillManager.notePass();
+            runs = mergedRuns;
+        }
+
+        final List<Iterator<T>> runIterators = new ArrayList<>();
+        runs.forEach(run -> runIterators.add(run.read()));
+        runIterators.add(buffer.iterator());
+        spillManager.notePass();
+        return merge(runIterators, comparator);
+    }
+
+    private static <T> SpillFile<T> spillRun(List<T> buffer, Comparator<? super T> comparator, SpillManager spillManager) {
+        buffer.sort(comparator);
+        final SpillFile<T> run = spillManager.createSpillFile();
+        buffer.forEach(run::write);
+        run.finishWriting();
+        return run;
+    }
+
+    /**
+     * Merges sorted {@link Iterator}s. Ties are resolved by the order of the {@link Iterator}s to retain stability.
+     */
+    private static <T> Iterator<T> merge(List<Iterator<T>> runs, Comparator<? super T> comparator) {
+        final PriorityQueue<RunCursor<T>> queue = new PriorityQueue<>(runs.size(), (cursor1, cursor2) -> {
+            final int result = comparator.compare(cursor1.head, cursor2.head);
+            return result != 0 ? result : Integer.compare(cursor1.runIndex, cursor2.runIndex);
+        });
+        for (int runIndex = 0; runIndex < runs.size(); runIndex++) {
+            final Iterator<T> run = runs.get(runIndex);
+            if (run.hasNext()) queue.add(new RunCursor<>(run, runIndex));
+        }
+        return new Iterator<T>() {
+            @Override
+            public boolean hasNext() {
+                return !queue.isEmpty();
+            }
+
+            @Override
+            public T next() {
+                final RunCursor<T> cursor = queue.poll();
+                if (cursor == null) throw new NoSuchElementException();
+                final T next = cursor.head;
+                if (cursor.advance()) queue.add(cursor);
+                return next;
+            }
+        };
+    }
+
+    /**
+     * Points to the next data quantum of a sorted run.
+     */
+    private static class RunCursor<T> {
+
+        private final Iterator<T> run;
+
+        private final int runIndex;
+
+        private T head;
+
+        RunCursor(Iterator<T> run, int runIndex) {
+            this.run = run;
+            this.runIndex = runIndex;
+            this.head = run.next();
+        }
+
+        boolean advance() {
+            if (!this.run.hasNext()) return false;
+            this.head = this.run.next();
+            return true;
+        }
+    }
+
+}
@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.java.spill;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Groups data quanta by key within a memory budget: Once the in-memory groups exceed the budget, all data quanta
+ * are hash-partitioned to disk and the partitions are grouped recursively. Groups that do not fit into the budget
+ * even after {@link SpillManager#getMaxDepth()} partitioning levels are materialized in memory nonetheless.
+ */
+public class GraceHashGrouper {
+
+    private GraceHashGrouper() {
+    }
+
+    /**
+     * Groups the given data quanta by key.
+     *
+     * @param input        the data quanta to group
+     * @param keyExtractor extracts the key from data quanta
+     * @param spillManager manages the spilling
+     * @return the groups
+     */
+    public static <T, K> Collection<List<T>> group(Iterator<T> input,
+                                                   Function<T, K> keyExtractor,
+                                                   SpillManager spillManager) {
+        final Collection<List<T>> result = new ArrayList<>();
+        group(input, keyExtractor, spillManager, 0, result);
+        return result;
+    }
+
+    private static <T, K> void group(Iterator<T> input,
+                                     Function<T, K> keyExtractor,
+                                     SpillManager spillManager,
+                                     int depth,
+                                     Collection<List<T>> result) {
+        final boolean isSpillingAllowed = depth < spillManager.getMaxDepth();
+        final MemoryTracker memoryTracker = spillManager.createMemoryTracker();
+        final Map<K, List<T>> groups = new HashMap<>();
+        while (input.hasNext()) {
+            final T dataQuantum = input.next();
+            groups.computeIfAbsent(keyExtractor.apply(dataQuantum), key -> new ArrayList<>()).add(dataQuantum);
+            if (isSpillingAllowed && memoryTracker.add(dataQuantum)) {
+                // Switch to partitioning all data quanta, including those that have been grouped already.
+                final SpillFile<T>[] partitions = spillManager.createPartitionFiles();
+                for (Map.Entry<K, List<T>> entry : groups.entrySet()) {
+                    final SpillFile<T> partition = partitions[spillManager.getPartition(entry.getKey(), depth)];
+                    entry.getValue().forEach(partition::write);
+                }
+                groups.clear();
+                while (input.hasNext()) {
+                    final T nextDataQuantum = input.next();
+                    partitions[spillManager.getPartition(keyExtractor.apply(nextDataQuantum), depth)].write(nextDataQuantum);
+                }
+                for (SpillFile<T> partition : partitions) {
+                    partition.finishWriting();
+                }
+                for (SpillFile<T> partition : partitions) {
+                    if (partition.getNumElements() > 0) {
+                        spillManager.notePass();
+                        group(partition.read(), keyExtractor, spillManager, depth + 1, result);
+                    }
+                    partition.delete();
+                }
+                return;
+            }
+        }
+        result.addAll(groups.values());
+    }
+
+}
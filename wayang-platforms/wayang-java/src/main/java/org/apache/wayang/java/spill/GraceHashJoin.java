@@ -0,0 +1,155 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.java.spill;
+
+import org.apache.wayang.java.util.JoinHashTable;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Hash join within a memory budget: If the build side fits into the budget, it is indexed in a
+ * {@link JoinHashTable} and probed in a streaming fashion. Otherwise, both sides are hash-partitioned to disk and
+ * the partition pairs are joined recursively.
+ */
+public class GraceHashJoin {
+
+    private GraceHashJoin() {
+    }
+
+    /**
+     * Joins two inputs. The build side is consumed right away, the probe side only once the result is consumed.
+     *
+     * @param buildInput        the data quanta to index
+     * @param buildKeyExtractor extracts the join keys from the {@code buildInput}
+     * @param probeInput        the data quanta to probe
+     * @param probeKeyExtractor extracts the join keys from the {@code probeInput}
+     * @param combiner          creates the join product of two matching data quanta
+     * @param spillManager      manages the spilling
+     * @return the join products
+     */
+    public static <B, P, K, O> Stream<O> join(Iterator<B> buildInput,
+                                              Function<B, K> buildKeyExtractor,
+                                              Stream<P> probeInput,
+                                              Function<P, K> probeKeyExtractor,
+                                              BiFunction<B, P, O> combiner,
+                                              SpillManager spillManager) {
+        return join(buildInput, buildKeyExtractor, probeInput, probeKeyExtractor, combiner, spillManager, 0);
+    }
+
+    private static <B, P, K, O> Stream<O> join(Iterator<B> buildInput,
+                                               Function<B, K> buildKeyExtractor,
+                                               Stream<P> probeInput,
+                                               Function<P, K> probeKeyExtractor,
+                                               BiFunction<B, P, O> combiner,
+                                               SpillManager spillManager,
+                                               int depth) {
+        final boolean isSpillingAllowed = depth < spillManager.getMaxDepth();
+        final MemoryTracker memoryTracker = spillManager.createMemoryTracker();
+        final List<B> buildDataQuanta = new ArrayList<>();
+        while (buildInput.hasNext()) {
+            final B dataQuantum = buildInput.next();
+            buildDataQuanta.add(dataQuantum);
+            if (isSpillingAllowed && memoryTracker.add(dataQuantum)) {
+                final SpillFile<B>[] buildPartitions = spillManager.createPartitionFiles();
+                buildDataQuanta.forEach(buildDataQuantum -> writeToPartition(
+                        buildDataQuantum, buildKeyExtractor, buildPartitions, spillManager, depth
+                ));
+                buildDataQuanta.clear();
+                buildInput.forEachRemaining(buildDataQuantum -> writeToPartition(
+                        buildDataQuantum, buildKeyExtractor, buildPartitions, spillManager, depth
+                ));
+                for (SpillFile<B> buildPartition : buildPartitions) {
+                    buildPartition.finishWriting();
+                }
+                return joinPartitioned(
+                        buildPartitions, buildKeyExtractor, probeInput, probeKeyExtractor, combiner, spillManager, depth
+                );
+            }
+        }
+
+        final JoinHashTable<K, B> hashTable = new JoinHashTable<>(buildDataQuanta.size());
+        buildDataQuanta.forEach(dataQuantum -> hashTable.put(buildKeyExtractor.apply(dataQuantum), dataQuantum));
+        return probeInput.mapMulti((probeDataQuantum, downstream) -> hashTable.forEachMatch(
+                probeKeyExtractor.apply(probeDataQuantum),
+                buildDataQuantum -> downstream.accept(combiner.apply(buildDataQuantum, probeDataQuantum))
+        ));
+    }
+
+    private static <T, K> void writeToPartition(T dataQuantum,
+                                                Function<T, K> keyExtractor,
+                                                SpillFile<T>[] partitions,
+                                                SpillManager spillManager,
+                                                int depth) {
+        partitions[spillManager.getPartition(keyExtractor.apply(dataQuantum), depth)].write(dataQuantum);
+    }
+
+    /**
+     * Partitions the probe side lazily and joins the partitions pairwise.
+     */
+    private static <B, P, K, O> Stream<O> joinPartitioned(SpillFile<B>[] buildPartitions,
+                                                          Function<B, K> buildKeyExtractor,
+                                                          Stream<P> probeInput,
+                                                          Function<P, K> probeKeyExtractor,
+                                                          BiFunction<B, P, O> combiner,
+                                                          SpillManager spillManager,
+                                                          int depth) {
+        return StreamSupport.stream(() -> {
+            final SpillFile<P>[] probePartitions = spillManager.createPartitionFiles();
+            probeInput.sequential().forEach(probeDataQuantum -> writeToPartition(
+                    probeDataQuantum, probeKeyExtractor, probePartitions, spillManager, depth
+            ));
+            for (SpillFile<P> probePartition : probePartitions) {
+                probePartition.finishWriting();
+            }
+            return IntStream.range(0, buildPartitions.length).boxed()
+                    .flatMap(partition -> {
+                        final SpillFile<B> buildPartition = buildPartitions[partition];
+                        final SpillFile<P> probePartition = probePartitions[partition];
+                        if (buildPartition.getNumElements() == 0 || probePartition.getNumElements() == 0) {
+                            buildPartition.delete();
+                            probePartition.delete();
+                            return Stream.empty();
+                        }
+                        spillManager.notePass();
+                        final Stream<P> probePartitionStream = StreamSupport.stream(
+                                Spliterators.spliteratorUnknownSize(probePartition.read(), Spliterator.ORDERED),
+                                false
+                        );
+                        return join(buildPartition.read(), buildKeyExtractor,
+                                probePartitionStream, probeKeyExtractor,
+                                combiner, spillManager, depth + 1
+                        ).onClose(() -> {
+                            buildPartition.delete();
+                            probePartition.delete();
+                        });
+                    })
+                    .spliterator();
+        }, Spliterator.ORDERED, false);
+    }
+
+}
@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.java.spill;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+
+/**
+ * Hash aggregation within a memory budget: Data quanta are reduced in an in-memory hash table. Once the table
+ * exceeds the budget, data quanta of keys that are already in the table are still reduced in memory, while those
+ * with new keys are hash-partitioned to disk. The partitions are then aggregated recursively and lazily, i.e., only
+ * once the aggregates of the preceding partitions have been consumed.
+ */
+public class HybridHashAggregator {
+
+    private HybridHashAggregator() {
+    }
+
+    /**
+     * Reduces the given data quanta by key. The input is consumed right away, but spilled partitions are only
+     * aggregated as the returned {@link Iterator} advances, so that at most one partition is held in memory.
+     * Partitions that are not consumed remain on disk until the {@code spillManager} is disposed.
+     *
+     * @param input          the data quanta to reduce
+     * @param keyExtractor   extracts the key from data quanta
+     * @param reduceFunction reduces two data quanta with the same key
+     * @param spillManager   manages the spilling
+     * @return an {@link Iterator} over the reduced data quanta
+     */
+    public static <T, K> Iterator<T> aggregate(Iterator<T> input,
+                                               Function<T, K> keyExtractor,
+                                               BinaryOperator<T> reduceFunction,
+                                               SpillManager spillManager) {
+        return aggregate(input, keyExtractor, reduceFunction, spillManager, 0);
+    }
+
+    private static <T, K> Iterator<T> aggregate(Iterator<T> input,
+                                                Function<T, K> keyExtractor,
+                                                BinaryOperator<T> reduceFunction,
+                                                SpillManager spillManager,
+                                                int depth) {
+        final boolean isSpillingAllowed = depth < spillManager.getMaxDepth();
+        final MemoryTracker memoryTracker = spillManager.createMemoryTracker();
+        final Map<K, T> hashTable = new HashMap<>();
+        SpillFile<T>[] partitions = null;
+        while (input.hasNext()) {
+            final T dataQuantum = input.next();
+            final K key = keyExtractor.apply(dataQuantum);
+            final T aggregate = hashTable.get(key);
+            if (aggregate != null) {
+                hashTable.put(key, reduceFunction.apply(aggregate, dataQuantum));
+            } else if (partitions == null) {
+                hashTable.put(key, dataQuantum);
+                if (isSpillingAllowed && memoryTracker.add(dataQuantum)) {
+                    partitions = spillManager.createPartitionFiles();
+                }
+            } else {
+                partitions[spillManager.getPartition(key, depth)].write(dataQuantum);
+            }
+        }
+        if (partitions == null) {
+            return hashTable.values().iterator();
+        }
+
+        for (SpillFile<T> partition : partitions) {
+            partition.finishWriting();
+        }
+        final Iterator<SpillFile<T>> partitionIterator = Arrays.asList(partitions).iterator();
+        return new Iterator<T>() {
+
+            private Iterator<T> current = hashTable.values().iterator();
+
+            @Override
+            public boolean hasNext() {
+                while (!this.current.hasNext()) {
+                    if (!partitionIterator.hasNext()) return false;
+                    final SpillFile<T> partition = partitionIterator.next();
+                    if (partition.getNumElements() > 0) {
+                        spillManager.notePass();
+                        // The recursive aggregation consumes the partition entirely, so that it can be deleted.
+                        this.current = aggregate(
+                                partition.read(), keyExtractor, reduceFunction, spillManager, depth + 1
+                        );
+                    }
+                    partition.delete();
+                }
+                return true;
+            }
+
+            @Override
+            public T next() {
+                if (!this.hasNext()) throw new NoSuchElementException();
+                return this.current.next();
+            }
+        };
+    }
+
+}
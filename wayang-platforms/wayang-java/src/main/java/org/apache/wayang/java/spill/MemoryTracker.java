@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.java.spill;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+/**
+ * Roughly tracks the heap memory occupied by data quanta that an operator holds. As measuring the actual heap
+ * footprint is expensive, it encodes a sample of the data quanta via the {@link SpillCodec} and extrapolates the
+ * heap footprint from the average encoded size.
+ */
+public class MemoryTracker {
+
+    /**
+     * Every {@code SAMPLE_MASK + 1}-th data quantum is sampled.
+     */
+    private static final long SAMPLE_MASK = 63L;
+
+    /**
+     * Heap objects are considerably larger than their encodings due to headers, references and boxing.
+     */
+    private static final double HEAP_INFLATION = 2d;
+
+    /**
+     * Estimated heap overhead per data quantum for, e.g., the containing data structure.
+     */
+    private static final long PER_ELEMENT_OVERHEAD = 32L;
+
+    private final long memoryBudget;
+
+    private final ByteArrayOutputStream sampleBuffer = new ByteArrayOutputStream();
+
+    private final DataOutputStream sampleOut = new DataOutputStream(this.sampleBuffer);
+
+    private long numElements = 0L, numSamples = 0L, sampledBytes = 0L;
+
+    MemoryTracker(long memoryBudget) {
+        this.memoryBudget = memoryBudget;
+    }
+
+    /**
+     * Accounts for a further data quantum.
+     *
+     * @param dataQuantum the data quantum
+     * @return whether the memory budget is exceeded now
+     */
+    public boolean add(Object dataQuantum) {
+        if ((this.numElements++ & SAMPLE_MASK) == 0) {
+            this.sample(dataQuantum);
+        }
+        return this.estimateBytes() > this.memoryBudget;
+    }
+
+    private void sample(Object dataQuantum) {
+        this.sampleBuffer.reset();
+        try {
+            SpillCodec.write(dataQuantum, this.sampleOut);
+            this.sampleOut.flush();
+        } catch (IOException e) {
+            // Cannot happen with a ByteArrayOutputStream.
+            throw new AssertionError(e);
+        }
+        this.sampledBytes += this.sampleBuffer.size();
+        this.numSamples++;
+    }
+
+    /**
+     * @return the estimated number of heap bytes occupied by the tracked data quanta
+     */
+    public long estimateBytes() {
+        if (this.numSamples == 0) return 0L;
+        final double averageBytes = this.sampledBytes / (double) this.numSamples * HEAP_INFLATION + PER_ELEMENT_OVERHEAD;
+        return (long) (averageBytes * this.numElements);
+    }
+
+    /**
+     * Forgets about all tracked data quanta but retains the size samples.
+     */
+    public void reset() {
+        this.numElements = 0L;
+    }
+
+}
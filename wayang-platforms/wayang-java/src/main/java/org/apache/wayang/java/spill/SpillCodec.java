@@ -0,0 +1,157 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.java.spill;
+
+import org.apache.wayang.basic.data.Record;
+import org.apache.wayang.basic.data.Tuple2;
+import org.apache.wayang.core.api.exception.WayangException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Compact binary encoding of data quanta for spill files. Common types, i.e., {@code null}, boxed primitives,
+ * {@link String}s, {@code byte[]}s, {@link Tuple2}s and {@link Record}s, are written with a one-byte type tag
+ * followed by their raw content. Any other object is written via Java serialization and must hence be
+ * {@link java.io.Serializable}.
+ */
+public final class SpillCodec {
+
+    private static final byte NULL = 0, INT = 1, LONG = 2, DOUBLE = 3, FLOAT = 4, BOOLEAN = 5, STRING = 6,
+            BYTES = 7, TUPLE2 = 8, RECORD = 9, SERIALIZED = 10;
+
+    private SpillCodec() {
+    }
+
+    /**
+     * Encodes an object.
+     *
+     * @param object the object to encode
+     * @param out    to which the encoded object should be written
+     * @throws IOException if the writing fails
+     */
+    public static void write(Object object, DataOutput out) throws IOException {
+        if (object == null) {
+            out.writeByte(NULL);
+        } else if (object instanceof Integer) {
+            out.writeByte(INT);
+            out.writeInt((Integer) object);
+        } else if (object instanceof Long) {
+            out.writeByte(LONG);
+            out.writeLong((Long) object);
+        } else if (object instanceof Double) {
+            out.writeByte(DOUBLE);
+            out.writeDouble((Double) object);
+        } else if (object instanceof Float) {
+            out.writeByte(FLOAT);
+            out.writeFloat((Float) object);
+        } else if (object instanceof Boolean) {
+            out.writeByte(BOOLEAN);
+            out.writeBoolean((Boolean) object);
+        } else if (object instanceof String) {
+            out.writeByte(STRING);
+            writeBytes(((String) object).getBytes(StandardCharsets.UTF_8), out);
+        } else if (object instanceof byte[]) {
+            out.writeByte(BYTES);
+            writeBytes((byte[]) object, out);
+        } else if (object.getClass() == Tuple2.class) {
+            out.writeByte(TUPLE2);
+            write(((Tuple2<?, ?>) object).field0, out);
+            write(((Tuple2<?, ?>) object).field1, out);
+        } else if (object.getClass() == Record.class) {
+            out.writeByte(RECORD);
+            final Object[] values = ((Record) object).getValues();
+            out.writeInt(values.length);
+            for (Object value : values) {
+                write(value, out);
+            }
+        } else {
+            out.writeByte(SERIALIZED);
+            final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (ObjectOutputStream objectOut = new ObjectOutputStream(bytes)) {
+                objectOut.writeObject(object);
+            }
+            writeBytes(bytes.toByteArray(), out);
+        }
+    }
+
+    private static void writeBytes(byte[] bytes, DataOutput out) throws IOException {
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * Decodes an object that has been encoded via {@link #write(Object, DataOutput)}.
+     *
+     * @param in from which the encoded object should be read
+     * @return the decoded object
+     * @throws IOException if the reading fails
+     */
+    public static Object read(DataInput in) throws IOException {
+        final byte tag = in.readByte();
+        switch (tag) {
+            case NULL:
+                return null;
+            case INT:
+                return in.readInt();
+            case LONG:
+                return in.readLong();
+            case DOUBLE:
+                return in.readDouble();
+            case FLOAT:
+                return in.readFloat();
+            case BOOLEAN:
+                return in.readBoolean();
+            case STRING:
+                return new String(readBytes(in), StandardCharsets.UTF_8);
+            case BYTES:
+                return readBytes(in);
+            case TUPLE2:
+                final Object field0 = read(in);
+                return new Tuple2<>(field0, read(in));
+            case RECORD:
+                final Object[] values = new Object[in.readInt()];
+                for (int i = 0; i < values.length; i++) {
+                    values[i] = read(in);
+                }
+                return new Record(values);
+            case SERIALIZED:
+                try (ObjectInputStream objectIn = new ObjectInputStream(new ByteArrayInputStream(readBytes(in)))) {
+                    return objectIn.readObject();
+                } catch (ClassNotFoundException e) {
+                    throw new WayangException("Could not deserialize spilled data quantum.", e);
+                }
+            default:
+                throw new WayangException(String.format("Unknown type tag %d in spilled data.", tag));
+        }
+    }
+
+    private static byte[] readBytes(DataInput in) throws IOException {
+        final byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return bytes;
+    }
+
+}
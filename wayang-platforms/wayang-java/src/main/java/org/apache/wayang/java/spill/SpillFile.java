@@ -0,0 +1,155 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.java.spill;
+
+import org.apache.wayang.core.api.exception.WayangException;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * A file of data quanta that have been spilled to disk via the {@link SpillCodec}. Instances are first written
+ * and then read (possibly several times).
+ *
+ * @param <T> the type of the spilled data quanta
+ */
+public class SpillFile<T> {
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final SpillManager spillManager;
+
+    private final File file;
+
+    private DataOutputStream out;
+
+    private long numElements = 0L;
+
+    SpillFile(SpillManager spillManager, File file) {
+        this.spillManager = spillManager;
+        this.file = file;
+    }
+
+    /**
+     * Appends a data quantum to this instance.
+     *
+     * @param dataQuantum the data quantum
+     */
+    public void write(T dataQuantum) {
+        try {
+            if (this.out == null) {
+                this.out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(this.file), BUFFER_SIZE));
+            }
+            SpillCodec.write(dataQuantum, this.out);
+            this.numElements++;
+        } catch (IOException e) {
+            throw new WayangException(String.format("Could not spill to %s.", this.file), e);
+        }
+    }
+
+    /**
+     * Concludes writing this instance.
+     */
+    public void finishWriting() {
+        if (this.out == null) return;
+        try {
+            this.out.close();
+            this.out = null;
+            this.spillManager.noteSpilledBytes(this.file.length());
+        } catch (IOException e) {
+            throw new WayangException(String.format("Could not spill to %s.", this.file), e);
+        }
+    }
+
+    /**
+     * Reads this instance. {@link #finishWriting()} must have been called before.
+     *
+     * @return an {@link Iterator} over the data quanta in this instance
+     */
+    public Iterator<T> read() {
+        assert this.out == null;
+        if (this.numElements == 0) return Collections.emptyIterator();
+        final DataInputStream in;
+        try {
+            in = new DataInputStream(new BufferedInputStream(new FileInputStream(this.file), BUFFER_SIZE));
+        } catch (IOException e) {
+            throw new WayangException(String.format("Could not read spilled data from %s.", this.file), e);
+        }
+        return new Iterator<T>() {
+
+            private long numRemainingElements = SpillFile.this.numElements;
+
+            @Override
+            public boolean hasNext() {
+                return this.numRemainingElements > 0;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public T next() {
+                if (!this.hasNext()) throw new NoSuchElementException();
+                try {
+                    final T dataQuantum = (T) SpillCodec.read(in);
+                    if (--this.numRemainingElements == 0) in.close();
+                    return dataQuantum;
+                } catch (IOException e) {
+                    throw new WayangException(String.format("Could not read spilled data from %s.", SpillFile.this.file), e);
+                }
+            }
+        };
+    }
+
+    /**
+     * @return the number of data quanta in this instance
+     */
+    public long getNumElements() {
+        return this.numElements;
+    }
+
+    /**
+     * Deletes the underlying file.
+     */
+    public void delete() {
+        if (this.out != null) {
+            try {
+                this.out.close();
+            } catch (IOException e) {
+                // Nothing to do, we are about to delete the file anyway.
+            }
+            this.out = null;
+        }
+        if (this.file.exists() && !this.file.delete()) {
+            this.file.deleteOnExit();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s[%s, %d elements]", this.getClass().getSimpleName(), this.file, this.numElements);
+    }
+}
@@ -0,0 +1,246 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.java.spill;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.wayang.core.api.Configuration;
+import org.apache.wayang.core.api.exception.WayangException;
+import org.apache.wayang.core.platform.ExecutionResourceTemplate;
+import org.apache.wayang.core.platform.lineage.ExecutionLineageNode;
+import org.apache.wayang.java.execution.JavaExecutor;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+
+/**
+ * Manages the spilling of a single {@link org.apache.wayang.java.operators.JavaExecutionOperator} execution that
+ * exceeds its memory budget, i.e., it provides the configuration, creates and eventually deletes the
+ * {@link SpillFile}s in a private temporary directory and keeps track of the spilled bytes and passes.
+ * Spilling is enabled by setting {@code wayang.java.spill.memory-budget} to a positive number of bytes.
+ */
+public class SpillManager extends ExecutionResourceTemplate {
+
+    private static final Logger logger = LogManager.getLogger(SpillManager.class);
+
+    private final long memoryBudget;
+
+    private final int numPartitions;
+
+    private final int fanIn;
+
+    private final int maxDepth;
+
+    private final Path baseDirectory;
+
+    private Path directory;
+
+    private final Collection<SpillFile<?>> spillFiles = new ArrayList<>();
+
+    private int fileCounter = 0;
+
+    /**
+     * Statistics that have not yet been reported via {@link #reportTo(ExecutionLineageNode)}.
+     */
+    private long spilledBytes = 0L;
+
+    private int numPasses = 0;
+
+    /**
+     * Tells whether this instance has already been disposed.
+     */
+    private boolean isReleased = false;
+
+    /**
+     * Tells whether spilling is enabled.
+     *
+     * @param configuration provides the spill settings
+     * @return whether a positive {@code wayang.java.spill.memory-budget} is configured
+     */
+    public static boolean isEnabled(Configuration configuration) {
+        return configuration.getLongProperty("wayang.java.spill.memory-budget", 0L) > 0L;
+    }
+
+    /**
+     * Creates a new instance and registers it with the given {@link JavaExecutor}, so that the spill files are
+     * deleted at the latest when the {@link JavaExecutor} is disposed.
+     *
+     * @param javaExecutor executes the spilling operator
+     */
+    public SpillManager(JavaExecutor javaExecutor) {
+        super(javaExecutor);
+        final Configuration configuration = javaExecutor.getConfiguration();
+        this.memoryBudget = configuration.getLongProperty("wayang.java.spill.memory-budget");
+        this.numPartitions = (int) Math.max(2, configuration.getLongProperty("wayang.java.spill.partitions", 16));
+        this.fanIn = (int) Math.max(2, configuration.getLongProperty("wayang.java.spill.fan-in", 64));
+        this.maxDepth = (int) Math.max(0, configuration.getLongProperty("wayang.java.spill.max-depth", 3));
+        this.baseDirectory = Paths.get(configuration.getStringProperty(
+                "wayang.java.spill.dir", System.getProperty("java.io.tmpdir")
+        ));
+    }
+
+    /**
+     * @return a new {@link MemoryTracker} for the memory budget of this instance
+     */
+    public MemoryTracker createMemoryTracker() {
+        return new MemoryTracker(this.memoryBudget);
+    }
+
+    /**
+     * Creates a new {@link SpillFile}, which will be deleted when this instance is disposed.
+     *
+     * @return the new {@link SpillFile}
+     */
+    public <T> SpillFile<T> createSpillFile() {
+        try {
+            if (this.directory == null) {
+                Files.createDirectories(this.baseDirectory);
+                this.directory = Files.createTempDirectory(this.baseDirectory, "wayang-spill-");
+                logger.info("Spilling to {}.", this.directory);
+            }
+            final File file = this.directory.resolve(String.format("spill-%05d.bin", this.fileCounter++)).toFile();
+            final SpillFile<T> spillFile = new SpillFile<>(this, file);
+            this.spillFiles.add(spillFile);
+            return spillFile;
+        } catch (IOException e) {
+            throw new WayangException(String.format("Could not create spill file in %s.", this.baseDirectory), e);
+        }
+    }
+
+    /**
+     * Creates {@link SpillFile}s for hash partitioning.
+     *
+     * @return {@link #getNumPartitions()} new {@link SpillFile}s
+     */
+    public <T> SpillFile<T>[] createPartitionFiles() {
+        @SuppressWarnings("unchecked")
+        final SpillFile<T>[] partitions = new SpillFile[this.numPartitions];
+        for (int i = 0; i < partitions.length; i++) {
+            partitions[i] = this.createSpillFile();
+        }
+        return partitions;
+    }
+
+    /**
+     * Determines the hash partition of a key. Every recursion level uses a different hash function, so that the
+     * keys of a single partition are redistributed on the next level.
+     *
+     * @param key   the key
+     * @param depth the recursion level
+     * @return the partition index
+     */
+    public int getPartition(Object key, int depth) {
+        int h = (key == null ? 0 : key.hashCode()) + depth * 0x9E3779B9;
+        h ^= h >>> 16;
+        h *= 0x85EBCA6B;
+        h ^= h >>> 13;
+        h *= 0xC2B2AE35;
+        h ^= h >>> 16;
+        return (h & Integer.MAX_VALUE) % this.numPartitions;
+    }
+
+    void noteSpilledBytes(long numBytes) {
+        this.spilledBytes += numBytes;
+    }
+
+    /**
+     * Notes that spilled data is read back.
+     */
+    public void notePass() {
+        this.numPasses++;
+    }
+
+    /**
+     * Reports the statistics that have been collected since the last call to the given {@link ExecutionLineageNode}.
+     *
+     * @param executionLineageNode should be annotated with the spill statistics
+     */
+    public void reportTo(ExecutionLineageNode executionLineageNode) {
+        if (this.spilledBytes > 0 || this.numPasses > 0) {
+            logger.info("{} spilled {} bytes in {} passes.",
+                    executionLineageNode.getOperatorContext().getOperator(), this.spilledBytes, this.numPasses);
+            executionLineageNode.addSpill(this.spilledBytes, this.numPasses);
+            this.spilledBytes = 0L;
+            this.numPasses = 0;
+        }
+    }
+
+    /**
+     * Wraps an {@link Iterator}, so that this instance reports to the given {@link ExecutionLineageNode} and disposes
+     * itself once the {@link Iterator} is exhausted.
+     *
+     * @param iterator             the {@link Iterator} to wrap
+     * @param executionLineageNode should be annotated with the spill statistics
+     * @return the wrapped {@link Iterator}
+     */
+    public <T> Iterator<T> disposeWhenExhausted(Iterator<T> iterator, ExecutionLineageNode executionLineageNode) {
+        return new Iterator<T>() {
+            @Override
+            public boolean hasNext() {
+                final boolean hasNext = iterator.hasNext();
+                if (!hasNext && !SpillManager.this.isReleased) {
+                    SpillManager.this.reportTo(executionLineageNode);
+                    SpillManager.this.dispose();
+                }
+                return hasNext;
+            }
+
+            @Override
+            public T next() {
+                return iterator.next();
+            }
+        };
+    }
+
+    public int getNumPartitions() {
+        return this.numPartitions;
+    }
+
+    public int getFanIn() {
+        return this.fanIn;
+    }
+
+    public int getMaxDepth() {
+        return this.maxDepth;
+    }
+
+    @Override
+    public void dispose() throws WayangException {
+        // Disposal might be triggered both by the spilling operator and by the JavaExecutor.
+        if (this.isReleased) return;
+        this.isReleased = true;
+        super.dispose();
+    }
+
+    @Override
+    protected void doDispose() throws Throwable {
+        this.spillFiles.forEach(SpillFile::delete);
+        this.spillFiles.clear();
+        if (this.directory != null) {
+            Files.deleteIfExists(this.directory);
+            this.directory = null;
+        }
+    }
+}
@@ -0,0 +1,360 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.java.util;
+
+import org.apache.wayang.core.api.exception.WayangException;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Hash table for the build side of hash joins. In contrast to a {@code Map<K, Collection<V>>}, it uses open
+ * addressing over primitive slot arrays and stores all values in a single contiguous array, in which values with
+ * the same key are linked via offsets. Hence, it does not allocate any objects per key or value.
+ * <p>As long as all keys are {@link Integer}s or {@link Long}s (of the same class), they are stored as primitive
+ * {@code long}s. Other keys (including {@code null}) are stored as objects along with their hash codes, so that
+ * {@link Object#equals(Object)} is only called on hash code matches (which is particularly cheap for
+ * {@link String}s, as they cache their hash codes).</p>
+ * <p>Instances are not thread-safe while being built but can be probed concurrently afterwards.</p>
+ *
+ * @param <K> the key type
+ * @param <V> the value type
+ */
+public class JoinHashTable<K, V> {
+
+    /**
+     * Upper bound for the initial number of slots, so that gross overestimates of the build side cardinality do
+     * not allocate excessive amounts of memory. The table grows on demand, anyway.
+     */
+    private static final int MAX_INITIAL_SLOTS = 1 << 22;
+
+    private static final int MIN_SLOTS = 16;
+
+    /**
+     * Maximum number of slots, i.e., the largest power of two that is an {@code int}.
+     */
+    private static final int MAX_SLOTS = 1 << 30;
+
+    /**
+     * Maximum number of values. Some JVMs reserve header words in arrays, so that larger arrays cannot be allocated.
+     */
+    static final int MAX_VALUES = Integer.MAX_VALUE - 8;
+
+    /**
+     * Marks an empty slot or the end of a value chain.
+     */
+    private static final int NONE = -1;
+
+    /**
+     * Describes how keys are stored.
+     */
+    private enum KeyMode {
+        /**
+         * No key has been added yet.
+         */
+        UNDECIDED,
+
+        /**
+         * Keys are {@link Integer}s or {@link Long}s and stored in {@link #longKeys}.
+         */
+        LONG,
+
+        /**
+         * Keys are stored in {@link #objectKeys} and their hash codes in {@link #hashes}.
+         */
+        OBJECT
+    }
+
+    private KeyMode keyMode = KeyMode.UNDECIDED;
+
+    /**
+     * If {@link #keyMode} is {@link KeyMode#LONG}, tells whether the keys are {@link Integer}s or {@link Long}s.
+     */
+    private Class<?> longKeyClass;
+
+    /**
+     * Slot arrays. Only one of the key arrays is in use at a time, {@link #hashes} only in the
+     * {@link KeyMode#OBJECT} mode.
+     */
+    private long[] longKeys;
+
+    private Object[] objectKeys;
+
+    private int[] hashes;
+
+    /**
+     * Per slot the first and last index in {@link #values} or {@link #NONE} if the slot is empty.
+     */
+    private int[] heads, tails;
+
+    private int mask, numKeys;
+
+    /**
+     * Entry arrays: {@link #next} links values with the same key.
+     */
+    private Object[] values;
+
+    private int[] next;
+
+    private int numValues;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param expectedNumValues the expected number of values to be added; only used for pre-sizing
+     */
+    public JoinHashTable(long expectedNumValues) {
+        final int numSlots = slotsFor(Math.max(MIN_SLOTS, Math.min(expectedNumValues, MAX_INITIAL_SLOTS / 2)));
+        this.initSlots(numSlots);
+        final int valueCapacity = (int) Math.max(MIN_SLOTS, Math.min(expectedNumValues, MAX_INITIAL_SLOTS));
+        this.values = new Object[valueCapacity];
+        this.next = new int[valueCapacity];
+    }
+
+    private static int slotsFor(long numKeys) {
+        // Keep the load factor at or below 0.5.
+        return Integer.highestOneBit((int) Math.min(numKeys * 2, 1 << 30) - 1) << 1;
+    }
+
+    private void initSlots(int numSlots) {
+        this.mask = numSlots - 1;
+        this.heads = new int[numSlots];
+        Arrays.fill(this.heads, NONE);
+        this.tails = new int[numSlots];
+        if (this.keyMode == KeyMode.LONG) {
+            this.longKeys = new long[numSlots];
+        } else if (this.keyMode == KeyMode.OBJECT) {
+            this.objectKeys = new Object[numSlots];
+            this.hashes = new int[numSlots];
+        }
+    }
+
+    /**
+     * Adds a new value.
+     *
+     * @param key   the key of the {@code value}
+     * @param value the value
+     */
+    public void put(K key, V value) {
+        if (this.keyMode == KeyMode.UNDECIDED) {
+            this.decideKeyMode(key);
+        } else if (this.keyMode == KeyMode.LONG && !this.isLongKey(key)) {
+            this.switchToObjectKeys();
+        }
+        if ((this.numKeys + 1) * 2L > this.heads.length) {
+            if (this.heads.length < MAX_SLOTS) {
+                this.growSlots();
+            } else if (this.numKeys == this.heads.length) {
+                throw new WayangException(String.format("Cannot store more than %d keys in a hash table.", MAX_SLOTS));
+            }
+        }
+
+        final int slot = this.keyMode == KeyMode.LONG ?
+                this.findOrInsertSlot(((Number) key).longValue()) :
+                this.findOrInsertSlot(key);
+
+        if (this.numValues == this.values.length) {
+            final int newCapacity = growCapacity(this.values.length);
+            this.values = Arrays.copyOf(this.values, newCapacity);
+            this.next = Arrays.copyOf(this.next, newCapacity);
+        }
+        final int valueIndex = this.numValues++;
+        this.values[valueIndex] = value;
+        this.next[valueIndex] = NONE;
+        if (this.heads[slot] == NONE) {
+            this.heads[slot] = valueIndex;
+        } else {
+            this.next[this.tails[slot]] = valueIndex;
+        }
+        this.tails[slot] = valueIndex;
+    }
+
+    /**
+     * Determines the new capacity for the values when growing by 50%.
+     *
+     * @param capacity the current capacity
+     * @return the new capacity, which is at most {@link #MAX_VALUES}
+     * @throws WayangException if the {@code capacity} cannot grow anymore
+     */
+    static int growCapacity(int capacity) {
+        if (capacity >= MAX_VALUES) {
+            throw new WayangException(String.format("Cannot store more than %d values in a hash table.", MAX_VALUES));
+        }
+        return (int) Math.min((long) capacity + (capacity >> 1) + 1, MAX_VALUES);
+    }
+
+    private void decideKeyMode(K key) {
+        if (key instanceof Integer || key instanceof Long) {
+            this.keyMode = KeyMode.LONG;
+            this.longKeyClass = key.getClass();
+            this.longKeys = new long[this.heads.length];
+        } else {
+            this.keyMode = KeyMode.OBJECT;
+            this.objectKeys = new Object[this.heads.length];
+            this.hashes = new int[this.heads.length];
+        }
+    }
+
+    private boolean isLongKey(Object key) {
+        return key != null && key.getClass() == this.longKeyClass;
+    }
+
+    private int findOrInsertSlot(long key) {
+        int slot = hash(key) & this.mask;
+        while (this.heads[slot] != NONE) {
+            if (this.longKeys[slot] == key) return slot;
+            slot = (slot + 1) & this.mask;
+        }
+        this.longKeys[slot] = key;
+        this.numKeys++;
+        return slot;
+    }
+
+    private int findOrInsertSlot(Object key) {
+        final int hash = hash(key);
+        int slot = hash & this.mask;
+        while (this.heads[slot] != NONE) {
+            if (this.hashes[slot] == hash && Objects.equals(this.objectKeys[slot], key)) return slot;
+            slot = (slot + 1) & this.mask;
+        }
+        this.objectKeys[slot] = key;
+        this.hashes[slot] = hash;
+        this.numKeys++;
+        return slot;
+    }
+
+    /**
+     * Doubles the number of slots and re-inserts all keys. The value chains can be moved as a whole.
+     */
+    private void growSlots() {
+        final int[] oldHeads = this.heads, oldTails = this.tails;
+        final long[] oldLongKeys = this.longKeys;
+        final Object[] oldObjectKeys = this.objectKeys;
+        final int[] oldHashes = this.hashes;
+        this.initSlots(oldHeads.length << 1);
+        for (int oldSlot = 0; oldSlot < oldHeads.length; oldSlot++) {
+            if (oldHeads[oldSlot] == NONE) continue;
+            int slot;
+            if (this.keyMode == KeyMode.LONG) {
+                slot = hash(oldLongKeys[oldSlot]) & this.mask;
+                while (this.heads[slot] != NONE) slot = (slot + 1) & this.mask;
+                this.longKeys[slot] = oldLongKeys[oldSlot];
+            } else {
+                slot = oldHashes[oldSlot] & this.mask;
+                while (this.heads[slot] != NONE) slot = (slot + 1) & this.mask;
+                this.objectKeys[slot] = oldObjectKeys[oldSlot];
+                this.hashes[slot] = oldHashes[oldSlot];
+            }
+            this.heads[slot] = oldHeads[oldSlot];
+            this.tails[slot] = oldTails[oldSlot];
+        }
+    }
+
+    /**
+     * Converts the primitive keys to objects, because a key of a different type has been encountered.
+     */
+    private void switchToObjectKeys() {
+        final long[] oldLongKeys = this.longKeys;
+        final int[] oldHeads = this.heads, oldTails = this.tails;
+        this.keyMode = KeyMode.OBJECT;
+        this.longKeys = null;
+        this.initSlots(oldHeads.length);
+        for (int oldSlot = 0; oldSlot < oldHeads.length; oldSlot++) {
+            if (oldHeads[oldSlot] == NONE) continue;
+            // Mind the casts, which avoid the numeric promotion of the conditional expression.
+            final Object key = this.longKeyClass == Integer.class ?
+                    (Object) Integer.valueOf((int) oldLongKeys[oldSlot]) :
+                    (Object) Long.valueOf(oldLongKeys[oldSlot]);
+            final int hash = hash(key);
+            int slot = hash & this.mask;
+            while (this.heads[slot] != NONE) slot = (slot + 1) & this.mask;
+            this.objectKeys[slot] = key;
+            this.hashes[slot] = hash;
+            this.heads[slot] = oldHeads[oldSlot];
+            this.tails[slot] = oldTails[oldSlot];
+        }
+    }
+
+    /**
+     * Passes all values with the given key to a {@link Consumer}.
+     *
+     * @param key      the key to look up
+     * @param consumer accepts the matching values in their insertion order
+     */
+    @SuppressWarnings("unchecked")
+    public void forEachMatch(K key, Consumer<? super V> consumer) {
+        for (int valueIndex = this.findFirst(key); valueIndex != NONE; valueIndex = this.next[valueIndex]) {
+            consumer.accept((V) this.values[valueIndex]);
+        }
+    }
+
+    private int findFirst(Object key) {
+        switch (this.keyMode) {
+            case LONG: {
+                if (!this.isLongKey(key)) return NONE;
+                final long longKey = ((Number) key).longValue();
+                int slot = hash(longKey) & this.mask;
+                while (this.heads[slot] != NONE) {
+                    if (this.longKeys[slot] == longKey) return this.heads[slot];
+                    slot = (slot + 1) & this.mask;
+                }
+                return NONE;
+            }
+            case OBJECT: {
+                final int hash = hash(key);
+                int slot = hash & this.mask;
+                while (this.heads[slot] != NONE) {
+                    if (this.hashes[slot] == hash && Objects.equals(this.objectKeys[slot], key)) {
+                        return this.heads[slot];
+                    }
+                    slot = (slot + 1) & this.mask;
+                }
+                return NONE;
+            }
+            default:
+                return NONE;
+        }
+    }
+
+    /**
+     * @return the number of values in this instance
+     */
+    public int size() {
+        return this.numValues;
+    }
+
+    /**
+     * @return the number of distinct keys in this instance
+     */
+    public int getNumKeys() {
+        return this.numKeys;
+    }
+
+    private static int hash(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    private static int hash(Object key) {
+        final int h = Objects.hashCode(key) * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+}
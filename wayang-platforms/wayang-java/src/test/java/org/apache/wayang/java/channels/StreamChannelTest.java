@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.java.channels;
+
+import org.apache.wayang.core.api.Configuration;
+import org.apache.wayang.java.test.ChannelFactory;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test suite for {@link StreamChannel}.
+ */
+class StreamChannelTest {
+
+    private final Configuration configuration = new Configuration();
+
+    private final List<Integer> dataQuanta = IntStream.range(0, 10000).boxed().collect(Collectors.toList());
+
+    @Test
+    void testProvideMaterializedDataQuanta() {
+        final StreamChannel.Instance sequentialInstance = ChannelFactory.createStreamChannelInstance(this.configuration);
+        sequentialInstance.accept(this.dataQuanta);
+        final Stream<Integer> sequentialStream = sequentialInstance.provideStream();
+        assertFalse(sequentialStream.isParallel());
+        assertEquals(this.dataQuanta, sequentialStream.collect(Collectors.toList()));
+
+        // The execution mode of materialized data quanta can be decided at the source.
+        final StreamChannel.Instance parallelInstance = ChannelFactory.createStreamChannelInstance(this.configuration);
+        parallelInstance.accept(this.dataQuanta);
+        final Stream<Integer> parallelStream = parallelInstance.provideStream(true);
+        assertTrue(parallelStream.isParallel());
+        assertEquals(this.dataQuanta, parallelStream.collect(Collectors.toList()));
+    }
+
+    @Test
+    void testSequentialPipelineIsNotParallelized() {
+        final Set<Thread> threads = ConcurrentHashMap.newKeySet();
+        final StreamChannel.Instance instance = ChannelFactory.createStreamChannelInstance(
+                this.dataQuanta.stream().peek(dataQuantum -> threads.add(Thread.currentThread())),
+                this.configuration
+        );
+
+        // Even if a parallel Stream is requested, the upstream stages must not be switched to parallel mode.
+        final Stream<Integer> stream = instance.provideStream(true);
+        assertFalse(stream.isParallel());
+        assertEquals(this.dataQuanta, stream.collect(Collectors.toList()));
+        assertEquals(1, threads.size());
+    }
+
+    @Test
+    void testParallelPipelineIsProvidedToSequentialConsumer() {
+        final Stream<Integer> parallelStream = this.dataQuanta.parallelStream().sorted();
+        final StreamChannel.Instance instance =
+                ChannelFactory.createStreamChannelInstance(parallelStream, this.configuration);
+
+        // The sequential consumer must neither switch the upstream stages to sequential mode nor see a different order.
+        final Stream<Integer> stream = instance.provideStream();
+        assertFalse(stream.isParallel());
+        assertTrue(parallelStream.isParallel());
+        assertEquals(this.dataQuanta, stream.collect(Collectors.toList()));
+    }
+
+    @Test
+    void testParallelPipelineIsProvidedToParallelConsumer() {
+        final StreamChannel.Instance instance =
+                ChannelFactory.createStreamChannelInstance(this.dataQuanta.parallelStream().map(i -> i + 1), this.configuration);
+
+        final Stream<Integer> stream = instance.provideStream(true);
+        assertTrue(stream.isParallel());
+        assertEquals(IntStream.rangeClosed(1, 10000).sum(), stream.mapToInt(Integer::intValue).sum());
+    }
+
+}
@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.java.compiler;
+
+import org.apache.wayang.core.api.Configuration;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test suite for {@link FunctionCompiler}.
+ */
+class FunctionCompilerTest {
+
+    @Test
+    void testFuse() {
+        FunctionCompiler compiler = new FunctionCompiler(new Configuration());
+        assertTrue(compiler.isFusionEnabled());
+
+        // map -> filter -> flatMap -> map
+        LongAdder counter = new LongAdder();
+        FusedFunction<String, Integer> fusedFunction = compiler.fuse(
+                compiler.fuse(
+                        FusedFunction.<String, Integer>map(String::length),
+                        FusedFunction.<Integer>filter(length -> length > 1)
+                ),
+                compiler.fuse(
+                        FusedFunction.<Integer, Integer>flatMap(length -> Collections.nCopies(length, length)),
+                        FusedFunction.<Integer, Integer>map(length -> length * 10)
+                ),
+                counter
+        );
+        assertEquals(5, fusedFunction.getNumSteps());
+
+        List<Integer> result = Stream.of("a", "bb", "", "ccc")
+                .mapMulti(fusedFunction)
+                .collect(Collectors.toList());
+        assertEquals(Arrays.asList(20, 20, 30, 30, 30), result);
+        assertEquals(2, counter.sum());
+    }
+
+    @Test
+    void testParallelApplication() {
+        FunctionCompiler compiler = new FunctionCompiler(new Configuration());
+        LongAdder counter = new LongAdder();
+        FusedFunction<Integer, Integer> fusedFunction = compiler.fuse(
+                FusedFunction.<Integer>filter(i -> i % 3 == 0),
+                FusedFunction.<Integer, Integer>map(i -> i + 1),
+                counter
+        );
+
+        long sum = IntStream.range(0, 100000).boxed().parallel()
+                .mapMulti(fusedFunction)
+                .mapToLong(Integer::longValue)
+                .sum();
+        assertEquals(IntStream.range(0, 100000).filter(i -> i % 3 == 0).mapToLong(i -> i + 1).sum(), sum);
+        assertEquals(33334, counter.sum());
+    }
+
+    @Test
+    void testDisableFusion() {
+        Configuration configuration = new Configuration();
+        configuration.setProperty("wayang.java.fusion", "false");
+        assertFalse(new FunctionCompiler(configuration).isFusionEnabled());
+    }
+
+}
@@ -18,12 +18,19 @@
 
 package org.apache.wayang.java.execution;
 
+import org.apache.wayang.core.api.Configuration;
+import org.apache.wayang.core.api.Job;
+import org.apache.wayang.core.api.JobAdmission;
 import org.apache.wayang.core.api.WayangContext;
+import org.apache.wayang.core.api.exception.WayangException;
 import org.apache.wayang.core.function.ExecutionContext;
 import org.apache.wayang.core.function.FunctionDescriptor;
 import org.apache.wayang.core.function.TransformationDescriptor;
+import org.apache.wayang.core.plan.executionplan.ExecutionStage;
 import org.apache.wayang.core.plan.wayangplan.WayangPlan;
+import org.apache.wayang.core.platform.CrossPlatformExecutor;
 import org.apache.wayang.core.types.DataSetType;
+import org.apache.wayang.core.util.ReflectionUtils;
 import org.apache.wayang.core.util.WayangArrays;
 import org.apache.wayang.core.util.WayangCollections;
 import org.apache.wayang.java.Java;
@@ -31,13 +38,30 @@ import org.apache.wayang.java.operators.JavaCollectionSource;
 import org.apache.wayang.java.operators.JavaDoWhileOperator;
 import org.apache.wayang.java.operators.JavaLocalCallbackSink;
 import org.apache.wayang.java.operators.JavaMapOperator;
+import org.apache.wayang.java.operators.JavaMaterializedGroupByOperator;
+import org.apache.wayang.java.operators.JavaUnionAllOperator;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
  * Test suite for the {@link JavaExecutor}.
@@ -129,4 +153,219 @@ class JavaExecutorTest {
         assertEquals(WayangArrays.asList(6, 7, 8), collector);
     }
 
+    @Test
+    void testParallelStageExecution() {
+        final Configuration sequentialConfiguration = new Configuration();
+        sequentialConfiguration.setProperty("wayang.core.optimizer.enumeration.parallel-tasks", "false");
+        final Job sequentialJob = this.createBranchingJob(sequentialConfiguration);
+        sequentialJob.execute();
+
+        final Configuration parallelConfiguration = new Configuration();
+        parallelConfiguration.setProperty("wayang.core.optimizer.enumeration.parallel-tasks", "true");
+        parallelConfiguration.setProperty("wayang.core.executor.parallel-tasks.threads", "2");
+        final Job parallelJob = this.createBranchingJob(parallelConfiguration);
+        parallelJob.execute();
+
+        // Virtual threads fall back to platform threads on JVMs that do not support them.
+        final Configuration virtualConfiguration = new Configuration();
+        virtualConfiguration.setProperty("wayang.core.optimizer.enumeration.parallel-tasks", "true");
+        virtualConfiguration.setProperty("wayang.core.executor.parallel-tasks.virtual-threads", "true");
+        final Job virtualJob = this.createBranchingJob(virtualConfiguration);
+        virtualJob.execute();
+
+        final List<Integer> expectedResult = Arrays.asList(3, 5, 7, 103, 105, 107);
+        final List<Job> jobs = Arrays.asList(sequentialJob, parallelJob, virtualJob);
+        for (Job job : jobs) {
+            final List<Integer> result = new ArrayList<>(this.results.get(job));
+            Collections.sort(result);
+            assertEquals(expectedResult, result);
+
+            // Every stage must have been timed.
+            final CrossPlatformExecutor crossPlatformExecutor = job.getCrossPlatformExecutor();
+            final Set<ExecutionStage> completedStages = crossPlatformExecutor.getCompletedStages();
+            assertTrue(completedStages.size() > 2, "Expected independent stages, got " + completedStages);
+            final Map<ExecutionStage, CrossPlatformExecutor.StageTiming> stageTimings = crossPlatformExecutor.getStageTimings();
+            assertEquals(completedStages, stageTimings.keySet());
+            for (CrossPlatformExecutor.StageTiming stageTiming : stageTimings.values()) {
+                assertTrue(stageTiming.getQueueWaitMillis() >= 0, stageTiming.toString());
+                assertTrue(stageTiming.getRunMillis() >= 0, stageTiming.toString());
+            }
+        }
+
+        // Only the parallel mode runs the stages on the stage executor.
+        jobs.forEach(job -> assertEquals(18, this.threadNames.get(job).size()));
+        assertTrue(this.threadNames.get(sequentialJob).stream().noneMatch(name -> name.startsWith("wayang-stage-")));
+        assertTrue(this.threadNames.get(parallelJob).stream().allMatch(name -> name.startsWith("wayang-stage-")));
+        assertTrue(this.threadNames.get(virtualJob).stream().noneMatch(name -> name.equals(Thread.currentThread().getName())));
+    }
+
+    @Test
+    void testConcurrentJobsInOneContext() throws Exception {
+        final Configuration configuration = new Configuration();
+        configuration.setProperty("wayang.core.jobs.max-concurrent", "2");
+        configuration.setProperty("wayang.core.jobs.queue-capacity", "1");
+        final WayangContext wayangContext = new WayangContext(configuration).with(Java.basicPlugin());
+        final JobAdmission jobAdmission = wayangContext.getJobAdmission();
+
+        // The jobs block in their sinks until the gate opens, so that they overlap.
+        final CountDownLatch gate = new CountDownLatch(1);
+        final AtomicInteger numBlockedJobs = new AtomicInteger(0);
+        final List<Job> jobs = new ArrayList<>();
+        final List<Collection<Integer>> collectors = new ArrayList<>();
+        for (int factor = 1; factor <= 4; factor++) {
+            final Collection<Integer> collector = Collections.synchronizedList(new ArrayList<>());
+            jobs.add(this.createBlockingJob(wayangContext, factor, collector, gate, numBlockedJobs));
+            collectors.add(collector);
+        }
+
+        final ExecutorService executorService = Executors.newFixedThreadPool(3);
+        try {
+            final List<Future<?>> executions = new ArrayList<>();
+            for (Job job : jobs.subList(0, 3)) {
+                executions.add(executorService.submit(job::execute));
+            }
+
+            // Two jobs run, the third one waits for its admission...
+            final long deadline = System.currentTimeMillis() + 30_000;
+            while (numBlockedJobs.get() < 2 || jobAdmission.getNumWaitingJobs() < 1) {
+                assertTrue(System.currentTimeMillis() < deadline, "Jobs were not admitted in time.");
+                Thread.sleep(10);
+            }
+            assertEquals(2, jobAdmission.getNumRunningJobs());
+            assertEquals(2, numBlockedJobs.get());
+
+            // ...and the fourth one is rejected, because the queue is full.
+            assertThrows(WayangException.class, jobs.get(3)::execute);
+            assertTrue(collectors.get(3).isEmpty());
+
+            gate.countDown();
+            for (Future<?> execution : executions) {
+                execution.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            gate.countDown();
+            executorService.shutdownNow();
+        }
+
+        for (int i = 0; i < 3; i++) {
+            final int factor = i + 1;
+            final List<Integer> result = new ArrayList<>(collectors.get(i));
+            Collections.sort(result);
+            assertEquals(Arrays.asList(factor, 2 * factor, 3 * factor), result);
+        }
+        assertEquals(3, numBlockedJobs.get());
+        assertEquals(0, jobAdmission.getNumRunningJobs());
+        assertEquals(0, jobAdmission.getNumWaitingJobs());
+        assertEquals(jobs.size(), jobs.stream().map(Job::getRunId).distinct().count());
+    }
+
+    /**
+     * Creates a {@link Job} that multiplies some values by the given {@code factor} and whose sink waits for the
+     * {@code gate} before it collects the results.
+     */
+    private Job createBlockingJob(WayangContext wayangContext,
+                                  int factor,
+                                  Collection<Integer> collector,
+                                  CountDownLatch gate,
+                                  AtomicInteger numBlockedJobs) {
+        JavaCollectionSource<Integer> source = new JavaCollectionSource<>(
+                WayangArrays.asList(1, 2, 3),
+                DataSetType.createDefault(Integer.class)
+        );
+        JavaMapOperator<Integer, Integer> map = new JavaMapOperator<>(
+                DataSetType.createDefault(Integer.class),
+                DataSetType.createDefault(Integer.class),
+                new TransformationDescriptor<>(v -> v * factor, Integer.class, Integer.class)
+        );
+        final AtomicBoolean isBlocked = new AtomicBoolean(false);
+        JavaLocalCallbackSink<Integer> sink = new JavaLocalCallbackSink<>(
+                v -> {
+                    if (isBlocked.compareAndSet(false, true)) {
+                        numBlockedJobs.incrementAndGet();
+                        try {
+                            assertTrue(gate.await(30, TimeUnit.SECONDS));
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            throw new RuntimeException(e);
+                        }
+                    }
+                    collector.add(v);
+                },
+                DataSetType.createDefault(Integer.class)
+        );
+        source.connectTo(0, map, 0);
+        map.connectTo(0, sink, 0);
+        return wayangContext.createJob("times-" + factor, new WayangPlan(sink));
+    }
+
+    /**
+     * Collects the results of the jobs created by {@link #createBranchingJob(Configuration)}.
+     */
+    private final Map<Job, Collection<Integer>> results = new ConcurrentHashMap<>();
+
+    /**
+     * Collects the names of the threads that ran the UDFs of the jobs created by
+     * {@link #createBranchingJob(Configuration)}.
+     */
+    private final Map<Job, Collection<String>> threadNames = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a {@link Job} with two independent branches, each of which consists of several
+     * {@link ExecutionStage}s, that are united at the end.
+     */
+    private Job createBranchingJob(Configuration configuration) {
+        final Collection<String> threadNames = Collections.synchronizedList(new ArrayList<>());
+        final Collection<Integer> collector = Collections.synchronizedList(new ArrayList<>());
+        final JavaUnionAllOperator<Integer> union = new JavaUnionAllOperator<>(DataSetType.createDefault(Integer.class));
+        for (int branch = 0; branch < 2; branch++) {
+            final int offset = 100 * branch;
+            JavaCollectionSource<Integer> source = new JavaCollectionSource<>(
+                    WayangArrays.asList(0, 1, 2, 3, 4, 5),
+                    DataSetType.createDefault(Integer.class)
+            );
+            JavaMapOperator<Integer, Integer> map = new JavaMapOperator<>(
+                    DataSetType.createDefault(Integer.class),
+                    DataSetType.createDefault(Integer.class),
+                    new TransformationDescriptor<>(
+                            v -> {
+                                threadNames.add(Thread.currentThread().getName());
+                                return v + offset;
+                            },
+                            Integer.class, Integer.class
+                    )
+            );
+            // The grouping materializes its output, so that the branch is split into several stages.
+            JavaMaterializedGroupByOperator<Integer, Integer> groupBy = new JavaMaterializedGroupByOperator<>(
+                    new TransformationDescriptor<>(v -> v % 3, Integer.class, Integer.class),
+                    DataSetType.createDefault(Integer.class),
+                    DataSetType.createGrouped(Integer.class)
+            );
+            JavaMapOperator<Iterable<Integer>, Integer> sum = new JavaMapOperator<>(
+                    DataSetType.createGrouped(Integer.class),
+                    DataSetType.createDefault(Integer.class),
+                    new TransformationDescriptor<>(
+                            group -> {
+                                threadNames.add(Thread.currentThread().getName());
+                                int total = 0;
+                                for (int v : group) total += v;
+                                return total - offset;
+                            },
+                            ReflectionUtils.specify(Iterable.class), Integer.class
+                    )
+            );
+            source.connectTo(0, map, 0);
+            map.connectTo(0, groupBy, 0);
+            groupBy.connectTo(0, sum, 0);
+            sum.connectTo(0, union, branch);
+        }
+        JavaLocalCallbackSink<Integer> sink = new JavaLocalCallbackSink<>(collector::add, DataSetType.createDefault(Integer.class));
+        union.connectTo(0, sink, 0);
+
+        final WayangContext wayangContext = new WayangContext(configuration).with(Java.basicPlugin());
+        final Job job = wayangContext.createJob("branching", new WayangPlan(sink));
+        this.results.put(job, collector);
+        this.threadNames.put(job, threadNames);
+        return job;
+    }
+
 }
@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.java.operators;
+
+import org.apache.wayang.core.types.DataSetType;
+import org.apache.wayang.java.channels.JavaChannelInstance;
+import org.apache.wayang.java.channels.StreamChannel;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Test suite for {@link JavaCollectOperator}.
+ */
+class JavaCollectOperatorTest extends JavaExecutionOperatorTestBase {
+
+    @Test
+    void testExecution() {
+        // Prepare test data.
+        List<Integer> inputList = IntStream.range(0, 10000).boxed().collect(Collectors.toList());
+
+        // Build the collect operator.
+        JavaCollectOperator<Integer> collectOperator = new JavaCollectOperator<>(DataSetType.createDefault(Integer.class));
+
+        // Execute.
+        JavaChannelInstance[] inputs = new JavaChannelInstance[]{createStreamChannelInstance(inputList.stream())};
+        JavaChannelInstance[] outputs = new JavaChannelInstance[]{createCollectionChannelInstance()};
+        evaluate(collectOperator, inputs, outputs);
+
+        // Verify the outcome.
+        assertEquals(inputList, outputs[0].<Integer>provideStream().collect(Collectors.toList()));
+    }
+
+    @Test
+    void testParallelExecution() {
+        // Prepare test data.
+        List<Integer> inputList = IntStream.range(0, 10000).boxed().collect(Collectors.toList());
+        Set<Thread> upstreamThreads = ConcurrentHashMap.newKeySet();
+
+        // Build the collect operator.
+        JavaCollectOperator<Integer> collectOperator = new JavaCollectOperator<>(DataSetType.createDefault(Integer.class));
+
+        // Execute in the multi-core mode on a parallel pipeline and on a sequential pipeline.
+        StreamChannel.Instance parallelInput = createStreamChannelInstance();
+        parallelInput.accept(inputList);
+        for (JavaChannelInstance input : List.of(
+                parallelInput,
+                createStreamChannelInstance(createThreadRecordingStream(inputList, upstreamThreads)))) {
+            JavaChannelInstance[] outputs = new JavaChannelInstance[]{createCollectionChannelInstance()};
+            collectOperator.evaluate(new JavaChannelInstance[]{input}, outputs,
+                    createParallelExecutor(4), createOperatorContext(collectOperator));
+
+            // Verify the outcome. The encounter order must be preserved.
+            assertEquals(inputList, outputs[0].<Integer>provideStream().collect(Collectors.toList()));
+        }
+        // The sequential pipeline must not have been switched to parallel mode.
+        assertEquals(1, upstreamThreads.size());
+    }
+
+}
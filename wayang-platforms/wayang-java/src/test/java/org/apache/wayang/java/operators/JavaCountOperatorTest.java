@@ -22,9 +22,13 @@ import org.apache.wayang.core.types.DataSetType;
 import org.apache.wayang.java.channels.JavaChannelInstance;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -57,4 +61,36 @@ class JavaCountOperatorTest extends JavaExecutionOperatorTestBase {
 
     }
 
+    @Test
+    void testParallelExecution() {
+        // Prepare test data.
+        List<Integer> inputList = IntStream.range(0, 10000).boxed().collect(Collectors.toList());
+        Set<Thread> upstreamThreads = ConcurrentHashMap.newKeySet();
+
+        // Build the count operator.
+        JavaCountOperator<Integer> countOperator =
+                new JavaCountOperator<>(
+                        DataSetType.createDefaultUnchecked(Integer.class)
+                );
+
+        // Execute in the multi-core mode on materialized data quanta, on a sequential pipeline, and on no data quanta.
+        List<JavaChannelInstance> inputChannelInstances = Arrays.asList(
+                createCollectionChannelInstance(inputList),
+                createStreamChannelInstance(createThreadRecordingStream(inputList, upstreamThreads)),
+                createStreamChannelInstance(Stream.empty())
+        );
+        List<Long> results = new ArrayList<>();
+        for (JavaChannelInstance input : inputChannelInstances) {
+            JavaChannelInstance[] outputs = new JavaChannelInstance[]{createCollectionChannelInstance()};
+            countOperator.evaluate(new JavaChannelInstance[]{input}, outputs,
+                    createParallelExecutor(4), createOperatorContext(countOperator));
+            results.add(outputs[0].<Long>provideStream().findFirst().orElseThrow());
+        }
+
+        // Verify the outcome.
+        assertEquals(Arrays.asList(10000L, 10000L, 0L), results);
+        // The sequential pipeline must not have been switched to parallel mode.
+        assertEquals(1, upstreamThreads.size());
+    }
+
 }
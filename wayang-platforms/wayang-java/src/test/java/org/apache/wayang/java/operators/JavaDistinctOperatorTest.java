@@ -18,16 +18,24 @@
 
 package org.apache.wayang.java.operators;
 
+import org.apache.wayang.core.platform.lineage.ExecutionLineageNode;
 import org.apache.wayang.core.types.DataSetType;
 import org.apache.wayang.java.channels.JavaChannelInstance;
 import org.junit.jupiter.api.Test;
 
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
  * Test suite for {@link JavaDistinctOperator}.
@@ -57,4 +65,57 @@ class JavaDistinctOperatorTest extends JavaExecutionOperatorTestBase {
 
     }
 
+    @Test
+    void testSpillingExecution() {
+        // Prepare test data with many more distinct data quanta than fit into the memory budget.
+        List<Integer> inputList = IntStream.range(0, 20000).map(i -> i % 5000).boxed().collect(Collectors.toList());
+        Collections.shuffle(inputList, new Random(42));
+
+        // Build the distinct operator.
+        JavaDistinctOperator<Integer> distinctOperator =
+                new JavaDistinctOperator<>(
+                        DataSetType.createDefaultUnchecked(Integer.class)
+                );
+
+        // Execute with a small memory budget.
+        JavaChannelInstance[] inputs = new JavaChannelInstance[]{createCollectionChannelInstance(inputList)};
+        JavaChannelInstance[] outputs = new JavaChannelInstance[]{createStreamChannelInstance()};
+        distinctOperator.evaluate(inputs, outputs, createSpillingExecutor(10000), createOperatorContext(distinctOperator));
+
+        // Verify the outcome.
+        final List<Integer> result = outputs[0].<Integer>provideStream().sorted().collect(Collectors.toList());
+        assertEquals(IntStream.range(0, 5000).boxed().collect(Collectors.toList()), result);
+        final Collection<ExecutionLineageNode> executionLineageNodes = outputs[0].getLineage().collectAndMark().getField0();
+        assertTrue(executionLineageNodes.stream().anyMatch(node -> node.getSpilledBytes() > 0));
+    }
+
+    @Test
+    void testParallelExecution() {
+        // Prepare test data.
+        List<Integer> inputList = IntStream.range(0, 20000).map(i -> i % 5000).boxed().collect(Collectors.toList());
+        List<Integer> expectedResult = IntStream.range(0, 5000).boxed().collect(Collectors.toList());
+        Set<Thread> upstreamThreads = ConcurrentHashMap.newKeySet();
+
+        // Build the distinct operator.
+        JavaDistinctOperator<Integer> distinctOperator =
+                new JavaDistinctOperator<>(
+                        DataSetType.createDefaultUnchecked(Integer.class)
+                );
+
+        // Execute in the multi-core mode on materialized data quanta and on a sequential pipeline.
+        for (JavaChannelInstance input : Arrays.asList(
+                createCollectionChannelInstance(inputList),
+                createStreamChannelInstance(createThreadRecordingStream(inputList, upstreamThreads)))) {
+            JavaChannelInstance[] outputs = new JavaChannelInstance[]{createStreamChannelInstance()};
+            distinctOperator.evaluate(new JavaChannelInstance[]{input}, outputs,
+                    createParallelExecutor(4), createOperatorContext(distinctOperator));
+
+            // Verify the outcome. The encounter order is preserved, even for a sequential consumer.
+            final List<Integer> result = outputs[0].<Integer>provideStream().collect(Collectors.toList());
+            assertEquals(expectedResult, result);
+        }
+        // The sequential pipeline must not have been switched to parallel mode.
+        assertEquals(1, upstreamThreads.size());
+    }
+
 }
@@ -35,6 +35,7 @@ import org.apache.wayang.java.test.ChannelFactory;
 import org.junit.jupiter.api.BeforeAll;
 
 import java.util.Collection;
+import java.util.Set;
 import java.util.stream.Stream;
 
 import static org.mockito.Mockito.mock;
@@ -63,6 +64,61 @@ public class JavaExecutionOperatorTestBase {
         return new JavaExecutor(JavaPlatform.getInstance(), job);
     }
 
+    /**
+     * Creates a {@link JavaExecutor} that runs in the multi-core mode.
+     *
+     * @param numCores the number of cores to use
+     * @return the {@link JavaExecutor}
+     */
+    protected static JavaExecutor createParallelExecutor(int numCores) {
+        final Configuration parallelConfiguration = configuration.fork("parallel");
+        parallelConfiguration.setProperty("wayang.java.parallel", "true");
+        parallelConfiguration.setProperty("wayang.java.cores", String.valueOf(numCores));
+        return createExecutor(parallelConfiguration);
+    }
+
+    /**
+     * Creates a {@link JavaExecutor} that spills to disk when exceeding the given memory budget.
+     *
+     * @param memoryBudget the memory budget in bytes
+     * @return the {@link JavaExecutor}
+     */
+    protected static JavaExecutor createSpillingExecutor(long memoryBudget) {
+        final Configuration spillingConfiguration = configuration.fork("spilling");
+        spillingConfiguration.setProperty("wayang.java.spill.memory-budget", String.valueOf(memoryBudget));
+        spillingConfiguration.setProperty("wayang.java.spill.partitions", "4");
+        spillingConfiguration.setProperty("wayang.java.spill.fan-in", "4");
+        return createExecutor(spillingConfiguration);
+    }
+
+    protected static JavaExecutor createExecutor(Configuration executorConfiguration) {
+        final DefaultOptimizationContext optimizationContext = (DefaultOptimizationContext) job.getOptimizationContext();
+        final Job executorJob = mock(Job.class);
+        when(executorJob.getConfiguration()).thenReturn(executorConfiguration);
+        // The JavaExecutor exposes the Configuration of its CrossPlatformExecutor, so we need a dedicated one.
+        final CrossPlatformExecutor crossPlatformExecutor =
+                new CrossPlatformExecutor(executorJob, new NoInstrumentationStrategy());
+        when(executorJob.getCrossPlatformExecutor()).thenReturn(crossPlatformExecutor);
+        when(executorJob.getOptimizationContext()).thenReturn(optimizationContext);
+        return new JavaExecutor(JavaPlatform.getInstance(), executorJob);
+    }
+
+    /**
+     * Creates a lazy, sequential {@link Stream} over the given data quanta that records the {@link Thread}s that its
+     * pipeline is executed by. This allows to verify that consumers do not switch the pipeline to parallel mode.
+     *
+     * @param dataQuanta the data quanta
+     * @param threads    collects the {@link Thread}s; must be thread-safe
+     * @return the {@link Stream}
+     */
+    protected static <T> Stream<T> createThreadRecordingStream(Collection<T> dataQuanta, Set<Thread> threads) {
+        // Unlike Stream#peek(), Stream#filter() is always executed, e.g., also by Stream#count().
+        return dataQuanta.stream().filter(dataQuantum -> {
+            threads.add(Thread.currentThread());
+            return true;
+        });
+    }
+
     protected static OptimizationContext.OperatorContext createOperatorContext(Operator operator) {
         OptimizationContext optimizationContext = job.getOptimizationContext();
         final OptimizationContext.OperatorContext operatorContext = optimizationContext.addOneTimeOperator(operator);
@@ -18,17 +18,28 @@
 
 package org.apache.wayang.java.operators;
 
+import org.apache.wayang.core.api.Configuration;
+import org.apache.wayang.core.function.FlatMapDescriptor;
 import org.apache.wayang.core.function.PredicateDescriptor;
+import org.apache.wayang.core.function.TransformationDescriptor;
 import org.apache.wayang.core.types.DataSetType;
 import org.apache.wayang.java.channels.JavaChannelInstance;
+import org.apache.wayang.java.channels.StreamChannel;
+import org.apache.wayang.java.execution.JavaExecutor;
 import org.junit.jupiter.api.Test;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
  * Test suite for {@link JavaFilterOperator}.
@@ -58,4 +69,102 @@ class JavaFilterOperatorTest extends JavaExecutionOperatorTestBase {
 
     }
 
+    @Test
+    void testFusedExecution() {
+        // Build a map -> filter -> flatMap chain.
+        JavaMapOperator<String, Integer> mapOperator = new JavaMapOperator<>(
+                DataSetType.createDefault(String.class),
+                DataSetType.createDefault(Integer.class),
+                new TransformationDescriptor<>(String::length, String.class, Integer.class)
+        );
+        JavaFilterOperator<Integer> filterOperator = new JavaFilterOperator<>(
+                DataSetType.createDefault(Integer.class),
+                new PredicateDescriptor<>(length -> length > 1, Integer.class)
+        );
+        JavaFlatMapOperator<Integer, Integer> flatMapOperator = new JavaFlatMapOperator<>(
+                DataSetType.createDefault(Integer.class),
+                DataSetType.createDefault(Integer.class),
+                new FlatMapDescriptor<>(length -> Collections.nCopies(length, length), Integer.class, Integer.class)
+        );
+
+        for (JavaExecutor executor : Arrays.asList(createExecutor(), createParallelExecutor(2))) {
+            StreamChannel.Instance input = createStreamChannelInstance(Stream.of("a", "bb", "", "ccc"));
+            StreamChannel.Instance mapOutput = createStreamChannelInstance();
+            StreamChannel.Instance filterOutput = createStreamChannelInstance();
+            StreamChannel.Instance flatMapOutput = createStreamChannelInstance();
+            // The cardinality of the filter must still be measured within the fused loop body.
+            filterOutput.getChannel().markForInstrumentation();
+
+            mapOperator.evaluate(new JavaChannelInstance[]{input}, new JavaChannelInstance[]{mapOutput},
+                    executor, createOperatorContext(mapOperator));
+            filterOperator.evaluate(new JavaChannelInstance[]{mapOutput}, new JavaChannelInstance[]{filterOutput},
+                    executor, createOperatorContext(filterOperator));
+            flatMapOperator.evaluate(new JavaChannelInstance[]{filterOutput}, new JavaChannelInstance[]{flatMapOutput},
+                    executor, createOperatorContext(flatMapOperator));
+
+            // Verify the outcome.
+            final List<Integer> result = flatMapOutput.<Integer>provideStream().collect(Collectors.toList());
+            assertEquals(Arrays.asList(2, 2, 3, 3, 3), result);
+            assertTrue(filterOutput.getMeasuredCardinality().isPresent());
+            assertEquals(2, filterOutput.getMeasuredCardinality().getAsLong());
+            assertFalse(mapOutput.getMeasuredCardinality().isPresent());
+        }
+    }
+
+    @Test
+    void testParallelExecution() {
+        // Prepare test data.
+        List<Integer> inputList = IntStream.range(0, 10000).boxed().collect(Collectors.toList());
+        List<Integer> expectedResult = inputList.stream()
+                .map(i -> i * 2)
+                .filter(i -> i % 3 != 0)
+                .flatMap(i -> Stream.of(i, -i))
+                .collect(Collectors.toList());
+        Set<Thread> upstreamThreads = ConcurrentHashMap.newKeySet();
+
+        // Build a map -> filter -> flatMap chain.
+        JavaMapOperator<Integer, Integer> mapOperator = new JavaMapOperator<>(
+                DataSetType.createDefault(Integer.class),
+                DataSetType.createDefault(Integer.class),
+                new TransformationDescriptor<>(i -> i * 2, Integer.class, Integer.class)
+        );
+        JavaFilterOperator<Integer> filterOperator = new JavaFilterOperator<>(
+                DataSetType.createDefault(Integer.class),
+                new PredicateDescriptor<>(i -> i % 3 != 0, Integer.class)
+        );
+        JavaFlatMapOperator<Integer, Integer> flatMapOperator = new JavaFlatMapOperator<>(
+                DataSetType.createDefault(Integer.class),
+                DataSetType.createDefault(Integer.class),
+                new FlatMapDescriptor<>(i -> Arrays.asList(i, -i), Integer.class, Integer.class)
+        );
+
+        // Execute in the multi-core mode with and without fusion, on materialized data quanta and on a sequential pipeline.
+        for (boolean isFusionEnabled : new boolean[]{true, false}) {
+            final Configuration executorConfiguration = configuration.fork("parallel-fusion-" + isFusionEnabled);
+            executorConfiguration.setProperty("wayang.java.parallel", "true");
+            executorConfiguration.setProperty("wayang.java.cores", "4");
+            executorConfiguration.setProperty("wayang.java.fusion", String.valueOf(isFusionEnabled));
+            final JavaExecutor executor = createExecutor(executorConfiguration);
+            for (JavaChannelInstance input : Arrays.asList(
+                    createCollectionChannelInstance(inputList),
+                    createStreamChannelInstance(createThreadRecordingStream(inputList, upstreamThreads)))) {
+                StreamChannel.Instance mapOutput = createStreamChannelInstance();
+                StreamChannel.Instance filterOutput = createStreamChannelInstance();
+                StreamChannel.Instance flatMapOutput = createStreamChannelInstance();
+                mapOperator.evaluate(new JavaChannelInstance[]{input}, new JavaChannelInstance[]{mapOutput},
+                        executor, createOperatorContext(mapOperator));
+                filterOperator.evaluate(new JavaChannelInstance[]{mapOutput}, new JavaChannelInstance[]{filterOutput},
+                        executor, createOperatorContext(filterOperator));
+                flatMapOperator.evaluate(new JavaChannelInstance[]{filterOutput}, new JavaChannelInstance[]{flatMapOutput},
+                        executor, createOperatorContext(flatMapOperator));
+
+                // Verify the outcome. A sequential consumer must see the data quanta in their encounter order.
+                final List<Integer> result = flatMapOutput.<Integer>provideStream().collect(Collectors.toList());
+                assertEquals(expectedResult, result);
+            }
+        }
+        // The sequential pipeline must not have been switched to parallel mode.
+        assertEquals(1, upstreamThreads.size());
+    }
+
 }
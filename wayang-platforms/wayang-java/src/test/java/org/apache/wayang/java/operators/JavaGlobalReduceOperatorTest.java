@@ -25,9 +25,14 @@ import org.apache.wayang.core.types.DataUnitType;
 import org.apache.wayang.java.channels.JavaChannelInstance;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -89,4 +94,43 @@ class JavaGlobalReduceOperatorTest extends JavaExecutionOperatorTestBase {
         assertEquals(0, result.size());
 
     }
+
+    @Test
+    void testParallelExecution() {
+        // Prepare test data.
+        List<Integer> inputList = IntStream.range(0, 10000).boxed().collect(Collectors.toList());
+        Set<Thread> upstreamThreads = ConcurrentHashMap.newKeySet();
+
+        // Build the reduce operator.
+        JavaGlobalReduceOperator<Integer> globalReduce =
+                new JavaGlobalReduceOperator<>(
+                        DataSetType.createDefaultUnchecked(Tuple2.class),
+                        new ReduceDescriptor<>(
+                                (a, b) -> a + b, DataUnitType.createGrouped(Integer.class),
+                                DataUnitType.createBasic(Integer.class)
+                        )
+                );
+
+        // Execute in the multi-core mode on materialized data quanta, on a sequential pipeline, and on no data quanta.
+        List<JavaChannelInstance> inputChannelInstances = Arrays.asList(
+                createCollectionChannelInstance(inputList),
+                createStreamChannelInstance(createThreadRecordingStream(inputList, upstreamThreads)),
+                createCollectionChannelInstance(Collections.emptyList())
+        );
+        List<List<Integer>> results = new ArrayList<>();
+        for (JavaChannelInstance input : inputChannelInstances) {
+            JavaChannelInstance[] outputs = new JavaChannelInstance[]{createCollectionChannelInstance()};
+            globalReduce.evaluate(new JavaChannelInstance[]{input}, outputs,
+                    createParallelExecutor(4), createOperatorContext(globalReduce));
+            results.add(outputs[0].<Integer>provideStream().collect(Collectors.toList()));
+        }
+
+        // Verify the outcome.
+        assertEquals(Collections.singletonList(9999 * 10000 / 2), results.get(0));
+        assertEquals(Collections.singletonList(9999 * 10000 / 2), results.get(1));
+        assertEquals(Collections.emptyList(), results.get(2));
+        // The sequential pipeline must not have been switched to parallel mode.
+        assertEquals(1, upstreamThreads.size());
+    }
+
 }
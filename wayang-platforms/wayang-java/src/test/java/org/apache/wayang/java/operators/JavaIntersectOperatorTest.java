@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.java.operators;
+
+import org.apache.wayang.core.types.DataSetType;
+import org.apache.wayang.java.channels.JavaChannelInstance;
+import org.apache.wayang.java.execution.JavaExecutor;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Test suite for {@link JavaIntersectOperator}.
+ */
+class JavaIntersectOperatorTest extends JavaExecutionOperatorTestBase {
+
+    @Test
+    void testExecution() {
+        // Build the intersect operator.
+        JavaIntersectOperator<Integer> intersectOperator = new JavaIntersectOperator<>(DataSetType.createDefault(Integer.class));
+
+        for (JavaExecutor executor : Arrays.asList(createExecutor(), createParallelExecutor(4))) {
+            // Prepare test data.
+            List<Integer> inputList0 = IntStream.range(0, 10000).map(i -> i % 3000).boxed().collect(Collectors.toList());
+            List<Integer> inputList1 = IntStream.range(2000, 5000).boxed().collect(Collectors.toList());
+
+            // Execute.
+            JavaChannelInstance[] inputs = new JavaChannelInstance[]{
+                    createCollectionChannelInstance(inputList0),
+                    createStreamChannelInstance(inputList1.stream())
+            };
+            JavaChannelInstance[] outputs = new JavaChannelInstance[]{createStreamChannelInstance()};
+            intersectOperator.evaluate(inputs, outputs, executor, createOperatorContext(intersectOperator));
+
+            // Verify the outcome.
+            final List<Integer> result = outputs[0].<Integer>provideStream().sorted().collect(Collectors.toList());
+            assertEquals(IntStream.range(2000, 3000).boxed().collect(Collectors.toList()), result);
+        }
+    }
+
+}
@@ -28,7 +28,10 @@ import org.junit.jupiter.api.Test;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -100,4 +103,93 @@ class JavaJoinOperatorTest extends JavaExecutionOperatorTestBase {
 
     }
 
+    @Test
+    void testSpillingExecution() {
+        // Prepare test data that exceeds the memory budget on both sides.
+        List<Tuple2<Integer, String>> inputList0 = IntStream.range(0, 5000)
+                .mapToObj(i -> new Tuple2<>(i, "left" + i))
+                .collect(Collectors.toList());
+        List<Tuple2<String, Integer>> inputList1 = IntStream.range(0, 10000)
+                .mapToObj(i -> new Tuple2<>("right" + i, i / 2))
+                .collect(Collectors.toList());
+
+        // Build the join operator.
+        JavaJoinOperator<Tuple2<Integer, String>, Tuple2<String, Integer>, Integer> join =
+                new JavaJoinOperator<>(
+                        DataSetType.createDefaultUnchecked(Tuple2.class),
+                        DataSetType.createDefaultUnchecked(Tuple2.class),
+                        new ProjectionDescriptor<>(
+                                DataUnitType.createBasicUnchecked(Tuple2.class),
+                                DataUnitType.createBasic(Integer.class),
+                                "field0"),
+                        new ProjectionDescriptor<>(
+                                DataUnitType.createBasicUnchecked(Tuple2.class),
+                                DataUnitType.createBasic(Integer.class),
+                                "field1"));
+
+        // Execute with a small memory budget.
+        JavaChannelInstance[] inputs = new JavaChannelInstance[]{
+                createCollectionChannelInstance(inputList0),
+                createCollectionChannelInstance(inputList1)
+        };
+        JavaChannelInstance[] outputs = new JavaChannelInstance[]{createStreamChannelInstance()};
+        join.evaluate(inputs, outputs, createSpillingExecutor(10000), createOperatorContext(join));
+
+        // Verify the outcome.
+        final List<Tuple2<Tuple2<Integer, String>, Tuple2<String, Integer>>> result =
+                outputs[0].<Tuple2<Tuple2<Integer, String>, Tuple2<String, Integer>>>provideStream()
+                        .collect(Collectors.toList());
+        assertEquals(10000, result.size());
+        result.forEach(joinTuple -> {
+            assertEquals(joinTuple.getField0().getField0(), joinTuple.getField1().getField1());
+            assertEquals("left" + joinTuple.getField0().getField0(), joinTuple.getField0().getField1());
+        });
+    }
+
+    @Test
+    void testParallelExecution() {
+        // Prepare test data.
+        List<Tuple2<Integer, String>> inputList0 = IntStream.range(0, 1000)
+                .mapToObj(i -> new Tuple2<>(i, "left" + i))
+                .collect(Collectors.toList());
+        List<Tuple2<String, Integer>> inputList1 = IntStream.range(0, 10000)
+                .mapToObj(i -> new Tuple2<>("right" + i, i % 2000))
+                .collect(Collectors.toList());
+        Set<Thread> upstreamThreads = ConcurrentHashMap.newKeySet();
+
+        // Build the join operator.
+        JavaJoinOperator<Tuple2<Integer, String>, Tuple2<String, Integer>, Integer> join =
+                new JavaJoinOperator<>(
+                        DataSetType.createDefaultUnchecked(Tuple2.class),
+                        DataSetType.createDefaultUnchecked(Tuple2.class),
+                        new ProjectionDescriptor<>(
+                                DataUnitType.createBasicUnchecked(Tuple2.class),
+                                DataUnitType.createBasic(Integer.class),
+                                "field0"),
+                        new ProjectionDescriptor<>(
+                                DataUnitType.createBasicUnchecked(Tuple2.class),
+                                DataUnitType.createBasic(Integer.class),
+                                "field1"));
+
+        // Execute in the multi-core mode with a materialized and with a sequentially pipelined probe side.
+        for (JavaChannelInstance input1 : Arrays.asList(
+                createCollectionChannelInstance(inputList1),
+                createStreamChannelInstance(createThreadRecordingStream(inputList1, upstreamThreads)))) {
+            JavaChannelInstance[] inputs = new JavaChannelInstance[]{createCollectionChannelInstance(inputList0), input1};
+            JavaChannelInstance[] outputs = new JavaChannelInstance[]{createStreamChannelInstance()};
+            join.evaluate(inputs, outputs, createParallelExecutor(4), createOperatorContext(join));
+
+            // Verify the outcome.
+            final List<Tuple2<Tuple2<Integer, String>, Tuple2<String, Integer>>> result =
+                    outputs[0].<Tuple2<Tuple2<Integer, String>, Tuple2<String, Integer>>>provideStream()
+                            .collect(Collectors.toList());
+            assertEquals(5000, result.size());
+            for (Tuple2<Tuple2<Integer, String>, Tuple2<String, Integer>> joinTuple : result) {
+                assertEquals(joinTuple.getField0().getField0(), joinTuple.getField1().getField1());
+            }
+        }
+        // The sequential pipeline must not have been switched to parallel mode.
+        assertEquals(1, upstreamThreads.size());
+    }
+
 }
@@ -0,0 +1,128 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.java.operators;
+
+import org.apache.wayang.core.function.MapPartitionsDescriptor;
+import org.apache.wayang.core.types.DataSetType;
+import org.apache.wayang.java.channels.JavaChannelInstance;
+import org.apache.wayang.java.execution.JavaExecutor;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test suite for {@link JavaMapPartitionsOperator}.
+ */
+class JavaMapPartitionsOperatorTest extends JavaExecutionOperatorTestBase {
+
+    @Test
+    void testExecution() {
+        for (JavaExecutor executor : Arrays.asList(createExecutor(), createParallelExecutor(4))) {
+            // Build a map partitions operator that sums up each partition.
+            JavaMapPartitionsOperator<Integer, Integer> mapPartitionsOperator = new JavaMapPartitionsOperator<>(
+                    DataSetType.createDefault(Integer.class),
+                    DataSetType.createDefault(Integer.class),
+                    new MapPartitionsDescriptor<>(partition -> {
+                        int sum = 0;
+                        for (Integer dataQuantum : partition) {
+                            sum += dataQuantum;
+                        }
+                        return Collections.singletonList(sum);
+                    }, Integer.class, Integer.class)
+            );
+
+            // Execute.
+            JavaChannelInstance[] inputs = new JavaChannelInstance[]{
+                    createStreamChannelInstance(IntStream.rangeClosed(1, 100).boxed())
+            };
+            JavaChannelInstance[] outputs = new JavaChannelInstance[]{createStreamChannelInstance()};
+            mapPartitionsOperator.evaluate(inputs, outputs, executor, createOperatorContext(mapPartitionsOperator));
+
+            // Verify the outcome.
+            final List<Integer> result = outputs[0].<Integer>provideStream().collect(Collectors.toList());
+            assertEquals(5050, result.stream().mapToInt(Integer::intValue).sum());
+        }
+    }
+
+    @Test
+    void testParallelExecution() {
+        // Prepare test data.
+        List<Integer> inputList = IntStream.range(0, 10000).boxed().collect(Collectors.toList());
+        Set<Thread> upstreamThreads = ConcurrentHashMap.newKeySet();
+
+        // Build a map partitions operator that passes on the partitions and counts them.
+        AtomicInteger numPartitions = new AtomicInteger();
+        JavaMapPartitionsOperator<Integer, Integer> mapPartitionsOperator = new JavaMapPartitionsOperator<>(
+                DataSetType.createDefault(Integer.class),
+                DataSetType.createDefault(Integer.class),
+                new MapPartitionsDescriptor<>(partition -> {
+                    numPartitions.incrementAndGet();
+                    final List<Integer> dataQuanta = new ArrayList<>();
+                    partition.forEach(dataQuanta::add);
+                    return dataQuanta;
+                }, Integer.class, Integer.class)
+        );
+
+        // Execute in the multi-core mode on materialized data quanta and on a sequential pipeline.
+        for (JavaChannelInstance input : Arrays.asList(
+                createCollectionChannelInstance(inputList),
+                createStreamChannelInstance(createThreadRecordingStream(inputList, upstreamThreads)))) {
+            numPartitions.set(0);
+            JavaChannelInstance[] outputs = new JavaChannelInstance[]{createStreamChannelInstance()};
+            mapPartitionsOperator.evaluate(new JavaChannelInstance[]{input}, outputs,
+                    createParallelExecutor(4), createOperatorContext(mapPartitionsOperator));
+
+            // Verify the outcome. The partitions must be emitted in their encounter order.
+            final List<Integer> result = outputs[0].<Integer>provideStream().collect(Collectors.toList());
+            assertEquals(inputList, result);
+            assertTrue(numPartitions.get() >= 4, "Too few partitions: " + numPartitions.get());
+        }
+        // The sequential pipeline must not have been switched to parallel mode.
+        assertEquals(1, upstreamThreads.size());
+    }
+
+    @Test
+    void testParallelExecutionWithoutData() {
+        JavaMapPartitionsOperator<Integer, Integer> mapPartitionsOperator = new JavaMapPartitionsOperator<>(
+                DataSetType.createDefault(Integer.class),
+                DataSetType.createDefault(Integer.class),
+                new MapPartitionsDescriptor<>(partition -> Collections.singletonList(0), Integer.class, Integer.class)
+        );
+
+        // Execute in the multi-core mode.
+        JavaChannelInstance[] inputs = new JavaChannelInstance[]{createCollectionChannelInstance(Collections.emptyList())};
+        JavaChannelInstance[] outputs = new JavaChannelInstance[]{createStreamChannelInstance()};
+        mapPartitionsOperator.evaluate(inputs, outputs, createParallelExecutor(4), createOperatorContext(mapPartitionsOperator));
+
+        // Verify that the function has not been applied to any partition.
+        assertEquals(0, outputs[0].provideStream().count());
+    }
+
+}
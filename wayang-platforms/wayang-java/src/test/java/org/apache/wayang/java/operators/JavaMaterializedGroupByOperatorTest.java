@@ -20,15 +20,23 @@ package org.apache.wayang.java.operators;
 
 import org.apache.wayang.basic.data.Tuple2;
 import org.apache.wayang.basic.function.ProjectionDescriptor;
+import org.apache.wayang.core.platform.lineage.ExecutionLineageNode;
 import org.apache.wayang.core.types.DataSetType;
 import org.apache.wayang.core.types.DataUnitType;
 import org.apache.wayang.java.channels.JavaChannelInstance;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -75,4 +83,92 @@ class JavaMaterializedGroupByOperatorTest extends JavaExecutionOperatorTestBase
         assertEquals(expectedResults.length, result.size());
 
     }
+
+    @Test
+    void testSpillingExecution() {
+        // Prepare test data with many more groups than fit into the memory budget.
+        List<Tuple2<Integer, Integer>> inputList = IntStream.range(0, 20000)
+                .mapToObj(i -> new Tuple2<>(i % 5000, i))
+                .collect(Collectors.toList());
+
+        // Build the group operator.
+        JavaMaterializedGroupByOperator<Tuple2<Integer, Integer>, Integer> groupByOperator =
+                new JavaMaterializedGroupByOperator<>(
+                        new ProjectionDescriptor<>(
+                                DataUnitType.createBasicUnchecked(Tuple2.class),
+                                DataUnitType.createBasic(Integer.class),
+                                "field0"),
+                        DataSetType.createDefaultUnchecked(Tuple2.class),
+                        DataSetType.createGroupedUnchecked(Tuple2.class)
+                );
+
+        // Execute with a small memory budget.
+        JavaChannelInstance[] inputs = new JavaChannelInstance[]{createCollectionChannelInstance(inputList)};
+        JavaChannelInstance[] outputs = new JavaChannelInstance[]{createCollectionChannelInstance()};
+        final Collection<ExecutionLineageNode> executionLineageNodes = groupByOperator.evaluate(
+                inputs, outputs, createSpillingExecutor(10000), createOperatorContext(groupByOperator)
+        ).getField0();
+
+        // Verify the outcome.
+        final List<Iterable<Tuple2<Integer, Integer>>> result = outputs[0].<Iterable<Tuple2<Integer, Integer>>>provideStream()
+                .collect(Collectors.toList());
+        assertEquals(5000, result.size());
+        final Set<Integer> keys = new HashSet<>();
+        for (Iterable<Tuple2<Integer, Integer>> group : result) {
+            final List<Integer> values = new ArrayList<>();
+            final int key = group.iterator().next().field0;
+            for (Tuple2<Integer, Integer> dataQuantum : group) {
+                assertEquals(key, dataQuantum.field0.intValue());
+                values.add(dataQuantum.field1);
+            }
+            Collections.sort(values);
+            assertEquals(Arrays.asList(key, key + 5000, key + 10000, key + 15000), values);
+            assertTrue(keys.add(key));
+        }
+        assertTrue(executionLineageNodes.stream().anyMatch(node -> node.getSpilledBytes() > 0));
+    }
+
+    @Test
+    void testParallelExecution() {
+        // Prepare test data.
+        List<Tuple2<Integer, Integer>> inputList = IntStream.range(0, 10000)
+                .mapToObj(i -> new Tuple2<>(i % 7, i))
+                .collect(Collectors.toList());
+        Set<Thread> upstreamThreads = ConcurrentHashMap.newKeySet();
+
+        // Build the group operator.
+        JavaMaterializedGroupByOperator<Tuple2<Integer, Integer>, Integer> groupByOperator =
+                new JavaMaterializedGroupByOperator<>(
+                        new ProjectionDescriptor<>(
+                                DataUnitType.createBasicUnchecked(Tuple2.class),
+                                DataUnitType.createBasic(Integer.class),
+                                "field0"),
+                        DataSetType.createDefaultUnchecked(Tuple2.class),
+                        DataSetType.createGroupedUnchecked(Tuple2.class)
+                );
+
+        // Execute in the multi-core mode on materialized data quanta and on a sequential pipeline.
+        for (JavaChannelInstance input : Arrays.asList(
+                createCollectionChannelInstance(inputList),
+                createStreamChannelInstance(createThreadRecordingStream(inputList, upstreamThreads)))) {
+            JavaChannelInstance[] outputs = new JavaChannelInstance[]{createCollectionChannelInstance()};
+            groupByOperator.evaluate(new JavaChannelInstance[]{input}, outputs,
+                    createParallelExecutor(4), createOperatorContext(groupByOperator));
+
+            // Verify the outcome.
+            final List<Iterable<Tuple2<Integer, Integer>>> result = outputs[0].<Iterable<Tuple2<Integer, Integer>>>provideStream()
+                    .collect(Collectors.toList());
+            assertEquals(7, result.size());
+            for (Iterable<Tuple2<Integer, Integer>> group : result) {
+                final List<Integer> values = new ArrayList<>();
+                group.forEach(dataQuantum -> values.add(dataQuantum.field1));
+                final int key = values.get(0) % 7;
+                Collections.sort(values);
+                assertEquals(IntStream.range(0, 10000).filter(i -> i % 7 == key).boxed().collect(Collectors.toList()), values);
+            }
+        }
+        // The sequential pipeline must not have been switched to parallel mode.
+        assertEquals(1, upstreamThreads.size());
+    }
+
 }
@@ -18,16 +18,38 @@
 
 package org.apache.wayang.java.operators;
 
+import org.apache.parquet.filter2.predicate.FilterApi;
+import org.apache.parquet.hadoop.util.HadoopInputFile;
+import org.apache.parquet.io.api.Binary;
 import org.apache.wayang.basic.data.Record;
+import org.apache.wayang.commons.util.profiledb.instrumentation.StopWatch;
+import org.apache.wayang.commons.util.profiledb.model.Experiment;
+import org.apache.wayang.commons.util.profiledb.model.Subject;
+import org.apache.wayang.core.api.Job;
+import org.apache.wayang.core.api.exception.WayangException;
+import org.apache.wayang.core.optimizer.DefaultOptimizationContext;
+import org.apache.wayang.core.optimizer.cardinality.CardinalityEstimate;
 import org.apache.wayang.core.platform.ChannelInstance;
 import org.apache.wayang.java.channels.StreamChannel;
+import org.apache.wayang.java.execution.JavaExecutor;
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 /**
  * Test suite for {@link JavaParquetSource}.
@@ -73,6 +95,180 @@ class JavaParquetSourceTest extends JavaExecutionOperatorTestBase {
             assertEquals("carol", result.get(2).getString(0));
     }
 
+    @Test
+    void testReadWithFilter() {
+            Path parquetFile = Paths.get("src/test/resources/data.parquet").toAbsolutePath();
+            JavaParquetSource source = new JavaParquetSource(parquetFile.toUri().toString(), null);
+            source.withFilter(FilterApi.gt(FilterApi.intColumn("age"), 26));
+
+            ChannelInstance[] inputs = new ChannelInstance[0];
+            ChannelInstance[] outputs = new ChannelInstance[]{createStreamChannelInstance()};
+            evaluate(source, inputs, outputs);
+
+            List<Record> result = ((StreamChannel.Instance) outputs[0]).<Record>provideStream().toList();
+
+            assertEquals(2, result.size());
+            assertEquals("alice", result.get(0).getField(0));
+            assertEquals(30, result.get(0).getInt(1));
+            assertEquals("carol", result.get(1).getField(0));
+            assertEquals(41, result.get(1).getInt(1));
+    }
+
+    @Test
+    void testReadWithFilterOnProjectedColumn() {
+            Path parquetFile = Paths.get("src/test/resources/data.parquet").toAbsolutePath();
+            JavaParquetSource source = new JavaParquetSource(parquetFile.toUri().toString(), new String[]{"name"});
+            source.withFilter(FilterApi.eq(FilterApi.binaryColumn("name"), Binary.fromString("bob")));
+
+            ChannelInstance[] inputs = new ChannelInstance[0];
+            ChannelInstance[] outputs = new ChannelInstance[]{createStreamChannelInstance()};
+            evaluate(source, inputs, outputs);
+
+            List<Record> result = ((StreamChannel.Instance) outputs[0]).<Record>provideStream().toList();
+
+            assertEquals(1, result.size());
+            assertEquals(new Record("bob"), result.get(0));
+    }
+
+    @Test
+    void testRejectFilterOnProjectedAwayColumn() {
+            Path parquetFile = Paths.get("src/test/resources/data.parquet").toAbsolutePath();
+            JavaParquetSource source = new JavaParquetSource(parquetFile.toUri().toString(), new String[]{"name"});
+            source.withFilter(FilterApi.gt(FilterApi.intColumn("age"), 26));
+
+            ChannelInstance[] inputs = new ChannelInstance[0];
+            ChannelInstance[] outputs = new ChannelInstance[]{createStreamChannelInstance()};
+            assertThrows(WayangException.class, () -> evaluate(source, inputs, outputs));
+    }
+
+    @Test
+    void testSkipRowGroupsByStatistics() throws IOException {
+        JavaParquetSource source = createRowGroupsSource(new String[]{"id", "name"});
+        source.withFilter(FilterApi.gtEq(FilterApi.intColumn("id"), 250));
+
+        assertArrayEquals(new int[]{2, 3}, selectRowGroups(source));
+        for (JavaExecutor executor : Arrays.asList(createExecutor(), createParallelExecutor(4))) {
+            List<Record> result = read(source, executor);
+            assertEquals(150, result.size());
+            assertEquals(
+                    IntStream.range(250, 400).boxed().collect(Collectors.toList()),
+                    result.stream().map(record -> record.getInt(0)).sorted().collect(Collectors.toList())
+            );
+            assertEquals(new Record(250, "name-250"), result.stream().filter(record -> record.getInt(0) == 250).findAny().get());
+        }
+    }
+
+    @Test
+    void testFilterWithinPagesOfRowGroups() throws IOException {
+        JavaParquetSource source = createRowGroupsSource(new String[]{"id", "name"});
+        source.withFilter(FilterApi.or(
+                FilterApi.eq(FilterApi.intColumn("id"), 10),
+                FilterApi.eq(FilterApi.binaryColumn("name"), Binary.fromString("name-310"))
+        ));
+
+        // Each row group consists of several pages, of which the column indexes rule out all but one.
+        assertArrayEquals(new int[]{0, 3}, selectRowGroups(source));
+        for (JavaExecutor executor : Arrays.asList(createExecutor(), createParallelExecutor(4))) {
+            List<Record> result = read(source, executor);
+            assertEquals(
+                    Arrays.asList(new Record(10, "name-10"), new Record(310, "name-310")),
+                    result.stream().sorted(Comparator.comparingInt(record -> record.getInt(0))).collect(Collectors.toList())
+            );
+        }
+    }
+
+    @Test
+    void testFilterRulingOutAllRowGroups() throws IOException {
+        JavaParquetSource source = createRowGroupsSource(new String[]{"id"});
+        source.withFilter(FilterApi.lt(FilterApi.intColumn("id"), 0));
+
+        assertArrayEquals(new int[0], selectRowGroups(source));
+        assertEquals(0, read(source, createParallelExecutor(4)).size());
+    }
+
+    @Test
+    void testAvroFallbackWithFilter() throws IOException {
+        // The repeated "tags" column cannot be read directly, so that the file is read via Avro.
+        JavaParquetSource source = createRowGroupsSource(null);
+        source.withFilter(FilterApi.and(
+                FilterApi.gtEq(FilterApi.intColumn("id"), 195),
+                FilterApi.lt(FilterApi.intColumn("id"), 205)
+        ));
+
+        assertArrayEquals(new int[]{1, 2}, selectRowGroups(source));
+        for (JavaExecutor executor : Arrays.asList(createExecutor(), createParallelExecutor(4))) {
+            List<Record> result = read(source, executor);
+            assertEquals(
+                    IntStream.range(195, 205).boxed().collect(Collectors.toList()),
+                    result.stream().map(record -> record.getInt(0)).sorted().collect(Collectors.toList())
+            );
+            assertEquals(3, result.get(0).size());
+            assertEquals("name-" + result.get(0).getInt(0), result.get(0).getString(1));
+        }
+    }
+
+    @Test
+    void testAvroFallbackProducesSameValues() {
+        // Projecting away the repeated "tags" column lets the file be read directly; otherwise, it is read via Avro.
+        List<Record> direct = read(createRowGroupsSource(new String[]{"id", "name"}), createExecutor());
+        List<Record> avro = read(createRowGroupsSource(null), createExecutor());
+
+        assertEquals(400, direct.size());
+        assertEquals(direct.size(), avro.size());
+        for (int i = 0; i < direct.size(); i++) {
+            Record avroRecord = avro.get(i);
+            assertEquals(direct.get(i), new Record(avroRecord.getField(0), avroRecord.getField(1)));
+            assertEquals(String.class, avroRecord.getField(1).getClass());
+            ((List<?>) avroRecord.getField(2)).forEach(tag -> assertEquals(String.class, tag.getClass()));
+        }
+    }
+
+    @Test
+    void testFilteredCardinalityEstimate() {
+        JavaParquetSource source = createRowGroupsSource(null);
+        assertEquals(new CardinalityEstimate(400, 400, 1d), estimateCardinality(source));
+
+        // Only the two row groups that the filter cannot rule out contribute rows.
+        source.withFilter(FilterApi.gtEq(FilterApi.intColumn("id"), 250));
+        final CardinalityEstimate estimate = estimateCardinality(source);
+        assertEquals(200, estimate.getUpperEstimate());
+        assertTrue(estimate.getLowerEstimate() <= 150);
+
+        source.withFilter(FilterApi.gt(FilterApi.intColumn("id"), 1000));
+        assertEquals(new CardinalityEstimate(0, 0, 1d), estimateCardinality(source));
+    }
+
+    /**
+     * Creates a source for the file {@code row-groups.parquet}, which contains the rows {@code id = 0, ..., 399}
+     * in four row groups with 100 rows each and pages with 25 rows each.
+     */
+    private static JavaParquetSource createRowGroupsSource(String[] projection) {
+        Path parquetFile = Paths.get("src/test/resources/row-groups.parquet").toAbsolutePath();
+        return new JavaParquetSource(parquetFile.toUri().toString(), projection);
+    }
+
+    private static int[] selectRowGroups(JavaParquetSource source) throws IOException {
+        org.apache.hadoop.conf.Configuration conf = new org.apache.hadoop.conf.Configuration();
+        return source.selectRowGroups(HadoopInputFile.fromPath(new org.apache.hadoop.fs.Path(source.getInputUrl()), conf), conf);
+    }
+
+    private static List<Record> read(JavaParquetSource source, JavaExecutor executor) {
+        ChannelInstance[] inputs = new ChannelInstance[0];
+        ChannelInstance[] outputs = new ChannelInstance[]{createStreamChannelInstance()};
+        source.evaluate(inputs, outputs, executor, createOperatorContext(source));
+        try (Stream<Record> stream = ((StreamChannel.Instance) outputs[0]).<Record>provideStream()) {
+            return stream.collect(Collectors.toList());
+        }
+    }
+
+    private static CardinalityEstimate estimateCardinality(JavaParquetSource source) {
+        Job job = mock(Job.class);
+        DefaultOptimizationContext optimizationContext = mock(DefaultOptimizationContext.class);
+        when(optimizationContext.getJob()).thenReturn(job);
+        when(job.getStopWatch()).thenReturn(new StopWatch(new Experiment("mock", new Subject("mock", "mock"))));
+        return source.createCardinalityEstimator(0, configuration).get().estimate(optimizationContext);
+    }
+
     /* The following lines were used to create the sample Parquet file.
     We keep it here for reference, but we don't want to run it in the test suite as it adds a dependency on Hadoop and Parquet libraries and complicates the test setup.
     */
@@ -20,15 +20,20 @@ package org.apache.wayang.java.operators;
 
 import org.apache.wayang.core.types.DataSetType;
 import org.apache.wayang.java.channels.JavaChannelInstance;
+import org.apache.wayang.java.execution.JavaExecutor;
 import org.junit.jupiter.api.Test;
 
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
  * Test suite for {@link JavaRandomSampleOperator}.
@@ -113,4 +118,59 @@ class JavaRandomSampleOperatorTest extends JavaExecutionOperatorTestBase {
 
     }
 
+    @Test
+    void testOverestimatedDatasetSize() {
+        for (JavaExecutor executor : Arrays.asList(createExecutor(), createParallelExecutor(4))) {
+            JavaRandomSampleOperator<Integer> sampleOperator =
+                    new JavaRandomSampleOperator<>(
+                            iterationNumber -> 50,
+                            DataSetType.createDefaultUnchecked(Integer.class),
+                            iteration -> 42L
+                    );
+            // The actual input comprises only 10 data quanta.
+            sampleOperator.setDatasetSize(1000);
+
+            JavaChannelInstance[] inputs = new JavaChannelInstance[]{
+                    createStreamChannelInstance(IntStream.rangeClosed(1, 10).boxed())
+            };
+            JavaChannelInstance[] outputs = new JavaChannelInstance[]{createStreamChannelInstance()};
+            sampleOperator.evaluate(inputs, outputs, executor, createOperatorContext(sampleOperator));
+
+            final List<Integer> result = outputs[0].<Integer>provideStream().collect(Collectors.toList());
+            assertTrue(result.size() <= 10);
+            assertTrue(result.stream().allMatch(dataQuantum -> dataQuantum >= 1 && dataQuantum <= 10));
+            assertEquals(result.size(), result.stream().distinct().count());
+        }
+    }
+
+    @Test
+    void testParallelExecution() {
+        // Prepare test data.
+        List<Integer> inputList = IntStream.range(0, 1000).boxed().collect(Collectors.toList());
+        Set<Thread> upstreamThreads = ConcurrentHashMap.newKeySet();
+
+        // Build the sample operator.
+        JavaRandomSampleOperator<Integer> sampleOperator =
+                new JavaRandomSampleOperator<>(
+                        iterationNumber -> 50,
+                        DataSetType.createDefaultUnchecked(Integer.class),
+                        iteration -> 42L
+                );
+        sampleOperator.setDatasetSize(inputList.size());
+
+        // Execute in the multi-core mode on a sequential pipeline.
+        JavaChannelInstance[] inputs = new JavaChannelInstance[]{
+                createStreamChannelInstance(createThreadRecordingStream(inputList, upstreamThreads))
+        };
+        JavaChannelInstance[] outputs = new JavaChannelInstance[]{createStreamChannelInstance()};
+        sampleOperator.evaluate(inputs, outputs, createParallelExecutor(4), createOperatorContext(sampleOperator));
+
+        // Verify the outcome. The sample must retain the encounter order.
+        final List<Integer> result = outputs[0].<Integer>provideStream().collect(Collectors.toList());
+        assertEquals(50, result.size());
+        assertEquals(result.stream().sorted().distinct().collect(Collectors.toList()), result);
+        // The sequential pipeline must not have been switched to parallel mode.
+        assertEquals(1, upstreamThreads.size());
+    }
+
 }
@@ -21,14 +21,20 @@ package org.apache.wayang.java.operators;
 import org.apache.wayang.basic.data.Tuple2;
 import org.apache.wayang.basic.function.ProjectionDescriptor;
 import org.apache.wayang.core.function.ReduceDescriptor;
+import org.apache.wayang.core.platform.lineage.ExecutionLineageNode;
 import org.apache.wayang.core.types.DataSetType;
 import org.apache.wayang.core.types.DataUnitType;
 import org.apache.wayang.java.channels.JavaChannelInstance;
 import org.junit.jupiter.api.Test;
 
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -83,4 +89,119 @@ class JavaReduceByOperatorTest extends JavaExecutionOperatorTestBase {
         assertEquals(expectedResults.length, result.size());
 
     }
+
+    @Test
+    void testParallelExecution() {
+        // Prepare test data.
+        List<Tuple2<Integer, Integer>> inputList = IntStream.range(0, 10000)
+                .mapToObj(i -> new Tuple2<>(i % 7, 1))
+                .collect(Collectors.toList());
+
+        // Build the reduce operator.
+        JavaReduceByOperator<Tuple2<Integer, Integer>, Integer> reduceByOperator =
+                new JavaReduceByOperator<>(
+                        DataSetType.createDefaultUnchecked(Tuple2.class),
+                        new ProjectionDescriptor<>(
+                                DataUnitType.createBasicUnchecked(Tuple2.class),
+                                DataUnitType.createBasic(Integer.class),
+                                "field0"),
+                        new ReduceDescriptor<>(
+                                (a, b) -> new Tuple2<>(a.field0, a.field1 + b.field1),
+                                DataUnitType.createGroupedUnchecked(Tuple2.class),
+                                DataUnitType.createBasicUnchecked(Tuple2.class)
+                        ));
+
+        JavaChannelInstance[] inputs = new JavaChannelInstance[]{createCollectionChannelInstance(inputList)};
+        JavaChannelInstance[] outputs = new JavaChannelInstance[]{createCollectionChannelInstance()};
+
+        // Execute the reduce operator in the multi-core mode.
+        reduceByOperator.evaluate(inputs, outputs, createParallelExecutor(4), createOperatorContext(reduceByOperator));
+
+        // Verify the outcome.
+        final Map<Integer, Integer> result = outputs[0].<Tuple2<Integer, Integer>>provideStream()
+                .collect(Collectors.toMap(Tuple2::getField0, Tuple2::getField1));
+        assertEquals(7, result.size());
+        for (int key = 0; key < 7; key++) {
+            assertEquals((10000 - key + 6) / 7, result.get(key).intValue());
+        }
+    }
+
+    @Test
+    void testSpillingExecution() {
+        // Prepare test data with many more keys than fit into the memory budget.
+        List<Tuple2<Integer, Integer>> inputList = IntStream.range(0, 20000)
+                .mapToObj(i -> new Tuple2<>(i % 5000, 1))
+                .collect(Collectors.toList());
+
+        // Build the reduce operator.
+        JavaReduceByOperator<Tuple2<Integer, Integer>, Integer> reduceByOperator =
+                new JavaReduceByOperator<>(
+                        DataSetType.createDefaultUnchecked(Tuple2.class),
+                        new ProjectionDescriptor<>(
+                                DataUnitType.createBasicUnchecked(Tuple2.class),
+                                DataUnitType.createBasic(Integer.class),
+                                "field0"),
+                        new ReduceDescriptor<>(
+                                (a, b) -> new Tuple2<>(a.field0, a.field1 + b.field1),
+                                DataUnitType.createGroupedUnchecked(Tuple2.class),
+                                DataUnitType.createBasicUnchecked(Tuple2.class)
+                        ));
+
+        JavaChannelInstance[] inputs = new JavaChannelInstance[]{createCollectionChannelInstance(inputList)};
+        JavaChannelInstance[] outputs = new JavaChannelInstance[]{createCollectionChannelInstance()};
+
+        // Execute the reduce operator with a small memory budget.
+        final Collection<ExecutionLineageNode> executionLineageNodes = reduceByOperator.evaluate(
+                inputs, outputs, createSpillingExecutor(10000), createOperatorContext(reduceByOperator)
+        ).getField0();
+
+        // Verify the outcome.
+        final Map<Integer, Integer> result = outputs[0].<Tuple2<Integer, Integer>>provideStream()
+                .collect(Collectors.toMap(Tuple2::getField0, Tuple2::getField1));
+        assertEquals(5000, result.size());
+        result.values().forEach(count -> assertEquals(4, count.intValue()));
+        assertTrue(executionLineageNodes.stream().anyMatch(node -> node.getSpilledBytes() > 0));
+    }
+
+    @Test
+    void testParallelExecutionOnSequentialPipeline() {
+        // Prepare test data as a lazy, sequential pipeline.
+        List<Tuple2<Integer, Integer>> inputList = IntStream.range(0, 10000)
+                .mapToObj(i -> new Tuple2<>(i % 7, 1))
+                .collect(Collectors.toList());
+        Set<Thread> upstreamThreads = ConcurrentHashMap.newKeySet();
+
+        // Build the reduce operator.
+        JavaReduceByOperator<Tuple2<Integer, Integer>, Integer> reduceByOperator =
+                new JavaReduceByOperator<>(
+                        DataSetType.createDefaultUnchecked(Tuple2.class),
+                        new ProjectionDescriptor<>(
+                                DataUnitType.createBasicUnchecked(Tuple2.class),
+                                DataUnitType.createBasic(Integer.class),
+                                "field0"),
+                        new ReduceDescriptor<>(
+                                (a, b) -> new Tuple2<>(a.field0, a.field1 + b.field1),
+                                DataUnitType.createGroupedUnchecked(Tuple2.class),
+                                DataUnitType.createBasicUnchecked(Tuple2.class)
+                        ));
+
+        JavaChannelInstance[] inputs = new JavaChannelInstance[]{
+                createStreamChannelInstance(createThreadRecordingStream(inputList, upstreamThreads))
+        };
+        JavaChannelInstance[] outputs = new JavaChannelInstance[]{createCollectionChannelInstance()};
+
+        // Execute the reduce operator in the multi-core mode.
+        reduceByOperator.evaluate(inputs, outputs, createParallelExecutor(4), createOperatorContext(reduceByOperator));
+
+        // Verify the outcome.
+        final Map<Integer, Integer> result = outputs[0].<Tuple2<Integer, Integer>>provideStream()
+                .collect(Collectors.toMap(Tuple2::getField0, Tuple2::getField1));
+        assertEquals(7, result.size());
+        for (int key = 0; key < 7; key++) {
+            assertEquals((10000 - key + 6) / 7, result.get(key).intValue());
+        }
+        // The sequential pipeline must not have been switched to parallel mode.
+        assertEquals(1, upstreamThreads.size());
+    }
+
 }
@@ -23,9 +23,15 @@ import org.apache.wayang.core.types.DataSetType;
 import org.apache.wayang.java.channels.JavaChannelInstance;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -60,4 +66,84 @@ class JavaSortOperatorTest extends JavaExecutionOperatorTestBase {
 
     }
 
+    @Test
+    void testParallelExecution() {
+        // Prepare test data.
+        List<Integer> expectedResult = IntStream.range(0, 10000).boxed().collect(Collectors.toList());
+        List<Integer> inputList = new ArrayList<>(expectedResult);
+        Collections.shuffle(inputList, new Random(42));
+
+        // Build the sort operator.
+        JavaSortOperator<Integer, Integer> sortOperator =
+                new JavaSortOperator<>(new TransformationDescriptor<Integer, Integer>(
+                        r->r,
+                        Integer.class, Integer.class),
+                        DataSetType.createDefaultUnchecked(Integer.class)
+                );
+
+        // Execute in the multi-core mode.
+        JavaChannelInstance[] inputs = new JavaChannelInstance[]{createCollectionChannelInstance(inputList)};
+        JavaChannelInstance[] outputs = new JavaChannelInstance[]{createStreamChannelInstance()};
+        sortOperator.evaluate(inputs, outputs, createParallelExecutor(4), createOperatorContext(sortOperator));
+
+        // Verify the outcome.
+        final List<Integer> result = outputs[0].<Integer>provideStream(true).collect(Collectors.toList());
+        assertEquals(expectedResult, result);
+    }
+
+    @Test
+    void testSpillingExecution() {
+        // Prepare test data.
+        List<Integer> expectedResult = IntStream.range(0, 10000).boxed().collect(Collectors.toList());
+        List<Integer> inputList = new ArrayList<>(expectedResult);
+        Collections.shuffle(inputList, new Random(42));
+
+        // Build the sort operator.
+        JavaSortOperator<Integer, Integer> sortOperator =
+                new JavaSortOperator<>(new TransformationDescriptor<Integer, Integer>(
+                        r->r,
+                        Integer.class, Integer.class),
+                        DataSetType.createDefaultUnchecked(Integer.class)
+                );
+
+        // Execute with a memory budget that requires several runs and merge passes.
+        JavaChannelInstance[] inputs = new JavaChannelInstance[]{createCollectionChannelInstance(inputList)};
+        JavaChannelInstance[] outputs = new JavaChannelInstance[]{createStreamChannelInstance()};
+        sortOperator.evaluate(inputs, outputs, createSpillingExecutor(10000), createOperatorContext(sortOperator));
+
+        // Verify the outcome.
+        final List<Integer> result = outputs[0].<Integer>provideStream().collect(Collectors.toList());
+        assertEquals(expectedResult, result);
+    }
+
+    @Test
+    void testParallelExecutionOnSequentialPipeline() {
+        // Prepare test data as a lazy, sequential pipeline.
+        List<Integer> expectedResult = IntStream.range(0, 10000).boxed().collect(Collectors.toList());
+        List<Integer> inputList = new ArrayList<>(expectedResult);
+        Collections.shuffle(inputList, new Random(42));
+        Set<Thread> upstreamThreads = ConcurrentHashMap.newKeySet();
+
+        // Build the sort operator.
+        JavaSortOperator<Integer, Integer> sortOperator =
+                new JavaSortOperator<>(new TransformationDescriptor<Integer, Integer>(
+                        r->r,
+                        Integer.class, Integer.class),
+                        DataSetType.createDefaultUnchecked(Integer.class)
+                );
+
+        // Execute in the multi-core mode.
+        JavaChannelInstance[] inputs = new JavaChannelInstance[]{
+                createStreamChannelInstance(createThreadRecordingStream(inputList, upstreamThreads))
+        };
+        JavaChannelInstance[] outputs = new JavaChannelInstance[]{createStreamChannelInstance()};
+        sortOperator.evaluate(inputs, outputs, createParallelExecutor(4), createOperatorContext(sortOperator));
+
+        // Verify the outcome.
+        final List<Integer> result = outputs[0].<Integer>provideStream().collect(Collectors.toList());
+        assertEquals(expectedResult, result);
+        // The sequential pipeline must not have been switched to parallel mode.
+        assertEquals(1, upstreamThreads.size());
+    }
+
 }
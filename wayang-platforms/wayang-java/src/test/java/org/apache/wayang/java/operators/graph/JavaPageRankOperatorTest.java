@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.wayang.java.operators.graph;
+
+import org.apache.wayang.basic.data.Tuple2;
+import org.apache.wayang.core.platform.ChannelInstance;
+import org.apache.wayang.java.channels.JavaChannelInstance;
+import org.apache.wayang.java.execution.JavaExecutor;
+import org.apache.wayang.java.operators.JavaExecutionOperatorTestBase;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Test suite for {@link JavaPageRankOperator}.
+ */
+class JavaPageRankOperatorTest extends JavaExecutionOperatorTestBase {
+
+    private static Map<Long, Float> runPageRank(List<Tuple2<Long, Long>> edges, int numIterations, JavaExecutor executor) {
+        final JavaPageRankOperator pageRankOperator = new JavaPageRankOperator(numIterations);
+        final ChannelInstance[] inputs = new ChannelInstance[]{createCollectionChannelInstance(edges)};
+        final ChannelInstance[] outputs = new ChannelInstance[]{createStreamChannelInstance()};
+        pageRankOperator.evaluate(inputs, outputs, executor, createOperatorContext(pageRankOperator));
+        return ((JavaChannelInstance) outputs[0]).<Tuple2<Long, Float>>provideStream()
+                .collect(Collectors.toMap(Tuple2::getField0, Tuple2::getField1));
+    }
+
+    @Test
+    void testExecution() {
+        // Vertex 30 has only incoming edges and must nevertheless be ranked.
+        final List<Tuple2<Long, Long>> edges = Arrays.asList(
+                new Tuple2<>(10L, 20L),
+                new Tuple2<>(20L, 30L)
+        );
+
+        final Map<Long, Float> pageRanks = runPageRank(edges, 1, createExecutor());
+
+        assertEquals(3, pageRanks.size());
+        assertEquals(0.05f, pageRanks.get(10L), 0.0001f);
+        assertEquals(0.05f + 0.85f / 3, pageRanks.get(20L), 0.0001f);
+        assertEquals(0.05f + 0.85f / 3, pageRanks.get(30L), 0.0001f);
+    }
+
+    @Test
+    void testParallelExecution() {
+        final Random random = new Random(42);
+        final List<Tuple2<Long, Long>> edges = new ArrayList<>();
+        for (int i = 0; i < 10000; i++) {
+            edges.add(new Tuple2<>((long) random.nextInt(1000) * 7919, (long) random.nextInt(1000) * 7919));
+        }
+
+        final Map<Long, Float> sequentialPageRanks = runPageRank(edges, 10, createExecutor());
+        final Map<Long, Float> parallelPageRanks = runPageRank(edges, 10, createParallelExecutor(4));
+
+        assertEquals(sequentialPageRanks.keySet(), parallelPageRanks.keySet());
+        sequentialPageRanks.forEach((vertex, pageRank) ->
+                assertEquals(pageRank, parallelPageRanks.get(vertex), 0.000001f)
+        );
+    }
+
+}
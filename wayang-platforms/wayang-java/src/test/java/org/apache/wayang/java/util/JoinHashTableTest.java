@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.wayang.java.util;
+
+import org.apache.wayang.core.api.exception.WayangException;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Test suite for {@link JoinHashTable}.
+ */
+class JoinHashTableTest {
+
+    @Test
+    void testPrimitiveKeys() {
+        // Deliberately underestimate the number of elements to provoke growing.
+        JoinHashTable<Integer, String> hashTable = new JoinHashTable<>(1);
+        for (int i = 0; i < 1000; i++) {
+            hashTable.put(i % 100, "v" + i);
+        }
+
+        assertEquals(1000, hashTable.size());
+        assertEquals(100, hashTable.getNumKeys());
+        assertEquals(Arrays.asList("v42", "v142", "v242", "v342", "v442", "v542", "v642", "v742", "v842", "v942"),
+                collectMatches(hashTable, 42));
+        assertEquals(Collections.emptyList(), collectMatches(hashTable, 100));
+        assertEquals(Collections.emptyList(), collectMatches(hashTable, null));
+    }
+
+    @Test
+    void testGrowCapacity() {
+        assertEquals(16, JoinHashTable.growCapacity(10));
+        // Growing must neither overflow nor exceed the maximum array size.
+        assertEquals(JoinHashTable.MAX_VALUES, JoinHashTable.growCapacity(Integer.MAX_VALUE / 3 * 2));
+        assertEquals(JoinHashTable.MAX_VALUES, JoinHashTable.growCapacity(JoinHashTable.MAX_VALUES - 1));
+        assertThrows(WayangException.class, () -> JoinHashTable.growCapacity(JoinHashTable.MAX_VALUES));
+    }
+
+    @Test
+    void testMixedKeys() {
+        JoinHashTable<Object, String> hashTable = new JoinHashTable<>(10);
+        hashTable.put(1, "a");
+        hashTable.put(1L, "b");
+        hashTable.put("1", "c");
+        hashTable.put(null, "d");
+        hashTable.put(1, "e");
+
+        assertEquals(4, hashTable.getNumKeys());
+        assertEquals(Arrays.asList("a", "e"), collectMatches(hashTable, 1));
+        assertEquals(Collections.singletonList("b"), collectMatches(hashTable, 1L));
+        assertEquals(Collections.singletonList("c"), collectMatches(hashTable, "1"));
+        assertEquals(Collections.singletonList("d"), collectMatches(hashTable, null));
+        assertEquals(Collections.emptyList(), collectMatches(hashTable, 2));
+    }
+
+    private static <K, V> List<V> collectMatches(JoinHashTable<K, V> hashTable, K key) {
+        List<V> matches = new ArrayList<>();
+        hashTable.forEachMatch(key, matches::add);
+        return matches;
+    }
+
+}
@@ -66,6 +66,11 @@ public class SqlQueryChannel extends Channel {
 
         private String jdbcName = null;
 
+        /**
+         * Whether the result of the {@link #sqlQuery} may be read in several disjoint parts, i.e., it has no order.
+         */
+        private boolean isSplittable = false;
+
         /**
          * Creates a new instance and registers it with its {@link Executor}.
          *
@@ -99,6 +104,14 @@ public class SqlQueryChannel extends Channel {
         public void setJdbcName(String jdbcName) {this.jdbcName = jdbcName;}
 
         public String getJdbcName(){ return this.jdbcName;}
+
+        public void setSplittable(boolean isSplittable) {
+            this.isSplittable = isSplittable;
+        }
+
+        public boolean isSplittable() {
+            return this.isSplittable;
+        }
     }
 
     /**
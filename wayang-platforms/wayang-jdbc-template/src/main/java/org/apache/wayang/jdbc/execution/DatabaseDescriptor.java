@@ -20,16 +20,26 @@ package org.apache.wayang.jdbc.execution;
 
 import org.apache.wayang.core.api.exception.WayangException;
 
+import java.io.Serializable;
 import java.sql.Connection;
 import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
 
 /**
  * This class describes a database.
  */
-public class DatabaseDescriptor {
+public class DatabaseDescriptor implements Serializable {
 
     private final String jdbcUrl, user, password, jdbcDriverClassName;
 
+    /**
+     * Number of rows to fetch per round trip when streaming query results; non-positive values leave the
+     * decision to the JDBC driver.
+     */
+    private final int fetchSize;
+
     /**
      * Creates a new instance.
      *
@@ -40,10 +50,26 @@ public class DatabaseDescriptor {
      *                            required for {@link #createJdbcConnection()}
      */
     public DatabaseDescriptor(String jdbcUrl, String user, String password, String jdbcDriverClassName) {
+        this(jdbcUrl, user, password, jdbcDriverClassName, 0);
+    }
+
+    /**
+     * Creates a new instance.
+     *
+     * @param jdbcUrl             JDBC URL to the database
+     * @param user                <i>optional</i> user name or {@code null}
+     * @param password            <i>optional</i> password or {@code null}
+     * @param jdbcDriverClassName name of the JDBC driver {@link Class} to access the database;
+     *                            required for {@link #createJdbcConnection()}
+     * @param fetchSize           number of rows to fetch per round trip in {@link #prepareStreamingStatement(Connection, String)};
+     *                            non-positive values leave the decision to the JDBC driver
+     */
+    public DatabaseDescriptor(String jdbcUrl, String user, String password, String jdbcDriverClassName, int fetchSize) {
         this.jdbcUrl = jdbcUrl;
         this.user = user;
         this.password = password;
         this.jdbcDriverClassName = jdbcDriverClassName;
+        this.fetchSize = fetchSize;
     }
 
     /**
@@ -66,4 +92,57 @@ public class DatabaseDescriptor {
             ), e);
         }
     }
+
+    /**
+     * Prepares a SQL query on the given {@link Connection}, such that its {@link ResultSet} is streamed rather than
+     * buffered on the client, as far as the database dialect (as told by the JDBC URL) permits that:
+     * <ul>
+     * <li>PostgreSQL (and Redshift) only use cursors outside of auto-commit mode, so the latter is disabled.</li>
+     * <li>MySQL and MariaDB stream row by row only with a fetch size of {@link Integer#MIN_VALUE}.</li>
+     * <li>Any other driver is just given the fetch size.</li>
+     * </ul>
+     *
+     * @param connection on which the query should be prepared; should not be shared with other readers
+     * @param sqlQuery   the SQL query
+     * @return the {@link PreparedStatement}
+     * @throws SQLException if the {@link PreparedStatement} could not be created
+     */
+    public PreparedStatement prepareStreamingStatement(Connection connection, String sqlQuery) throws SQLException {
+        final PreparedStatement statement = connection.prepareStatement(
+                sqlQuery, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY
+        );
+        if (this.fetchSize <= 0) return statement;
+
+        if (this.isDialect("postgresql") || this.isDialect("redshift")) {
+            connection.setAutoCommit(false);
+            statement.setFetchSize(this.fetchSize);
+        } else if (this.isDialect("mysql") || this.isDialect("mariadb")) {
+            statement.setFetchSize(Integer.MIN_VALUE);
+        } else {
+            statement.setFetchSize(this.fetchSize);
+        }
+        return statement;
+    }
+
+    /**
+     * Checks whether the JDBC URL of this instance addresses the given subprotocol.
+     *
+     * @param subprotocol the JDBC subprotocol, e.g., {@code postgresql}
+     * @return whether the subprotocol matches
+     */
+    private boolean isDialect(String subprotocol) {
+        return this.jdbcUrl != null && this.jdbcUrl.startsWith("jdbc:" + subprotocol + ":");
+    }
+
+    public String getUser() {
+        return this.user;
+    }
+
+    public String getJdbcUrl() {
+        return this.jdbcUrl;
+    }
+
+    public int getFetchSize() {
+        return this.fetchSize;
+    }
 }
@@ -0,0 +1,593 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.jdbc.execution;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.wayang.core.api.Configuration;
+import org.apache.wayang.core.api.exception.WayangException;
+import org.apache.wayang.core.platform.CrossPlatformExecutor;
+import org.apache.wayang.core.platform.ExecutionResource;
+import org.apache.wayang.core.util.AbstractReferenceCountable;
+import org.apache.wayang.core.util.Formats;
+import org.apache.wayang.jdbc.platform.JdbcPlatformTemplate;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+/**
+ * Bounded pool of {@link Connection}s to the database of a {@link DatabaseDescriptor}. Closing a pooled
+ * {@link Connection} returns it to the pool. Pooled {@link Connection}s also keep their {@link PreparedStatement}s
+ * around, so that queries that are repeated (e.g., in loops) are prepared only once.
+ * <p>The pool is shared by all {@link org.apache.wayang.core.platform.Executor}s of a job and released along with
+ * the {@link CrossPlatformExecutor}. With {@code wayang.<platform>.jdbc.pool.scope = context}, it is instead shared
+ * by all concurrently running jobs of a {@link org.apache.wayang.core.api.WayangContext}. Every such job holds a
+ * reference on the pool, and the pool is closed as soon as the last of them is released.</p>
+ * <p>If all {@link Connection}s are in use for longer than {@code wayang.<platform>.jdbc.pool.timeout} milliseconds,
+ * a transient {@link Connection} is opened rather than blocking any further.</p>
+ */
+public class JdbcConnectionPool extends AbstractReferenceCountable implements ExecutionResource {
+
+    private static final Logger logger = LogManager.getLogger(JdbcConnectionPool.class);
+
+    /**
+     * Maintains the pools by their scope (i.e., a {@link CrossPlatformExecutor} or a {@link Configuration}) and
+     * database.
+     */
+    private static final Map<Object, Map<String, JdbcConnectionPool>> pools = new WeakHashMap<>();
+
+    private final DatabaseDescriptor databaseDescriptor;
+
+    /**
+     * Maximum number of pooled {@link Connection}s.
+     */
+    private final int maxSize;
+
+    /**
+     * Maximum milliseconds to wait for a pooled {@link Connection}.
+     */
+    private final long timeoutMillis;
+
+    /**
+     * Maximum number of cached {@link PreparedStatement}s per {@link Connection}.
+     */
+    private final int statementCacheSize;
+
+    /**
+     * Unused pooled {@link Connection}s.
+     */
+    private final Deque<PooledConnection> idleConnections = new ArrayDeque<>();
+
+    /**
+     * Number of pooled {@link Connection}s, whether in use or not.
+     */
+    private int numConnections = 0;
+
+    private boolean isClosed = false;
+
+    /**
+     * {@link CrossPlatformExecutor}s that currently hold a reference on this instance if it is context-scoped.
+     */
+    private final Set<CrossPlatformExecutor> lessees = new HashSet<>(2);
+
+    private long numBorrowings = 0, numTransientConnections = 0, totalWaitNanos = 0, maxWaitNanos = 0;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param databaseDescriptor describes the database
+     * @param maxSize            maximum number of pooled {@link Connection}s; {@code 0} disables pooling
+     * @param timeoutMillis      maximum milliseconds to wait for a pooled {@link Connection}
+     * @param statementCacheSize maximum number of cached {@link PreparedStatement}s per {@link Connection}
+     */
+    public JdbcConnectionPool(DatabaseDescriptor databaseDescriptor, int maxSize, long timeoutMillis, int statementCacheSize) {
+        this.databaseDescriptor = databaseDescriptor;
+        this.maxSize = maxSize;
+        this.timeoutMillis = timeoutMillis;
+        this.statementCacheSize = statementCacheSize;
+    }
+
+    /**
+     * Retrieves the pool for the given database within the scope configured for the {@link JdbcPlatformTemplate}
+     * or creates it.
+     *
+     * @param jdbcPlatform          whose configuration keys should be used
+     * @param databaseDescriptor    describes the database
+     * @param crossPlatformExecutor executes the current job
+     * @return the {@link JdbcConnectionPool}
+     */
+    public static JdbcConnectionPool getOrCreate(JdbcPlatformTemplate jdbcPlatform,
+                                                 DatabaseDescriptor databaseDescriptor,
+                                                 CrossPlatformExecutor crossPlatformExecutor) {
+        final Configuration configuration = crossPlatformExecutor.getConfiguration();
+        final String scopeName = configuration.getStringProperty(jdbcPlatform.jdbcPoolScopeProperty, "job");
+        final Object scope;
+        switch (scopeName.trim().toLowerCase(Locale.ROOT)) {
+            case "job":
+                scope = crossPlatformExecutor;
+                break;
+            case "context":
+                scope = configuration.getParent() == null ? configuration : configuration.getParent();
+                break;
+            default:
+                throw new WayangException(String.format("Unknown pool scope \"%s\" for %s.", scopeName, jdbcPlatform));
+        }
+
+        final String key = databaseDescriptor.getJdbcUrl() + '|' + databaseDescriptor.getUser();
+        final JdbcConnectionPool pool;
+        final ExecutionResource resource;
+        synchronized (pools) {
+            final Map<String, JdbcConnectionPool> scopedPools = pools.computeIfAbsent(scope, s -> new HashMap<>(2));
+            final JdbcConnectionPool existingPool = scopedPools.get(key);
+            if (existingPool != null && !existingPool.isClosed()) {
+                pool = existingPool;
+            } else {
+                pool = new JdbcConnectionPool(
+                        databaseDescriptor,
+                        (int) configuration.getLongProperty(jdbcPlatform.jdbcPoolSizeProperty, 4),
+                        configuration.getLongProperty(jdbcPlatform.jdbcPoolTimeoutProperty, 1000),
+                        (int) configuration.getLongProperty(jdbcPlatform.jdbcStatementCacheSizeProperty, 32)
+                );
+                scopedPools.put(key, pool);
+            }
+            if (scope == crossPlatformExecutor) {
+                resource = pool == existingPool ? null : pool;
+            } else {
+                // Obtain the reference while holding the lock, so that the pool cannot be closed in the meantime.
+                resource = pool.lease(crossPlatformExecutor);
+            }
+        }
+        if (resource != null) {
+            // Have the pool (or the job's reference on it) released along with the job. Must not happen while
+            // holding the lock on the pools, because the CrossPlatformExecutor might in turn dispose pools while
+            // holding its own lock.
+            crossPlatformExecutor.registerGlobal(resource);
+        }
+        return pool;
+    }
+
+    /**
+     * Lets the given {@link CrossPlatformExecutor} obtain a reference on this instance unless it already has one.
+     * Must be called while holding the lock on the {@link #pools}.
+     *
+     * @param crossPlatformExecutor that wants to use this instance
+     * @return an {@link ExecutionResource} that discards the reference once it is disposed or {@code null} if the
+     * {@link CrossPlatformExecutor} already holds a reference
+     */
+    private ExecutionResource lease(CrossPlatformExecutor crossPlatformExecutor) {
+        if (!this.lessees.add(crossPlatformExecutor)) return null;
+        this.noteObtainedReference();
+        return new Lease(crossPlatformExecutor);
+    }
+
+    /**
+     * Discards the reference of the given {@link CrossPlatformExecutor} and closes this instance if it is not
+     * referenced anymore.
+     *
+     * @param crossPlatformExecutor that does not use this instance anymore
+     */
+    private void releaseLease(CrossPlatformExecutor crossPlatformExecutor) {
+        final boolean isUnreferenced;
+        synchronized (pools) {
+            if (!this.lessees.remove(crossPlatformExecutor)) return;
+            this.noteDiscardedReference(false);
+            isUnreferenced = this.getNumReferences() == 0;
+            if (isUnreferenced) {
+                // Make sure that no other job picks up this instance while it is being closed.
+                this.unregister();
+            }
+        }
+        if (isUnreferenced) this.disposeIfUnreferenced();
+    }
+
+    /**
+     * Removes this instance from the {@link #pools}. Must be called while holding the lock on the latter.
+     */
+    private void unregister() {
+        for (Iterator<Map<String, JdbcConnectionPool>> iterator = pools.values().iterator(); iterator.hasNext(); ) {
+            final Map<String, JdbcConnectionPool> scopedPools = iterator.next();
+            scopedPools.values().remove(this);
+            if (scopedPools.isEmpty()) iterator.remove();
+        }
+    }
+
+    /**
+     * Provides a {@link Connection}, which should be closed once it is not needed anymore.
+     *
+     * @return the {@link Connection}
+     */
+    public Connection getConnection() {
+        final PooledConnection pooledConnection;
+        synchronized (this) {
+            if (this.isClosed) {
+                throw new WayangException(String.format("%s has already been closed.", this));
+            }
+            this.numBorrowings++;
+            final long startNanos = System.nanoTime();
+            final long deadlineNanos = startNanos + this.timeoutMillis * 1_000_000L;
+            while (this.idleConnections.isEmpty() && this.numConnections >= this.maxSize) {
+                final long remainingMillis = (deadlineNanos - System.nanoTime()) / 1_000_000L;
+                if (remainingMillis <= 0) break;
+                try {
+                    this.wait(remainingMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new WayangException("Interrupted while waiting for a JDBC connection.", e);
+                }
+            }
+            final long waitNanos = System.nanoTime() - startNanos;
+            this.totalWaitNanos += waitNanos;
+            this.maxWaitNanos = Math.max(this.maxWaitNanos, waitNanos);
+
+            if (!this.idleConnections.isEmpty()) {
+                pooledConnection = this.idleConnections.pop();
+            } else if (this.numConnections < this.maxSize) {
+                this.numConnections++;
+                pooledConnection = null;
+            } else {
+                this.numTransientConnections++;
+                if (this.maxSize > 0) {
+                    logger.warn("All {} connections of {} are in use. Opening a transient connection.", this.maxSize, this);
+                }
+                return this.databaseDescriptor.createJdbcConnection();
+            }
+        }
+
+        if (pooledConnection != null) return pooledConnection.borrow();
+
+        // Open a new pooled connection outside of the monitor.
+        try {
+            return new PooledConnection(this.databaseDescriptor.createJdbcConnection()).borrow();
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                this.numConnections--;
+                this.notifyAll();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Takes back a {@link PooledConnection} that is no longer used.
+     */
+    private void release(PooledConnection pooledConnection) {
+        boolean isReusable;
+        try {
+            isReusable = pooledConnection.reset();
+        } catch (SQLException e) {
+            logger.warn("Could not reset pooled JDBC connection. Discarding it.", e);
+            isReusable = false;
+        }
+        synchronized (this) {
+            if (isReusable && !this.isClosed) {
+                this.idleConnections.push(pooledConnection);
+            } else {
+                this.numConnections--;
+                pooledConnection.closePhysically();
+            }
+            this.notifyAll();
+        }
+    }
+
+    @Override
+    protected void disposeUnreferenced() {
+        this.dispose();
+    }
+
+    @Override
+    public void dispose() {
+        synchronized (pools) {
+            this.unregister();
+        }
+        synchronized (this) {
+            if (this.isClosed) return;
+            this.isClosed = true;
+            for (PooledConnection pooledConnection : this.idleConnections) {
+                this.numConnections--;
+                pooledConnection.closePhysically();
+            }
+            this.idleConnections.clear();
+            this.notifyAll();
+        }
+        logger.info("{} handed out {} connections (waited {} in total, at most {}) and opened {} transient connections.",
+                this, this.numBorrowings,
+                Formats.formatDuration(this.getTotalWaitMillis(), true),
+                Formats.formatDuration(this.getMaxWaitMillis(), true),
+                this.numTransientConnections);
+    }
+
+    /**
+     * @return whether this instance does not hand out {@link Connection}s anymore
+     */
+    public synchronized boolean isClosed() {
+        return this.isClosed;
+    }
+
+    /**
+     * @return how often a {@link Connection} has been requested
+     */
+    public synchronized long getNumBorrowings() {
+        return this.numBorrowings;
+    }
+
+    /**
+     * @return how often a transient {@link Connection} has been opened, because the pool was exhausted
+     */
+    public synchronized long getNumTransientConnections() {
+        return this.numTransientConnections;
+    }
+
+    /**
+     * @return the milliseconds that {@link #getConnection()} waited for a pooled {@link Connection} in total
+     */
+    public synchronized long getTotalWaitMillis() {
+        return this.totalWaitNanos / 1_000_000L;
+    }
+
+    /**
+     * @return the maximum milliseconds that a single {@link #getConnection()} waited for a pooled {@link Connection}
+     */
+    public synchronized long getMaxWaitMillis() {
+        return this.maxWaitNanos / 1_000_000L;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s[%s]", this.getClass().getSimpleName(), this.databaseDescriptor.getJdbcUrl());
+    }
+
+    /**
+     * Unwraps the {@link InvocationTargetException} of a reflective delegation.
+     */
+    private static Object invokeDelegate(Object delegate, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(delegate, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Represents the reference of a {@link CrossPlatformExecutor} on a context-scoped {@link JdbcConnectionPool}.
+     */
+    private class Lease extends AbstractReferenceCountable implements ExecutionResource {
+
+        private final CrossPlatformExecutor crossPlatformExecutor;
+
+        private Lease(CrossPlatformExecutor crossPlatformExecutor) {
+            this.crossPlatformExecutor = crossPlatformExecutor;
+        }
+
+        @Override
+        protected void disposeUnreferenced() {
+            this.dispose();
+        }
+
+        @Override
+        public void dispose() {
+            JdbcConnectionPool.this.releaseLease(this.crossPlatformExecutor);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s[%s]", this.getClass().getSimpleName(), JdbcConnectionPool.this);
+        }
+    }
+
+    /**
+     * Wraps a physical {@link Connection} of this pool. Borrowers get a {@link Connection} proxy that returns it to
+     * the pool on {@link Connection#close()} and serves {@link PreparedStatement}s from a cache.
+     */
+    private class PooledConnection implements InvocationHandler {
+
+        private final Connection connection;
+
+        /**
+         * Caches {@link PreparedStatement}s by their SQL and result set settings in LRU order.
+         */
+        private final Map<String, PreparedStatement> statementCache = new LinkedHashMap<String, PreparedStatement>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, PreparedStatement> eldest) {
+                if (this.size() > JdbcConnectionPool.this.statementCacheSize && !usedStatements.contains(eldest.getKey())) {
+                    closeQuietly(eldest.getValue());
+                    return true;
+                }
+                return false;
+            }
+        };
+
+        /**
+         * Keys of cached {@link PreparedStatement}s that are currently handed out.
+         */
+        private final Set<String> usedStatements = new HashSet<>();
+
+        /**
+         * Statements that are not cached and that should be closed along with the current borrowing.
+         */
+        private final Set<PreparedStatement> uncachedStatements = new HashSet<>();
+
+        private boolean isBorrowed = false;
+
+        /**
+         * The {@link Connection} proxy handed out to the current borrower.
+         */
+        private Connection borrowedConnection;
+
+        private PooledConnection(Connection connection) {
+            this.connection = connection;
+        }
+
+        /**
+         * Hand out this instance.
+         *
+         * @return a {@link Connection} proxy for the borrower
+         */
+        private Connection borrow() {
+            this.isBorrowed = true;
+            this.borrowedConnection = (Connection) Proxy.newProxyInstance(
+                    Connection.class.getClassLoader(),
+                    new Class<?>[]{Connection.class},
+                    this
+            );
+            return this.borrowedConnection;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close":
+                    if (this.isBorrowed) {
+                        this.isBorrowed = false;
+                        JdbcConnectionPool.this.release(this);
+                    }
+                    return null;
+                case "isClosed":
+                    return !this.isBorrowed || this.connection.isClosed();
+                case "prepareStatement":
+                    if (!this.isBorrowed) throw new SQLException("Connection has been returned to the pool.");
+                    if (args.length == 1) {
+                        return this.prepareStatement((String) args[0], ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                    } else if (args.length == 3 && args[1] instanceof Integer && args[2] instanceof Integer) {
+                        return this.prepareStatement((String) args[0], (Integer) args[1], (Integer) args[2]);
+                    }
+                    break;
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "Pooled" + this.connection;
+            }
+            if (!this.isBorrowed) throw new SQLException("Connection has been returned to the pool.");
+            return invokeDelegate(this.connection, method, args);
+        }
+
+        /**
+         * Provide a {@link PreparedStatement} from the {@link #statementCache} or prepare a new one.
+         */
+        private PreparedStatement prepareStatement(String sql, int resultSetType, int resultSetConcurrency)
+                throws SQLException {
+            final String key = resultSetType + "|" + resultSetConcurrency + "|" + sql;
+            if (JdbcConnectionPool.this.statementCacheSize <= 0 || this.usedStatements.contains(key)) {
+                final PreparedStatement statement = this.connection.prepareStatement(sql, resultSetType, resultSetConcurrency);
+                this.uncachedStatements.add(statement);
+                return statement;
+            }
+            PreparedStatement statement = this.statementCache.get(key);
+            if (statement == null || statement.isClosed()) {
+                statement = this.connection.prepareStatement(sql, resultSetType, resultSetConcurrency);
+                this.statementCache.put(key, statement);
+            }
+            this.usedStatements.add(key);
+            final PreparedStatement cachedStatement = statement;
+            return (PreparedStatement) Proxy.newProxyInstance(
+                    PreparedStatement.class.getClassLoader(),
+                    new Class<?>[]{PreparedStatement.class},
+                    (statementProxy, method, args) -> {
+                        switch (method.getName()) {
+                            case "close":
+                                // Keep the statement, but make it fit for the next borrower.
+                                if (this.usedStatements.remove(key)) {
+                                    cachedStatement.clearParameters();
+                                }
+                                return null;
+                            case "isClosed":
+                                return !this.usedStatements.contains(key) || cachedStatement.isClosed();
+                            case "getConnection":
+                                return this.borrowedConnection;
+                            case "equals":
+                                return statementProxy == args[0];
+                            case "hashCode":
+                                return System.identityHashCode(statementProxy);
+                            default:
+                                return invokeDelegate(cachedStatement, method, args);
+                        }
+                    }
+            );
+        }
+
+        /**
+         * Prepare this instance to be handed out again.
+         *
+         * @return whether this instance can be reused
+         */
+        private boolean reset() throws SQLException {
+            for (PreparedStatement statement : this.uncachedStatements) {
+                closeQuietly(statement);
+            }
+            this.uncachedStatements.clear();
+            if (!this.usedStatements.isEmpty()) {
+                // The borrower did not close all statements; they might still hold open result sets.
+                for (Iterator<Map.Entry<String, PreparedStatement>> iterator = this.statementCache.entrySet().iterator();
+                     iterator.hasNext(); ) {
+                    final Map.Entry<String, PreparedStatement> entry = iterator.next();
+                    if (this.usedStatements.contains(entry.getKey())) {
+                        closeQuietly(entry.getValue());
+                        iterator.remove();
+                    }
+                }
+                this.usedStatements.clear();
+            }
+            if (this.connection.isClosed()) return false;
+            if (!this.connection.getAutoCommit()) {
+                this.connection.rollback();
+                this.connection.setAutoCommit(true);
+            }
+            return true;
+        }
+
+        private void closePhysically() {
+            for (PreparedStatement statement : new ArrayList<>(this.statementCache.values())) {
+                closeQuietly(statement);
+            }
+            this.statementCache.clear();
+            try {
+                this.connection.close();
+            } catch (SQLException e) {
+                logger.error("Could not close JDBC connection correctly.", e);
+            }
+        }
+
+    }
+
+    private static void closeQuietly(PreparedStatement statement) {
+        try {
+            statement.close();
+        } catch (SQLException e) {
+            logger.warn("Could not close prepared statement.", e);
+        }
+    }
+}
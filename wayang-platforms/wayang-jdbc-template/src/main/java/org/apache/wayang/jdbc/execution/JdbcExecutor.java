@@ -224,7 +224,10 @@ public class JdbcExecutor extends ExecutorTemplate {
 
         // Create the SQL query.
         final StringBuilder query = createSqlString(jdbcExecutor, tableOp, filterTasks, projectionTask, globalReduceTask, reduceByTask, sortTask, joinTasks);
-        
+
+        // Reading the result in parts would lose the order of a sorted query.
+        tipChannelInstance.setSplittable(sortTask == null);
+
         return new Tuple2<>(query.toString(), tipChannelInstance);
     }
 
@@ -439,7 +442,11 @@ public class JdbcExecutor extends ExecutorTemplate {
     public JdbcExecutor(final JdbcPlatformTemplate platform, final Job job) {
         super(job.getCrossPlatformExecutor());
         this.platform = platform;
-        this.connection = this.platform.createDatabaseDescriptor(job.getConfiguration()).createJdbcConnection();
+        this.connection = JdbcConnectionPool.getOrCreate(
+                this.platform,
+                this.platform.createDatabaseDescriptor(job.getConfiguration()),
+                job.getCrossPlatformExecutor()
+        ).getConnection();
     }
 
     @Override
@@ -0,0 +1,265 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.jdbc.execution;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.wayang.core.api.Configuration;
+import org.apache.wayang.core.api.exception.WayangException;
+import org.apache.wayang.jdbc.platform.JdbcPlatformTemplate;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Splits a SQL query into several queries with disjoint results that can be executed concurrently. Each split
+ * wraps the original query as a derived table and restricts it to a range or hash bucket of a numeric key column.
+ * The key column can be configured or is otherwise the first integral column of the query result, which includes
+ * {@code DECIMAL} and {@code NUMERIC} columns without fractional digits that fit into a {@code long}.
+ */
+public class JdbcQuerySplitter {
+
+    /**
+     * Describes how rows are assigned to splits.
+     */
+    public enum Mode {
+
+        /**
+         * Assign rows by contiguous key ranges between the minimum and maximum key.
+         */
+        RANGE,
+
+        /**
+         * Assign rows by the key modulo the number of splits.
+         */
+        HASH
+
+    }
+
+    private static final Logger logger = LogManager.getLogger(JdbcQuerySplitter.class);
+
+    /**
+     * Alias of the derived table that the split queries select from.
+     */
+    private static final String DERIVED_TABLE_ALIAS = "wayang_split";
+
+    /**
+     * Column names that can be used in a predicate without quoting.
+     */
+    private static final Pattern PLAIN_IDENTIFIER = Pattern.compile("[A-Za-z_][A-Za-z0-9_]*");
+
+    /**
+     * Maximum precision of a {@code DECIMAL} or {@code NUMERIC} key column, so that its values fit into a
+     * {@code long}.
+     */
+    private static final int MAX_DECIMAL_KEY_PRECISION = 18;
+
+    private final int numSplits;
+
+    private final Mode mode;
+
+    /**
+     * The key column or {@code null} to detect it.
+     */
+    private final String keyColumn;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param numSplits the desired number of splits; values below {@code 2} disable splitting
+     * @param mode      the {@link Mode}
+     * @param keyColumn the numeric key column to split on or {@code null} to detect one
+     */
+    public JdbcQuerySplitter(int numSplits, Mode mode, String keyColumn) {
+        this.numSplits = numSplits;
+        this.mode = mode;
+        this.keyColumn = keyColumn;
+    }
+
+    /**
+     * Creates a new instance as configured for the given {@link JdbcPlatformTemplate}.
+     *
+     * @param jdbcPlatform  whose configuration keys should be used
+     * @param configuration provides the settings
+     * @return the new instance
+     */
+    public static JdbcQuerySplitter createFor(JdbcPlatformTemplate jdbcPlatform, Configuration configuration) {
+        final String modeName = configuration.getStringProperty(jdbcPlatform.jdbcSplitModeProperty, "range");
+        final Mode mode;
+        try {
+            mode = Mode.valueOf(modeName.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new WayangException(String.format("Unknown split mode \"%s\" for %s.", modeName, jdbcPlatform), e);
+        }
+        return new JdbcQuerySplitter(
+                (int) configuration.getLongProperty(jdbcPlatform.jdbcSplitCountProperty, 1),
+                mode,
+                configuration.getStringProperty(jdbcPlatform.jdbcSplitColumnProperty, null)
+        );
+    }
+
+    /**
+     * Tells whether this instance would try to split queries at all.
+     *
+     * @return whether splitting is enabled
+     */
+    public boolean isEnabled() {
+        return this.numSplits > 1;
+    }
+
+    /**
+     * Split the given SQL query. If that is not possible, e.g., because there is no suitable key column,
+     * the query is returned as is.
+     *
+     * @param sqlQuery   the SQL query; must not end with a semicolon
+     * @param connection used to inspect the query result
+     * @return the split queries, whose results together form the result of {@code sqlQuery}
+     */
+    public List<String> split(String sqlQuery, Connection connection) {
+        if (!this.isEnabled()) return Collections.singletonList(sqlQuery);
+
+        final String derivedTable = "(" + sqlQuery + ") AS " + DERIVED_TABLE_ALIAS;
+        try {
+            final String column = this.keyColumn != null ? this.keyColumn : detectKeyColumn(derivedTable, connection);
+            if (column == null) {
+                logger.info("Found no integral key column to split {}; configure one to split anyway.", sqlQuery);
+                return Collections.singletonList(sqlQuery);
+            }
+
+            final List<String> predicates = this.mode == Mode.HASH ?
+                    this.createHashPredicates(column) :
+                    this.createRangePredicates(column, derivedTable, connection);
+            if (predicates.size() < 2) return Collections.singletonList(sqlQuery);
+
+            final List<String> splits = new ArrayList<>(predicates.size());
+            for (String predicate : predicates) {
+                splits.add("SELECT * FROM " + derivedTable + " WHERE " + predicate);
+            }
+            logger.info("Split {} into {} queries on {}.", sqlQuery, splits.size(), column);
+            return splits;
+        } catch (SQLException e) {
+            logger.warn(String.format("Could not split %s.", sqlQuery), e);
+            return Collections.singletonList(sqlQuery);
+        }
+    }
+
+    /**
+     * Find the first integral column in the result of the given derived table. {@code DECIMAL} and {@code NUMERIC}
+     * columns qualify if they have no fractional digits and at most {@link #MAX_DECIMAL_KEY_PRECISION} digits.
+     *
+     * @return the column name or {@code null} if none
+     */
+    private static String detectKeyColumn(String derivedTable, Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT * FROM " + derivedTable + " WHERE 1 = 0")) {
+            final ResultSetMetaData metaData = resultSet.getMetaData();
+            for (int i = 1; i <= metaData.getColumnCount(); i++) {
+                if (!isIntegralColumn(metaData, i)) continue;
+                final String label = metaData.getColumnLabel(i);
+                if (PLAIN_IDENTIFIER.matcher(label).matches()) return label;
+                logger.debug("Skipping key column candidate {}, because it would need quoting.", label);
+            }
+            return null;
+        }
+    }
+
+    private static boolean isIntegralColumn(ResultSetMetaData metaData, int column) throws SQLException {
+        switch (metaData.getColumnType(column)) {
+            case Types.TINYINT:
+            case Types.SMALLINT:
+            case Types.INTEGER:
+            case Types.BIGINT:
+                return true;
+            case Types.DECIMAL:
+            case Types.NUMERIC:
+                final int precision = metaData.getPrecision(column);
+                final boolean isIntegral = metaData.getScale(column) == 0
+                        && precision > 0 && precision <= MAX_DECIMAL_KEY_PRECISION;
+                if (!isIntegral) {
+                    logger.debug("Skipping key column candidate {} with precision {} and scale {}.",
+                            metaData.getColumnLabel(column), precision, metaData.getScale(column));
+                }
+                return isIntegral;
+            default:
+                return false;
+        }
+    }
+
+    private List<String> createHashPredicates(String column) {
+        final List<String> predicates = new ArrayList<>(this.numSplits);
+        for (int i = 0; i < this.numSplits; i++) {
+            final String predicate = String.format("ABS(MOD(%s, %d)) = %d", column, this.numSplits, i);
+            predicates.add(i == 0 ? String.format("(%s IS NULL OR %s)", column, predicate) : predicate);
+        }
+        return predicates;
+    }
+
+    /**
+     * Create predicates for equally wide ranges between the minimum and maximum value of the key column. The first
+     * and last range are open, so that the predicates cover all rows even if the table changes meanwhile.
+     */
+    private List<String> createRangePredicates(String column, String derivedTable, Connection connection)
+            throws SQLException {
+        final long min, max;
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(
+                     String.format("SELECT MIN(%s), MAX(%s) FROM %s", column, column, derivedTable))) {
+            if (!resultSet.next()) return Collections.emptyList();
+            min = resultSet.getLong(1);
+            if (resultSet.wasNull()) return Collections.emptyList();
+            max = resultSet.getLong(2);
+        }
+
+        final long[] bounds;
+        try {
+            final long span = Math.subtractExact(max, min);
+            final int numRanges = span < this.numSplits ? (int) span + 1 : this.numSplits;
+            if (numRanges < 2) return Collections.emptyList();
+            final long step = span / numRanges + 1;
+            bounds = new long[numRanges - 1];
+            for (int i = 0; i < bounds.length; i++) {
+                bounds[i] = Math.addExact(min, Math.multiplyExact(step, i + 1));
+            }
+        } catch (ArithmeticException e) {
+            logger.warn("Key range [{}, {}] of {} is too wide to be split.", min, max, column);
+            return Collections.emptyList();
+        }
+
+        final List<String> predicates = new ArrayList<>(bounds.length + 1);
+        for (int i = 0; i <= bounds.length; i++) {
+            if (i == 0) {
+                predicates.add(String.format("(%s IS NULL OR %s < %d)", column, column, bounds[0]));
+            } else if (i == bounds.length) {
+                predicates.add(String.format("%s >= %d", column, bounds[i - 1]));
+            } else {
+                predicates.add(String.format("%s >= %d AND %s < %d", column, bounds[i - 1], column, bounds[i]));
+            }
+        }
+        return predicates;
+    }
+}
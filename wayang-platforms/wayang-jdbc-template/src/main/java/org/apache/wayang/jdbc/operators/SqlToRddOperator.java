@@ -19,6 +19,7 @@
 package org.apache.wayang.jdbc.operators;
 
 import org.apache.spark.api.java.JavaRDD;
+import org.apache.spark.api.java.function.FlatMapFunction;
 import org.apache.wayang.basic.data.Record;
 import org.apache.wayang.core.optimizer.OptimizationContext;
 import org.apache.wayang.core.plan.wayangplan.UnaryToUnaryOperator;
@@ -30,14 +31,16 @@ import org.apache.wayang.core.util.JsonSerializable;
 import org.apache.wayang.core.util.Tuple;
 import org.apache.wayang.core.util.json.WayangJsonObj;
 import org.apache.wayang.jdbc.channels.SqlQueryChannel;
+import org.apache.wayang.jdbc.execution.DatabaseDescriptor;
+import org.apache.wayang.jdbc.execution.JdbcConnectionPool;
 import org.apache.wayang.jdbc.platform.JdbcPlatformTemplate;
 import org.apache.wayang.spark.channels.RddChannel;
 import org.apache.wayang.spark.execution.SparkExecutor;
 import org.apache.wayang.spark.operators.SparkExecutionOperator;
 
-import java.sql.Connection;
 import java.util.*;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 public class SqlToRddOperator extends UnaryToUnaryOperator<Record, Record> implements SparkExecutionOperator, JsonSerializable {
@@ -79,19 +82,35 @@ public class SqlToRddOperator extends UnaryToUnaryOperator<Record, Record> imple
         final RddChannel.Instance output = (RddChannel.Instance) outputs[0];
 
         JdbcPlatformTemplate producerPlatform = (JdbcPlatformTemplate) input.getChannel().getProducer().getPlatform();
-        final Connection connection = producerPlatform
-                .createDatabaseDescriptor(executor.getConfiguration())
-                .createJdbcConnection();
-
-        Iterator<Record> resultSetIterator = new SqlToStreamOperator.ResultSetIterator(connection, input.getSqlQuery());
-        Iterable<Record> resultSetIterable = () -> resultSetIterator;
-
-        // Convert the ResultSet to a JavaRDD.
-        JavaRDD<Record> resultSetRDD = executor.sc.parallelize(
-                StreamSupport.stream(resultSetIterable.spliterator(), false).collect(Collectors.toList()),
-                executor.getNumDefaultPartitions()
+        final DatabaseDescriptor databaseDescriptor = producerPlatform.createDatabaseDescriptor(executor.getConfiguration());
+        final JdbcConnectionPool connectionPool = JdbcConnectionPool.getOrCreate(
+                producerPlatform, databaseDescriptor, executor.getCrossPlatformExecutor()
+        );
+        final List<String> splitQueries = SqlToStreamOperator.splitQuery(
+                input, producerPlatform, executor.getConfiguration(), connectionPool
         );
 
+        final JavaRDD<Record> resultSetRDD;
+        if (splitQueries.size() > 1) {
+            // Let every Spark partition read one split of the query.
+            resultSetRDD = executor.sc
+                    .parallelize(splitQueries, splitQueries.size())
+                    .mapPartitions(new SplitReader(databaseDescriptor));
+        } else {
+            final List<Record> records;
+            try (Stream<Record> resultSetStream = SqlToStreamOperator.openResultStream(
+                    databaseDescriptor,
+                    connectionPool::getConnection,
+                    input.getSqlQuery(),
+                    (int) executor.getConfiguration().getLongProperty(producerPlatform.jdbcPrefetchBatchSizeProperty, 0)
+            )) {
+                records = resultSetStream.collect(Collectors.toList());
+            }
+
+            // Convert the ResultSet to a JavaRDD.
+            resultSetRDD = executor.sc.parallelize(records, executor.getNumDefaultPartitions());
+        }
+
         output.accept(resultSetRDD, executor);
 
         // TODO: Add load profile estimators
@@ -103,6 +122,28 @@ public class SqlToRddOperator extends UnaryToUnaryOperator<Record, Record> imple
         return queryLineageNode.collectAndMark();
     }
 
+    /**
+     * Reads the split queries of a Spark partition from the database.
+     */
+    private static class SplitReader implements FlatMapFunction<Iterator<String>, Record> {
+
+        private final DatabaseDescriptor databaseDescriptor;
+
+        private SplitReader(DatabaseDescriptor databaseDescriptor) {
+            this.databaseDescriptor = databaseDescriptor;
+        }
+
+        @Override
+        public Iterator<Record> call(Iterator<String> splitQueries) {
+            final Iterable<String> splitQueryIterable = () -> splitQueries;
+            return StreamSupport.stream(splitQueryIterable.spliterator(), false)
+                    .flatMap(splitQuery -> SqlToStreamOperator.openResultStream(
+                            this.databaseDescriptor, this.databaseDescriptor::createJdbcConnection, splitQuery, 0
+                    ))
+                    .iterator();
+        }
+    }
+
     @Override
     public boolean containsAction() {
         return false;
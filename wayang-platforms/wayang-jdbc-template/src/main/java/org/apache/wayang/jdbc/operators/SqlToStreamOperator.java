@@ -20,6 +20,7 @@ package org.apache.wayang.jdbc.operators;
 
 import org.apache.wayang.basic.data.Record;
 import org.apache.wayang.basic.types.RecordType;
+import org.apache.wayang.core.api.Configuration;
 import org.apache.wayang.core.api.exception.WayangException;
 import org.apache.wayang.core.optimizer.OptimizationContext;
 import org.apache.wayang.core.optimizer.costs.LoadProfileEstimators;
@@ -37,20 +38,31 @@ import org.apache.wayang.java.channels.StreamChannel;
 import org.apache.wayang.java.execution.JavaExecutor;
 import org.apache.wayang.java.operators.JavaExecutionOperator;
 import org.apache.wayang.jdbc.channels.SqlQueryChannel;
+import org.apache.wayang.jdbc.execution.DatabaseDescriptor;
+import org.apache.wayang.jdbc.execution.JdbcConnectionPool;
+import org.apache.wayang.jdbc.execution.JdbcQuerySplitter;
 import org.apache.wayang.jdbc.platform.JdbcPlatformTemplate;
 import org.apache.logging.log4j.LogManager;
 
 import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.sql.Types;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.Spliterator;
 import java.util.Spliterators;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
@@ -97,13 +109,20 @@ public class SqlToStreamOperator extends UnaryToUnaryOperator<Record, Record> im
         final StreamChannel.Instance output = (StreamChannel.Instance) outputs[0];
 
         JdbcPlatformTemplate producerPlatform = (JdbcPlatformTemplate) input.getChannel().getProducer().getPlatform();
-        final Connection connection = producerPlatform
-                .createDatabaseDescriptor(executor.getConfiguration())
-                .createJdbcConnection();
+        final Configuration configuration = executor.getConfiguration();
+        final DatabaseDescriptor databaseDescriptor = producerPlatform.createDatabaseDescriptor(configuration);
+        final JdbcConnectionPool connectionPool = JdbcConnectionPool.getOrCreate(
+                producerPlatform, databaseDescriptor, executor.getCrossPlatformExecutor()
+        );
+        final int prefetchBatchSize = (int) configuration.getLongProperty(producerPlatform.jdbcPrefetchBatchSizeProperty, 0);
 
-        Iterator<Record> resultSetIterator = new ResultSetIterator(connection, input.getSqlQuery());
-        Spliterator<Record> resultSetSpliterator = Spliterators.spliteratorUnknownSize(resultSetIterator, 0);
-        Stream<Record> resultSetStream = StreamSupport.stream(resultSetSpliterator, false);
+        // If the query is split, parallel consumers can read the splits concurrently.
+        final List<String> splitQueries = splitQuery(input, producerPlatform, configuration, connectionPool);
+        Stream<Record> resultSetStream = splitQueries.size() == 1 ?
+                openResultStream(databaseDescriptor, connectionPool::getConnection, splitQueries.get(0), prefetchBatchSize) :
+                splitQueries.stream().flatMap(splitQuery -> openResultStream(
+                        databaseDescriptor, connectionPool::getConnection, splitQuery, prefetchBatchSize
+                ));
 
         output.accept(resultSetStream);
 
@@ -141,16 +160,100 @@ public class SqlToStreamOperator extends UnaryToUnaryOperator<Record, Record> im
         );
     }
 
+    /**
+     * Splits the query of the given {@link SqlQueryChannel.Instance} as configured via
+     * {@code wayang.<platform>.jdbc.split.*}, if its result is not ordered.
+     *
+     * @return the split queries or only the original query
+     */
+    static List<String> splitQuery(SqlQueryChannel.Instance input,
+                                   JdbcPlatformTemplate jdbcPlatform,
+                                   Configuration configuration,
+                                   JdbcConnectionPool connectionPool) {
+        final JdbcQuerySplitter splitter = JdbcQuerySplitter.createFor(jdbcPlatform, configuration);
+        if (!input.isSplittable() || !splitter.isEnabled()) {
+            return Collections.singletonList(input.getSqlQuery());
+        }
+        try (Connection connection = connectionPool.getConnection()) {
+            return splitter.split(input.getSqlQuery(), connection);
+        } catch (SQLException e) {
+            throw new WayangException("Could not close connection.", e);
+        }
+    }
+
+    /**
+     * Executes a SQL query on the described database and streams its result.
+     * If {@code wayang.<platform>.jdbc.prefetch.batch-size} is positive, rows are read in batches of that size
+     * on a separate thread, so that fetching overlaps with the downstream processing.
+     *
+     * @param databaseDescriptor describes the database to query
+     * @param connectionSupplier provides a {@link Connection} to the database, which will be closed along with the result
+     * @param sqlQuery           the SQL query
+     * @param prefetchBatchSize  if positive, rows are read in batches of that size on a separate thread
+     * @return a {@link Stream} of the result {@link Record}s; closing it releases the database resources
+     */
+    static Stream<Record> openResultStream(DatabaseDescriptor databaseDescriptor,
+                                           Supplier<Connection> connectionSupplier,
+                                           String sqlQuery,
+                                           int prefetchBatchSize) {
+        final ResultSetIterator resultSetIterator =
+                new ResultSetIterator(databaseDescriptor, connectionSupplier.get(), sqlQuery);
+
+        final Iterator<Record> iterator;
+        final AutoCloseable closeable;
+        if (prefetchBatchSize > 0) {
+            final PrefetchingIterator prefetchingIterator = new PrefetchingIterator(resultSetIterator, prefetchBatchSize);
+            iterator = prefetchingIterator;
+            closeable = prefetchingIterator;
+        } else {
+            iterator = resultSetIterator;
+            closeable = resultSetIterator;
+        }
+        Spliterator<Record> resultSetSpliterator = Spliterators.spliteratorUnknownSize(iterator, Spliterator.NONNULL);
+        return StreamSupport.stream(resultSetSpliterator, false).onClose(() -> {
+            try {
+                closeable.close();
+            } catch (Exception e) {
+                LogManager.getLogger(SqlToStreamOperator.class).error("Could not close result set.", e);
+            }
+        });
+    }
+
+    /**
+     * Reads a single column value from the current row of a {@link ResultSet}.
+     */
+    @FunctionalInterface
+    private interface ColumnReader {
+
+        Object read(ResultSet resultSet, int columnIndex) throws SQLException;
+
+    }
+
     /**
      * Exposes a {@link ResultSet} as an {@link Iterator}.
      */
     public static class ResultSetIterator implements Iterator<Record>, AutoCloseable {
 
+        /**
+         * {@link Connection} that is owned by this instance and closed along with it, if any.
+         */
+        private Connection ownedConnection;
+
+        /**
+         * The {@link Statement} that produced the {@link #resultSet}.
+         */
+        private Statement statement;
+
         /**
          * Keeps around the {@link ResultSet} of the SQL query.
          */
         private ResultSet resultSet;
 
+        /**
+         * Reads the columns of the {@link #resultSet}; determined once from its {@link ResultSetMetaData}.
+         */
+        private ColumnReader[] columnReaders;
+
         /**
          * The next {@link Record} to be delivered via {@link #next()}.
          */
@@ -164,10 +267,43 @@ public class SqlToStreamOperator extends UnaryToUnaryOperator<Record, Record> im
          */
         ResultSetIterator(Connection connection, String sqlQuery) {
             try {
-                //connection.setAutoCommit(false);
-                Statement st = connection.createStatement();
-                //st.setFetchSize(100000000);
-                this.resultSet = st.executeQuery(sqlQuery);
+                this.statement = connection.createStatement();
+                this.resultSet = this.statement.executeQuery(sqlQuery);
+                this.setUpColumnReaders();
+            } catch (SQLException e) {
+                this.close();
+                throw new WayangException("Could not execute SQL.", e);
+            }
+            this.moveToNext();
+        }
+
+        /**
+         * Creates a new instance that streams the result over a new {@link Connection}, which is closed along
+         * with this instance.
+         *
+         * @param databaseDescriptor describes the database to query
+         * @param sqlQuery           the SQL query
+         */
+        public ResultSetIterator(DatabaseDescriptor databaseDescriptor, String sqlQuery) {
+            this(databaseDescriptor, databaseDescriptor.createJdbcConnection(), sqlQuery);
+        }
+
+        /**
+         * Creates a new instance that streams the result over the given {@link Connection}, which is closed along
+         * with this instance.
+         *
+         * @param databaseDescriptor describes the database to query
+         * @param connection         to the described database, e.g., from a {@link JdbcConnectionPool}
+         * @param sqlQuery           the SQL query
+         */
+        public ResultSetIterator(DatabaseDescriptor databaseDescriptor, Connection connection, String sqlQuery) {
+            this.ownedConnection = connection;
+            try {
+                final PreparedStatement preparedStatement =
+                        databaseDescriptor.prepareStreamingStatement(this.ownedConnection, sqlQuery);
+                this.statement = preparedStatement;
+                this.resultSet = preparedStatement.executeQuery();
+                this.setUpColumnReaders();
             } catch (SQLException e) {
                 this.close();
                 throw new WayangException("Could not execute SQL.", e);
@@ -175,6 +311,56 @@ public class SqlToStreamOperator extends UnaryToUnaryOperator<Record, Record> im
             this.moveToNext();
         }
 
+        /**
+         * Sets up the {@link #columnReaders} for the {@link #resultSet}.
+         */
+        private void setUpColumnReaders() throws SQLException {
+            final ResultSetMetaData metaData = this.resultSet.getMetaData();
+            this.columnReaders = new ColumnReader[metaData.getColumnCount()];
+            for (int i = 0; i < this.columnReaders.length; i++) {
+                this.columnReaders[i] = createColumnReader(metaData.getColumnType(i + 1));
+            }
+        }
+
+        /**
+         * Creates a {@link ColumnReader} for the given SQL type. The read values are the same as those of
+         * {@link ResultSet#getObject(int)} as specified by JDBC, but avoid its type dispatch for every value.
+         *
+         * @param sqlType see {@link Types}
+         * @return the {@link ColumnReader}
+         */
+        private static ColumnReader createColumnReader(int sqlType) {
+            switch (sqlType) {
+                case Types.INTEGER:
+                    return (rs, i) -> {
+                        final int value = rs.getInt(i);
+                        return rs.wasNull() ? null : value;
+                    };
+                case Types.BIGINT:
+                    return (rs, i) -> {
+                        final long value = rs.getLong(i);
+                        return rs.wasNull() ? null : value;
+                    };
+                case Types.DOUBLE:
+                case Types.FLOAT:
+                    return (rs, i) -> {
+                        final double value = rs.getDouble(i);
+                        return rs.wasNull() ? null : value;
+                    };
+                case Types.BOOLEAN:
+                    return (rs, i) -> {
+                        final boolean value = rs.getBoolean(i);
+                        return rs.wasNull() ? null : value;
+                    };
+                case Types.CHAR:
+                case Types.VARCHAR:
+                case Types.LONGVARCHAR:
+                    return ResultSet::getString;
+                default:
+                    return ResultSet::getObject;
+            }
+        }
+
         /**
          * Moves this instance to the next {@link Record}.
          */
@@ -184,10 +370,9 @@ public class SqlToStreamOperator extends UnaryToUnaryOperator<Record, Record> im
                     this.next = null;
                     this.close();
                 } else {
-                    final int recordWidth = this.resultSet.getMetaData().getColumnCount();
-                    Object[] values = new Object[recordWidth];
-                    for (int i = 0; i < recordWidth; i++) {
-                        values[i] = this.resultSet.getObject(i + 1);
+                    Object[] values = new Object[this.columnReaders.length];
+                    for (int i = 0; i < values.length; i++) {
+                        values[i] = this.columnReaders[i].read(this.resultSet, i + 1);
                     }
                     this.next = new Record(values);
                 }
@@ -205,6 +390,7 @@ public class SqlToStreamOperator extends UnaryToUnaryOperator<Record, Record> im
 
         @Override
         public Record next() {
+            if (this.next == null) throw new NoSuchElementException();
             Record curNext = this.next;
             this.moveToNext();
             return curNext;
@@ -221,6 +407,140 @@ public class SqlToStreamOperator extends UnaryToUnaryOperator<Record, Record> im
                     this.resultSet = null;
                 }
             }
+            if (this.statement != null) {
+                try {
+                    this.statement.close();
+                } catch (Throwable t) {
+                    LogManager.getLogger(this.getClass()).error("Could not close statement.", t);
+                } finally {
+                    this.statement = null;
+                }
+            }
+            if (this.ownedConnection != null) {
+                try {
+                    this.ownedConnection.close();
+                } catch (Throwable t) {
+                    LogManager.getLogger(this.getClass()).error("Could not close connection.", t);
+                } finally {
+                    this.ownedConnection = null;
+                }
+            }
+        }
+    }
+
+    /**
+     * Reads the {@link Record}s of a {@link ResultSetIterator} in batches on a separate thread, so that the database
+     * round trips overlap with the consumption of the {@link Record}s.
+     */
+    static class PrefetchingIterator implements Iterator<Record>, AutoCloseable {
+
+        /**
+         * Marks the end of the {@link #batches}.
+         */
+        private static final List<Record> END = new ArrayList<>(0);
+
+        /**
+         * Number of batches to read ahead.
+         */
+        private static final int NUM_PREFETCHED_BATCHES = 2;
+
+        private final ResultSetIterator source;
+
+        private final int batchSize;
+
+        private final BlockingQueue<List<Record>> batches = new ArrayBlockingQueue<>(NUM_PREFETCHED_BATCHES);
+
+        private final Thread prefetchThread;
+
+        /**
+         * Set if the {@link #prefetchThread} failed.
+         */
+        private volatile Throwable failure;
+
+        private volatile boolean isClosed = false;
+
+        /**
+         * The batch that is currently being delivered.
+         */
+        private Iterator<Record> currentBatch = Collections.emptyIterator();
+
+        private boolean isExhausted = false;
+
+        /**
+         * Creates a new instance and starts prefetching.
+         *
+         * @param source    provides the {@link Record}s; will be closed by this instance
+         * @param batchSize the number of {@link Record}s per batch
+         */
+        PrefetchingIterator(ResultSetIterator source, int batchSize) {
+            this.source = source;
+            this.batchSize = batchSize;
+            this.prefetchThread = new Thread(this::prefetch, "wayang-jdbc-prefetch");
+            this.prefetchThread.setDaemon(true);
+            this.prefetchThread.start();
+        }
+
+        private void prefetch() {
+            try {
+                while (!this.isClosed && this.source.hasNext()) {
+                    List<Record> batch = new ArrayList<>(this.batchSize);
+                    do {
+                        batch.add(this.source.next());
+                    } while (batch.size() < this.batchSize && this.source.hasNext());
+                    this.batches.put(batch);
+                }
+            } catch (InterruptedException e) {
+                // We have been closed.
+            } catch (Throwable t) {
+                this.failure = t;
+            } finally {
+                this.source.close();
+                if (!this.isClosed) {
+                    try {
+                        this.batches.put(END);
+                    } catch (InterruptedException e) {
+                        // We have been closed.
+                    }
+                }
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (!this.currentBatch.hasNext()) {
+                if (this.isExhausted) return false;
+                final List<Record> batch;
+                try {
+                    batch = this.batches.take();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new WayangException("Interrupted while reading the result set.", e);
+                }
+                if (batch == END) {
+                    this.isExhausted = true;
+                    if (this.failure != null) {
+                        throw new WayangException("Exception while iterating the result set.", this.failure);
+                    }
+                    return false;
+                }
+                this.currentBatch = batch.iterator();
+            }
+            return true;
+        }
+
+        @Override
+        public Record next() {
+            if (!this.hasNext()) throw new NoSuchElementException();
+            return this.currentBatch.next();
+        }
+
+        @Override
+        public void close() {
+            if (this.isClosed) return;
+            this.isClosed = true;
+            this.isExhausted = true;
+            this.prefetchThread.interrupt();
+            this.batches.clear();
         }
     }
 
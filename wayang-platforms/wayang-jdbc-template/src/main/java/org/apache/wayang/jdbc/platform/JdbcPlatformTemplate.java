@@ -47,6 +47,29 @@ public abstract class JdbcPlatformTemplate extends Platform {
 
     public final String jdbcPasswordProperty = String.format("wayang.%s.jdbc.password", this.getPlatformId());
 
+    public final String jdbcFetchSizeProperty = String.format("wayang.%s.jdbc.fetch-size", this.getPlatformId());
+
+    public final String jdbcPrefetchBatchSizeProperty = String.format("wayang.%s.jdbc.prefetch.batch-size", this.getPlatformId());
+
+    public final String jdbcSplitCountProperty = String.format("wayang.%s.jdbc.split.count", this.getPlatformId());
+
+    public final String jdbcSplitColumnProperty = String.format("wayang.%s.jdbc.split.column", this.getPlatformId());
+
+    public final String jdbcSplitModeProperty = String.format("wayang.%s.jdbc.split.mode", this.getPlatformId());
+
+    public final String jdbcPoolSizeProperty = String.format("wayang.%s.jdbc.pool.size", this.getPlatformId());
+
+    public final String jdbcPoolTimeoutProperty = String.format("wayang.%s.jdbc.pool.timeout", this.getPlatformId());
+
+    public final String jdbcPoolScopeProperty = String.format("wayang.%s.jdbc.pool.scope", this.getPlatformId());
+
+    public final String jdbcStatementCacheSizeProperty = String.format("wayang.%s.jdbc.statement-cache.size", this.getPlatformId());
+
+    /**
+     * Default for {@link #jdbcFetchSizeProperty} if it is not configured.
+     */
+    public static final long DEFAULT_FETCH_SIZE = 1000;
+
     private String getDefaultConfigurationFile() {
         return String.format("wayang-%s-defaults.properties", this.getPlatformId());
     }
@@ -132,7 +155,8 @@ public abstract class JdbcPlatformTemplate extends Platform {
                 configuration.getStringProperty(this.jdbcUrlProperty),
                 configuration.getStringProperty(this.jdbcUserProperty, null),
                 configuration.getStringProperty(this.jdbcPasswordProperty, null),
-                this.getJdbcDriverClassName()
+                this.getJdbcDriverClassName(),
+                (int) configuration.getLongProperty(this.jdbcFetchSizeProperty, DEFAULT_FETCH_SIZE)
         );
     }
 }
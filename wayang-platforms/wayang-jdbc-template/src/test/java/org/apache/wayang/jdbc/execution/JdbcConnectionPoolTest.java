@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.jdbc.execution;
+
+import org.apache.wayang.core.api.Configuration;
+import org.apache.wayang.core.api.Job;
+import org.apache.wayang.core.platform.CrossPlatformExecutor;
+import org.apache.wayang.core.profiling.NoInstrumentationStrategy;
+import org.apache.wayang.jdbc.test.HsqldbPlatform;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test suite for {@link JdbcConnectionPool}.
+ */
+class JdbcConnectionPoolTest {
+
+    @Test
+    void testConnectionAndStatementReuse() throws SQLException {
+        final DatabaseDescriptor databaseDescriptor =
+                HsqldbPlatform.getInstance().createDatabaseDescriptor(new Configuration());
+        final JdbcConnectionPool pool = new JdbcConnectionPool(databaseDescriptor, 1, 10, 4);
+
+        final Connection connection = pool.getConnection();
+        final PreparedStatement statement = connection.prepareStatement("VALUES (1)");
+        try (ResultSet resultSet = statement.executeQuery()) {
+            assertTrue(resultSet.next());
+            assertEquals(1, resultSet.getInt(1));
+        }
+        final PreparedStatement physicalStatement = statement.unwrap(PreparedStatement.class);
+        statement.close();
+        assertTrue(statement.isClosed());
+        final PreparedStatement cachedStatement = connection.prepareStatement("VALUES (1)");
+        assertSame(physicalStatement, cachedStatement.unwrap(PreparedStatement.class));
+        cachedStatement.close();
+
+        // The pool is exhausted, so a transient connection is handed out after the timeout.
+        try (Connection transientConnection = pool.getConnection()) {
+            assertNotSame(connection, transientConnection);
+            assertFalse(transientConnection.isClosed());
+        }
+        assertEquals(1, pool.getNumTransientConnections());
+
+        connection.close();
+        try (Connection reusedConnection = pool.getConnection();
+             PreparedStatement reusedStatement = reusedConnection.prepareStatement("VALUES (1)")) {
+            assertSame(physicalStatement, reusedStatement.unwrap(PreparedStatement.class));
+        }
+        assertEquals(3, pool.getNumBorrowings());
+
+        pool.dispose();
+        assertTrue(pool.isClosed());
+    }
+
+    @Test
+    void testContextScopedPoolIsReleasedWithTheLastJob() {
+        final HsqldbPlatform platform = HsqldbPlatform.getInstance();
+        final Configuration contextConfiguration = new Configuration();
+        contextConfiguration.setProperty(platform.jdbcPoolScopeProperty, "context");
+        final DatabaseDescriptor databaseDescriptor = platform.createDatabaseDescriptor(contextConfiguration);
+
+        final CrossPlatformExecutor job1 = createCrossPlatformExecutor(contextConfiguration.fork("job1"));
+        final CrossPlatformExecutor job2 = createCrossPlatformExecutor(contextConfiguration.fork("job2"));
+        final JdbcConnectionPool pool = JdbcConnectionPool.getOrCreate(platform, databaseDescriptor, job1);
+        assertSame(pool, JdbcConnectionPool.getOrCreate(platform, databaseDescriptor, job1));
+        assertSame(pool, JdbcConnectionPool.getOrCreate(platform, databaseDescriptor, job2));
+        assertEquals(2, pool.getNumReferences());
+
+        job1.shutdown();
+        assertFalse(pool.isClosed());
+        job2.shutdown();
+        assertTrue(pool.isClosed());
+
+        // Later jobs get a new pool.
+        final CrossPlatformExecutor job3 = createCrossPlatformExecutor(contextConfiguration.fork("job3"));
+        final JdbcConnectionPool newPool = JdbcConnectionPool.getOrCreate(platform, databaseDescriptor, job3);
+        assertNotSame(pool, newPool);
+        job3.shutdown();
+        assertTrue(newPool.isClosed());
+    }
+
+    private static CrossPlatformExecutor createCrossPlatformExecutor(Configuration configuration) {
+        final Job job = mock(Job.class);
+        when(job.getConfiguration()).thenReturn(configuration);
+        return new CrossPlatformExecutor(job, new NoInstrumentationStrategy());
+    }
+
+}
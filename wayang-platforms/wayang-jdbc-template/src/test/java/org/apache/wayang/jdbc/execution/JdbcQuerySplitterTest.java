@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.jdbc.execution;
+
+import org.apache.wayang.core.api.Configuration;
+import org.apache.wayang.jdbc.test.HsqldbPlatform;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Test suite for {@link JdbcQuerySplitter}.
+ */
+class JdbcQuerySplitterTest {
+
+    @Test
+    void testRangeSplits() throws SQLException {
+        this.testSplits(JdbcQuerySplitter.Mode.RANGE, "testRangeSplits");
+    }
+
+    @Test
+    void testHashSplits() throws SQLException {
+        this.testSplits(JdbcQuerySplitter.Mode.HASH, "testHashSplits");
+    }
+
+    /**
+     * The fractional column must be skipped; splitting on it would yield a single split, as it contains only nulls.
+     */
+    @Test
+    void testDecimalKeyColumn() throws SQLException {
+        this.testSplits(JdbcQuerySplitter.Mode.RANGE, "testDecimalKeyColumn", "c DECIMAL(10, 2), a NUMERIC(12, 0)");
+    }
+
+    private void testSplits(JdbcQuerySplitter.Mode mode, String tableName) throws SQLException {
+        this.testSplits(mode, tableName, "a INT");
+    }
+
+    private void testSplits(JdbcQuerySplitter.Mode mode, String tableName, String keyColumns) throws SQLException {
+        Configuration configuration = new Configuration();
+        try (Connection connection = HsqldbPlatform.getInstance().createDatabaseDescriptor(configuration).createJdbcConnection()) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("CREATE TABLE " + tableName + " (b VARCHAR(6), " + keyColumns + ");");
+                for (int i = -5; i < 20; i++) {
+                    statement.execute(String.format("INSERT INTO %s (b, a) VALUES ('%d', %d);", tableName, i, i));
+                }
+                statement.execute("INSERT INTO " + tableName + " (b, a) VALUES ('null', NULL);");
+            }
+
+            final List<String> splits = new JdbcQuerySplitter(3, mode, null)
+                    .split("SELECT * FROM " + tableName, connection);
+            assertEquals(3, splits.size());
+
+            final List<String> values = new ArrayList<>();
+            for (String split : splits) {
+                try (Statement statement = connection.createStatement();
+                     ResultSet resultSet = statement.executeQuery(split)) {
+                    while (resultSet.next()) values.add(resultSet.getString(1));
+                }
+            }
+
+            final List<String> expected = new ArrayList<>();
+            for (int i = -5; i < 20; i++) expected.add(String.valueOf(i));
+            expected.add("null");
+            Collections.sort(expected);
+            Collections.sort(values);
+            assertEquals(expected, values);
+        }
+    }
+
+}
@@ -116,6 +116,69 @@ class SqlToStreamOperatorTest extends OperatorTestBase {
         assertEquals(expected, output);
     }
 
+    @Test
+    void testWithHsqldbAndPrefetching() throws SQLException {
+        Configuration configuration = new Configuration();
+        configuration.setProperty("wayang.hsqldb.jdbc.prefetch.batch-size", "2");
+
+        Job job = mock(Job.class);
+        when(job.getConfiguration()).thenReturn(configuration);
+
+        CrossPlatformExecutor cpe = new CrossPlatformExecutor(job, new FullInstrumentationStrategy());
+        when(job.getCrossPlatformExecutor()).thenReturn(cpe);
+        final JavaExecutor javaExecutor = new JavaExecutor(JavaPlatform.getInstance(), job);
+
+        HsqldbPlatform hsqldbPlatform = new HsqldbPlatform();
+
+        // Create some test data.
+        try (Connection jdbcConnection = hsqldbPlatform.createDatabaseDescriptor(configuration).createJdbcConnection()) {
+            final Statement statement = jdbcConnection.createStatement();
+            statement.execute("CREATE TABLE testWithHsqldbAndPrefetching (a BIGINT, b VARCHAR(6), c DOUBLE);");
+            statement.execute("INSERT INTO testWithHsqldbAndPrefetching VALUES (0, 'zero', 0.5);");
+            statement.execute("INSERT INTO testWithHsqldbAndPrefetching VALUES (1, 'one', NULL);");
+            statement.execute("INSERT INTO testWithHsqldbAndPrefetching VALUES (2, NULL, 2.5);");
+        }
+
+        final ExecutionOperator filterOperator = new HsqldbFilterOperator(
+                new PredicateDescriptor<>(x -> false, Record.class)
+        );
+        final SqlQueryChannel sqlQueryChannel = new SqlQueryChannel(
+                HsqldbPlatform.getInstance().getSqlQueryChannelDescriptor(),
+                filterOperator.getOutput(0)
+        );
+        SqlQueryChannel.Instance sqlQueryChannelInstance = sqlQueryChannel.createInstance(
+                hsqldbPlatform.createExecutor(job),
+                mock(OptimizationContext.OperatorContext.class),
+                0
+        );
+        sqlQueryChannelInstance.setSqlQuery("SELECT * FROM testWithHsqldbAndPrefetching ORDER BY a;");
+        ExecutionTask producer = new ExecutionTask(filterOperator);
+        producer.setOutputChannel(0, sqlQueryChannel);
+
+        StreamChannel.Instance streamChannelInstance =
+                new StreamChannel(StreamChannel.DESCRIPTOR, mock(OutputSlot.class)).createInstance(
+                        javaExecutor,
+                        mock(OptimizationContext.OperatorContext.class),
+                        0
+                );
+
+        SqlToStreamOperator sqlToStreamOperator = new SqlToStreamOperator(HsqldbPlatform.getInstance());
+        evaluate(
+                sqlToStreamOperator,
+                new ChannelInstance[]{sqlQueryChannelInstance},
+                new ChannelInstance[]{streamChannelInstance}
+        );
+
+        List<Record> output = streamChannelInstance.<Record>provideStream().collect(Collectors.toList());
+        List<Record> expected = Arrays.asList(
+                new Record(0L, "zero", 0.5d),
+                new Record(1L, "one", null),
+                new Record(2L, null, 2.5d)
+        );
+
+        assertEquals(expected, output);
+    }
+
     @Test
     void testWithEmptyHsqldb() throws SQLException {
         Configuration configuration = new Configuration();
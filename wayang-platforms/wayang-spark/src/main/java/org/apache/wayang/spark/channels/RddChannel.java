@@ -20,6 +20,7 @@ package org.apache.wayang.spark.channels;
 
 import org.apache.spark.util.AccumulatorV2;
 import org.apache.spark.api.java.JavaRDD;
+import org.apache.spark.rdd.RDD;
 import org.apache.spark.util.LongAccumulator;
 import org.apache.wayang.core.api.exception.WayangException;
 import org.apache.wayang.core.optimizer.OptimizationContext;
@@ -30,8 +31,11 @@ import org.apache.wayang.core.platform.ChannelDescriptor;
 import org.apache.wayang.core.platform.ChannelInstance;
 import org.apache.wayang.core.platform.Executor;
 import org.apache.wayang.core.util.Actions;
+import org.apache.wayang.spark.compiler.FusedPartitionFunction;
 import org.apache.wayang.spark.execution.SparkExecutor;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.OptionalLong;
 
 /**
@@ -78,6 +82,23 @@ public class RddChannel extends Channel {
 
         private LongAccumulator accumulator;
 
+        /**
+         * If the data quanta of this instance are not yet materialized as {@link #rdd}, they are described as
+         * {@link #fusedFunction} over the partitions of the {@link #sourceRdd}, so that consumers can fuse further
+         * narrow transformations into it.
+         */
+        private JavaRDD<?> sourceRdd;
+
+        private FusedPartitionFunction<?, ?> fusedFunction;
+
+        private SparkExecutor sparkExecutor;
+
+        /**
+         * {@link RDD}s that have been persisted to compute the {@link #rdd} and that should be unpersisted along with
+         * this instance.
+         */
+        private final Collection<RDD<?>> persistedRdds = new ArrayList<>(1);
+
         public Instance(SparkExecutor executor,
                         OptimizationContext.OperatorContext producerOperatorContext,
                         int producerOutputIndex) {
@@ -85,6 +106,7 @@ public class RddChannel extends Channel {
         }
 
         public void accept(JavaRDD<?> rdd, SparkExecutor sparkExecutor) throws WayangException {
+            assert this.fusedFunction == null;
             if (this.isMarkedForInstrumentation() && !this.isRddCached()) {
                 final LongAccumulator accumulator = sparkExecutor.sc.sc().longAccumulator();
                 accumulator.setValue(0);
@@ -99,13 +121,93 @@ public class RddChannel extends Channel {
         }
 
 
+        /**
+         * Provide the data quanta of the {@code input} as transformed by the {@code function}. If the data quanta of
+         * the {@code input} are themselves described by a {@link FusedPartitionFunction} within the same
+         * {@link org.apache.wayang.core.plan.executionplan.ExecutionStage}, the {@code function} is fused into it
+         * rather than creating a further {@link JavaRDD}. Should the {@code input} be marked for instrumentation, its
+         * data quanta are counted within the fused partition function.
+         *
+         * @param input         provides the data quanta to be transformed
+         * @param function      the transformation
+         * @param sparkExecutor fuses the {@code function} with any pending {@link FusedPartitionFunction} of the {@code input}
+         */
+        @SuppressWarnings("unchecked")
+        public <I, O> void accept(Instance input, FusedPartitionFunction<I, O> function, SparkExecutor sparkExecutor) {
+            assert this.rdd == null && this.fusedFunction == null;
+            this.sparkExecutor = sparkExecutor;
+            if (input.fusedFunction != null
+                    && !input.getChannel().isBetweenStages()
+                    && input.getChannel().getConsumers().size() <= 1) {
+                LongAccumulator inputAccumulator = null;
+                if (input.isMarkedForInstrumentation()) {
+                    inputAccumulator = input.accumulator = sparkExecutor.sc.sc().longAccumulator();
+                }
+                this.sourceRdd = input.sourceRdd;
+                this.fusedFunction = sparkExecutor.getCompiler().fuse(
+                        (FusedPartitionFunction<Object, I>) input.fusedFunction, function, inputAccumulator
+                );
+                // The input has been fused into this instance and must not be consumed anymore.
+                input.sourceRdd = null;
+                input.fusedFunction = null;
+            } else {
+                this.sourceRdd = input.provideRdd();
+                this.fusedFunction = function;
+            }
+        }
+
         @SuppressWarnings("unchecked")
         public <T> JavaRDD<T> provideRdd() {
+            if (this.fusedFunction != null) {
+                this.materialize();
+            }
             return (JavaRDD<T>) this.rdd;
         }
 
+        /**
+         * Materializes the pending {@link #fusedFunction} as a single {@link JavaRDD#mapPartitions} over the
+         * {@link #sourceRdd}. Any instrumentation happens within the fused function, too. Chains of filters keep
+         * the partitioner of the {@link #sourceRdd}.
+         */
+        @SuppressWarnings("unchecked")
+        private void materialize() {
+            FusedPartitionFunction<Object, Object> function = (FusedPartitionFunction<Object, Object>) this.fusedFunction;
+            if (this.isMarkedForInstrumentation() && !this.isRddCached()) {
+                this.accumulator = this.sparkExecutor.sc.sc().longAccumulator();
+                function = function.counting(this.accumulator);
+            }
+            final JavaRDD<Object> rdd = ((JavaRDD<Object>) this.sourceRdd).mapPartitions(
+                    function, function.isPreservingPartitioning()
+            );
+            rdd.setName(function.getName());
+            if (function.getOperatorNames().length > 1) {
+                logger.info("Fused {} into a single mapPartitions.", function.getName());
+            }
+            this.rdd = rdd;
+            this.sourceRdd = null;
+            this.fusedFunction = null;
+        }
+
+        /**
+         * Registers an {@link RDD} that has been persisted to compute the data quanta of this instance, e.g., because
+         * they are computed by several Spark jobs. It will be unpersisted once this instance is disposed, i.e., once
+         * it has no consumers left.
+         *
+         * @param persistedRdd the persisted {@link RDD}
+         */
+        public void unpersistOnDispose(RDD<?> persistedRdd) {
+            this.persistedRdds.add(persistedRdd);
+        }
+
         @Override
         protected void doDispose() {
+            this.sourceRdd = null;
+            this.fusedFunction = null;
+            for (RDD<?> persistedRdd : this.persistedRdds) {
+                Actions.doSafe(() -> persistedRdd.unpersist(false));
+                logger.debug("Unpersisted {}.", persistedRdd);
+            }
+            this.persistedRdds.clear();
             if (this.accumulator != null) {
                 this.setMeasuredCardinality(this.accumulator.value());
                 this.accumulator = null;
@@ -23,6 +23,7 @@ import org.apache.spark.api.java.function.FlatMapFunction;
 import org.apache.spark.api.java.function.Function;
 import org.apache.spark.api.java.function.Function2;
 import org.apache.spark.api.java.function.PairFunction;
+import org.apache.spark.util.LongAccumulator;
 import org.apache.wayang.core.function.FlatMapDescriptor;
 import org.apache.wayang.core.function.FunctionDescriptor;
 import org.apache.wayang.core.function.MapPartitionsDescriptor;
@@ -172,6 +173,102 @@ public class FunctionCompiler {
     }
 
 
+    /**
+     * Create a {@link FusedPartitionFunction} for the given {@link TransformationDescriptor}, so that it can be fused
+     * with further narrow transformations.
+     *
+     * @param descriptor      describes the transformation function
+     * @param operator        that executes the function
+     * @param operatorContext contains optimization information for the {@code operator}
+     * @param inputs          that feed the {@code operator}; only required if the {@code descriptor} describes an {@link ExtendedFunction}
+     */
+    public <I, O> FusedPartitionFunction<I, O> compileFused(TransformationDescriptor<I, O> descriptor,
+                                                            SparkExecutionOperator operator,
+                                                            OptimizationContext.OperatorContext operatorContext,
+                                                            ChannelInstance[] inputs) {
+        final java.util.function.Function<I, O> javaImplementation = descriptor.getJavaImplementation();
+        return FusedPartitionFunction.map(
+                javaImplementation,
+                this.createExecutionContext(javaImplementation, operator, operatorContext, inputs),
+                getName(operator)
+        );
+    }
+
+    /**
+     * Create a {@link FusedPartitionFunction} for the given {@link FlatMapDescriptor}, so that it can be fused
+     * with further narrow transformations.
+     *
+     * @param descriptor      describes the function
+     * @param operator        that executes the function
+     * @param operatorContext contains optimization information for the {@code operator}
+     * @param inputs          that feed the {@code operator}; only required if the {@code descriptor} describes an {@link ExtendedFunction}
+     */
+    public <I, O> FusedPartitionFunction<I, O> compileFused(FlatMapDescriptor<I, O> descriptor,
+                                                            SparkExecutionOperator operator,
+                                                            OptimizationContext.OperatorContext operatorContext,
+                                                            ChannelInstance[] inputs) {
+        final java.util.function.Function<I, Iterable<O>> javaImplementation = descriptor.getJavaImplementation();
+        return FusedPartitionFunction.flatMap(
+                javaImplementation,
+                this.createExecutionContext(javaImplementation, operator, operatorContext, inputs),
+                getName(operator)
+        );
+    }
+
+    /**
+     * Create a {@link FusedPartitionFunction} for the given {@link PredicateDescriptor}, so that it can be fused
+     * with further narrow transformations.
+     *
+     * @param predicateDescriptor describes the function
+     * @param operator            that executes the function
+     * @param operatorContext     contains optimization information for the {@code operator}
+     * @param inputs              that feed the {@code operator}; only required if the {@code descriptor} describes an {@link ExtendedFunction}
+     */
+    public <Type> FusedPartitionFunction<Type, Type> compileFused(PredicateDescriptor<Type> predicateDescriptor,
+                                                                  SparkExecutionOperator operator,
+                                                                  OptimizationContext.OperatorContext operatorContext,
+                                                                  ChannelInstance[] inputs) {
+        final Predicate<Type> javaImplementation = predicateDescriptor.getJavaImplementation();
+        return FusedPartitionFunction.filter(
+                javaImplementation,
+                this.createExecutionContext(javaImplementation, operator, operatorContext, inputs),
+                getName(operator)
+        );
+    }
+
+    /**
+     * Fuse two {@link FusedPartitionFunction}s into a single one that applies them one after another.
+     *
+     * @param first       the first {@link FusedPartitionFunction}
+     * @param second      the second {@link FusedPartitionFunction}
+     * @param accumulator if not {@code null}, counts the data quanta passed from {@code first} to {@code second}, so as
+     *                    to retain a cardinality measurement in between them
+     * @return the fused {@link FusedPartitionFunction}
+     */
+    public <I, M, O> FusedPartitionFunction<I, O> fuse(FusedPartitionFunction<I, M> first,
+                                                       FusedPartitionFunction<M, O> second,
+                                                       LongAccumulator accumulator) {
+        final FusedPartitionFunction<I, M> countedFirst = accumulator == null ? first : first.counting(accumulator);
+        return countedFirst.concat(second);
+    }
+
+    /**
+     * Create a {@link SparkExecutionContext} if the given function is an {@link ExtendedFunction}.
+     *
+     * @return the {@link SparkExecutionContext} or {@code null} if not needed
+     */
+    private SparkExecutionContext createExecutionContext(Object javaImplementation,
+                                                         SparkExecutionOperator operator,
+                                                         OptimizationContext.OperatorContext operatorContext,
+                                                         ChannelInstance[] inputs) {
+        if (!(javaImplementation instanceof org.apache.wayang.core.function.ExtendedFunction)) return null;
+        return new SparkExecutionContext(operator, inputs, operatorContext.getOptimizationContext().getIterationNumber());
+    }
+
+    private static String getName(SparkExecutionOperator operator) {
+        return operator.getName() != null ? operator.getName() : operator.toString();
+    }
+
     /**
      * Spark function for building pair RDDs.
      */
@@ -0,0 +1,281 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.wayang.spark.compiler;
+
+import org.apache.spark.api.java.JavaRDD;
+import org.apache.spark.api.java.function.FlatMapFunction;
+import org.apache.spark.util.LongAccumulator;
+import org.apache.wayang.core.function.ExecutionContext;
+import org.apache.wayang.spark.execution.SparkExecutionContext;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Applies a chain of narrow, element-wise transformations, i.e., maps, filters, and flat maps, to whole partitions
+ * via {@link JavaRDD#mapPartitions(FlatMapFunction)}. Instead of one {@link JavaRDD} and one Spark function adapter
+ * per transformation, the data quanta of a partition are pulled through a single iterator that loops over all steps.
+ * {@link org.apache.wayang.core.function.ExtendedFunction}s are opened once per partition.
+ *
+ * @param <Input>  input type of the chain
+ * @param <Output> output type of the chain
+ * @see FunctionCompiler#fuse(FusedPartitionFunction, FusedPartitionFunction, LongAccumulator)
+ */
+public final class FusedPartitionFunction<Input, Output> implements FlatMapFunction<Iterator<Input>, Output> {
+
+    private static final byte MAP = 0, FILTER = 1, FLAT_MAP = 2, COUNT = 3;
+
+    /**
+     * Kind of each step.
+     */
+    private final byte[] kinds;
+
+    /**
+     * The {@link Function}, {@link Predicate}, or {@link LongAccumulator} of each step.
+     */
+    private final Object[] steps;
+
+    /**
+     * The {@link ExecutionContext} to open the {@link org.apache.wayang.core.function.ExtendedFunction} of each step with or {@code null}.
+     */
+    private final SparkExecutionContext[] executionContexts;
+
+    /**
+     * Names of the fused operators.
+     */
+    private final String[] operatorNames;
+
+    private FusedPartitionFunction(byte[] kinds,
+                                   Object[] steps,
+                                   SparkExecutionContext[] executionContexts,
+                                   String[] operatorNames) {
+        this.kinds = kinds;
+        this.steps = steps;
+        this.executionContexts = executionContexts;
+        this.operatorNames = operatorNames;
+    }
+
+    static <I, O> FusedPartitionFunction<I, O> map(Function<I, O> function,
+                                                   SparkExecutionContext executionContext,
+                                                   String operatorName) {
+        return new FusedPartitionFunction<>(
+                new byte[]{MAP}, new Object[]{function}, new SparkExecutionContext[]{executionContext}, new String[]{operatorName}
+        );
+    }
+
+    static <T> FusedPartitionFunction<T, T> filter(Predicate<T> predicate,
+                                                   SparkExecutionContext executionContext,
+                                                   String operatorName) {
+        return new FusedPartitionFunction<>(
+                new byte[]{FILTER}, new Object[]{predicate}, new SparkExecutionContext[]{executionContext}, new String[]{operatorName}
+        );
+    }
+
+    static <I, O> FusedPartitionFunction<I, O> flatMap(Function<I, ? extends Iterable<O>> function,
+                                                       SparkExecutionContext executionContext,
+                                                       String operatorName) {
+        return new FusedPartitionFunction<>(
+                new byte[]{FLAT_MAP}, new Object[]{function}, new SparkExecutionContext[]{executionContext}, new String[]{operatorName}
+        );
+    }
+
+    /**
+     * Creates a new instance that additionally counts the output data quanta of this instance.
+     *
+     * @param accumulator counts the data quanta
+     * @return the new instance
+     */
+    public FusedPartitionFunction<Input, Output> counting(LongAccumulator accumulator) {
+        return this.concat(new FusedPartitionFunction<>(
+                new byte[]{COUNT}, new Object[]{accumulator}, new SparkExecutionContext[1], new String[0]
+        ));
+    }
+
+    /**
+     * Appends the steps of {@code that} instance to the steps of this instance.
+     */
+    <Next> FusedPartitionFunction<Input, Next> concat(FusedPartitionFunction<Output, Next> that) {
+        return new FusedPartitionFunction<>(
+                concat(this.kinds, that.kinds),
+                concat(this.steps, that.steps),
+                concat(this.executionContexts, that.executionContexts),
+                concat(this.operatorNames, that.operatorNames)
+        );
+    }
+
+    private static byte[] concat(byte[] a, byte[] b) {
+        final byte[] result = Arrays.copyOf(a, a.length + b.length);
+        System.arraycopy(b, 0, result, a.length, b.length);
+        return result;
+    }
+
+    private static <T> T[] concat(T[] a, T[] b) {
+        final T[] result = Arrays.copyOf(a, a.length + b.length);
+        System.arraycopy(b, 0, result, a.length, b.length);
+        return result;
+    }
+
+    /**
+     * @return the names of the fused operators in their execution order
+     */
+    public String[] getOperatorNames() {
+        return this.operatorNames.clone();
+    }
+
+    /**
+     * Tells whether this instance only drops data quanta, so that they remain in the partitions of the input
+     * {@link JavaRDD} and its partitioner stays valid.
+     *
+     * @return whether all steps are filters or counters
+     */
+    public boolean isPreservingPartitioning() {
+        for (byte kind : this.kinds) {
+            if (kind != FILTER && kind != COUNT) return false;
+        }
+        return true;
+    }
+
+    /**
+     * @return a name for the {@link JavaRDD} produced by this instance, which lists the fused operators
+     */
+    public String getName() {
+        return "Fused[" + String.join(" -> ", this.operatorNames) + "]";
+    }
+
+    @Override
+    public Iterator<Output> call(Iterator<Input> partition) throws Exception {
+        for (int step = 0; step < this.kinds.length; step++) {
+            if (this.executionContexts[step] != null) {
+                ((org.apache.wayang.core.function.ExtendedFunction) this.steps[step]).open(this.executionContexts[step]);
+            }
+        }
+        return new FusedIterator<>(this, partition);
+    }
+
+    @Override
+    public String toString() {
+        return this.getName();
+    }
+
+    /**
+     * Pulls the data quanta of a partition through the steps of a {@link FusedPartitionFunction}. The iterators of
+     * active flat maps are kept on a stack, so that their outputs are processed lazily.
+     */
+    private static final class FusedIterator<Output> implements Iterator<Output> {
+
+        private final byte[] kinds;
+
+        private final Object[] steps;
+
+        private final Iterator<?> partition;
+
+        /**
+         * Active flat map iterators and their steps; the deepest step is on top.
+         */
+        private final Iterator<?>[] flatMapIterators;
+
+        private final int[] flatMapSteps;
+
+        private int numActiveFlatMaps = 0;
+
+        private Object next;
+
+        private boolean hasNext = false;
+
+        private FusedIterator(FusedPartitionFunction<?, Output> function, Iterator<?> partition) {
+            this.kinds = function.kinds;
+            this.steps = function.steps;
+            this.partition = partition;
+            this.flatMapIterators = new Iterator<?>[this.kinds.length];
+            this.flatMapSteps = new int[this.kinds.length];
+        }
+
+        @Override
+        public boolean hasNext() {
+            return this.hasNext || (this.hasNext = this.advance());
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Output next() {
+            if (!this.hasNext()) throw new NoSuchElementException();
+            final Output output = (Output) this.next;
+            this.next = null;
+            this.hasNext = false;
+            return output;
+        }
+
+        /**
+         * Finds the next output data quantum and stores it in {@link #next}.
+         *
+         * @return whether there was a next output data quantum
+         */
+        @SuppressWarnings("unchecked")
+        private boolean advance() {
+            nextInput:
+            while (true) {
+                // Take the next data quantum from the deepest active flat map or else from the partition.
+                Object dataQuantum;
+                int fromStep;
+                while (this.numActiveFlatMaps > 0 && !this.flatMapIterators[this.numActiveFlatMaps - 1].hasNext()) {
+                    this.flatMapIterators[--this.numActiveFlatMaps] = null;
+                }
+                if (this.numActiveFlatMaps > 0) {
+                    dataQuantum = this.flatMapIterators[this.numActiveFlatMaps - 1].next();
+                    fromStep = this.flatMapSteps[this.numActiveFlatMaps - 1] + 1;
+                } else if (this.partition.hasNext()) {
+                    dataQuantum = this.partition.next();
+                    fromStep = 0;
+                } else {
+                    return false;
+                }
+
+                for (int step = fromStep; step < this.kinds.length; step++) {
+                    switch (this.kinds[step]) {
+                        case MAP:
+                            dataQuantum = ((Function<Object, Object>) this.steps[step]).apply(dataQuantum);
+                            break;
+                        case FILTER:
+                            if (!((Predicate<Object>) this.steps[step]).test(dataQuantum)) continue nextInput;
+                            break;
+                        case FLAT_MAP:
+                            final Iterable<?> dataQuanta = ((Function<Object, Iterable<?>>) this.steps[step]).apply(dataQuantum);
+                            this.flatMapIterators[this.numActiveFlatMaps] = dataQuanta.iterator();
+                            this.flatMapSteps[this.numActiveFlatMaps] = step;
+                            this.numActiveFlatMaps++;
+                            continue nextInput;
+                        case COUNT:
+                            ((LongAccumulator) this.steps[step]).add(1);
+                            break;
+                        default:
+                            throw new IllegalStateException("Unknown step kind " + this.kinds[step]);
+                    }
+                }
+                this.next = dataQuantum;
+                return true;
+            }
+        }
+
+    }
+
+}
@@ -18,6 +18,7 @@
 
 package org.apache.wayang.spark.execution;
 
+import org.apache.spark.api.java.JavaRDD;
 import org.apache.spark.api.java.JavaSparkContext;
 import org.apache.spark.sql.SparkSession;
 import org.apache.wayang.core.api.Job;
@@ -83,6 +84,12 @@ public class SparkExecutor extends PushExecutorTemplate {
      */
     private int numActions = 0;
 
+    /**
+     * Whether chains of narrow {@link SparkExecutionOperator}s should be fused into single
+     * {@link JavaRDD#mapPartitions} calls (cf. {@code wayang.spark.fusion}).
+     */
+    private final boolean isFusionEnabled;
+
     public SparkExecutor(SparkPlatform platform, Job job) {
         super(job);
         this.platform = platform;
@@ -97,6 +104,7 @@ public class SparkExecutor extends PushExecutorTemplate {
                     (int) (2 * this.getConfiguration().getLongProperty("wayang.spark.machines")
                             * this.getConfiguration().getLongProperty("wayang.spark.cores-per-machine"));
         }
+        this.isFusionEnabled = this.getConfiguration().getBooleanProperty("wayang.spark.fusion", true);
     }
 
     @Override
@@ -213,4 +221,14 @@ public class SparkExecutor extends PushExecutorTemplate {
     public FunctionCompiler getCompiler() {
         return this.compiler;
     }
+
+    /**
+     * Tells whether chains of maps, filters, and flat maps should be fused into single {@link JavaRDD#mapPartitions}
+     * calls.
+     *
+     * @return whether fusion is enabled via {@code wayang.spark.fusion}
+     */
+    public boolean isFusionEnabled() {
+        return this.isFusionEnabled;
+    }
 }
@@ -25,24 +25,38 @@ import org.apache.wayang.core.mapping.PlanTransformation;
 import org.apache.wayang.core.mapping.ReplacementSubplanFactory;
 import org.apache.wayang.core.mapping.SubplanPattern;
 import org.apache.wayang.core.types.DataSetType;
+import org.apache.wayang.spark.operators.SparkBroadcastJoinOperator;
 import org.apache.wayang.spark.operators.SparkJoinOperator;
 import org.apache.wayang.spark.platform.SparkPlatform;
 
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.Collections;
 
 /**
- * Mapping from {@link JoinOperator} to {@link SparkJoinOperator}.
+ * Mapping from {@link JoinOperator} to {@link SparkJoinOperator} and {@link SparkBroadcastJoinOperator}s, among
+ * which the optimizer picks by their costs.
  */
 public class JoinMapping implements Mapping {
 
     @Override
     public Collection<PlanTransformation> getTransformations() {
-        return Collections.singleton(new PlanTransformation(
-                this.createSubplanPattern(),
-                this.createReplacementSubplanFactory(),
-                SparkPlatform.getInstance()
-        ));
+        return Arrays.asList(
+                new PlanTransformation(
+                        this.createSubplanPattern(),
+                        this.createReplacementSubplanFactory(),
+                        SparkPlatform.getInstance()
+                ),
+                new PlanTransformation(
+                        this.createSubplanPattern(),
+                        this.createBroadcastJoinReplacementSubplanFactory(0),
+                        SparkPlatform.getInstance()
+                ),
+                new PlanTransformation(
+                        this.createSubplanPattern(),
+                        this.createBroadcastJoinReplacementSubplanFactory(1),
+                        SparkPlatform.getInstance()
+                )
+        );
     }
 
     private SubplanPattern createSubplanPattern() {
@@ -57,4 +71,10 @@ public class JoinMapping implements Mapping {
                 (matchedOperator, epoch) -> new SparkJoinOperator<>(matchedOperator).at(epoch)
         );
     }
+
+    private ReplacementSubplanFactory createBroadcastJoinReplacementSubplanFactory(int broadcastInputIndex) {
+        return new ReplacementSubplanFactory.OfSingleOperators<JoinOperator<Object, Object, Object>>(
+                (matchedOperator, epoch) -> new SparkBroadcastJoinOperator<>(matchedOperator, broadcastInputIndex).at(epoch)
+        );
+    }
 }
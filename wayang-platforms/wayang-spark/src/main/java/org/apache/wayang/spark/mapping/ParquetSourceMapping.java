@@ -47,9 +47,9 @@ public class ParquetSourceMapping implements Mapping {
     }
 
     private SubplanPattern createSubplanPattern() {
-        final OperatorPattern operatorPattern = new OperatorPattern(
+        final OperatorPattern<ParquetSource> operatorPattern = new OperatorPattern<>(
                 "source", new ParquetSource((String) null, (String[]) null), false
-        );
+        ).withAdditionalTest(op -> op.getFilterPredicate() == null); // filters are pushed down by the Java platform only
         return SubplanPattern.createSingleton(operatorPattern);
     }
 
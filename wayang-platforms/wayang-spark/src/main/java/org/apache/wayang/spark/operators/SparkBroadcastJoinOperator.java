@@ -0,0 +1,268 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.spark.operators;
+
+import org.apache.spark.api.java.JavaRDD;
+import org.apache.spark.api.java.function.FlatMapFunction;
+import org.apache.spark.broadcast.Broadcast;
+import org.apache.wayang.basic.data.Tuple2;
+import org.apache.wayang.basic.operators.JoinOperator;
+import org.apache.wayang.core.api.Configuration;
+import org.apache.wayang.core.api.exception.WayangException;
+import org.apache.wayang.core.function.TransformationDescriptor;
+import org.apache.wayang.core.optimizer.OptimizationContext;
+import org.apache.wayang.core.optimizer.costs.LoadProfileEstimator;
+import org.apache.wayang.core.optimizer.costs.LoadProfileEstimators;
+import org.apache.wayang.core.plan.wayangplan.ExecutionOperator;
+import org.apache.wayang.core.platform.ChannelDescriptor;
+import org.apache.wayang.core.platform.ChannelInstance;
+import org.apache.wayang.core.platform.lineage.ExecutionLineageNode;
+import org.apache.wayang.core.types.DataSetType;
+import org.apache.wayang.core.util.Tuple;
+import org.apache.wayang.spark.channels.BroadcastChannel;
+import org.apache.wayang.spark.channels.RddChannel;
+import org.apache.wayang.spark.compiler.FunctionCompiler;
+import org.apache.wayang.spark.execution.SparkExecutor;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+
+/**
+ * Spark implementation of the {@link JoinOperator} that broadcasts one of its inputs and probes the other input
+ * against it without shuffling. The broadcast input is provided via a {@link BroadcastChannel}, so that the
+ * optimizer accounts for collecting and broadcasting it and picks this operator only for small inputs.
+ */
+public class SparkBroadcastJoinOperator<InputType0, InputType1, KeyType>
+        extends JoinOperator<InputType0, InputType1, KeyType>
+        implements SparkExecutionOperator {
+
+    /**
+     * The index of the input that is broadcast.
+     */
+    private final int broadcastInputIndex;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param broadcastInputIndex the index of the input that should be broadcast
+     */
+    public SparkBroadcastJoinOperator(DataSetType<InputType0> inputType0,
+                                      DataSetType<InputType1> inputType1,
+                                      TransformationDescriptor<InputType0, KeyType> keyDescriptor0,
+                                      TransformationDescriptor<InputType1, KeyType> keyDescriptor1,
+                                      int broadcastInputIndex) {
+        super(keyDescriptor0, keyDescriptor1, inputType0, inputType1);
+        assert broadcastInputIndex == 0 || broadcastInputIndex == 1;
+        this.broadcastInputIndex = broadcastInputIndex;
+    }
+
+    /**
+     * Copies an instance (exclusive of broadcasts).
+     *
+     * @param that                that should be copied
+     * @param broadcastInputIndex the index of the input that should be broadcast
+     */
+    public SparkBroadcastJoinOperator(JoinOperator<InputType0, InputType1, KeyType> that, int broadcastInputIndex) {
+        super(that);
+        assert broadcastInputIndex == 0 || broadcastInputIndex == 1;
+        this.broadcastInputIndex = broadcastInputIndex;
+    }
+
+    public int getBroadcastInputIndex() {
+        return this.broadcastInputIndex;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Tuple<Collection<ExecutionLineageNode>, Collection<ChannelInstance>> evaluate(
+            ChannelInstance[] inputs,
+            ChannelInstance[] outputs,
+            SparkExecutor sparkExecutor,
+            OptimizationContext.OperatorContext operatorContext) {
+        assert inputs.length == this.getNumInputs();
+        assert outputs.length == this.getNumOutputs();
+
+        final RddChannel.Instance probeInput = (RddChannel.Instance) inputs[1 - this.broadcastInputIndex];
+        final BroadcastChannel.Instance broadcastInput = (BroadcastChannel.Instance) inputs[this.broadcastInputIndex];
+        final RddChannel.Instance output = (RddChannel.Instance) outputs[0];
+
+        final FunctionCompiler compiler = sparkExecutor.getCompiler();
+        final FunctionCompiler.KeyExtractor<InputType0, KeyType> keyExtractor0 = compiler.compileToKeyExtractor(this.keyDescriptor0);
+        final FunctionCompiler.KeyExtractor<InputType1, KeyType> keyExtractor1 = compiler.compileToKeyExtractor(this.keyDescriptor1);
+
+        final JavaRDD<Tuple2<InputType0, InputType1>> outputRdd;
+        if (this.broadcastInputIndex == 1) {
+            final JavaRDD<InputType0> probeRdd = probeInput.provideRdd();
+            outputRdd = probeRdd.mapPartitions(new HashJoiner<>(
+                    broadcastHashTable((Broadcast<Collection<InputType1>>) broadcastInput.provideBroadcast(), keyExtractor1, sparkExecutor),
+                    keyExtractor0,
+                    false
+            ));
+        } else {
+            final JavaRDD<InputType1> probeRdd = probeInput.provideRdd();
+            outputRdd = probeRdd.mapPartitions(new HashJoiner<>(
+                    broadcastHashTable((Broadcast<Collection<InputType0>>) broadcastInput.provideBroadcast(), keyExtractor0, sparkExecutor),
+                    keyExtractor1,
+                    true
+            ));
+        }
+        this.name(outputRdd);
+
+        output.accept(outputRdd, sparkExecutor);
+
+        return ExecutionOperator.modelLazyExecution(inputs, outputs, operatorContext);
+    }
+
+    @Override
+    protected ExecutionOperator createCopy() {
+        return new SparkBroadcastJoinOperator<>(this.getInputType0(), this.getInputType1(),
+                this.getKeyDescriptor0(), this.getKeyDescriptor1(), this.broadcastInputIndex);
+    }
+
+    /**
+     * Builds a hash table over the broadcast data quanta on the driver, where they are available anyway, and
+     * broadcasts it in place of the plain data quanta. That way, the hash table is built once rather than once per
+     * partition of the probe side, and the plain data quanta need not be shipped to the Spark executors at all.
+     *
+     * @param broadcast    contains the data quanta to build the hash table over
+     * @param keyExtractor extracts the join keys of the data quanta
+     * @return a {@link Broadcast} of the hash table
+     */
+    private static <BuildType, KeyType> Broadcast<Map<KeyType, List<BuildType>>> broadcastHashTable(
+            Broadcast<Collection<BuildType>> broadcast,
+            FunctionCompiler.KeyExtractor<BuildType, KeyType> keyExtractor,
+            SparkExecutor sparkExecutor) {
+        final Map<KeyType, List<BuildType>> hashTable = new HashMap<>();
+        for (BuildType buildDataQuantum : broadcast.value()) {
+            final KeyType key;
+            try {
+                key = keyExtractor.call(buildDataQuantum)._1;
+            } catch (Exception e) {
+                throw new WayangException("Could not extract the join key.", e);
+            }
+            hashTable.computeIfAbsent(key, k -> new ArrayList<>(1)).add(buildDataQuantum);
+        }
+        return sparkExecutor.sc.broadcast(hashTable);
+    }
+
+    /**
+     * Probes the data quanta of a partition against a broadcast hash table.
+     */
+    private static class HashJoiner<ProbeType, BuildType, KeyType, OutputType0, OutputType1>
+            implements FlatMapFunction<Iterator<ProbeType>, Tuple2<OutputType0, OutputType1>> {
+
+        private final Broadcast<Map<KeyType, List<BuildType>>> hashTable;
+
+        private final FunctionCompiler.KeyExtractor<ProbeType, KeyType> probeKeyExtractor;
+
+        /**
+         * Whether the broadcast data quanta form the first field of the output {@link Tuple2}s.
+         */
+        private final boolean isBuildFirst;
+
+        private HashJoiner(Broadcast<Map<KeyType, List<BuildType>>> hashTable,
+                           FunctionCompiler.KeyExtractor<ProbeType, KeyType> probeKeyExtractor,
+                           boolean isBuildFirst) {
+            this.hashTable = hashTable;
+            this.probeKeyExtractor = probeKeyExtractor;
+            this.isBuildFirst = isBuildFirst;
+        }
+
+        @Override
+        public Iterator<Tuple2<OutputType0, OutputType1>> call(Iterator<ProbeType> probeIterator) throws Exception {
+            final Map<KeyType, List<BuildType>> hashTable = this.hashTable.value();
+            if (hashTable.isEmpty()) return Collections.emptyIterator();
+
+            return new Iterator<Tuple2<OutputType0, OutputType1>>() {
+
+                private ProbeType probeDataQuantum;
+
+                private Iterator<BuildType> partnerIterator = Collections.emptyIterator();
+
+                @Override
+                public boolean hasNext() {
+                    while (!this.partnerIterator.hasNext()) {
+                        if (!probeIterator.hasNext()) return false;
+                        this.probeDataQuantum = probeIterator.next();
+                        final List<BuildType> partners;
+                        try {
+                            partners = hashTable.get(HashJoiner.this.probeKeyExtractor.call(this.probeDataQuantum)._1);
+                        } catch (Exception e) {
+                            throw new WayangException("Could not extract the join key.", e);
+                        }
+                        if (partners != null) this.partnerIterator = partners.iterator();
+                    }
+                    return true;
+                }
+
+                @Override
+                @SuppressWarnings("unchecked")
+                public Tuple2<OutputType0, OutputType1> next() {
+                    if (!this.hasNext()) throw new NoSuchElementException();
+                    final BuildType buildDataQuantum = this.partnerIterator.next();
+                    return HashJoiner.this.isBuildFirst ?
+                            new Tuple2<>((OutputType0) buildDataQuantum, (OutputType1) this.probeDataQuantum) :
+                            new Tuple2<>((OutputType0) this.probeDataQuantum, (OutputType1) buildDataQuantum);
+                }
+            };
+        }
+    }
+
+    @Override
+    public String getLoadProfileEstimatorConfigurationKey() {
+        return "wayang.spark.broadcastjoin.load";
+    }
+
+    @Override
+    public Optional<LoadProfileEstimator> createLoadProfileEstimator(Configuration configuration) {
+        final Optional<LoadProfileEstimator> optEstimator =
+                SparkExecutionOperator.super.createLoadProfileEstimator(configuration);
+        LoadProfileEstimators.nestUdfEstimator(optEstimator, this.keyDescriptor0, configuration);
+        LoadProfileEstimators.nestUdfEstimator(optEstimator, this.keyDescriptor1, configuration);
+        return optEstimator;
+    }
+
+    @Override
+    public List<ChannelDescriptor> getSupportedInputChannels(int index) {
+        assert index <= this.getNumInputs() || (index == 0 && this.getNumInputs() == 0);
+        return index == this.broadcastInputIndex ?
+                Collections.singletonList(BroadcastChannel.DESCRIPTOR) :
+                Arrays.asList(RddChannel.UNCACHED_DESCRIPTOR, RddChannel.CACHED_DESCRIPTOR);
+    }
+
+    @Override
+    public List<ChannelDescriptor> getSupportedOutputChannels(int index) {
+        assert index <= this.getNumOutputs() || (index == 0 && this.getNumOutputs() == 0);
+        return Collections.singletonList(RddChannel.UNCACHED_DESCRIPTOR);
+    }
+
+    @Override
+    public boolean containsAction() {
+        return false;
+    }
+
+}
@@ -76,6 +76,15 @@ public class SparkFilterOperator<Type>
         assert inputs.length == this.getNumInputs();
         assert outputs.length == this.getNumOutputs();
 
+        if (sparkExecutor.isFusionEnabled()) {
+            ((RddChannel.Instance) outputs[0]).accept(
+                    (RddChannel.Instance) inputs[0],
+                    sparkExecutor.getCompiler().compileFused(this.predicateDescriptor, this, operatorContext, inputs),
+                    sparkExecutor
+            );
+            return ExecutionOperator.modelLazyExecution(inputs, outputs, operatorContext);
+        }
+
         final Function<Type, Boolean> filterFunction = sparkExecutor.getCompiler().compile(
                 this.predicateDescriptor, this, operatorContext, inputs
         );
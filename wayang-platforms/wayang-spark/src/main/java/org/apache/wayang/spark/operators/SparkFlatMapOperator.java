@@ -81,6 +81,15 @@ public class SparkFlatMapOperator<InputType, OutputType>
         final RddChannel.Instance input = (RddChannel.Instance) inputs[0];
         final RddChannel.Instance output = (RddChannel.Instance) outputs[0];
 
+        if (sparkExecutor.isFusionEnabled()) {
+            output.accept(
+                    input,
+                    sparkExecutor.getCompiler().compileFused(this.functionDescriptor, this, operatorContext, inputs),
+                    sparkExecutor
+            );
+            return ExecutionOperator.modelLazyExecution(inputs, outputs, operatorContext);
+        }
+
         final FlatMapFunction<InputType, OutputType> flatMapFunction =
                 sparkExecutor.getCompiler().compile(this.functionDescriptor, this, operatorContext, inputs);
 
@@ -18,10 +18,16 @@
 
 package org.apache.wayang.spark.operators;
 
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.spark.TaskContext;
 import org.apache.spark.api.java.JavaPairRDD;
 import org.apache.spark.api.java.JavaRDD;
-import org.apache.spark.api.java.function.Function;
+import org.apache.spark.api.java.function.FlatMapFunction;
+import org.apache.spark.api.java.function.PairFlatMapFunction;
 import org.apache.spark.api.java.function.PairFunction;
+import org.apache.spark.broadcast.Broadcast;
+import org.apache.spark.storage.StorageLevel;
 import org.apache.wayang.basic.data.Tuple2;
 import org.apache.wayang.basic.operators.JoinOperator;
 import org.apache.wayang.core.api.Configuration;
@@ -39,11 +45,16 @@ import org.apache.wayang.spark.channels.RddChannel;
 import org.apache.wayang.spark.compiler.FunctionCompiler;
 import org.apache.wayang.spark.execution.SparkExecutor;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Spark implementation of the {@link JoinOperator}.
@@ -52,6 +63,8 @@ public class SparkJoinOperator<InputType0, InputType1, KeyType>
         extends JoinOperator<InputType0, InputType1, KeyType>
         implements SparkExecutionOperator {
 
+    private final Logger logger = LogManager.getLogger(this.getClass());
+
     /**
      * Creates a new instance.
      */
@@ -94,13 +107,37 @@ public class SparkJoinOperator<InputType0, InputType1, KeyType>
         JavaPairRDD<KeyType, InputType0> pairStream0 = inputRdd0.mapToPair(keyExtractor0);
         JavaPairRDD<KeyType, InputType1> pairStream1 = inputRdd1.mapToPair(keyExtractor1);
 
-        final JavaPairRDD<KeyType, scala.Tuple2<InputType0, InputType1>> outputPair =
-                pairStream0.<InputType1>join(pairStream1, sparkExecutor.getNumDefaultPartitions());
-        this.name(outputPair);
+        final int numPartitions = sparkExecutor.getNumDefaultPartitions();
+        final Configuration configuration = sparkExecutor.getConfiguration();
+        final Set<KeyType> skewedKeys;
+        if (configuration.getBooleanProperty("wayang.spark.join.skew.enabled", false)) {
+            if (!input0.getChannel().isReusable()) {
+                // The sampling is a Spark job of its own, so persist the first input rather than computing it twice.
+                pairStream0 = pairStream0.persist(StorageLevel.MEMORY_AND_DISK());
+                output.unpersistOnDispose(pairStream0.rdd());
+            }
+            skewedKeys = this.detectSkewedKeys(pairStream0, numPartitions, configuration);
+        } else {
+            skewedKeys = Collections.emptySet();
+        }
 
-        // convert from scala tuple to wayang tuple
-        final JavaRDD<Tuple2<InputType0, InputType1>> outputRdd = outputPair
-                .map(new TupleConverter<>());
+        // Emit the join partners directly as Wayang tuples rather than converting the output of JavaPairRDD#join.
+        final JavaRDD<Tuple2<InputType0, InputType1>> outputRdd;
+        if (skewedKeys.isEmpty()) {
+            final JavaPairRDD<KeyType, scala.Tuple2<Iterable<InputType0>, Iterable<InputType1>>> groups =
+                    pairStream0.cogroup(pairStream1, numPartitions);
+            this.name(groups);
+            outputRdd = groups.flatMap(new JoinPartnerEmitter<>());
+        } else {
+            this.logger.info("Salting {} skewed join keys of {}.", skewedKeys.size(), this);
+            final Broadcast<Set<KeyType>> skewedKeysBroadcast = sparkExecutor.sc.broadcast(skewedKeys);
+            final int numSalts = (int) configuration.getLongProperty("wayang.spark.join.skew.salts", numPartitions);
+            final JavaPairRDD<scala.Tuple2<KeyType, Integer>, scala.Tuple2<Iterable<InputType0>, Iterable<InputType1>>> groups =
+                    pairStream0.mapPartitionsToPair(new Salter<>(skewedKeysBroadcast, numSalts))
+                            .cogroup(pairStream1.flatMapToPair(new SaltReplicator<>(skewedKeysBroadcast, numSalts)), numPartitions);
+            this.name(groups);
+            outputRdd = groups.flatMap(new JoinPartnerEmitter<>());
+        }
         this.name(outputRdd);
 
         output.accept(outputRdd, sparkExecutor);
@@ -115,15 +152,131 @@ public class SparkJoinOperator<InputType0, InputType1, KeyType>
     }
 
     /**
-     * Migrates {@link scala.Tuple2} to {@link Tuple2}.
-     * <p><i>TODO: See, if we can somehow dodge all this conversion, which is likely to happen a lot.</i></p>
+     * Samples the first input to find keys that are so frequent that each of them alone would exceed the fair share
+     * of a partition.
+     *
+     * @return the frequent keys
+     */
+    private Set<KeyType> detectSkewedKeys(JavaPairRDD<KeyType, InputType0> pairStream,
+                                          int numPartitions,
+                                          Configuration configuration) {
+        final double sampleFraction = configuration.getDoubleProperty("wayang.spark.join.skew.sample-fraction", 0.01);
+        final long minSampleCount = configuration.getLongProperty("wayang.spark.join.skew.min-sample-count", 10);
+        final Map<KeyType, Long> sampledKeyCounts = pairStream.sample(false, sampleFraction).countByKey();
+        final long sampleSize = sampledKeyCounts.values().stream().mapToLong(Long::longValue).sum();
+        final double threshold = Math.max(minSampleCount, sampleSize / (double) numPartitions);
+        final Set<KeyType> skewedKeys = new HashSet<>();
+        for (Map.Entry<KeyType, Long> entry : sampledKeyCounts.entrySet()) {
+            if (entry.getValue() >= threshold) skewedKeys.add(entry.getKey());
+        }
+        return skewedKeys;
+    }
+
+    /**
+     * Emits all pairs of join partners from a co-group.
      */
-    private static class TupleConverter<InputType0, InputType1, KeyType>
-            implements Function<scala.Tuple2<KeyType, scala.Tuple2<InputType0, InputType1>>, Tuple2<InputType0, InputType1>> {
+    private static class JoinPartnerEmitter<KeyType, InputType0, InputType1>
+            implements FlatMapFunction<scala.Tuple2<KeyType, scala.Tuple2<Iterable<InputType0>, Iterable<InputType1>>>, Tuple2<InputType0, InputType1>> {
+
+        @Override
+        public Iterator<Tuple2<InputType0, InputType1>> call(
+                scala.Tuple2<KeyType, scala.Tuple2<Iterable<InputType0>, Iterable<InputType1>>> group) {
+            final Iterable<InputType1> partners1 = group._2._2;
+            if (!partners1.iterator().hasNext()) return Collections.emptyIterator();
+            return new Iterator<Tuple2<InputType0, InputType1>>() {
+
+                private final Iterator<InputType0> iterator0 = group._2._1.iterator();
+
+                private InputType0 partner0;
+
+                private Iterator<InputType1> iterator1 = Collections.emptyIterator();
+
+                @Override
+                public boolean hasNext() {
+                    return this.iterator1.hasNext() || this.iterator0.hasNext();
+                }
+
+                @Override
+                public Tuple2<InputType0, InputType1> next() {
+                    if (!this.iterator1.hasNext()) {
+                        this.partner0 = this.iterator0.next();
+                        this.iterator1 = partners1.iterator();
+                    }
+                    return new Tuple2<>(this.partner0, this.iterator1.next());
+                }
+            };
+        }
+    }
+
+    /**
+     * Spreads the data quanta with skewed keys of the first input round-robin over several salts.
+     */
+    private static class Salter<KeyType, InputType>
+            implements PairFlatMapFunction<Iterator<scala.Tuple2<KeyType, InputType>>, scala.Tuple2<KeyType, Integer>, InputType> {
+
+        private final Broadcast<Set<KeyType>> skewedKeys;
+
+        private final int numSalts;
+
+        private Salter(Broadcast<Set<KeyType>> skewedKeys, int numSalts) {
+            this.skewedKeys = skewedKeys;
+            this.numSalts = numSalts;
+        }
+
+        @Override
+        public Iterator<scala.Tuple2<scala.Tuple2<KeyType, Integer>, InputType>> call(
+                Iterator<scala.Tuple2<KeyType, InputType>> iterator) {
+            final Set<KeyType> skewedKeys = this.skewedKeys.value();
+            // Start at different salts in different partitions, so that small partitions do not all use the first salts.
+            final int[] nextSalt = {TaskContext.getPartitionId() % this.numSalts};
+            return new Iterator<scala.Tuple2<scala.Tuple2<KeyType, Integer>, InputType>>() {
+                @Override
+                public boolean hasNext() {
+                    return iterator.hasNext();
+                }
+
+                @Override
+                public scala.Tuple2<scala.Tuple2<KeyType, Integer>, InputType> next() {
+                    final scala.Tuple2<KeyType, InputType> keyedDataQuantum = iterator.next();
+                    int salt = 0;
+                    if (skewedKeys.contains(keyedDataQuantum._1)) {
+                        salt = nextSalt[0];
+                        nextSalt[0] = (salt + 1) % Salter.this.numSalts;
+                    }
+                    return new scala.Tuple2<>(new scala.Tuple2<>(keyedDataQuantum._1, salt), keyedDataQuantum._2);
+                }
+            };
+        }
+    }
+
+    /**
+     * Replicates the data quanta with skewed keys of the second input to all salts.
+     */
+    private static class SaltReplicator<KeyType, InputType>
+            implements PairFlatMapFunction<scala.Tuple2<KeyType, InputType>, scala.Tuple2<KeyType, Integer>, InputType> {
+
+        private final Broadcast<Set<KeyType>> skewedKeys;
+
+        private final int numSalts;
+
+        private SaltReplicator(Broadcast<Set<KeyType>> skewedKeys, int numSalts) {
+            this.skewedKeys = skewedKeys;
+            this.numSalts = numSalts;
+        }
 
         @Override
-        public Tuple2<InputType0, InputType1> call(scala.Tuple2<KeyType, scala.Tuple2<InputType0, InputType1>> scalaTuple) throws Exception {
-            return new Tuple2<>(scalaTuple._2._1, scalaTuple._2._2);
+        public Iterator<scala.Tuple2<scala.Tuple2<KeyType, Integer>, InputType>> call(
+                scala.Tuple2<KeyType, InputType> keyedDataQuantum) {
+            if (!this.skewedKeys.value().contains(keyedDataQuantum._1)) {
+                return Collections.singletonList(
+                        new scala.Tuple2<>(new scala.Tuple2<>(keyedDataQuantum._1, 0), keyedDataQuantum._2)
+                ).iterator();
+            }
+            final List<scala.Tuple2<scala.Tuple2<KeyType, Integer>, InputType>> replicas = new ArrayList<>(this.numSalts);
+            for (int salt = 0; salt < this.numSalts; salt++) {
+                replicas.add(new scala.Tuple2<>(new scala.Tuple2<>(keyedDataQuantum._1, salt), keyedDataQuantum._2));
+            }
+            return replicas.iterator();
         }
     }
 
@@ -81,6 +81,15 @@ public class SparkMapOperator<InputType, OutputType>
         RddChannel.Instance input = (RddChannel.Instance) inputs[0];
         RddChannel.Instance output = (RddChannel.Instance) outputs[0];
 
+        if (sparkExecutor.isFusionEnabled()) {
+            output.accept(
+                    input,
+                    sparkExecutor.getCompiler().compileFused(this.functionDescriptor, this, operatorContext, inputs),
+                    sparkExecutor
+            );
+            return ExecutionOperator.modelLazyExecution(inputs, outputs, operatorContext);
+        }
+
         final JavaRDD<InputType> inputRdd = input.provideRdd();
         final Function<InputType, OutputType> mapFunctions =
                 sparkExecutor.getCompiler().compile(this.functionDescriptor, this, operatorContext, inputs);
@@ -110,17 +110,26 @@ public class SparkPlatform extends Platform {
 
     /**
      * Configures the single maintained {@link JavaSparkContext} according to the {@code job} and returns it.
+     * Concurrent {@link Job}s share the {@link JavaSparkContext}, but each of them holds its own reference on it,
+     * so that it is only closed once the last of them has finished.
      *
      * @return a {@link SparkContextReference} wrapping the {@link JavaSparkContext}
      */
-    public SparkContextReference getSparkContext(Job job) {
+    public synchronized SparkContextReference getSparkContext(Job job) {
         //System.out.println("In Job with "+job.isMontiorWithHackIT());
         //System.exit(0);
         // NB: There must be only one JavaSparkContext per JVM. Therefore, it is not local to the executor.
         final SparkConf sparkConf;
         final Configuration configuration = job.getConfiguration();
 
-        if (this.sparkContextReference != null && !this.sparkContextReference.isDisposed()) {
+        final boolean isReusingSparkContext =
+                this.sparkContextReference != null && this.sparkContextReference.tryObtainReference();
+        if (isReusingSparkContext) {
+            // Hand the reference over to the job, so that it is released when the job releases its resources.
+            if (job.getCrossPlatformExecutor() != null) {
+                job.getCrossPlatformExecutor().registerGlobal(this.sparkContextReference);
+            }
+            this.sparkContextReference.noteDiscardedReference(false);
             final JavaSparkContext sparkContext = this.sparkContextReference.get();
             this.logger.warn(
                     "There is already a SparkContext (master: {}): , which will be reused. " +
@@ -146,7 +155,7 @@ public class SparkPlatform extends Platform {
             sparkConf.set("spark.app.name", job.getName());
         }
         // sparkConf.set("spark.extraListeners","org.apache.wayang.monitoring.spark.SparkListener");
-        if (this.sparkContextReference == null || this.sparkContextReference.isDisposed()) {
+        if (!isReusingSparkContext) {
             this.sparkContextReference = new SparkContextReference(job.getCrossPlatformExecutor(), new JavaSparkContext(sparkConf));
         }
         final JavaSparkContext sparkContext = this.sparkContextReference.get();
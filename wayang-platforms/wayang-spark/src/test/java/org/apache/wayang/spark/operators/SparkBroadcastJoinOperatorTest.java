@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.spark.operators;
+
+import org.apache.wayang.basic.data.Tuple2;
+import org.apache.wayang.basic.function.ProjectionDescriptor;
+import org.apache.wayang.core.platform.ChannelInstance;
+import org.apache.wayang.core.types.DataSetType;
+import org.apache.wayang.core.types.DataUnitType;
+import org.apache.wayang.spark.channels.BroadcastChannel;
+import org.apache.wayang.spark.channels.RddChannel;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Test suite for {@link SparkBroadcastJoinOperator}.
+ */
+class SparkBroadcastJoinOperatorTest extends SparkOperatorTestBase {
+
+    private static final List<Tuple2<Integer, String>> DATA0 = Arrays.asList(
+            new Tuple2<>(1, "b"), new Tuple2<>(1, "c"), new Tuple2<>(2, "d"), new Tuple2<>(3, "e"));
+
+    private static final List<Tuple2<String, Integer>> DATA1 = Arrays.asList(
+            new Tuple2<>("x", 1), new Tuple2<>("y", 1), new Tuple2<>("z", 2), new Tuple2<>("w", 4));
+
+    private static final List<Tuple2<Tuple2<Integer, String>, Tuple2<String, Integer>>> EXPECTED_RESULT = Arrays.asList(
+            new Tuple2<>(new Tuple2<>(1, "b"), new Tuple2<>("x", 1)),
+            new Tuple2<>(new Tuple2<>(1, "b"), new Tuple2<>("y", 1)),
+            new Tuple2<>(new Tuple2<>(1, "c"), new Tuple2<>("x", 1)),
+            new Tuple2<>(new Tuple2<>(1, "c"), new Tuple2<>("y", 1)),
+            new Tuple2<>(new Tuple2<>(2, "d"), new Tuple2<>("z", 2)));
+
+    private SparkBroadcastJoinOperator<Tuple2, Tuple2, Integer> createJoin(int broadcastInputIndex) {
+        return new SparkBroadcastJoinOperator<>(
+                DataSetType.createDefaultUnchecked(Tuple2.class),
+                DataSetType.createDefaultUnchecked(Tuple2.class),
+                new ProjectionDescriptor<>(
+                        DataUnitType.createBasicUnchecked(Tuple2.class),
+                        DataUnitType.createBasic(Integer.class),
+                        "field0"),
+                new ProjectionDescriptor<>(
+                        DataUnitType.createBasicUnchecked(Tuple2.class),
+                        DataUnitType.createBasic(Integer.class),
+                        "field1"),
+                broadcastInputIndex);
+    }
+
+    private BroadcastChannel.Instance createBroadcastChannelInstance(List<?> data) {
+        BroadcastChannel.Instance instance = (BroadcastChannel.Instance) BroadcastChannel.DESCRIPTOR
+                .createChannel(null, this.configuration)
+                .createInstance(this.sparkExecutor, null, -1);
+        instance.accept(this.getSC().broadcast(data));
+        return instance;
+    }
+
+    @Test
+    void testExecutionWithBroadcastSecondInput() {
+        RddChannel.Instance input0 = this.createRddChannelInstance(DATA0);
+        BroadcastChannel.Instance input1 = this.createBroadcastChannelInstance(DATA1);
+        RddChannel.Instance output = this.createRddChannelInstance();
+
+        this.evaluate(this.createJoin(1), new ChannelInstance[]{input0, input1}, new ChannelInstance[]{output});
+
+        // The probe side determines the order of the join partners.
+        final List<Tuple2<Tuple2<Integer, String>, Tuple2<String, Integer>>> result =
+                output.<Tuple2<Tuple2<Integer, String>, Tuple2<String, Integer>>>provideRdd().collect();
+        assertEquals(EXPECTED_RESULT, result);
+    }
+
+    @Test
+    void testExecutionWithBroadcastFirstInput() {
+        BroadcastChannel.Instance input0 = this.createBroadcastChannelInstance(DATA0);
+        RddChannel.Instance input1 = this.createRddChannelInstance(DATA1);
+        RddChannel.Instance output = this.createRddChannelInstance();
+
+        this.evaluate(this.createJoin(0), new ChannelInstance[]{input0, input1}, new ChannelInstance[]{output});
+
+        final List<Tuple2<Tuple2<Integer, String>, Tuple2<String, Integer>>> result =
+                output.<Tuple2<Tuple2<Integer, String>, Tuple2<String, Integer>>>provideRdd().collect();
+        assertEquals(EXPECTED_RESULT.size(), result.size());
+        assertEquals(new HashSet<>(EXPECTED_RESULT), new HashSet<>(result));
+    }
+
+}
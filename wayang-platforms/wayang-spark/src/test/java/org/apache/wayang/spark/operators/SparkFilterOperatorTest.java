@@ -18,16 +18,26 @@
 
 package org.apache.wayang.spark.operators;
 
+import org.apache.spark.HashPartitioner;
+import org.apache.spark.api.java.JavaPairRDD;
+import org.apache.spark.api.java.JavaRDD;
+import org.apache.wayang.core.function.FlatMapDescriptor;
 import org.apache.wayang.core.function.PredicateDescriptor;
+import org.apache.wayang.core.function.TransformationDescriptor;
 import org.apache.wayang.core.platform.ChannelInstance;
 import org.apache.wayang.core.types.DataSetType;
+import org.apache.wayang.core.util.ReflectionUtils;
 import org.apache.wayang.spark.channels.RddChannel;
 import org.junit.jupiter.api.Test;
+import scala.Tuple2;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
  * Test suite for {@link SparkFilterOperator}.
@@ -61,4 +71,84 @@ class SparkFilterOperatorTest extends SparkOperatorTestBase {
 
     }
 
+    @Test
+    void testFusedExecution() {
+        // Prepare test data.
+        RddChannel.Instance input = this.createRddChannelInstance(Arrays.asList("a", "bb", "", "ccc"));
+        RddChannel.Instance mapOutput = this.createRddChannelInstance();
+        RddChannel.Instance filterOutput = this.createRddChannelInstance();
+        RddChannel.Instance flatMapOutput = this.createRddChannelInstance();
+        // The cardinality of the filter must still be measured within the fused partition function.
+        filterOutput.getChannel().markForInstrumentation();
+
+        // Build a map -> filter -> flatMap chain.
+        SparkMapOperator<String, Integer> mapOperator = new SparkMapOperator<>(
+                DataSetType.createDefaultUnchecked(String.class),
+                DataSetType.createDefaultUnchecked(Integer.class),
+                new TransformationDescriptor<>(String::length, String.class, Integer.class)
+        );
+        SparkFilterOperator<Integer> filterOperator = new SparkFilterOperator<>(
+                DataSetType.createDefaultUnchecked(Integer.class),
+                new PredicateDescriptor<>(length -> length > 1, Integer.class)
+        );
+        SparkFlatMapOperator<Integer, Integer> flatMapOperator = new SparkFlatMapOperator<>(
+                DataSetType.createDefaultUnchecked(Integer.class),
+                DataSetType.createDefaultUnchecked(Integer.class),
+                new FlatMapDescriptor<>(length -> Collections.nCopies(length, length), Integer.class, Integer.class)
+        );
+
+        // Execute.
+        this.evaluate(mapOperator, new ChannelInstance[]{input}, new ChannelInstance[]{mapOutput});
+        this.evaluate(filterOperator, new ChannelInstance[]{mapOutput}, new ChannelInstance[]{filterOutput});
+        this.evaluate(flatMapOperator, new ChannelInstance[]{filterOutput}, new ChannelInstance[]{flatMapOutput});
+
+        // Verify the outcome.
+        final JavaRDD<Integer> outputRdd = flatMapOutput.provideRdd();
+        assertTrue(outputRdd.name().contains(mapOperator.toString()));
+        assertTrue(outputRdd.name().contains(flatMapOperator.toString()));
+        assertEquals(Arrays.asList(2, 2, 3, 3, 3), outputRdd.collect());
+        assertEquals(2, filterOutput.getMeasuredCardinality().getAsLong());
+    }
+
+    @Test
+    void testFusedFiltersPreservePartitioning() {
+        // Prepare hash-partitioned test data.
+        final JavaPairRDD<Integer, Integer> partitionedRdd = this.getSC()
+                .parallelizePairs(Arrays.asList(new Tuple2<>(0, 0), new Tuple2<>(1, 1), new Tuple2<>(2, 2), new Tuple2<>(3, 3)))
+                .partitionBy(new HashPartitioner(2));
+        RddChannel.Instance input = this.createRddChannelInstance();
+        input.accept(JavaRDD.fromRDD(partitionedRdd.rdd(), partitionedRdd.classTag()), this.sparkExecutor);
+        RddChannel.Instance filterOutput1 = this.createRddChannelInstance();
+        RddChannel.Instance filterOutput2 = this.createRddChannelInstance();
+        RddChannel.Instance mapOutput = this.createRddChannelInstance();
+
+        // Build a filter -> filter -> map chain.
+        SparkFilterOperator<Tuple2<Integer, Integer>> filterOperator1 = new SparkFilterOperator<>(
+                DataSetType.createDefaultUnchecked(Tuple2.class),
+                new PredicateDescriptor<>(tuple -> tuple._1 > 0, ReflectionUtils.specify(Tuple2.class))
+        );
+        SparkFilterOperator<Tuple2<Integer, Integer>> filterOperator2 = new SparkFilterOperator<>(
+                DataSetType.createDefaultUnchecked(Tuple2.class),
+                new PredicateDescriptor<>(tuple -> tuple._1 < 3, ReflectionUtils.specify(Tuple2.class))
+        );
+        SparkMapOperator<Tuple2<Integer, Integer>, Integer> mapOperator = new SparkMapOperator<>(
+                DataSetType.createDefaultUnchecked(Tuple2.class),
+                DataSetType.createDefaultUnchecked(Integer.class),
+                new TransformationDescriptor<>(tuple -> tuple._2, ReflectionUtils.specify(Tuple2.class), Integer.class)
+        );
+
+        // Execute.
+        this.evaluate(filterOperator1, new ChannelInstance[]{input}, new ChannelInstance[]{filterOutput1});
+        this.evaluate(filterOperator2, new ChannelInstance[]{filterOutput1}, new ChannelInstance[]{filterOutput2});
+        // Only filters have been fused so far, which keeps the partitioner...
+        final JavaRDD<Tuple2<Integer, Integer>> filteredRdd = filterOutput2.provideRdd();
+        assertEquals(partitionedRdd.rdd().partitioner(), filteredRdd.rdd().partitioner());
+        assertEquals(2, filteredRdd.count());
+
+        // ...while maps might change the keys.
+        this.evaluate(mapOperator, new ChannelInstance[]{filterOutput2}, new ChannelInstance[]{mapOutput});
+        final JavaRDD<Integer> mappedRdd = mapOutput.provideRdd();
+        assertFalse(mappedRdd.rdd().partitioner().isDefined());
+    }
+
 }
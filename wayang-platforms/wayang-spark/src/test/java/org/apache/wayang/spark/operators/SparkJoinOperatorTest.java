@@ -26,8 +26,11 @@ import org.apache.wayang.core.types.DataUnitType;
 import org.apache.wayang.spark.channels.RddChannel;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
@@ -79,4 +82,59 @@ class SparkJoinOperatorTest extends SparkOperatorTestBase {
 
     }
 
+    @Test
+    void testExecutionWithSkewedKeys() {
+        // Let every key of the first input with at least two sampled data quanta count as skewed.
+        this.configuration.setProperty("wayang.spark.join.skew.enabled", "true");
+        this.configuration.setProperty("wayang.spark.join.skew.sample-fraction", "1");
+        this.configuration.setProperty("wayang.spark.join.skew.min-sample-count", "2");
+        this.configuration.setProperty("wayang.spark.join.skew.salts", "3");
+
+        List<Tuple2<Integer, Integer>> data0 = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            data0.add(new Tuple2<>(i % 10 == 0 ? i % 3 : 1, i));
+        }
+        RddChannel.Instance input0 = this.createRddChannelInstance(data0);
+        RddChannel.Instance input1 = this.createRddChannelInstance(Arrays.asList(
+                new Tuple2<>("x", 1), new Tuple2<>("y", 1), new Tuple2<>("z", 2), new Tuple2<>("w", 4)));
+        RddChannel.Instance output = this.createRddChannelInstance();
+
+        SparkJoinOperator<Tuple2, Tuple2, Integer> join =
+                new SparkJoinOperator<>(
+                        DataSetType.createDefaultUnchecked(Tuple2.class),
+                        DataSetType.createDefaultUnchecked(Tuple2.class),
+                        new ProjectionDescriptor<>(
+                                DataUnitType.createBasicUnchecked(Tuple2.class),
+                                DataUnitType.createBasic(Integer.class),
+                                "field0"),
+                        new ProjectionDescriptor<>(
+                                DataUnitType.createBasicUnchecked(Tuple2.class),
+                                DataUnitType.createBasic(Integer.class),
+                                "field1"));
+
+        final int numPersistentRdds = this.getSC().getPersistentRDDs().size();
+        this.evaluate(join, new ChannelInstance[]{input0, input1}, new ChannelInstance[]{output});
+        // The first input is sampled and joined, so it should be persisted until the output is disposed.
+        assertEquals(numPersistentRdds + 1, this.getSC().getPersistentRDDs().size());
+
+        // Salting must neither lose nor duplicate join partners.
+        final List<Tuple2<Tuple2<Integer, Integer>, Tuple2<String, Integer>>> result =
+                output.<Tuple2<Tuple2<Integer, Integer>, Tuple2<String, Integer>>>provideRdd().collect();
+        Map<Tuple2<Tuple2<Integer, Integer>, Tuple2<String, Integer>>, Long> expectedCounts = new HashMap<>();
+        for (Tuple2<Integer, Integer> dataQuantum0 : data0) {
+            if (dataQuantum0.field0 == 1) {
+                expectedCounts.merge(new Tuple2<>(dataQuantum0, new Tuple2<>("x", 1)), 1L, Long::sum);
+                expectedCounts.merge(new Tuple2<>(dataQuantum0, new Tuple2<>("y", 1)), 1L, Long::sum);
+            } else if (dataQuantum0.field0 == 2) {
+                expectedCounts.merge(new Tuple2<>(dataQuantum0, new Tuple2<>("z", 2)), 1L, Long::sum);
+            }
+        }
+        Map<Tuple2<Tuple2<Integer, Integer>, Tuple2<String, Integer>>, Long> actualCounts = new HashMap<>();
+        result.forEach(pair -> actualCounts.merge(pair, 1L, Long::sum));
+        assertEquals(expectedCounts, actualCounts);
+
+        output.dispose();
+        assertEquals(numPersistentRdds, this.getSC().getPersistentRDDs().size());
+    }
+
 }
@@ -0,0 +1,355 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.iejoin.operators.java_helpers;
+
+import org.apache.wayang.basic.data.Tuple2;
+import org.apache.wayang.iejoin.operators.IEJoinMasterOperator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Inequality join of two materialized inputs that works on index arrays rather than on wrapper objects.
+ * <p>Both inputs share one index space, in which the elements of the first input come first. The join attributes
+ * are extracted once into primitive columns if they are numeric. Two permutations of the index space are obtained
+ * by sorting: {@code l1} orders the elements by the pivot attribute, such that the partners of an element of the
+ * first input succeed it, and {@code l2} orders them by the reference attribute, such that the partners of an
+ * element of the first input precede it. Visiting {@code l2} while marking the {@code l1} positions of the elements
+ * of the second input in a bitmap then allows to find all join partners of each element of the first input by
+ * scanning the bitmap behind its {@code l1} position.</p>
+ */
+public class BitmapIEJoin<Input> {
+
+    /**
+     * Compares elements of the index space.
+     */
+    @FunctionalInterface
+    interface IndexComparator {
+
+        int compare(int i, int j);
+
+    }
+
+    /**
+     * Below this number of elements, sorting is not parallelized.
+     */
+    private static final int MIN_PARALLEL_SORT_SIZE = 1 << 13;
+
+    private final Object[] input0, input1;
+
+    private final int size0, size;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param input0 the elements of the first input
+     * @param input1 the elements of the second input
+     */
+    public BitmapIEJoin(Object[] input0, Object[] input1) {
+        this.input0 = input0;
+        this.input1 = input1;
+        this.size0 = input0.length;
+        this.size = input0.length + input1.length;
+    }
+
+    /**
+     * Find all pairs {@code (x, y)} of elements of the first and second input, respectively, that satisfy
+     * {@code pivot0(x) cond0 pivot1(y)} and {@code ref0(x) cond1 ref1(y)}.
+     *
+     * @param numPartitions number of chunks of {@code l2} to scan in parallel; {@code 1} to work in the calling thread
+     * @return the join results partitioned by the chunks
+     */
+    public <Type0 extends Comparable<Type0>, Type1 extends Comparable<Type1>> List<List<Tuple2<Input, Input>>> join(
+            Function<Input, Type0> pivot0, Function<Input, Type0> pivot1, IEJoinMasterOperator.JoinCondition cond0,
+            Function<Input, Type1> ref0, Function<Input, Type1> ref1, IEJoinMasterOperator.JoinCondition cond1,
+            int numPartitions) {
+        final boolean isParallel = numPartitions > 1;
+
+        // Order by the pivot attribute, such that the matches of each element of input0 come after it.
+        final IndexComparator pivotComparator = this.extractColumn(pivot0, pivot1);
+        final boolean isPivotAscending = isLess(cond0);
+        final boolean isPivotInput1First = isStrict(cond0);
+        final int[] l1 = this.sort((i, j) -> {
+            final int result = isPivotAscending ? pivotComparator.compare(i, j) : pivotComparator.compare(j, i);
+            return result != 0 ? result : this.compareInputs(i, j, isPivotInput1First);
+        }, isParallel);
+        final int[] l1Positions = new int[this.size];
+        for (int position = 0; position < this.size; position++) {
+            l1Positions[l1[position]] = position;
+        }
+
+        // Order by the reference attribute, such that the matches of each element of input0 come before it.
+        final IndexComparator refComparator = this.extractColumn(ref0, ref1);
+        final boolean isRefAscending = !isLess(cond1);
+        final boolean isRefInput1First = !isStrict(cond1);
+        final int[] l2 = this.sort((i, j) -> {
+            final int result = isRefAscending ? refComparator.compare(i, j) : refComparator.compare(j, i);
+            return result != 0 ? result : this.compareInputs(i, j, isRefInput1First);
+        }, isParallel);
+
+        if (!isParallel) {
+            final List<List<Tuple2<Input, Input>>> result = new ArrayList<>(1);
+            result.add(this.scan(l1, l1Positions, l2, 0, this.size));
+            return result;
+        }
+        final int chunkSize = Math.max(1, (this.size + numPartitions - 1) / numPartitions);
+        return IntStream.range(0, numPartitions).parallel()
+                .filter(chunk -> chunk * chunkSize < this.size)
+                .mapToObj(chunk -> this.scan(
+                        l1, l1Positions, l2, chunk * chunkSize, Math.min((chunk + 1) * chunkSize, this.size)
+                ))
+                .collect(Collectors.toList());
+    }
+
+    private static boolean isLess(IEJoinMasterOperator.JoinCondition condition) {
+        return condition == IEJoinMasterOperator.JoinCondition.LessThan
+                || condition == IEJoinMasterOperator.JoinCondition.LessThanEqual;
+    }
+
+    private static boolean isStrict(IEJoinMasterOperator.JoinCondition condition) {
+        return condition == IEJoinMasterOperator.JoinCondition.LessThan
+                || condition == IEJoinMasterOperator.JoinCondition.GreaterThan;
+    }
+
+    /**
+     * Breaks ties between elements with equal attribute values by their input and then by their index.
+     */
+    private int compareInputs(int i, int j, boolean isInput1First) {
+        final boolean isInput1I = i >= this.size0, isInput1J = j >= this.size0;
+        if (isInput1I != isInput1J) return isInput1I == isInput1First ? -1 : 1;
+        return Integer.compare(i, j);
+    }
+
+    /**
+     * Extracts an attribute from all elements into a column, which is primitive for integral and floating point
+     * attribute values.
+     */
+    @SuppressWarnings("unchecked")
+    private <T extends Comparable<T>> IndexComparator extractColumn(Function<Input, T> extractor0,
+                                                                      Function<Input, T> extractor1) {
+        final Object[] values = new Object[this.size];
+        boolean isIntegral = true, isFloatingPoint = true;
+        for (int i = 0; i < this.size; i++) {
+            final Object value = i < this.size0 ?
+                    extractor0.apply((Input) this.input0[i]) :
+                    extractor1.apply((Input) this.input1[i - this.size0]);
+            values[i] = value;
+            isIntegral &= value instanceof Long || value instanceof Integer
+                    || value instanceof Short || value instanceof Byte;
+            isFloatingPoint &= value instanceof Double || value instanceof Float;
+        }
+
+        if (isIntegral) {
+            final long[] column = new long[this.size];
+            for (int i = 0; i < this.size; i++) {
+                column[i] = ((Number) values[i]).longValue();
+            }
+            return (i, j) -> Long.compare(column[i], column[j]);
+        } else if (isFloatingPoint) {
+            final double[] column = new double[this.size];
+            for (int i = 0; i < this.size; i++) {
+                column[i] = ((Number) values[i]).doubleValue();
+            }
+            return (i, j) -> Double.compare(column[i], column[j]);
+        }
+        return (i, j) -> ((T) values[i]).compareTo((T) values[j]);
+    }
+
+    /**
+     * Sorts the index space.
+     *
+     * @return the permutation of the index space in the order of the {@code comparator}
+     */
+    private int[] sort(IndexComparator comparator, boolean isParallel) {
+        final int[] indices = new int[this.size];
+        for (int i = 0; i < this.size; i++) {
+            indices[i] = i;
+        }
+        final MergeSort mergeSort = new MergeSort(
+                indices, new int[this.size], 0, this.size, comparator,
+                isParallel ? MIN_PARALLEL_SORT_SIZE : Integer.MAX_VALUE
+        );
+        if (isParallel) {
+            mergeSort.invoke();
+        } else {
+            mergeSort.compute();
+        }
+        return indices;
+    }
+
+    /**
+     * Visits the {@code l2} positions {@code [from, to)} and collects the join partners of the elements of
+     * the first input.
+     */
+    @SuppressWarnings("unchecked")
+    private List<Tuple2<Input, Input>> scan(int[] l1, int[] l1Positions, int[] l2, int from, int to) {
+        final List<Tuple2<Input, Input>> result = new ArrayList<>();
+        final Bitmap bitmap = new Bitmap(this.size);
+
+        // Mark the elements of the second input that precede the chunk.
+        for (int position = 0; position < from; position++) {
+            final int element = l2[position];
+            if (element >= this.size0) bitmap.set(l1Positions[element]);
+        }
+
+        for (int position = from; position < to; position++) {
+            final int element = l2[position];
+            if (element >= this.size0) {
+                bitmap.set(l1Positions[element]);
+            } else {
+                final Input dataQuantum0 = (Input) this.input0[element];
+                for (int match = bitmap.nextSetBit(l1Positions[element] + 1);
+                     match >= 0;
+                     match = bitmap.nextSetBit(match + 1)) {
+                    result.add(new Tuple2<>(dataQuantum0, (Input) this.input1[l1[match] - this.size0]));
+                }
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Bitmap over {@code l1} positions. In addition, a summary bitmap with a bit per block of {@link #BLOCK_WORDS}
+     * words tells which blocks have any bits set, so that scans can skip empty blocks.
+     */
+    private static class Bitmap {
+
+        private static final int BLOCK_WORDS = 16, BLOCK_WORDS_SHIFT = 4;
+
+        private final long[] words, summary;
+
+        Bitmap(int numBits) {
+            this.words = new long[(numBits + 63) >>> 6];
+            this.summary = new long[(((this.words.length + BLOCK_WORDS - 1) >>> BLOCK_WORDS_SHIFT) + 63) >>> 6];
+        }
+
+        void set(int bit) {
+            final int word = bit >>> 6;
+            this.words[word] |= 1L << bit;
+            final int block = word >>> BLOCK_WORDS_SHIFT;
+            this.summary[block >>> 6] |= 1L << block;
+        }
+
+        /**
+         * @return the index of the first set bit at or after {@code from} or {@code -1} if there is none
+         */
+        int nextSetBit(int from) {
+            int wordIndex = from >>> 6;
+            if (wordIndex >= this.words.length) return -1;
+            long word = this.words[wordIndex] & (-1L << from);
+            while (word == 0) {
+                if (++wordIndex >= this.words.length) return -1;
+                if ((wordIndex & (BLOCK_WORDS - 1)) == 0) {
+                    final int block = this.nextSetBlock(wordIndex >>> BLOCK_WORDS_SHIFT);
+                    if (block < 0) return -1;
+                    wordIndex = block << BLOCK_WORDS_SHIFT;
+                }
+                word = this.words[wordIndex];
+            }
+            return (wordIndex << 6) + Long.numberOfTrailingZeros(word);
+        }
+
+        private int nextSetBlock(int from) {
+            int summaryIndex = from >>> 6;
+            if (summaryIndex >= this.summary.length) return -1;
+            long word = this.summary[summaryIndex] & (-1L << from);
+            while (word == 0) {
+                if (++summaryIndex >= this.summary.length) return -1;
+                word = this.summary[summaryIndex];
+            }
+            return (summaryIndex << 6) + Long.numberOfTrailingZeros(word);
+        }
+
+    }
+
+    /**
+     * Stable merge sort of an index array that forks for large ranges.
+     */
+    private static class MergeSort extends RecursiveAction {
+
+        private static final int INSERTION_SORT_SIZE = 32;
+
+        private final int[] indices, buffer;
+
+        private final int from, to;
+
+        private final IndexComparator comparator;
+
+        private final int minForkSize;
+
+        MergeSort(int[] indices, int[] buffer, int from, int to, IndexComparator comparator, int minForkSize) {
+            this.indices = indices;
+            this.buffer = buffer;
+            this.from = from;
+            this.to = to;
+            this.comparator = comparator;
+            this.minForkSize = minForkSize;
+        }
+
+        @Override
+        protected void compute() {
+            if (this.to - this.from <= INSERTION_SORT_SIZE) {
+                this.insertionSort();
+                return;
+            }
+            final int middle = (this.from + this.to) >>> 1;
+            final MergeSort left = new MergeSort(this.indices, this.buffer, this.from, middle, this.comparator, this.minForkSize);
+            final MergeSort right = new MergeSort(this.indices, this.buffer, middle, this.to, this.comparator, this.minForkSize);
+            if (this.to - this.from >= this.minForkSize) {
+                invokeAll(left, right);
+            } else {
+                left.compute();
+                right.compute();
+            }
+            if (this.comparator.compare(this.indices[middle - 1], this.indices[middle]) <= 0) return;
+            this.merge(middle);
+        }
+
+        private void insertionSort() {
+            for (int i = this.from + 1; i < this.to; i++) {
+                final int index = this.indices[i];
+                int j = i - 1;
+                while (j >= this.from && this.comparator.compare(this.indices[j], index) > 0) {
+                    this.indices[j + 1] = this.indices[j];
+                    j--;
+                }
+                this.indices[j + 1] = index;
+            }
+        }
+
+        private void merge(int middle) {
+            System.arraycopy(this.indices, this.from, this.buffer, this.from, this.to - this.from);
+            int left = this.from, right = middle, target = this.from;
+            while (left < middle && right < this.to) {
+                this.indices[target++] = this.comparator.compare(this.buffer[right], this.buffer[left]) < 0 ?
+                        this.buffer[right++] :
+                        this.buffer[left++];
+            }
+            while (left < middle) this.indices[target++] = this.buffer[left++];
+            while (right < this.to) this.indices[target++] = this.buffer[right++];
+        }
+
+    }
+
+}
@@ -62,6 +62,21 @@ public class JavaExecutionOperatorTestBase {
         return new JavaExecutor(JavaPlatform.getInstance(), job);
     }
 
+    /**
+     * Creates a {@link JavaExecutor} that runs in the multi-core mode.
+     *
+     * @param numCores the number of cores to use
+     * @return the {@link JavaExecutor}
+     */
+    protected static JavaExecutor createParallelExecutor(int numCores) {
+        final Configuration parallelConfiguration = configuration.fork("parallel");
+        parallelConfiguration.setProperty("wayang.java.parallel", "true");
+        parallelConfiguration.setProperty("wayang.java.cores", String.valueOf(numCores));
+        final Job job = mock(Job.class);
+        when(job.getConfiguration()).thenReturn(parallelConfiguration);
+        return new JavaExecutor(JavaPlatform.getInstance(), job);
+    }
+
     protected static OptimizationContext.OperatorContext createOperatorContext(Operator operator) {
         return job.getOptimizationContext().addOneTimeOperator(operator);
     }
@@ -24,13 +24,17 @@ import org.apache.wayang.core.function.TransformationDescriptor;
 import org.apache.wayang.core.types.DataSetType;
 import org.apache.wayang.core.types.DataUnitType;
 import org.apache.wayang.java.channels.JavaChannelInstance;
+import org.apache.wayang.java.execution.JavaExecutor;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Random;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 /**
@@ -90,4 +94,96 @@ class JavaIEJoinOperatorTest extends JavaExecutionOperatorTestBase {
 
     }
 
+    private static <T extends Comparable<T>> TransformationDescriptor<Record, T> createFieldExtractor(int index, Class<T> fieldClass) {
+        return new TransformationDescriptor<Record, T>(record -> (T) record.getField(index),
+                DataUnitType.<Record>createBasic(Record.class),
+                DataUnitType.<T>createBasicUnchecked(fieldClass)
+        );
+    }
+
+    private static List<Record> createRecords(Random random, int numRecords, int idOffset, int valueRange, boolean isDouble) {
+        List<Record> records = new ArrayList<>(numRecords);
+        for (int i = 0; i < numRecords; i++) {
+            records.add(isDouble ?
+                    new Record(idOffset + i, (double) random.nextInt(valueRange), (double) random.nextInt(valueRange)) :
+                    new Record(idOffset + i, random.nextInt(valueRange), random.nextInt(valueRange)));
+        }
+        return records;
+    }
+
+    private static boolean satisfies(Comparable value0, Comparable value1, IEJoinMasterOperator.JoinCondition condition) {
+        final int comparison = value0.compareTo(value1);
+        switch (condition) {
+            case LessThan:
+                return comparison < 0;
+            case LessThanEqual:
+                return comparison <= 0;
+            case GreaterThan:
+                return comparison > 0;
+            default:
+                return comparison >= 0;
+        }
+    }
+
+    /**
+     * Encodes the join result as sorted IDs of the joined {@link Record}s.
+     */
+    private static long[] encode(Stream<Tuple2<Record, Record>> joinResult) {
+        return joinResult
+                .mapToLong(pair -> ((long) pair.field0.getInt(0) << 32) | pair.field1.getInt(0))
+                .sorted()
+                .toArray();
+    }
+
+    private static <T extends Comparable<T>> void assertMatchesNestedLoops(List<Record> input0, List<Record> input1,
+                                                                            Class<T> fieldClass,
+                                                                            IEJoinMasterOperator.JoinCondition cond0,
+                                                                            IEJoinMasterOperator.JoinCondition cond1,
+                                                                            JavaExecutor executor) {
+        JavaIEJoinOperator<T, T, Record> ieJoinOperator = new JavaIEJoinOperator<>(
+                DataSetType.createDefaultUnchecked(Record.class),
+                DataSetType.createDefaultUnchecked(Record.class),
+                createFieldExtractor(1, fieldClass), createFieldExtractor(1, fieldClass), cond0,
+                createFieldExtractor(2, fieldClass), createFieldExtractor(2, fieldClass), cond1
+        );
+        JavaChannelInstance[] inputs = new JavaChannelInstance[]{
+                createCollectionChannelInstance(input0),
+                createStreamChannelInstance(input1.stream())
+        };
+        JavaChannelInstance[] outputs = new JavaChannelInstance[]{createStreamChannelInstance()};
+        ieJoinOperator.evaluate(inputs, outputs, executor, createOperatorContext(ieJoinOperator));
+
+        final long[] expected = encode(input0.stream().flatMap(record0 -> input1.stream()
+                .filter(record1 -> satisfies((Comparable) record0.getField(1), (Comparable) record1.getField(1), cond0)
+                        && satisfies((Comparable) record0.getField(2), (Comparable) record1.getField(2), cond1))
+                .map(record1 -> new Tuple2<>(record0, record1))));
+        final long[] actual = encode(outputs[0].<Tuple2<Record, Record>>provideStream());
+        assertArrayEquals(expected, actual, String.format("Wrong result for %s and %s.", cond0, cond1));
+    }
+
+    @Test
+    void testAllJoinConditions() {
+        final Random random = new Random(42);
+        // Use a small value range to produce many ties.
+        final List<Record> input0 = createRecords(random, 200, 0, 20, false);
+        final List<Record> input1 = createRecords(random, 300, 1000, 20, false);
+        for (IEJoinMasterOperator.JoinCondition cond0 : IEJoinMasterOperator.JoinCondition.values()) {
+            for (IEJoinMasterOperator.JoinCondition cond1 : IEJoinMasterOperator.JoinCondition.values()) {
+                assertMatchesNestedLoops(input0, input1, Integer.class, cond0, cond1, createExecutor());
+            }
+        }
+    }
+
+    @Test
+    void testParallelExecution() {
+        final Random random = new Random(42);
+        final List<Record> input0 = createRecords(random, 500, 0, 1000, true);
+        final List<Record> input1 = createRecords(random, 10000, 1000, 1000, true);
+        assertMatchesNestedLoops(
+                input0, input1, Double.class,
+                IEJoinMasterOperator.JoinCondition.GreaterThan, IEJoinMasterOperator.JoinCondition.LessThanEqual,
+                createParallelExecutor(4)
+        );
+    }
+
 }
@@ -19,12 +19,10 @@
 package org.apache.wayang.ml.costs;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.Comparator;
-import java.util.Map;
+import java.util.List;
 import java.util.Set;
-import java.util.function.Function;
-import java.util.stream.Collectors;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -44,6 +42,7 @@ import org.apache.wayang.ml.encoding.OrtMLModel;
 import org.apache.wayang.ml.encoding.OrtTensorEncoder;
 import org.apache.wayang.ml.encoding.TreeEncoder;
 import org.apache.wayang.ml.encoding.TreeNode;
+import org.apache.wayang.ml.util.Logging;
 
 import ai.onnxruntime.OrtException;
 
@@ -74,12 +73,20 @@ public class DefaultPointwiseCost extends DefaultEstimatableCost {
             final ExecutionPlan existingPlan, final Set<Channel> openChannels,
             final Set<ExecutionStage> executedStages) {
 
-        final Map<PlanImplementation, Double> planCostMapping = executionPlans.stream()
-                .collect(Collectors.toMap(Function.identity(), this::getCost));
+        final List<PlanImplementation> candidates = new ArrayList<>(executionPlans);
+        final double[] costs = this.getCosts(candidates);
 
-        final PlanImplementation bestPlanImplementation = executionPlans.stream()
-                .min(Comparator.comparingDouble(planCostMapping::get))
-                .orElseThrow(() -> new WayangException("Could not find an execution plan."));
+        PlanImplementation bestPlanImplementation = null;
+        double bestCost = Double.POSITIVE_INFINITY;
+        for (int i = 0; i < candidates.size(); i++) {
+            if (bestPlanImplementation == null || costs[i] < bestCost) {
+                bestPlanImplementation = candidates.get(i);
+                bestCost = costs[i];
+            }
+        }
+        if (bestPlanImplementation == null) {
+            throw new WayangException("Could not find an execution plan.");
+        }
 
         final Configuration config = bestPlanImplementation.getOptimizationContext().getConfiguration();
 
@@ -91,6 +98,75 @@ public class DefaultPointwiseCost extends DefaultEstimatableCost {
         return bestPlanImplementation;
     }
 
+    /**
+     * Estimates the runtime costs for several plans. The plans are encoded together and scored in batches of
+     * {@code wayang.ml.inference.batch-size} plans per model invocation. The inference latency of this
+     * optimization round is logged and appended to {@code wayang.ml.optimizations.file}.
+     *
+     * @param plans the plans to estimate
+     * @return the cost of each plan; {@link Double#MAX_VALUE} if it could not be estimated
+     */
+    public double[] getCosts(final List<PlanImplementation> plans) {
+        final double[] costs = new double[plans.size()];
+        Arrays.fill(costs, Double.MAX_VALUE);
+        if (plans.isEmpty()) {
+            return costs;
+        }
+
+        final Configuration config = plans.get(0).getOptimizationContext().getConfiguration();
+        final int batchSize = (int) Math.max(1, config.getLongProperty("wayang.ml.inference.batch-size", 256));
+
+        final long encodingStart = System.nanoTime();
+        final List<TreeNode> encodedPlans = encoder.encodeAll(plans);
+        final long encodingNanos = System.nanoTime() - encodingStart;
+
+        final OrtMLModel model;
+        try {
+            model = OrtMLModel.getInstance(config);
+        } catch (final OrtException e) {
+            logger.warn("Failed to load the ML model. Falling back to MAX_VALUE for all plans.", e);
+            return costs;
+        }
+
+        // Plans without sinks cannot be encoded and keep the fallback cost.
+        final List<Integer> encodedIndices = new ArrayList<>(plans.size());
+        for (int i = 0; i < encodedPlans.size(); i++) {
+            if (encodedPlans.get(i) != null) {
+                encodedIndices.add(i);
+            }
+        }
+
+        final long inferenceStart = System.nanoTime();
+        int numBatches = 0;
+        for (int from = 0; from < encodedIndices.size(); from += batchSize) {
+            final List<Integer> batchIndices = encodedIndices.subList(from, Math.min(from + batchSize, encodedIndices.size()));
+            final List<TreeNode> batch = new ArrayList<>(batchIndices.size());
+            for (final int index : batchIndices) {
+                batch.add(encodedPlans.get(index));
+            }
+            numBatches++;
+            try {
+                final double[] predictions = model.runModels(OrtTensorEncoder.prepareTrees(batch));
+                for (int i = 0; i < predictions.length; i++) {
+                    if (!Double.isNaN(predictions[i])) {
+                        costs[batchIndices.get(i)] = Math.exp(predictions[i]) - 1;
+                    }
+                }
+            } catch (final OrtException e) {
+                logger.warn("Failed to estimate ML costs for a batch of {} plans. Falling back to MAX_VALUE.",
+                        batch.size(), e);
+            }
+        }
+        final long inferenceMillis = (System.nanoTime() - inferenceStart) / 1_000_000;
+
+        logger.info("Scored {} plans in {} batches: encoding took {} ms, inference took {} ms.",
+                plans.size(), numBatches, encodingNanos / 1_000_000, inferenceMillis);
+        config.getOptionalStringProperty("wayang.ml.optimizations.file")
+                .ifPresent(file -> Logging.writeToFile(String.format("%d", inferenceMillis), file));
+
+        return costs;
+    }
+
     /**
      * Estimates the runtime cost for a given plan.
      * 
@@ -21,13 +21,16 @@ package org.apache.wayang.ml.encoding;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
-import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.function.BiFunction;
 
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 import org.apache.wayang.core.api.Configuration;
+import org.apache.wayang.core.api.exception.WayangException;
 import org.apache.wayang.core.util.Tuple;
 import org.apache.wayang.ml.util.Logging;
 
@@ -38,6 +41,8 @@ import ai.onnxruntime.OrtSession;
 import ai.onnxruntime.OrtSession.Result;
 
 public class OrtMLModel {
+    private static final Logger logger = LogManager.getLogger(OrtMLModel.class);
+
     private static OrtMLModel INSTANCE;
 
     public static OrtMLModel getInstance(final Configuration configuration) throws OrtException {
@@ -52,9 +57,6 @@ public class OrtMLModel {
     private OrtEnvironment env;
 
     private final Configuration configuration;
-    private final Map<String, OnnxTensor> inputMap = new HashMap<>();
-
-    private final Set<String> requestedOutputs = new HashSet<>();
 
     private OrtMLModel(final Configuration configuration) throws OrtException {
         this.configuration = configuration;
@@ -104,67 +106,86 @@ public class OrtMLModel {
     /**
      * Close the session after running, {@link #closeSession()}
      * 
-     * @param encodedVector
-     * @return NaN on error, and a predicted cost on any other value.
-     * @throws OrtException
+     * @param input1 (values, indexes) of the encoded plan
+     * @return the predicted cost, NaN if the output could not be read
+     * @throws WayangException if the inference fails
      */
-    public double runModel(final Tuple<ArrayList<long[][]>, ArrayList<long[][]>> input1) throws OrtException {
-        final int batchSize = input1.getField0().size();
-        final long[][] firstValues = input1.getField0().get(0);
-        final int featureSize = firstValues.length;
-        final int sequenceLength = firstValues[0].length; 
-
+    public double runModel(final Tuple<ArrayList<long[][]>, ArrayList<long[][]>> input1) {
         final Instant start = Instant.now();
-        final float[][][] inputValueStructure = new float[batchSize][featureSize][sequenceLength];
-        final long[][][] inputIndexStructure = new long[batchSize][featureSize][sequenceLength];
-
-        for (int i = 0; i < input1.field0.get(0).length; i++) {
-            for (int j = 0; j < input1.field0.get(0)[i].length; j++) {
-                inputValueStructure[0][i][j] = Long.valueOf(input1.field0.get(0)[i][j]).floatValue();
-            }
-        }
-
-        for (int i = 0; i < input1.field1.get(0).length; i++) {
-            inputIndexStructure[0][i] = input1.field1.get(0)[i];
+        final double costPrediction;
+        try {
+            costPrediction = this.runModels(input1)[0];
+        } catch (final OrtException e) {
+            logger.error("Could not run the ML model on the encoded plan.", e);
+            throw new WayangException("Could not run the ML model.", e);
         }
+        final long execTime = Duration.between(start, Instant.now()).toMillis();
+        Logging.writeToFile(String.format("%d", execTime),
+                this.configuration.getStringProperty("wayang.ml.optimizations.file"));
 
-        final OnnxTensor tensorValues = OnnxTensor.createTensor(env, inputValueStructure);
-        final OnnxTensor tensorIndexes = OnnxTensor.createTensor(env, inputIndexStructure);
-
-        this.inputMap.put("input1", tensorValues);
-        this.inputMap.put("input2", tensorIndexes);
-
-        this.requestedOutputs.add("output");
+        return costPrediction;
+    }
 
-        final BiFunction<Result, String, Float> unwrapFunc = (r, s) -> {
-            try {
-                return ((float[]) r.get(s).get().getValue())[0];
-            } catch (final OrtException e) {
-                this.inputMap.clear();
-                this.requestedOutputs.clear();
+    /**
+     * Scores a batch of encoded trees with a single session call.
+     *
+     * @param input (values, indexes) of several trees as created by {@link OrtTensorEncoder#prepareTrees(List)}, i.e.,
+     *              padded to the same number of nodes
+     * @return the raw prediction for each tree, NaN if the output could not be read
+     * @throws OrtException if the inference fails
+     */
+    public double[] runModels(final Tuple<ArrayList<long[][]>, ArrayList<long[][]>> input) throws OrtException {
+        final int batchSize = input.getField0().size();
+        final long[][] firstValues = input.getField0().get(0);
+        final int featureSize = firstValues.length;
+        final int sequenceLength = firstValues[0].length;
+        final int indexLength = input.getField1().get(0).length;
 
-                return Float.NaN;
+        final float[][][] inputValueStructure = new float[batchSize][featureSize][sequenceLength];
+        final long[][][] inputIndexStructure = new long[batchSize][indexLength][];
+        for (int b = 0; b < batchSize; b++) {
+            final long[][] values = input.getField0().get(b);
+            for (int i = 0; i < featureSize; i++) {
+                for (int j = 0; j < sequenceLength; j++) {
+                    inputValueStructure[b][i][j] = values[i][j];
+                }
             }
-        };
+            final long[][] indexes = input.getField1().get(b);
+            for (int i = 0; i < indexLength; i++) {
+                inputIndexStructure[b][i] = indexes[i];
+            }
+        }
 
-        final double costPrediction;
+        final Map<String, OnnxTensor> inputs = new HashMap<>();
+        try (OnnxTensor tensorValues = OnnxTensor.createTensor(env, inputValueStructure);
+             OnnxTensor tensorIndexes = OnnxTensor.createTensor(env, inputIndexStructure)) {
+            inputs.put("input1", tensorValues);
+            inputs.put("input2", tensorIndexes);
 
-        try (Result r = session.run(inputMap, requestedOutputs)) {
-            costPrediction = unwrapFunc.apply(r, "output");
-            final Instant end = Instant.now();
-            final long execTime = Duration.between(start, end).toMillis();
-
-            Logging.writeToFile(String.format("%d", execTime),
-                    this.configuration.getStringProperty("wayang.ml.optimizations.file"));
-        } catch (final Exception e) {
-            e.printStackTrace();
-            return 0;
-        } finally {
-            this.inputMap.clear();
-            this.requestedOutputs.clear();
+            try (Result r = session.run(inputs, Set.of("output"))) {
+                return unwrapPredictions(r.get("output").orElseThrow().getValue(), batchSize);
+            }
         }
+    }
 
-        return costPrediction;
+    /**
+     * Reads one prediction per tree from an output of shape {@code [batch]} or {@code [batch, 1]}.
+     */
+    private static double[] unwrapPredictions(final Object output, final int batchSize) {
+        final double[] predictions = new double[batchSize];
+        Arrays.fill(predictions, Double.NaN);
+        if (output instanceof float[]) {
+            final float[] values = (float[]) output;
+            for (int i = 0; i < Math.min(batchSize, values.length); i++) {
+                predictions[i] = values[i];
+            }
+        } else if (output instanceof float[][]) {
+            final float[][] values = (float[][]) output;
+            for (int i = 0; i < Math.min(batchSize, values.length); i++) {
+                predictions[i] = values[i].length == 0 ? Double.NaN : values[i][0];
+            }
+        }
+        return predictions;
     }
     
     /**
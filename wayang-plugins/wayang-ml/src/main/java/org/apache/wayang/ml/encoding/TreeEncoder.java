@@ -38,6 +38,7 @@ import org.apache.wayang.core.plan.wayangplan.OperatorAlternative;
 import org.apache.wayang.core.plan.wayangplan.OutputSlot;
 import org.apache.wayang.core.plan.wayangplan.WayangPlan;
 import org.apache.wayang.core.platform.Junction;
+import org.apache.wayang.core.util.Tuple;
 
 public class TreeEncoder {
     private final OneHotMappings mappings;
@@ -51,6 +52,19 @@ public class TreeEncoder {
     }
 
     public TreeNode encode(final PlanImplementation plan) {
+        return this.encode(plan, null);
+    }
+
+    /**
+     * Encodes a single plan.
+     *
+     * @param plan                  the plan to encode
+     * @param operatorEncodingCache memoizes operator encodings across several plans, which usually share most of
+     *                              their operators; may be {@code null}
+     * @return the encoded plan or {@code null} if it has no sinks
+     */
+    private TreeNode encode(final PlanImplementation plan,
+            final Map<Tuple<Operator, OptimizationContext>, long[]> operatorEncodingCache) {
         final List<TreeNode> result = new ArrayList<TreeNode>();
 
         final HashMap<Operator, Collection<Operator>> tree = new HashMap<>();
@@ -63,7 +77,7 @@ public class TreeEncoder {
 
         for (final Operator sink : sinks) {
             final TreeNode sinkNode = traversePIOperator(sink, plan.getOptimizationContext(), encodeIds, junctions,
-                    tree);
+                    tree, operatorEncodingCache);
             result.add(sinkNode);
         }
 
@@ -77,6 +91,45 @@ public class TreeEncoder {
         return resultNode;
     }
 
+    /**
+     * Encodes several candidate plans, thereby encoding each operator shared among them only once.
+     *
+     * @param plans the plans to encode
+     * @return the encoded plans in the same order, {@code null} for plans without sinks
+     */
+    public List<TreeNode> encodeAll(final Collection<PlanImplementation> plans) {
+        // The cache is local to this call, as this instance may be shared among concurrently enumerating threads.
+        final Map<Tuple<Operator, OptimizationContext>, long[]> operatorEncodingCache = new HashMap<>();
+        final List<TreeNode> result = new ArrayList<>(plans.size());
+        for (final PlanImplementation plan : plans) {
+            result.add(this.encode(plan, operatorEncodingCache));
+        }
+        return result;
+    }
+
+    /**
+     * Encodes a single operator, reusing the {@code operatorEncodingCache} if available. As {@link TreeNode}s
+     * modify their encodings, cached encodings are handed out as copies.
+     */
+    private static long[] encodeOperator(final Operator operator, final OptimizationContext optimizationContext,
+            final boolean encodeIds, final Map<Tuple<Operator, OptimizationContext>, long[]> operatorEncodingCache) {
+        if (operatorEncodingCache == null) {
+            return encodeUncached(operator, optimizationContext, encodeIds);
+        }
+        final long[] encoded = operatorEncodingCache.computeIfAbsent(
+                new Tuple<>(operator, optimizationContext),
+                key -> encodeUncached(operator, optimizationContext, encodeIds));
+        return Arrays.copyOf(encoded, encoded.length);
+    }
+
+    private static long[] encodeUncached(final Operator operator, final OptimizationContext optimizationContext,
+            final boolean encodeIds) {
+        if (operator.isExecutionOperator()) {
+            return OneHotEncoder.encodeOperator((ExecutionOperator) operator, optimizationContext, encodeIds);
+        }
+        return OneHotEncoder.encodeOperator(operator, optimizationContext, encodeIds);
+    }
+
     public TreeNode encode(final WayangPlan plan, final OptimizationContext optimizationContext,
             final boolean encodeIds) {
         final List<TreeNode> result = new ArrayList<TreeNode>();
@@ -106,7 +159,8 @@ public class TreeEncoder {
 
     private TreeNode traversePIOperator(final Operator current, final OptimizationContext optimizationContext,
             final boolean encodeIds, final Map<OutputSlot<?>, Junction> junctions,
-            final HashMap<Operator, Collection<Operator>> visited) {
+            final HashMap<Operator, Collection<Operator>> visited,
+            final Map<Tuple<Operator, OptimizationContext>, long[]> operatorEncodingCache) {
         if (visited.containsKey(current)) {
             return null;
         }
@@ -119,16 +173,11 @@ public class TreeEncoder {
                     .orElseThrow(() -> new WayangException("Operator could not be retrieved from Alternatives"));
             mappings.addOriginalOperator(original);
 
-            currentNode.encoded = OneHotEncoder.encodeOperator(original, optimizationContext, encodeIds);
+            currentNode.encoded = encodeOperator(original, optimizationContext, encodeIds, operatorEncodingCache);
         } else {
             mappings.addOriginalOperator(current);
 
-            if (current.isExecutionOperator()) {
-                currentNode.encoded = OneHotEncoder.encodeOperator((ExecutionOperator) current, optimizationContext,
-                        encodeIds);
-            } else {
-                currentNode.encoded = OneHotEncoder.encodeOperator(current, optimizationContext, encodeIds);
-            }
+            currentNode.encoded = encodeOperator(current, optimizationContext, encodeIds, operatorEncodingCache);
         }
 
         final Collection<Junction> currentJunctions = junctions.values().stream().filter(junction -> {
@@ -155,9 +204,10 @@ public class TreeEncoder {
                 final Queue<ExecutionTask> conversionQueue = new LinkedList<>();
                 conversionQueue.addAll(conversions);
 
-                next = traverseWithNext(conversionQueue, junctions, visited, input, optimizationContext, encodeIds);
+                next = traverseWithNext(conversionQueue, junctions, visited, input, optimizationContext, encodeIds,
+                        operatorEncodingCache);
             } else {
-                next = traversePIOperator(input, optimizationContext, encodeIds, junctions, visited);
+                next = traversePIOperator(input, optimizationContext, encodeIds, junctions, visited, operatorEncodingCache);
             }
 
             if (currentNode.left == null) {
@@ -172,13 +222,14 @@ public class TreeEncoder {
 
     private TreeNode traverseWithNext(final Queue<ExecutionTask> conversions,
             final Map<OutputSlot<?>, Junction> junctions, final HashMap<Operator, Collection<Operator>> visited,
-            final Operator next, final OptimizationContext optimizationContext, final boolean encodeIds) {
+            final Operator next, final OptimizationContext optimizationContext, final boolean encodeIds,
+            final Map<Tuple<Operator, OptimizationContext>, long[]> operatorEncodingCache) {
         if (visited.containsKey(next)) {
             return null;
         }
 
         if (conversions.isEmpty()) {
-            return traversePIOperator(next, optimizationContext, encodeIds, junctions, visited);
+            return traversePIOperator(next, optimizationContext, encodeIds, junctions, visited, operatorEncodingCache);
         }
 
         final ExecutionTask currentTask = conversions.poll();
@@ -191,22 +242,17 @@ public class TreeEncoder {
                     .orElseThrow(() -> new WayangException("Operator could not be retrieved from Alternatives"));
             mappings.addOriginalOperator(original);
 
-            currentNode.encoded = OneHotEncoder.encodeOperator(original, optimizationContext, encodeIds);
+            currentNode.encoded = encodeOperator(original, optimizationContext, encodeIds, operatorEncodingCache);
             currentNode.operator = original;
         } else {
             mappings.addOriginalOperator(current);
             currentNode.operator = current;
 
-            if (current.isExecutionOperator()) {
-                currentNode.encoded = OneHotEncoder.encodeOperator((ExecutionOperator) current, optimizationContext,
-                        encodeIds);
-            } else {
-                currentNode.encoded = OneHotEncoder.encodeOperator(current, optimizationContext, encodeIds);
-            }
+            currentNode.encoded = encodeOperator(current, optimizationContext, encodeIds, operatorEncodingCache);
         }
 
         final TreeNode nextNode = traverseWithNext(conversions, junctions, visited, next, optimizationContext,
-                encodeIds);
+                encodeIds, operatorEncodingCache);
 
         if (currentNode.left == null) {
             currentNode.left = nextNode;
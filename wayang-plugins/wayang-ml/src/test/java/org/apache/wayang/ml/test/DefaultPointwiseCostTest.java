@@ -0,0 +1,71 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+
+package org.apache.wayang.ml.test;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+
+import org.apache.wayang.basic.data.Tuple2;
+import org.apache.wayang.core.api.Configuration;
+import org.apache.wayang.core.api.WayangContext;
+import org.apache.wayang.core.optimizer.enumeration.PlanImplementation;
+import org.apache.wayang.core.plan.wayangplan.WayangPlan;
+import org.apache.wayang.java.Java;
+import org.apache.wayang.ml.costs.DefaultPointwiseCost;
+import org.apache.wayang.ml.encoding.OneHotMappings;
+import org.apache.wayang.ml.encoding.TreeEncoder;
+import org.apache.wayang.spark.Spark;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class DefaultPointwiseCostTest extends JavaExecutionTestBase {
+    @Test
+    public void testBatchedCostsEqualSingleCosts() throws IOException, URISyntaxException {
+        final List<Tuple2<String, Integer>> collector = new LinkedList<>();
+        final Configuration config = new Configuration();
+        config.setProperty("wayang.ml.model.file",
+                DefaultPointwiseCostTest.class.getResource("/cost_model.onnx").getPath());
+        config.setProperty("wayang.ml.optimizations.file",
+                System.getProperty("java.io.tmpdir") + "/wayang-ml-optimizations.txt");
+        config.setProperty("wayang.ml.inference.batch-size", "3");
+        final String filePath = DefaultPointwiseCostTest.class.getResource("/README.md").toURI().toString();
+        final WayangPlan wayangPlan = createWayangPlan(filePath, collector);
+        final WayangContext wayangContext = new WayangContext(config);
+        wayangContext.register(Java.basicPlugin());
+        wayangContext.register(Spark.basicPlugin());
+
+        final List<PlanImplementation> planImplementations =
+                new ArrayList<>(buildPlanImplementations(wayangPlan, wayangContext));
+        Assertions.assertTrue(planImplementations.size() > 1);
+
+        // The plans share most of their operators, so the batched encoding reuses operator encodings.
+        final DefaultPointwiseCost cost = new DefaultPointwiseCost(new TreeEncoder(new OneHotMappings()));
+        final double[] batchedCosts = cost.getCosts(planImplementations);
+
+        Assertions.assertEquals(planImplementations.size(), batchedCosts.length);
+        for (int i = 0; i < planImplementations.size(); i++) {
+            final double singleCost = cost.getCost(planImplementations.get(i));
+            Assertions.assertEquals(singleCost, batchedCosts[i], Math.abs(singleCost) * 1e-6,
+                    "Cost mismatch for plan " + i);
+        }
+    }
+}
@@ -23,8 +23,11 @@ import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import java.util.ArrayList;
+import java.util.List;
 
+import org.apache.wayang.core.util.Tuple;
 import org.apache.wayang.ml.encoding.OrtTensorEncoder;
+import org.apache.wayang.ml.encoding.TreeNode;
 import org.junit.jupiter.api.Test;
 
 public class OrtTensorEncoderTest extends JavaExecutionTestBase {
@@ -40,4 +43,23 @@ public class OrtTensorEncoderTest extends JavaExecutionTestBase {
         assertArrayEquals(new long[] { 1, 3 }, result.get(0)[0]);
         assertArrayEquals(new long[] { 2, 4 }, result.get(0)[1]);
     }
+
+    @Test
+    public void testPrepareTreesPadsBatch() {
+        final TreeNode small = new TreeNode(new long[] { 0, 1, 2 }, null, null);
+        final TreeNode large = new TreeNode(new long[] { 0, 3, 4 },
+                new TreeNode(new long[] { 0, 5, 6 }, null, null),
+                new TreeNode(new long[] { 0, 7, 8 }, null, null));
+
+        final Tuple<ArrayList<long[][]>, ArrayList<long[][]>> batch = OrtTensorEncoder.prepareTrees(List.of(small, large));
+
+        assertEquals(2, batch.getField0().size());
+        assertEquals(2, batch.getField1().size());
+        // All trees share the shape of the largest one, so that they fit into one tensor.
+        assertEquals(batch.getField0().get(1).length, batch.getField0().get(0).length);
+        assertEquals(batch.getField0().get(1)[0].length, batch.getField0().get(0)[0].length);
+        assertEquals(batch.getField1().get(1).length, batch.getField1().get(0).length);
+        // The padding of the smaller tree consists of zeros.
+        assertEquals(0, batch.getField0().get(0)[1][batch.getField0().get(0)[1].length - 1]);
+    }
 }
@@ -0,0 +1,250 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.opentelemetry;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.common.AttributesBuilder;
+import io.opentelemetry.api.metrics.DoubleCounter;
+import io.opentelemetry.api.metrics.Meter;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.TraceFlags;
+import io.opentelemetry.api.trace.TraceState;
+import io.opentelemetry.sdk.common.InstrumentationLibraryInfo;
+import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
+import io.opentelemetry.sdk.resources.Resource;
+import io.opentelemetry.sdk.trace.data.EventData;
+import io.opentelemetry.sdk.trace.data.LinkData;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.data.StatusData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import org.apache.wayang.core.monitor.tracing.ExportingTracer;
+import org.apache.wayang.core.monitor.tracing.FinishedSpan;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@link ExportingTracer.Exporter} that hands the {@link FinishedSpan}s of an {@link ExportingTracer} to an
+ * OpenTelemetry {@link SpanExporter} and adds its metric values to OpenTelemetry {@link DoubleCounter}s.
+ * <p>The {@link FinishedSpan}s keep their trace and span IDs and their timestamps, so that a trace looks just as if
+ * it had been recorded by the OpenTelemetry SDK. Micrometer users can bridge the {@link Meter} to a
+ * {@code MeterRegistry}.</p>
+ * <p>Usage: {@code wayangContext.withTracer(OpenTelemetryExporter.createTracer(spanExporter, meter))}</p>
+ */
+public class OpenTelemetryExporter implements ExportingTracer.Exporter {
+
+    /**
+     * Name of the instrumentation scope of the exported spans.
+     */
+    public static final String INSTRUMENTATION_SCOPE = "org.apache.wayang";
+
+    private final SpanExporter spanExporter;
+
+    private final Meter meter;
+
+    private final Resource resource;
+
+    /**
+     * Caches the {@link DoubleCounter} for each metric name.
+     */
+    private final Map<String, DoubleCounter> counters = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a new instance with the {@link Resource#getDefault() default} {@link Resource}.
+     *
+     * @param spanExporter receives the spans
+     * @param meter        creates the counters for the metrics
+     */
+    public OpenTelemetryExporter(SpanExporter spanExporter, Meter meter) {
+        this(spanExporter, meter, Resource.getDefault());
+    }
+
+    /**
+     * Creates a new instance.
+     *
+     * @param spanExporter receives the spans
+     * @param meter        creates the counters for the metrics
+     * @param resource     describes the process that runs Wayang, e.g., with a {@code service.name}
+     */
+    public OpenTelemetryExporter(SpanExporter spanExporter, Meter meter, Resource resource) {
+        this.spanExporter = spanExporter;
+        this.meter = meter;
+        this.resource = resource;
+    }
+
+    /**
+     * Creates an {@link ExportingTracer} that exports via a new instance.
+     *
+     * @param spanExporter receives the spans
+     * @param meter        creates the counters for the metrics
+     * @return the {@link ExportingTracer}
+     */
+    public static ExportingTracer createTracer(SpanExporter spanExporter, Meter meter) {
+        return new ExportingTracer(new OpenTelemetryExporter(spanExporter, meter));
+    }
+
+    @Override
+    public void export(FinishedSpan span) {
+        this.spanExporter.export(Collections.singletonList(new FinishedSpanData(span, this.resource)));
+    }
+
+    @Override
+    public void exportMetric(String name, double value) {
+        this.counters.computeIfAbsent(name, key -> this.meter.counterBuilder(key).ofDoubles().build()).add(value);
+    }
+
+    /**
+     * Converts the attributes of a {@link FinishedSpan}.
+     */
+    private static Attributes toAttributes(Map<String, Object> attributes) {
+        final AttributesBuilder builder = Attributes.builder();
+        attributes.forEach((key, value) -> {
+            if (value instanceof Boolean) {
+                builder.put(key, (Boolean) value);
+            } else if (value instanceof Long || value instanceof Integer) {
+                builder.put(key, ((Number) value).longValue());
+            } else if (value instanceof Number) {
+                builder.put(key, ((Number) value).doubleValue());
+            } else {
+                builder.put(key, String.valueOf(value));
+            }
+        });
+        return builder.build();
+    }
+
+    /**
+     * {@link SpanData} view of a {@link FinishedSpan}.
+     */
+    private static class FinishedSpanData implements SpanData {
+
+        private static final InstrumentationScopeInfo SCOPE_INFO = InstrumentationScopeInfo.create(INSTRUMENTATION_SCOPE);
+
+        private final FinishedSpan span;
+
+        private final Resource resource;
+
+        private final SpanContext spanContext, parentSpanContext;
+
+        private final Attributes attributes;
+
+        private FinishedSpanData(FinishedSpan span, Resource resource) {
+            this.span = span;
+            this.resource = resource;
+            this.spanContext = SpanContext.create(
+                    span.getTraceId(), span.getSpanId(), TraceFlags.getSampled(), TraceState.getDefault()
+            );
+            this.parentSpanContext = span.getParentSpanId() == null ?
+                    SpanContext.getInvalid() :
+                    SpanContext.create(span.getTraceId(), span.getParentSpanId(), TraceFlags.getSampled(), TraceState.getDefault());
+            this.attributes = toAttributes(span.getAttributes());
+        }
+
+        @Override
+        public String getName() {
+            return this.span.getName();
+        }
+
+        @Override
+        public SpanKind getKind() {
+            return SpanKind.INTERNAL;
+        }
+
+        @Override
+        public SpanContext getSpanContext() {
+            return this.spanContext;
+        }
+
+        @Override
+        public SpanContext getParentSpanContext() {
+            return this.parentSpanContext;
+        }
+
+        @Override
+        public StatusData getStatus() {
+            return this.span.isError() ?
+                    StatusData.create(StatusCode.ERROR, this.span.getStatusDescription() == null ? "" : this.span.getStatusDescription()) :
+                    StatusData.unset();
+        }
+
+        @Override
+        public long getStartEpochNanos() {
+            return this.span.getStartEpochNanos();
+        }
+
+        @Override
+        public Attributes getAttributes() {
+            return this.attributes;
+        }
+
+        @Override
+        public List<EventData> getEvents() {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public List<LinkData> getLinks() {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public long getEndEpochNanos() {
+            return this.span.getEndEpochNanos();
+        }
+
+        @Override
+        public boolean hasEnded() {
+            return true;
+        }
+
+        @Override
+        public int getTotalRecordedEvents() {
+            return 0;
+        }
+
+        @Override
+        public int getTotalRecordedLinks() {
+            return 0;
+        }
+
+        @Override
+        public int getTotalAttributeCount() {
+            return this.attributes.size();
+        }
+
+        @Override
+        @SuppressWarnings("deprecation")
+        public InstrumentationLibraryInfo getInstrumentationLibraryInfo() {
+            return InstrumentationLibraryInfo.create(INSTRUMENTATION_SCOPE, null);
+        }
+
+        @Override
+        public InstrumentationScopeInfo getInstrumentationScopeInfo() {
+            return SCOPE_INFO;
+        }
+
+        @Override
+        public Resource getResource() {
+            return this.resource;
+        }
+    }
+}
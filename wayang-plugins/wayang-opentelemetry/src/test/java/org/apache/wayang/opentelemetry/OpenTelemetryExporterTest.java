@@ -0,0 +1,166 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.opentelemetry;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.metrics.InstrumentType;
+import io.opentelemetry.sdk.metrics.SdkMeterProvider;
+import io.opentelemetry.sdk.metrics.data.AggregationTemporality;
+import io.opentelemetry.sdk.metrics.data.DoublePointData;
+import io.opentelemetry.sdk.metrics.data.MetricData;
+import io.opentelemetry.sdk.metrics.export.CollectionRegistration;
+import io.opentelemetry.sdk.metrics.export.MetricReader;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import org.apache.wayang.core.monitor.tracing.ExportingTracer;
+import org.apache.wayang.core.monitor.tracing.Span;
+import org.apache.wayang.core.monitor.tracing.Tracer;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test suite for {@link OpenTelemetryExporter}.
+ */
+class OpenTelemetryExporterTest {
+
+    @Test
+    void testSpans() {
+        final CollectingSpanExporter spanExporter = new CollectingSpanExporter();
+        final ExportingTracer tracer = OpenTelemetryExporter.createTracer(
+                spanExporter, SdkMeterProvider.builder().build().get("test")
+        );
+
+        final Span jobSpan = tracer.startSpan(Tracer.JOB_SPAN, null).setAttribute("job.name", "test");
+        tracer.startSpan(Tracer.TASK_SPAN, jobSpan)
+                .setAttribute("output.0.cardinality", 42L)
+                .setAttribute("plancache.hit", true)
+                .recordError(new IllegalStateException("broken"))
+                .end();
+        jobSpan.end();
+
+        assertEquals(2, spanExporter.spans.size());
+        final SpanData task = spanExporter.spans.get(0), job = spanExporter.spans.get(1);
+        assertEquals(Tracer.TASK_SPAN, task.getName());
+        assertEquals(job.getTraceId(), task.getTraceId());
+        assertEquals(job.getSpanId(), task.getParentSpanId());
+        assertTrue(task.getSpanContext().isValid());
+        assertTrue(task.getParentSpanContext().isValid());
+        assertFalse(job.getParentSpanContext().isValid());
+        assertTrue(job.getStartEpochNanos() <= task.getStartEpochNanos());
+        assertTrue(task.getEndEpochNanos() <= job.getEndEpochNanos());
+        assertTrue(job.hasEnded());
+        assertEquals(OpenTelemetryExporter.INSTRUMENTATION_SCOPE, job.getInstrumentationScopeInfo().getName());
+
+        assertEquals("test", job.getAttributes().get(AttributeKey.stringKey("job.name")));
+        assertEquals(42L, task.getAttributes().get(AttributeKey.longKey("output.0.cardinality")));
+        assertEquals(true, task.getAttributes().get(AttributeKey.booleanKey("plancache.hit")));
+
+        assertEquals(StatusCode.ERROR, task.getStatus().getStatusCode());
+        assertEquals("broken", task.getStatus().getDescription());
+        assertEquals(StatusCode.UNSET, job.getStatus().getStatusCode());
+    }
+
+    @Test
+    void testMetrics() {
+        final CollectingMetricReader metricReader = new CollectingMetricReader();
+        final SdkMeterProvider meterProvider = SdkMeterProvider.builder().registerMetricReader(metricReader).build();
+        final ExportingTracer tracer = OpenTelemetryExporter.createTracer(
+                new CollectingSpanExporter(), meterProvider.get("test")
+        );
+
+        tracer.recordMetric(Tracer.CARDINALITY_METRIC, 10);
+        tracer.recordMetric(Tracer.CARDINALITY_METRIC, 5);
+        tracer.recordMetric(Tracer.BYTES_METRIC, 1024);
+
+        final Collection<MetricData> metrics = metricReader.registration.collectAllMetrics();
+        assertEquals(2, metrics.size());
+        assertEquals(15d, getSum(metrics, Tracer.CARDINALITY_METRIC));
+        assertEquals(1024d, getSum(metrics, Tracer.BYTES_METRIC));
+        meterProvider.close();
+    }
+
+    private static double getSum(Collection<MetricData> metrics, String name) {
+        return metrics.stream()
+                .filter(metric -> metric.getName().equals(name))
+                .flatMap(metric -> metric.getDoubleSumData().getPoints().stream())
+                .mapToDouble(DoublePointData::getValue)
+                .sum();
+    }
+
+    /**
+     * {@link SpanExporter} that keeps all {@link SpanData}.
+     */
+    private static class CollectingSpanExporter implements SpanExporter {
+
+        private final List<SpanData> spans = new CopyOnWriteArrayList<>();
+
+        @Override
+        public CompletableResultCode export(Collection<SpanData> spans) {
+            this.spans.addAll(spans);
+            return CompletableResultCode.ofSuccess();
+        }
+
+        @Override
+        public CompletableResultCode flush() {
+            return CompletableResultCode.ofSuccess();
+        }
+
+        @Override
+        public CompletableResultCode shutdown() {
+            return CompletableResultCode.ofSuccess();
+        }
+    }
+
+    /**
+     * {@link MetricReader} that collects on demand.
+     */
+    private static class CollectingMetricReader implements MetricReader {
+
+        private CollectionRegistration registration = CollectionRegistration.noop();
+
+        @Override
+        public void register(CollectionRegistration registration) {
+            this.registration = registration;
+        }
+
+        @Override
+        public AggregationTemporality getAggregationTemporality(InstrumentType instrumentType) {
+            return AggregationTemporality.CUMULATIVE;
+        }
+
+        @Override
+        public CompletableResultCode forceFlush() {
+            return CompletableResultCode.ofSuccess();
+        }
+
+        @Override
+        public CompletableResultCode shutdown() {
+            return CompletableResultCode.ofSuccess();
+        }
+    }
+}
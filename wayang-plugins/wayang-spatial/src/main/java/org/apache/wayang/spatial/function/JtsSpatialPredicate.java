@@ -20,30 +20,34 @@ package org.apache.wayang.spatial.function;
 
 import org.apache.wayang.core.api.spatial.SpatialPredicate;
 import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.prep.PreparedGeometry;
 
 import java.util.Arrays;
 import java.util.function.BiPredicate;
 
 public enum JtsSpatialPredicate {
 
-    INTERSECTS("INTERSECTS", "ST_Intersects", Geometry::intersects),
-    CONTAINS("CONTAINS", "ST_Contains", Geometry::contains),
-    WITHIN("WITHIN", "ST_Within", Geometry::within),
-    TOUCHES("TOUCHES", "ST_Touches", Geometry::touches),
-    OVERLAPS("OVERLAPS", "ST_Overlaps", Geometry::overlaps),
-    CROSSES("CROSSES", "ST_Crosses", Geometry::crosses),
-    EQUALS("EQUALS", "ST_Equals", Geometry::equalsTopo);
+    INTERSECTS("INTERSECTS", "ST_Intersects", Geometry::intersects, PreparedGeometry::intersects),
+    CONTAINS("CONTAINS", "ST_Contains", Geometry::contains, PreparedGeometry::contains),
+    WITHIN("WITHIN", "ST_Within", Geometry::within, PreparedGeometry::within),
+    TOUCHES("TOUCHES", "ST_Touches", Geometry::touches, PreparedGeometry::touches),
+    OVERLAPS("OVERLAPS", "ST_Overlaps", Geometry::overlaps, PreparedGeometry::overlaps),
+    CROSSES("CROSSES", "ST_Crosses", Geometry::crosses, PreparedGeometry::crosses),
+    EQUALS("EQUALS", "ST_Equals", Geometry::equalsTopo, (prepared, reference) -> prepared.getGeometry().equalsTopo(reference));
 
     private final String opName;
     private final String sqlFunctionName;
     private final BiPredicate<Geometry, Geometry> predicate;
+    private final BiPredicate<PreparedGeometry, Geometry> preparedPredicate;
 
     JtsSpatialPredicate(String opName,
                         String sqlFunctionName,
-                        BiPredicate<Geometry, Geometry> predicate) {
+                        BiPredicate<Geometry, Geometry> predicate,
+                        BiPredicate<PreparedGeometry, Geometry> preparedPredicate) {
         this.opName = opName;
         this.sqlFunctionName = sqlFunctionName;
         this.predicate = predicate;
+        this.preparedPredicate = preparedPredicate;
     }
 
     public static JtsSpatialPredicate fromString(String opName) {
@@ -76,6 +80,27 @@ public enum JtsSpatialPredicate {
         return predicate.test(candidate, reference);
     }
 
+    /**
+     * Same as {@link #test(Geometry, Geometry)}, but with a {@link PreparedGeometry}, which is faster when testing
+     * the {@code candidate} against many {@code reference}s.
+     */
+    public boolean test(PreparedGeometry candidate, Geometry reference) {
+        return preparedPredicate.test(candidate, reference);
+    }
+
+    /**
+     * Provides the predicate with swapped arguments, i.e., {@code p.converse().test(b, a) == p.test(a, b)}.
+     *
+     * @return the converse predicate
+     */
+    public JtsSpatialPredicate converse() {
+        return switch (this) {
+            case CONTAINS -> WITHIN;
+            case WITHIN -> CONTAINS;
+            default -> this;
+        };
+    }
+
     public String toSql(String columnExpr, String geomLiteral) {
         return String.format("%s(%s, %s)", this.sqlFunctionName, columnExpr, geomLiteral);
     }
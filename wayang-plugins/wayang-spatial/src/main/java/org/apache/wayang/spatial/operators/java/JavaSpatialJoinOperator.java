@@ -24,6 +24,7 @@ import org.apache.wayang.core.api.spatial.SpatialPredicate;
 import org.apache.wayang.core.function.FunctionDescriptor;
 import org.apache.wayang.core.function.TransformationDescriptor;
 import org.apache.wayang.core.optimizer.OptimizationContext;
+import org.apache.wayang.core.optimizer.cardinality.CardinalityEstimate;
 import org.apache.wayang.core.types.DataSetType;
 import org.apache.wayang.core.plan.wayangplan.ExecutionOperator;
 import org.apache.wayang.core.platform.ChannelDescriptor;
@@ -31,18 +32,27 @@ import org.apache.wayang.core.platform.ChannelInstance;
 import org.apache.wayang.core.platform.lineage.ExecutionLineageNode;
 import org.apache.wayang.core.util.Tuple;
 import org.apache.wayang.java.channels.CollectionChannel;
+import org.apache.wayang.java.channels.JavaChannelInstance;
 import org.apache.wayang.java.channels.StreamChannel;
 import org.apache.wayang.java.execution.JavaExecutor;
 import org.apache.wayang.java.operators.JavaExecutionOperator;
+import org.apache.wayang.java.spill.SpillManager;
 import org.apache.wayang.spatial.data.WayangGeometry;
 import org.apache.wayang.spatial.function.JtsSpatialPredicate;
 import org.locationtech.jts.geom.Geometry;
-import org.locationtech.jts.index.strtree.STRtree;
 
 import java.util.*;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
+/**
+ * Java implementation of the {@link SpatialJoinOperator}. Indexes the input that is expected to be smaller and
+ * probes it with the other one.
+ *
+ * @see SpatialIndexJoin
+ */
 public class JavaSpatialJoinOperator<InputType0, InputType1>
         extends SpatialJoinOperator<InputType0, InputType1>
         implements JavaExecutionOperator {
@@ -82,45 +92,87 @@ public class JavaSpatialJoinOperator<InputType0, InputType1>
                 javaExecutor.getCompiler().compile(this.keyDescriptor0);
         final Function<InputType1, ? extends SpatialGeometry> keyExtractor1 =
                 javaExecutor.getCompiler().compile(this.keyDescriptor1);
-
-        final Stream<InputType0> leftStream =
-                ((org.apache.wayang.java.channels.JavaChannelInstance) inputs[0])
-                        .provideStream();
-        final Stream<InputType1> rightStream =
-                ((org.apache.wayang.java.channels.JavaChannelInstance) inputs[1])
-                        .provideStream();
-
-        JtsSpatialPredicate predicate = JtsSpatialPredicate.of(this.predicateType);
-
-        STRtree index = new STRtree();
-
-        rightStream.forEach(v1 -> {
-            WayangGeometry wGeom = (WayangGeometry) keyExtractor1.apply(v1);
-            Geometry geom = (wGeom == null) ? null : wGeom.getGeometry();
-            if (geom != null) {
-                index.insert(geom.getEnvelopeInternal(), new AbstractMap.SimpleEntry<>(v1, geom));
+        final Function<InputType0, Geometry> geometryExtractor0 = dataQuantum -> toGeometry(keyExtractor0.apply(dataQuantum));
+        final Function<InputType1, Geometry> geometryExtractor1 = dataQuantum -> toGeometry(keyExtractor1.apply(dataQuantum));
+
+        final JtsSpatialPredicate predicate = JtsSpatialPredicate.of(this.predicateType);
+
+        // Index the smaller input and probe it with the larger one.
+        final boolean isBuild0;
+        if (inputs[0] instanceof CollectionChannel.Instance && inputs[1] instanceof CollectionChannel.Instance) {
+            // We know the actual input sizes, so we do not need to rely on the estimates.
+            isBuild0 = ((CollectionChannel.Instance) inputs[0]).provideCollection().size() <
+                    ((CollectionChannel.Instance) inputs[1]).provideCollection().size();
+        } else {
+            final CardinalityEstimate cardinalityEstimate0 = operatorContext.getInputCardinality(0);
+            final CardinalityEstimate cardinalityEstimate1 = operatorContext.getInputCardinality(1);
+            isBuild0 = cardinalityEstimate0 != null &&
+                    cardinalityEstimate1 != null &&
+                    cardinalityEstimate0.getGeometricMeanEstimate() < cardinalityEstimate1.getGeometricMeanEstimate();
+        }
+
+        // Spilling joins partition both inputs into grid cells on disk if the indexed input exceeds the memory budget.
+        final SpillManager spillManager = SpillManager.isEnabled(javaExecutor.getConfiguration()) ?
+                new SpillManager(javaExecutor) :
+                null;
+
+        final Stream<Tuple2<InputType0, InputType1>> joinStream;
+        final SpatialIndexJoin<?, ?, Tuple2<InputType0, InputType1>> spatialIndexJoin;
+        if (isBuild0) {
+            final SpatialIndexJoin<InputType0, InputType1, Tuple2<InputType0, InputType1>> join = new SpatialIndexJoin<>(
+                    geometryExtractor0, geometryExtractor1, predicate.converse(), Tuple2::new
+            );
+            joinStream = join.join(
+                    ((JavaChannelInstance) inputs[0]).<InputType0>provideStream().iterator(),
+                    ((JavaChannelInstance) inputs[1]).provideStream(javaExecutor.isParallel()),
+                    javaExecutor.isParallel(),
+                    spillManager
+            );
+            spatialIndexJoin = join;
+        } else {
+            final SpatialIndexJoin<InputType1, InputType0, Tuple2<InputType0, InputType1>> join = new SpatialIndexJoin<>(
+                    geometryExtractor1, geometryExtractor0, predicate,
+                    (dataQuantum1, dataQuantum0) -> new Tuple2<>(dataQuantum0, dataQuantum1)
+            );
+            joinStream = join.join(
+                    ((JavaChannelInstance) inputs[1]).<InputType1>provideStream().iterator(),
+                    ((JavaChannelInstance) inputs[0]).provideStream(javaExecutor.isParallel()),
+                    javaExecutor.isParallel(),
+                    spillManager
+            );
+            spatialIndexJoin = join;
+        }
+
+        final ExecutionLineageNode executionLineageNode = new ExecutionLineageNode(operatorContext);
+        executionLineageNode.addAtomicExecutionFromOperatorContext();
+
+        if (javaExecutor.isParallel()) {
+            // Probe eagerly, so that the probing can make use of all cores.
+            final List<Tuple2<InputType0, InputType1>> joinProducts = joinStream.collect(Collectors.toList());
+            spatialIndexJoin.report(this);
+            if (spillManager != null) {
+                spillManager.reportTo(executionLineageNode);
+                spillManager.dispose();
             }
-        });
-
-        index.build();
-
-        final Stream<Tuple2<InputType0, InputType1>> joinStream = leftStream.flatMap(v0 -> {
-            Geometry geom0 = Optional.ofNullable((WayangGeometry) keyExtractor0.apply(v0))
-                    .map(WayangGeometry::getGeometry).orElse(null);
-            if (geom0 == null) return Stream.empty();
-
-            List<Map.Entry<InputType1, Geometry>> candidates = index.query(geom0.getEnvelopeInternal());
-
-            return candidates.stream()
-                    .filter(e -> predicate.test(geom0, e.getValue()))
-                    .map(e -> new Tuple2<>(v0, e.getKey()));
-        });
-
-        // Push the result into the output channel.
-        ((org.apache.wayang.java.channels.StreamChannel.Instance) outputs[0]).accept(joinStream);
+            ((StreamChannel.Instance) outputs[0]).accept(joinProducts);
+            return ExecutionOperator.modelEagerExecution(inputs, outputs, executionLineageNode);
+        }
+
+        Iterator<Tuple2<InputType0, InputType1>> joinIterator =
+                spatialIndexJoin.reportWhenExhausted(joinStream.iterator(), this);
+        if (spillManager != null) {
+            spillManager.reportTo(executionLineageNode);
+            joinIterator = spillManager.disposeWhenExhausted(joinIterator, executionLineageNode);
+        }
+        ((StreamChannel.Instance) outputs[0]).accept(
+                StreamSupport.stream(Spliterators.spliteratorUnknownSize(joinIterator, Spliterator.ORDERED), false)
+        );
+
+        return ExecutionOperator.modelLazyExecution(inputs, outputs, executionLineageNode);
+    }
 
-        // Use the standard lazy-execution lineage modeling.
-        return ExecutionOperator.modelLazyExecution(inputs, outputs, operatorContext);
+    private static Geometry toGeometry(SpatialGeometry spatialGeometry) {
+        return spatialGeometry == null ? null : ((WayangGeometry) spatialGeometry).getGeometry();
     }
 
     @Override
@@ -0,0 +1,374 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.spatial.operators.java;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.wayang.java.spill.MemoryTracker;
+import org.apache.wayang.java.spill.SpillFile;
+import org.apache.wayang.java.spill.SpillManager;
+import org.apache.wayang.spatial.function.JtsSpatialPredicate;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.prep.PreparedGeometry;
+import org.locationtech.jts.geom.prep.PreparedGeometryFactory;
+import org.locationtech.jts.index.strtree.STRtree;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Spatial join that indexes the build side in an {@link STRtree} and probes it with the probe side. Probe geometries
+ * with several candidates are {@link PreparedGeometry prepared} before testing them. If the build side exceeds the
+ * memory budget of a {@link SpillManager}, both sides are partitioned into the cells of a uniform grid over the
+ * extent of the build side, which are then joined one by one (or in parallel). Join partners that share several
+ * cells are only reported in the cell that contains the lower left corner of their common envelope.
+ *
+ * @param <Build>  the type of the build side data quanta
+ * @param <Probe>  the type of the probe side data quanta
+ * @param <Output> the type of the join products
+ */
+class SpatialIndexJoin<Build, Probe, Output> {
+
+    private static final Logger logger = LogManager.getLogger(SpatialIndexJoin.class);
+
+    private final Function<Build, Geometry> buildGeometryExtractor;
+
+    private final Function<Probe, Geometry> probeGeometryExtractor;
+
+    /**
+     * Tests the geometry of a probe data quantum (first argument) against that of a build data quantum.
+     */
+    private final JtsSpatialPredicate predicate;
+
+    private final BiFunction<Build, Probe, Output> combiner;
+
+    /**
+     * Counts the build data quanta whose envelope matches that of a probe data quantum and the actual join products.
+     */
+    private final LongAdder numCandidates = new LongAdder(), numResults = new LongAdder();
+
+    /**
+     * Creates a new instance.
+     *
+     * @param buildGeometryExtractor extracts the geometries from the build side; may return {@code null}
+     * @param probeGeometryExtractor extracts the geometries from the probe side; may return {@code null}
+     * @param predicate              the join predicate with the probe geometry as first argument
+     * @param combiner               creates the join product of two matching data quanta
+     */
+    SpatialIndexJoin(Function<Build, Geometry> buildGeometryExtractor,
+                     Function<Probe, Geometry> probeGeometryExtractor,
+                     JtsSpatialPredicate predicate,
+                     BiFunction<Build, Probe, Output> combiner) {
+        this.buildGeometryExtractor = buildGeometryExtractor;
+        this.probeGeometryExtractor = probeGeometryExtractor;
+        this.predicate = predicate;
+        this.combiner = combiner;
+    }
+
+    /**
+     * Joins the build side and the probe side. The build side is consumed right away, the probe side only once the
+     * result is consumed.
+     *
+     * @param buildInput   the data quanta to index
+     * @param probeInput   the data quanta to probe; if it is parallel, the probing is parallel, too
+     * @param isParallel   whether the grid cells should be joined in parallel
+     * @param spillManager manages the spilling or {@code null} if spilling is disabled
+     * @return the join products
+     */
+    Stream<Output> join(Iterator<Build> buildInput, Stream<Probe> probeInput, boolean isParallel, SpillManager spillManager) {
+        final List<Build> buildDataQuanta = new ArrayList<>();
+        final MemoryTracker memoryTracker = spillManager == null ? null : spillManager.createMemoryTracker();
+        while (buildInput.hasNext()) {
+            final Build dataQuantum = buildInput.next();
+            buildDataQuanta.add(dataQuantum);
+            if (memoryTracker != null && memoryTracker.add(dataQuantum)) {
+                return this.joinPartitioned(buildDataQuanta, buildInput, probeInput, isParallel, spillManager);
+            }
+        }
+
+        final STRtree index = this.createIndex(buildDataQuanta.iterator());
+        return probeInput.<Output>mapMulti((probeDataQuantum, downstream) ->
+                this.probe(index, probeDataQuantum, downstream, null, -1)
+        );
+    }
+
+    private STRtree createIndex(Iterator<Build> buildDataQuanta) {
+        final STRtree index = new STRtree();
+        buildDataQuanta.forEachRemaining(dataQuantum -> {
+            final Geometry geometry = this.buildGeometryExtractor.apply(dataQuantum);
+            if (geometry != null) {
+                index.insert(geometry.getEnvelopeInternal(), new IndexEntry<>(dataQuantum, geometry));
+            }
+        });
+        index.build();
+        return index;
+    }
+
+    /**
+     * Finds the join partners of a probe data quantum.
+     *
+     * @param index            contains the build side
+     * @param probeDataQuantum the probe data quantum
+     * @param downstream       accepts the join products
+     * @param grid             partitions the build and probe side or {@code null}
+     * @param cell             the grid cell of the {@code index} if there is a {@code grid}
+     */
+    @SuppressWarnings("unchecked")
+    private void probe(STRtree index, Probe probeDataQuantum, Consumer<Output> downstream, Grid grid, int cell) {
+        final Geometry probeGeometry = this.probeGeometryExtractor.apply(probeDataQuantum);
+        if (probeGeometry == null) return;
+        final Envelope probeEnvelope = probeGeometry.getEnvelopeInternal();
+        final List<IndexEntry<Build>> candidates = index.query(probeEnvelope);
+        if (candidates.isEmpty()) return;
+
+        // Preparing pays off only when the probe geometry is tested several times.
+        final PreparedGeometry preparedProbeGeometry = candidates.size() > 1 ?
+                PreparedGeometryFactory.prepare(probeGeometry) :
+                null;
+        for (IndexEntry<Build> candidate : candidates) {
+            if (grid != null && grid.getReferenceCell(probeEnvelope, candidate.geometry.getEnvelopeInternal()) != cell) {
+                continue;
+            }
+            this.numCandidates.increment();
+            final boolean isMatch = preparedProbeGeometry == null ?
+                    this.predicate.test(probeGeometry, candidate.geometry) :
+                    this.predicate.test(preparedProbeGeometry, candidate.geometry);
+            if (isMatch) {
+                this.numResults.increment();
+                downstream.accept(this.combiner.apply(candidate.dataQuantum, probeDataQuantum));
+            }
+        }
+    }
+
+    /**
+     * Partitions both sides into grid cells on disk and lazily joins the cells pairwise.
+     */
+    private Stream<Output> joinPartitioned(List<Build> bufferedBuildDataQuanta,
+                                           Iterator<Build> remainingBuildInput,
+                                           Stream<Probe> probeInput,
+                                           boolean isParallel,
+                                           SpillManager spillManager) {
+        // Stage the build side to learn its extent.
+        final SpillFile<Build> stagingFile = spillManager.createSpillFile();
+        final Envelope extent = new Envelope();
+        final Consumer<Build> stager = dataQuantum -> {
+            final Geometry geometry = this.buildGeometryExtractor.apply(dataQuantum);
+            if (geometry == null) return;
+            extent.expandToInclude(geometry.getEnvelopeInternal());
+            stagingFile.write(dataQuantum);
+        };
+        bufferedBuildDataQuanta.forEach(stager);
+        bufferedBuildDataQuanta.clear();
+        remainingBuildInput.forEachRemaining(stager);
+        stagingFile.finishWriting();
+
+        final Grid grid = new Grid(extent, spillManager.getNumPartitions());
+        final SpillFile<Build>[] buildCells = this.createCellFiles(grid, spillManager);
+        stagingFile.read().forEachRemaining(dataQuantum -> grid.forEachCell(
+                this.buildGeometryExtractor.apply(dataQuantum).getEnvelopeInternal(),
+                cell -> buildCells[cell].write(dataQuantum)
+        ));
+        stagingFile.delete();
+        for (SpillFile<Build> buildCell : buildCells) {
+            buildCell.finishWriting();
+        }
+
+        return StreamSupport.stream(() -> {
+            final SpillFile<Probe>[] probeCells = this.createCellFiles(grid, spillManager);
+            probeInput.sequential().forEach(probeDataQuantum -> {
+                final Geometry geometry = this.probeGeometryExtractor.apply(probeDataQuantum);
+                // Data quanta outside of the extent of the build side cannot have join partners.
+                if (geometry == null || !grid.getExtent().intersects(geometry.getEnvelopeInternal())) return;
+                grid.forEachCell(geometry.getEnvelopeInternal(), cell -> probeCells[cell].write(probeDataQuantum));
+            });
+            for (int cell = 0; cell < probeCells.length; cell++) {
+                probeCells[cell].finishWriting();
+                if (buildCells[cell].getNumElements() > 0 && probeCells[cell].getNumElements() > 0) {
+                    spillManager.notePass();
+                }
+            }
+            final IntStream cells = IntStream.range(0, grid.getNumCells());
+            return (isParallel ? cells.parallel() : cells).boxed()
+                    .flatMap(cell -> this.joinCell(buildCells[cell], probeCells[cell], grid, cell))
+                    .spliterator();
+        }, Spliterator.ORDERED, isParallel);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> SpillFile<T>[] createCellFiles(Grid grid, SpillManager spillManager) {
+        final SpillFile<T>[] cellFiles = new SpillFile[grid.getNumCells()];
+        for (int cell = 0; cell < cellFiles.length; cell++) {
+            cellFiles[cell] = spillManager.createSpillFile();
+        }
+        return cellFiles;
+    }
+
+    private Stream<Output> joinCell(SpillFile<Build> buildCell, SpillFile<Probe> probeCell, Grid grid, int cell) {
+        if (buildCell.getNumElements() == 0 || probeCell.getNumElements() == 0) {
+            buildCell.delete();
+            probeCell.delete();
+            return Stream.empty();
+        }
+        final STRtree index = this.createIndex(buildCell.read());
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(probeCell.read(), Spliterator.ORDERED), false)
+                .<Output>mapMulti((probeDataQuantum, downstream) ->
+                        this.probe(index, probeDataQuantum, downstream, grid, cell)
+                )
+                .onClose(() -> {
+                    buildCell.delete();
+                    probeCell.delete();
+                });
+    }
+
+    /**
+     * Logs the number of candidates and join products that have been found so far.
+     *
+     * @param operator the joining operator
+     */
+    void report(Object operator) {
+        final long numCandidates = this.numCandidates.sum(), numResults = this.numResults.sum();
+        logger.info("{} tested {} candidates for {} join products ({} candidates per join product).",
+                operator, numCandidates, numResults,
+                numResults == 0 ? "n/a" : String.format("%.2f", numCandidates / (double) numResults)
+        );
+    }
+
+    /**
+     * Wraps an {@link Iterator}, so that this instance {@link #report(Object) reports} once it is exhausted.
+     *
+     * @param iterator the {@link Iterator} over the join products
+     * @param operator the joining operator
+     * @return the wrapped {@link Iterator}
+     */
+    Iterator<Output> reportWhenExhausted(Iterator<Output> iterator, Object operator) {
+        return new Iterator<Output>() {
+
+            private boolean isReported = false;
+
+            @Override
+            public boolean hasNext() {
+                final boolean hasNext = iterator.hasNext();
+                if (!hasNext && !this.isReported) {
+                    this.isReported = true;
+                    SpatialIndexJoin.this.report(operator);
+                }
+                return hasNext;
+            }
+
+            @Override
+            public Output next() {
+                return iterator.next();
+            }
+        };
+    }
+
+    /**
+     * Entry of the {@link STRtree}.
+     */
+    private static class IndexEntry<T> {
+
+        private final T dataQuantum;
+
+        private final Geometry geometry;
+
+        private IndexEntry(T dataQuantum, Geometry geometry) {
+            this.dataQuantum = dataQuantum;
+            this.geometry = geometry;
+        }
+
+    }
+
+    /**
+     * Uniform grid over an {@link Envelope}. Coordinates outside of the {@link Envelope} are mapped to the closest
+     * cell.
+     */
+    static class Grid {
+
+        private final Envelope extent;
+
+        private final int numColumns, numRows;
+
+        private final double cellWidth, cellHeight;
+
+        Grid(Envelope extent, int numCells) {
+            this.extent = extent;
+            this.numColumns = (int) Math.ceil(Math.sqrt(numCells));
+            this.numRows = (numCells + this.numColumns - 1) / this.numColumns;
+            this.cellWidth = extent.getWidth() / this.numColumns;
+            this.cellHeight = extent.getHeight() / this.numRows;
+        }
+
+        private static int toIndex(double coordinate, double min, double cellSize, int numIndices) {
+            if (!(cellSize > 0)) return 0;
+            return Math.max(0, Math.min(numIndices - 1, (int) ((coordinate - min) / cellSize)));
+        }
+
+        private int getColumn(double x) {
+            return toIndex(x, this.extent.getMinX(), this.cellWidth, this.numColumns);
+        }
+
+        private int getRow(double y) {
+            return toIndex(y, this.extent.getMinY(), this.cellHeight, this.numRows);
+        }
+
+        /**
+         * Visits all cells that overlap with the given {@link Envelope}.
+         */
+        void forEachCell(Envelope envelope, IntConsumer consumer) {
+            final int maxRow = this.getRow(envelope.getMaxY()), maxColumn = this.getColumn(envelope.getMaxX());
+            for (int row = this.getRow(envelope.getMinY()); row <= maxRow; row++) {
+                for (int column = this.getColumn(envelope.getMinX()); column <= maxColumn; column++) {
+                    consumer.accept(row * this.numColumns + column);
+                }
+            }
+        }
+
+        /**
+         * Determines the cell that contains the lower left corner of the intersection of two overlapping
+         * {@link Envelope}s. Exactly one of the cells that both {@link Envelope}s overlap with has this property.
+         */
+        int getReferenceCell(Envelope envelope0, Envelope envelope1) {
+            final double x = Math.max(envelope0.getMinX(), envelope1.getMinX());
+            final double y = Math.max(envelope0.getMinY(), envelope1.getMinY());
+            return this.getRow(y) * this.numColumns + this.getColumn(x);
+        }
+
+        Envelope getExtent() {
+            return this.extent;
+        }
+
+        int getNumCells() {
+            return this.numColumns * this.numRows;
+        }
+
+    }
+
+}
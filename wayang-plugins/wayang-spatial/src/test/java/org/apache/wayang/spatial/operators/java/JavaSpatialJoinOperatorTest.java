@@ -28,6 +28,7 @@ import org.apache.wayang.core.optimizer.cardinality.CardinalityEstimate;
 import org.apache.wayang.core.plan.wayangplan.Operator;
 import org.apache.wayang.core.platform.CrossPlatformExecutor;
 import org.apache.wayang.core.profiling.NoInstrumentationStrategy;
+import org.apache.wayang.java.channels.CollectionChannel;
 import org.apache.wayang.java.channels.JavaChannelInstance;
 import org.apache.wayang.java.channels.StreamChannel;
 import org.apache.wayang.java.execution.JavaExecutor;
@@ -36,8 +37,11 @@ import org.apache.wayang.spatial.data.WayangGeometry;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
+import java.util.Random;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -67,6 +71,16 @@ class JavaSpatialJoinOperatorTest {
         return new JavaExecutor(JavaPlatform.getInstance(), job);
     }
 
+    private static JavaExecutor createExecutor(Configuration executorConfiguration) {
+        final Job executorJob = mock(Job.class);
+        when(executorJob.getConfiguration()).thenReturn(executorConfiguration);
+        // The JavaExecutor exposes the Configuration of its CrossPlatformExecutor, so we need a dedicated one.
+        when(executorJob.getCrossPlatformExecutor())
+                .thenReturn(new CrossPlatformExecutor(executorJob, new NoInstrumentationStrategy()));
+        when(executorJob.getOptimizationContext()).thenReturn(job.getOptimizationContext());
+        return new JavaExecutor(JavaPlatform.getInstance(), executorJob);
+    }
+
     private static OptimizationContext.OperatorContext createOperatorContext(Operator operator) {
         OptimizationContext optimizationContext = job.getOptimizationContext();
         final OptimizationContext.OperatorContext operatorContext = optimizationContext.addOneTimeOperator(operator);
@@ -91,6 +105,37 @@ class JavaSpatialJoinOperatorTest {
         return instance;
     }
 
+    private static CollectionChannel.Instance createCollectionChannelInstance(Collection<?> collection) {
+        CollectionChannel.Instance instance = (CollectionChannel.Instance) CollectionChannel.DESCRIPTOR
+                .createChannel(null, configuration)
+                .createInstance(mock(JavaExecutor.class), null, -1);
+        instance.accept(collection);
+        return instance;
+    }
+
+    private static List<String> join(List<String> left,
+                                     List<String> right,
+                                     SpatialPredicate predicate,
+                                     JavaExecutor executor) {
+        JavaSpatialJoinOperator<String, String> joinOp = new JavaSpatialJoinOperator<>(
+                WayangGeometry::fromStringInput,
+                WayangGeometry::fromStringInput,
+                String.class,
+                String.class,
+                predicate
+        );
+        JavaChannelInstance[] inputs = new JavaChannelInstance[]{
+                createCollectionChannelInstance(left),
+                createCollectionChannelInstance(right)
+        };
+        JavaChannelInstance[] outputs = new JavaChannelInstance[]{createStreamChannelInstance()};
+        joinOp.evaluate(inputs, outputs, executor, createOperatorContext(joinOp));
+        return outputs[0].<Tuple2<String, String>>provideStream()
+                .map(pair -> pair.field0 + " | " + pair.field1)
+                .sorted()
+                .collect(Collectors.toList());
+    }
+
     @Test
     void testIntersectsJoin() {
         // Left: 3 points — two in box1, one in box2
@@ -191,4 +236,81 @@ class JavaSpatialJoinOperatorTest {
                 outputs[0].<Tuple2<String, String>>provideStream().collect(Collectors.toList());
         assertEquals(2, result.size());
     }
+
+    @Test
+    void testAsymmetricPredicatesWithBothBuildSides() {
+        List<String> boxes = Arrays.asList(
+                "POLYGON ((0 0, 1 0, 1 1, 0 1, 0 0))",
+                "POLYGON ((5 5, 6 5, 6 6, 5 6, 5 5))"
+        );
+        List<String> points = Arrays.asList(
+                "POINT (0.5 0.5)",
+                "POINT (0.5 0.8)",
+                "POINT (5.5 5.5)"
+        );
+
+        // The smaller left input is indexed.
+        List<String> containsResult = join(boxes, points, SpatialPredicate.CONTAINS, createExecutor());
+        assertEquals(Arrays.asList(
+                "POLYGON ((0 0, 1 0, 1 1, 0 1, 0 0)) | POINT (0.5 0.5)",
+                "POLYGON ((0 0, 1 0, 1 1, 0 1, 0 0)) | POINT (0.5 0.8)",
+                "POLYGON ((5 5, 6 5, 6 6, 5 6, 5 5)) | POINT (5.5 5.5)"
+        ), containsResult);
+
+        // The smaller right input is indexed.
+        List<String> withinResult = join(points, boxes, SpatialPredicate.WITHIN, createExecutor());
+        assertEquals(Arrays.asList(
+                "POINT (0.5 0.5) | POLYGON ((0 0, 1 0, 1 1, 0 1, 0 0))",
+                "POINT (0.5 0.8) | POLYGON ((0 0, 1 0, 1 1, 0 1, 0 0))",
+                "POINT (5.5 5.5) | POLYGON ((5 5, 6 5, 6 6, 5 6, 5 5))"
+        ), withinResult);
+
+        assertEquals(0, join(points, boxes, SpatialPredicate.CONTAINS, createExecutor()).size());
+    }
+
+    @Test
+    void testParallelAndSpillingJoins() {
+        // Boxes of different sizes that often straddle several grid cells.
+        final Random random = new Random(42);
+        List<String> boxes = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            final int x = random.nextInt(100), y = random.nextInt(100), size = 1 + random.nextInt(20);
+            boxes.add(String.format("POLYGON ((%d %d, %d %d, %d %d, %d %d, %d %d))",
+                    x, y, x + size, y, x + size, y + size, x, y + size, x, y));
+        }
+        List<String> points = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            points.add(String.format("POINT (%d.5 %d.5)", random.nextInt(120), random.nextInt(120)));
+        }
+
+        List<String> expected = new ArrayList<>();
+        for (String box : boxes) {
+            for (String point : points) {
+                if (new WayangGeometry(box).getGeometry().intersects(new WayangGeometry(point).getGeometry())) {
+                    expected.add(box + " | " + point);
+                }
+            }
+        }
+        expected.sort(null);
+
+        final Configuration parallelConfiguration = configuration.fork("parallel");
+        parallelConfiguration.setProperty("wayang.java.parallel", "true");
+        parallelConfiguration.setProperty("wayang.java.cores", "4");
+        final Configuration spillingConfiguration = configuration.fork("spilling");
+        spillingConfiguration.setProperty("wayang.java.spill.memory-budget", "1024");
+        spillingConfiguration.setProperty("wayang.java.spill.partitions", "9");
+        final Configuration parallelSpillingConfiguration = spillingConfiguration.fork("parallel-spilling");
+        parallelSpillingConfiguration.setProperty("wayang.java.parallel", "true");
+        parallelSpillingConfiguration.setProperty("wayang.java.cores", "4");
+
+        assertEquals(expected, join(boxes, points, SpatialPredicate.INTERSECTS, createExecutor()));
+        for (Configuration executorConfiguration : Arrays.asList(
+                parallelConfiguration, spillingConfiguration, parallelSpillingConfiguration)) {
+            final JavaExecutor executor = createExecutor(executorConfiguration);
+            assertEquals(expected, join(boxes, points, SpatialPredicate.INTERSECTS, executor), executorConfiguration.getName());
+            assertEquals(expected.size(), join(points, boxes, SpatialPredicate.INTERSECTS, executor).size());
+            executor.dispose();
+        }
+    }
+
 }